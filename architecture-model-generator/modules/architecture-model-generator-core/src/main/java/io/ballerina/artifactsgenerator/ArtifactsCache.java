@@ -18,33 +18,34 @@
 
 package io.ballerina.artifactsgenerator;
 
-import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Singleton cache for storing project artifacts. This class provides thread-safe access to artifact IDs mapped by
  * project ID and file URI.
  *
+ * <p>
+ * The artifacts of a project are kept in an immutable snapshot, which is replaced as a whole with a compare-and-set on
+ * each update. Hence, the readers never block, and an update which is based on an outdated snapshot fails instead of
+ * overwriting a concurrent update. Each snapshot carries the version of the project, which is incremented on every
+ * update.
+ * </p>
+ *
  * @since 1.0.0
  */
 public class ArtifactsCache {
 
     private static ArtifactsCache instance;
 
-    // Map: project_id → document id -> category -> artifact ids
-    private final ConcurrentMap<String, ConcurrentMap<String, Map<String, List<String>>>> projectCache;
-
-    // Map: project_id:file_uri → lock
-    private final ConcurrentMap<String, Lock> locks;
+    // Map: project_id → snapshot of document id -> category -> artifact ids
+    private final ConcurrentMap<String, ProjectArtifacts> projectCache;
 
     private ArtifactsCache() {
         projectCache = new ConcurrentHashMap<>();
-        locks = new ConcurrentHashMap<>();
     }
 
     /**
@@ -63,11 +64,6 @@ public class ArtifactsCache {
         return instance;
     }
 
-    private Lock getOrCreateLock(String projectId, String fileUri) {
-        String lockKey = projectId + ":" + fileUri;
-        return locks.computeIfAbsent(lockKey, k -> new ReentrantLock());
-    }
-
     /**
      * Checks if a project exists in the cache.
      *
@@ -78,54 +74,104 @@ public class ArtifactsCache {
         return projectCache.containsKey(projectId);
     }
 
-    public void initializeProject(String projectId,
-                                  ConcurrentMap<String, Map<String, List<String>>> documentMap) {
-        projectCache.put(projectId, documentMap);
+    /**
+     * Replaces the artifact IDs of all the documents of a project, regardless of the current version of the project.
+     *
+     * @param projectId   The project ID
+     * @param documentMap Map of document ID to artifact categories and IDs
+     */
+    public void initializeProject(String projectId, Map<String, Map<String, List<String>>> documentMap) {
+        Map<String, Map<String, List<String>>> documents = copyOf(documentMap);
+        projectCache.compute(projectId, (key, current) ->
+                new ProjectArtifacts(current == null ? 1 : current.version() + 1, documents));
     }
 
     /**
-     * Gets artifact IDs for a given file URI within a project. This method acquires a lock that must be released by
-     * calling updateArtifactIds.
+     * Replaces the artifact IDs of all the documents of a project, if the project has not been updated since the given
+     * version was read.
+     *
+     * @param projectId       The project ID
+     * @param expectedVersion The version of the project which the artifact IDs are based on
+     * @param documentMap     Map of document ID to artifact categories and IDs
+     * @return true if the artifact IDs are replaced, false if the project has been updated in the meantime
+     */
+    public boolean replaceProject(String projectId, long expectedVersion,
+                                  Map<String, Map<String, List<String>>> documentMap) {
+        Map<String, Map<String, List<String>>> documents = copyOf(documentMap);
+        ProjectArtifacts current = projectCache.get(projectId);
+        if (current == null) {
+            return expectedVersion == 0
+                    && projectCache.putIfAbsent(projectId, new ProjectArtifacts(1, documents)) == null;
+        }
+        return current.version() == expectedVersion
+                && projectCache.replace(projectId, current, new ProjectArtifacts(expectedVersion + 1, documents));
+    }
+
+    /**
+     * Gets the version of a project, which is incremented on every update of its artifact IDs.
+     *
+     * @param projectId The project ID
+     * @return The version of the project, or 0 if the project is not cached
+     */
+    public long getProjectVersion(String projectId) {
+        ProjectArtifacts projectArtifacts = projectCache.get(projectId);
+        return projectArtifacts == null ? 0 : projectArtifacts.version();
+    }
+
+    /**
+     * Gets artifact IDs for a given file URI within a project. The returned map is immutable and does not change with
+     * the subsequent updates.
      *
      * @param projectId The project ID
      * @param fileUri   The file URI
-     * @return List of artifact IDs, or empty list if not found
+     * @return Map of artifact categories to IDs, or empty map if not found
      */
     public Map<String, List<String>> getArtifactIds(String projectId, String fileUri) {
-        Lock lock = getOrCreateLock(projectId, fileUri);
-        lock.lock();
-
-        ConcurrentMap<String, Map<String, List<String>>> documentMap = projectCache.get(projectId);
-        if (documentMap == null) {
-            return Collections.emptyMap();
-        }
-
-        Map<String, List<String>> artifactIds = documentMap.get(fileUri);
-        if (artifactIds == null) {
-            return Collections.emptyMap();
+        ProjectArtifacts projectArtifacts = projectCache.get(projectId);
+        if (projectArtifacts == null) {
+            return Map.of();
         }
-
-        return artifactIds;
+        return projectArtifacts.documents().getOrDefault(fileUri, Map.of());
     }
 
     /**
-     * Adds or updates artifact IDs for a file URI within a project. This method releases the lock acquired by
-     * getArtifactIds.
+     * Adds or updates artifact IDs for a file URI within a project, regardless of the current artifact IDs of the
+     * file.
      *
      * @param projectId   The project ID
      * @param fileUri     The file URI
-     * @param artifactIds The list of artifact IDs
+     * @param artifactIds The artifact IDs by category
      */
     public void updateArtifactIds(String projectId, String fileUri, Map<String, List<String>> artifactIds) {
-        try {
-            // Get or create document map for project
-            ConcurrentMap<String, Map<String, List<String>>> documentMap =
-                    projectCache.computeIfAbsent(projectId, k -> new ConcurrentHashMap<>());
-            documentMap.put(fileUri, artifactIds);
-        } finally {
-            // Release the lock acquired in getArtifactIds
-            Lock lock = getOrCreateLock(projectId, fileUri);
-            lock.unlock();
+        Map<String, List<String>> ids = copyOfIds(artifactIds);
+        projectCache.compute(projectId, (key, current) -> withDocument(current, fileUri, ids));
+    }
+
+    /**
+     * Adds or updates artifact IDs for a file URI within a project, if the artifact IDs of the file are still the ones
+     * returned by {@link #getArtifactIds(String, String)}.
+     *
+     * @param projectId   The project ID
+     * @param fileUri     The file URI
+     * @param expectedIds The artifact IDs which the new artifact IDs are based on
+     * @param artifactIds The artifact IDs by category
+     * @return true if the artifact IDs are updated, false if the file has been updated in the meantime
+     */
+    public boolean replaceArtifactIds(String projectId, String fileUri, Map<String, List<String>> expectedIds,
+                                      Map<String, List<String>> artifactIds) {
+        Map<String, List<String>> ids = copyOfIds(artifactIds);
+        while (true) {
+            ProjectArtifacts current = projectCache.get(projectId);
+            Map<String, List<String>> currentIds = current == null ? null : current.documents().get(fileUri);
+            if (currentIds == null ? !expectedIds.isEmpty() : currentIds != expectedIds) {
+                return false;
+            }
+            ProjectArtifacts updated = withDocument(current, fileUri, ids);
+            if (current == null ? projectCache.putIfAbsent(projectId, updated) == null
+                    : projectCache.replace(projectId, current, updated)) {
+                return true;
+            }
+            // Another file of the project has been updated in the meantime, so retry against the new snapshot
         }
     }
 
@@ -136,10 +182,55 @@ public class ArtifactsCache {
      * @return Map of document ID to artifact categories and IDs, or empty map if project not found
      */
     public Map<String, Map<String, List<String>>> getProjectDocuments(String projectId) {
-        ConcurrentMap<String, Map<String, List<String>>> documentMap = projectCache.get(projectId);
-        if (documentMap == null) {
-            return Collections.emptyMap();
+        ProjectArtifacts projectArtifacts = projectCache.get(projectId);
+        if (projectArtifacts == null) {
+            return Map.of();
+        }
+        return projectArtifacts.documents();
+    }
+
+    private static ProjectArtifacts withDocument(ProjectArtifacts current, String fileUri,
+                                                 Map<String, List<String>> artifactIds) {
+        if (current == null) {
+            return new ProjectArtifacts(1, Map.of(fileUri, artifactIds));
+        }
+        Map<String, Map<String, List<String>>> documents = new HashMap<>(current.documents());
+        documents.put(fileUri, artifactIds);
+        return new ProjectArtifacts(current.version() + 1, Map.copyOf(documents));
+    }
+
+    private static Map<String, Map<String, List<String>>> copyOf(Map<String, Map<String, List<String>>> documentMap) {
+        Map<String, Map<String, List<String>>> documents = new HashMap<>();
+        documentMap.forEach((documentId, artifactIds) -> documents.put(documentId, copyOfIds(artifactIds)));
+        return Map.copyOf(documents);
+    }
+
+    private static Map<String, List<String>> copyOfIds(Map<String, List<String>> artifactIds) {
+        Map<String, List<String>> ids = new HashMap<>();
+        artifactIds.forEach((category, categoryIds) -> ids.put(category, List.copyOf(categoryIds)));
+        return Map.copyOf(ids);
+    }
+
+    /**
+     * An immutable snapshot of the artifact IDs of a project. The snapshots are compared by identity, so that a
+     * compare-and-set only succeeds against the snapshot which was read.
+     */
+    private static final class ProjectArtifacts {
+
+        private final long version;
+        private final Map<String, Map<String, List<String>>> documents;
+
+        private ProjectArtifacts(long version, Map<String, Map<String, List<String>>> documents) {
+            this.version = version;
+            this.documents = documents;
+        }
+
+        long version() {
+            return version;
+        }
+
+        Map<String, Map<String, List<String>>> documents() {
+            return documents;
         }
-        return documentMap;
     }
 }
@@ -55,30 +55,19 @@ public class ArtifactsGenerator {
             return Map.of();
         }
 
-        Map<String, List<String>> prevIdMap = new HashMap<>(
-                ArtifactsCache.getInstance().getArtifactIds(projectPath, syntaxTree.filePath()));
-        Map<String, List<String>> newIdMap = new HashMap<>();
-
-        Map<String, Map<String, Map<String, Artifact>>> categoryMap = new HashMap<>();
         List<Artifact> artifacts = collectArtifactsFromSyntaxTree(projectPath, syntaxTree, semanticModel);
-        artifacts.forEach(artifact -> {
-            String category = Artifact.getCategory(artifact.type());
-            String artifactId = artifact.id();
-
-            // Determine if this is an update or an addition
-            String eventType = determineEventTypeAndRemove(prevIdMap.get(category), artifactId);
-
-            // Update the new artifact using helper
-            putArtifactInMap(categoryMap, category, eventType, artifactId, artifact);
-            newIdMap.computeIfAbsent(category, k -> new ArrayList<>()).add(artifactId);
-        });
-
-        // Process remaining items in prevIdMap as deletions
-        addDeletionsToCategoryMap(categoryMap, prevIdMap);
-
-        // Update the artifacts cache
-        ArtifactsCache.getInstance().updateArtifactIds(projectPath, syntaxTree.filePath(), newIdMap);
-        return categoryMap;
+        ArtifactsCache artifactsCache = ArtifactsCache.getInstance();
+        while (true) {
+            Map<String, List<String>> prevIdMap = artifactsCache.getArtifactIds(projectPath, syntaxTree.filePath());
+            Map<String, List<String>> newIdMap = new HashMap<>();
+            Map<String, Map<String, Map<String, Artifact>>> categoryMap =
+                    computeDeltas(artifacts, prevIdMap, newIdMap);
+
+            // Update the artifacts cache, unless the document has been processed concurrently since the lookup
+            if (artifactsCache.replaceArtifactIds(projectPath, syntaxTree.filePath(), prevIdMap, newIdMap)) {
+                return categoryMap;
+            }
+        }
     }
 
     public static Map<String, Map<String, Artifact>> artifacts(Project project) {
@@ -115,56 +104,66 @@ public class ArtifactsGenerator {
         SemanticModel semanticModel =
                 PackageUtil.getCompilation(currentPackage).getSemanticModel(defaultModule.moduleId());
 
-        // Process each document in parallel to calculate deltas
-        Map<String, Map<String, List<String>>> cachedArtifactsByDocument =
-                ArtifactsCache.getInstance().getProjectDocuments(projectId);
-        ConcurrentMap<String, Map<String, Map<String, Artifact>>> combinedDeltas = new ConcurrentHashMap<>();
-        ConcurrentMap<String, Map<String, List<String>>> newDocumentMap = new ConcurrentHashMap<>();
+        // Collect the artifacts of each document in parallel
+        String projectPath = project.sourceRoot().toAbsolutePath().toString();
+        ConcurrentMap<String, List<Artifact>> artifactsByDocument = new ConcurrentHashMap<>();
         defaultModule.documentIds().stream().parallel().forEach(documentId -> {
             Document document = defaultModule.document(documentId);
-            String documentName = document.name();
-            SyntaxTree syntaxTree = document.syntaxTree();
-
-            // Get cached artifacts for this document
-            Map<String, List<String>> cachedArtifactsForDoc = cachedArtifactsByDocument.getOrDefault(
-                    documentName, new HashMap<>());
-
-            // Generate new artifacts for this document
-            Map<String, List<String>> newArtifactsForDoc = new HashMap<>();
-            Map<String, Map<String, Map<String, Artifact>>> documentDeltas = new HashMap<>();
-
-            String projectPath = project.sourceRoot().toAbsolutePath().toString();
-            List<Artifact> artifacts = collectArtifactsFromSyntaxTree(projectPath, syntaxTree, semanticModel);
-            artifacts.forEach(artifact -> {
-                String category = Artifact.getCategory(artifact.type());
-                String artifactId = artifact.id();
+            artifactsByDocument.put(document.name(),
+                    collectArtifactsFromSyntaxTree(projectPath, document.syntaxTree(), semanticModel));
+        });
 
-                // Determine if this is an update or an addition
-                List<String> cachedIds = new ArrayList<>(
-                        cachedArtifactsForDoc.getOrDefault(category, new ArrayList<>()));
-                String eventType = determineEventTypeAndRemove(cachedIds, artifactId);
+        ArtifactsCache artifactsCache = ArtifactsCache.getInstance();
+        while (true) {
+            // The version is read first, so that the cached artifacts are at least as recent as the version
+            long version = artifactsCache.getProjectVersion(projectId);
+            Map<String, Map<String, List<String>>> cachedArtifactsByDocument =
+                    artifactsCache.getProjectDocuments(projectId);
+
+            // Calculate the deltas of each document against the cached artifacts
+            ConcurrentMap<String, Map<String, Map<String, Artifact>>> combinedDeltas = new ConcurrentHashMap<>();
+            Map<String, Map<String, List<String>>> newDocumentMap = new HashMap<>();
+            artifactsByDocument.forEach((documentName, artifacts) -> {
+                Map<String, List<String>> newArtifactsForDoc = new HashMap<>();
+                Map<String, Map<String, Map<String, Artifact>>> documentDeltas = computeDeltas(artifacts,
+                        cachedArtifactsByDocument.getOrDefault(documentName, Map.of()), newArtifactsForDoc);
+                newDocumentMap.put(documentName, newArtifactsForDoc);
+                combineDeltas(combinedDeltas, documentDeltas);
+            });
 
-                // Add to document deltas using helper
-                putArtifactInMap(documentDeltas, category, eventType, artifactId, artifact);
+            // Update cache with new project artifacts, unless the project has been updated since the lookup
+            if (artifactsCache.replaceProject(projectId, version, newDocumentMap)) {
+                return combinedDeltas;
+            }
+        }
+    }
 
-                // Track new artifacts for cache update
-                newArtifactsForDoc.computeIfAbsent(category, k -> new ArrayList<>()).add(artifactId);
-                cachedArtifactsForDoc.put(category, cachedIds);
-            });
+    /**
+     * Computes the additions, updates and deletions of the artifacts against the cached artifact IDs, and collects the
+     * IDs of the artifacts to the given map.
+     */
+    private static Map<String, Map<String, Map<String, Artifact>>> computeDeltas(List<Artifact> artifacts,
+                                                                               Map<String, List<String>> cachedIds,
+                                                                               Map<String, List<String>> newIdMap) {
+        Map<String, List<String>> prevIdMap = new HashMap<>();
+        cachedIds.forEach((category, ids) -> prevIdMap.put(category, new ArrayList<>(ids)));
 
-            // Process remaining cached artifacts as deletions
-            addDeletionsToCategoryMap(documentDeltas, cachedArtifactsForDoc);
+        Map<String, Map<String, Map<String, Artifact>>> categoryMap = new HashMap<>();
+        artifacts.forEach(artifact -> {
+            String category = Artifact.getCategory(artifact.type());
+            String artifactId = artifact.id();
 
-            // Store new artifacts for cache update
-            newDocumentMap.put(documentName, newArtifactsForDoc);
+            // Determine if this is an update or an addition
+            String eventType = determineEventTypeAndRemove(prevIdMap.get(category), artifactId);
 
-            // Combine document deltas into combined result
-            combineDeltas(combinedDeltas, documentDeltas);
+            // Update the new artifact using helper
+            putArtifactInMap(categoryMap, category, eventType, artifactId, artifact);
+            newIdMap.computeIfAbsent(category, k -> new ArrayList<>()).add(artifactId);
         });
 
-        // Update cache with new project artifacts
-        ArtifactsCache.getInstance().initializeProject(projectId, newDocumentMap);
-        return combinedDeltas;
+        // Process remaining items in prevIdMap as deletions
+        addDeletionsToCategoryMap(categoryMap, prevIdMap);
+        return categoryMap;
     }
 
     private static List<Artifact> collectArtifactsFromSyntaxTree(String projectPath, SyntaxTree syntaxTree,
@@ -0,0 +1,161 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.artifactsgenerator;
+
+import io.ballerina.architecturemodelgenerator.core.TestUtils;
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Project;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests the consistency of the artifacts cache under concurrent artifact generations.
+ *
+ * @since 1.5.0
+ */
+public class ArtifactsCacheTest {
+
+    private static final Path PROJECT_PATH = Paths.get("src", "test", "resources", "ballerina", "artifacts_project")
+            .toAbsolutePath();
+    private static final String ADDITIONS = "additions";
+    private static final String DELETIONS = "deletions";
+    private static final int CONCURRENT_RUNS = 8;
+    private static final long TIMEOUT_SECONDS = 60;
+
+    @BeforeMethod
+    public void initializeCache() {
+        ArtifactsCache.initialize();
+    }
+
+    @Test(description = "Test whether the concurrent project artifact changes are applied one after the other")
+    public void testConcurrentProjectArtifactChanges() throws Exception {
+        Project project = TestUtils.loadBuildProject(PROJECT_PATH, false);
+        String projectId = project.sourceRoot().toString();
+        ArtifactsGenerator.artifacts(project);
+        ArtifactsCache cache = ArtifactsCache.getInstance();
+        long initialVersion = cache.getProjectVersion(projectId);
+        Assert.assertEquals(initialVersion, 1);
+
+        Document document = mainDocument(project);
+        document.modify()
+                .withContent(document.textDocument().toString() + System.lineSeparator()
+                        + "public function subtract(int a, int b) returns int {\n    return a - b;\n}\n")
+                .apply();
+
+        List<Map<String, Map<String, Map<String, Artifact>>>> results =
+                runConcurrently(() -> ArtifactsGenerator.projectArtifactChanges(project));
+
+        // Only the first run observes the new function as an addition, and none of the runs observes a deletion
+        Assert.assertEquals(results.stream().filter(result -> hasEvent(result, ADDITIONS)).count(), 1);
+        Assert.assertTrue(results.stream().noneMatch(result -> hasEvent(result, DELETIONS)));
+        Assert.assertEquals(cache.getProjectVersion(projectId), initialVersion + CONCURRENT_RUNS);
+        Assert.assertFalse(cache.replaceProject(projectId, initialVersion, Map.of()));
+        Assert.assertEquals(cache.getProjectDocuments(projectId).keySet(), Set.of("main.bal", "types.bal"));
+    }
+
+    @Test(description = "Test whether the concurrent artifact changes of a document are applied one after the other")
+    public void testConcurrentArtifactChanges() throws Exception {
+        Project project = TestUtils.loadBuildProject(PROJECT_PATH, false);
+        String projectPath = project.sourceRoot().toAbsolutePath().toString();
+        Document document = mainDocument(project);
+        SyntaxTree syntaxTree = document.syntaxTree();
+        SemanticModel semanticModel = semanticModel(document.module());
+
+        List<Map<String, Map<String, Map<String, Artifact>>>> results =
+                runConcurrently(() -> ArtifactsGenerator.artifactChanges(projectPath, syntaxTree, semanticModel));
+        Assert.assertEquals(results.stream().filter(result -> hasEvent(result, ADDITIONS)).count(), 1);
+        Assert.assertEquals(ArtifactsCache.getInstance().getProjectVersion(projectPath), CONCURRENT_RUNS);
+    }
+
+    @Test(description = "Test whether a reader which does not update the cache does not block the other callers")
+    public void testAbandonedRead() throws Exception {
+        Project project = TestUtils.loadBuildProject(PROJECT_PATH, false);
+        String projectPath = project.sourceRoot().toAbsolutePath().toString();
+        Document document = mainDocument(project);
+        SyntaxTree syntaxTree = document.syntaxTree();
+        SemanticModel semanticModel = semanticModel(document.module());
+
+        ArtifactsCache.getInstance().getArtifactIds(projectPath, syntaxTree.filePath());
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Map<String, Map<String, Map<String, Artifact>>>> result =
+                    executor.submit(() -> ArtifactsGenerator.artifactChanges(projectPath, syntaxTree, semanticModel));
+            Assert.assertTrue(hasEvent(result.get(TIMEOUT_SECONDS, TimeUnit.SECONDS), ADDITIONS));
+        } finally {
+            executor.shutdownNow();
+        }
+        Assert.assertFalse(ArtifactsCache.getInstance().getArtifactIds(projectPath, syntaxTree.filePath()).isEmpty());
+    }
+
+    private static <T> List<T> runConcurrently(Callable<T> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_RUNS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<T>> futures = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_RUNS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static boolean hasEvent(Map<String, Map<String, Map<String, Artifact>>> result, String eventType) {
+        return result.values().stream().anyMatch(events -> events.containsKey(eventType));
+    }
+
+    private static Document mainDocument(Project project) {
+        Module module = project.currentPackage().getDefaultModule();
+        return module.documentIds().stream()
+                .map(module::document)
+                .filter(document -> document.name().equals("main.bal"))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static SemanticModel semanticModel(Module module) {
+        return module.packageInstance().getCompilation().getSemanticModel(module.moduleId());
+    }
+}
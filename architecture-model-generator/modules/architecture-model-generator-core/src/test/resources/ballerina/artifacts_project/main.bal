@@ -0,0 +1,7 @@
+public function add(int a, int b) returns int {
+    return a + b;
+}
+
+public function greet(string name) returns string {
+    return "Hello, " + name + "!";
+}
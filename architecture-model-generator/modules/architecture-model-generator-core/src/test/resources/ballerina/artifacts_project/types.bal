@@ -0,0 +1,10 @@
+type Customer record {|
+    string id;
+    string name;
+|};
+
+type Order record {|
+    string id;
+    Customer customer;
+    decimal amount;
+|};
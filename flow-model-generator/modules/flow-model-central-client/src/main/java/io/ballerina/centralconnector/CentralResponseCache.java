@@ -0,0 +1,374 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.centralconnector;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.wso2.ballerinalang.util.RepoUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+
+/**
+ * Caches the responses of Ballerina Central in memory and on disk.
+ *
+ * <p>
+ * A response is reused until its time to live expires. An expired response is revalidated with its ETag, so that an
+ * unchanged response is not downloaded again. Concurrent requests for the same response are coalesced into a single
+ * request to Central. In the offline mode, and whenever Central cannot be reached, the cached responses are served
+ * even if they have expired.
+ * </p>
+ *
+ * <p>
+ * The persisted responses which have not been used within {@link #MAX_AGE}, and the least recently used responses
+ * exceeding {@value #MAX_FILES} files, are deleted when the cache is created. The requests made with an access token
+ * should be identified by {@link #identity(String)} in their keys, so that the responses of a user are not served
+ * to another user.
+ * </p>
+ *
+ * @since 1.5.0
+ */
+class CentralResponseCache {
+
+    static final Duration DEFAULT_TTL = Duration.ofMinutes(30);
+    static final Duration MAX_AGE = Duration.ofDays(30);
+    static final int MAX_FILES = 1024;
+    private static final int MAX_ENTRIES = 256;
+    private static final String CACHE_DIR = "ls-central-cache";
+    private static final String CACHE_FILE_EXTENSION = ".json";
+    private static final String OFFLINE_PROPERTY = "ls.central.offline";
+
+    private final Path directory;
+    private final long ttlMillis;
+    private final LongSupplier clock;
+    private final Map<String, Entry> entries;
+    private final Map<String, CompletableFuture<String>> inFlightRequests;
+    private volatile boolean offline;
+
+    /**
+     * Creates a response cache.
+     *
+     * @param directory directory to persist the responses, or null to cache the responses only in memory
+     * @param ttl       time to live of a response
+     * @param clock     clock which returns the current time in milliseconds
+     */
+    CentralResponseCache(Path directory, Duration ttl, LongSupplier clock) {
+        this.directory = directory;
+        this.ttlMillis = ttl.toMillis();
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > MAX_ENTRIES;
+            }
+        };
+        this.inFlightRequests = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Creates a response cache which persists the responses in the Ballerina home directory. The offline mode is
+     * enabled by the {@code ls.central.offline} system property.
+     *
+     * @return the response cache
+     */
+    static CentralResponseCache create() {
+        Path directory = RepoUtils.createAndGetHomeReposPath().resolve(CACHE_DIR);
+        sweep(directory, MAX_FILES, MAX_AGE, System.currentTimeMillis());
+        CentralResponseCache cache = new CentralResponseCache(directory, DEFAULT_TTL, System::currentTimeMillis);
+        cache.setOffline(Boolean.getBoolean(OFFLINE_PROPERTY));
+        return cache;
+    }
+
+    /**
+     * Deletes the persisted responses which have not been used within the maximum age, and the least recently used
+     * responses which exceed the maximum number of files. A response is used when it is stored or read from the disk.
+     *
+     * @param directory directory of the persisted responses
+     * @param maxFiles  maximum number of files to retain
+     * @param maxAge    maximum age of a retained file
+     * @param now       current time in milliseconds
+     */
+    static void sweep(Path directory, int maxFiles, Duration maxAge, long now) {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        List<CacheFile> files = new ArrayList<>();
+        try (Stream<Path> paths = Files.list(directory)) {
+            paths.forEach(path -> {
+                try {
+                    if (Files.isRegularFile(path)) {
+                        files.add(new CacheFile(path, Files.getLastModifiedTime(path).toMillis()));
+                    }
+                } catch (IOException e) {
+                    // The file may have been deleted by another language server
+                }
+            });
+        } catch (IOException e) {
+            return;
+        }
+
+        files.sort(Comparator.comparingLong(CacheFile::lastModified).reversed());
+        long maxAgeMillis = maxAge.toMillis();
+        for (int i = 0; i < files.size(); i++) {
+            CacheFile file = files.get(i);
+            if (i < maxFiles && now - file.lastModified() < maxAgeMillis) {
+                continue;
+            }
+            try {
+                Files.deleteIfExists(file.path());
+            } catch (IOException e) {
+                // The file is deleted by the next sweep
+            }
+        }
+    }
+
+    /**
+     * Returns an identity of the access token which can be used in the keys of the requests, without persisting the
+     * access token itself.
+     *
+     * @param accessToken access token of the requests, or null if the requests are anonymous
+     * @return the identity of the access token, or null if the requests are anonymous
+     */
+    static String identity(String accessToken) {
+        return accessToken == null || accessToken.isEmpty() ? null : hash(accessToken);
+    }
+
+    void setOffline(boolean offline) {
+        this.offline = offline;
+    }
+
+    boolean isOffline() {
+        return offline;
+    }
+
+    /**
+     * Returns the cached response of the request, or fetches it from Central if it is not cached or has expired.
+     *
+     * @param key     key which identifies the request, such as the URL and the body of the request
+     * @param fetcher fetcher of the response from Central
+     * @return the body of the response
+     * @throws IllegalStateException if the response is not cached in the offline mode
+     */
+    String get(String key, Fetcher fetcher) {
+        Entry entry = lookup(key);
+        if (entry != null && (offline || isFresh(entry))) {
+            return entry.body();
+        }
+        if (offline) {
+            throw new IllegalStateException("The response is not available offline: " + key);
+        }
+
+        CompletableFuture<String> request = new CompletableFuture<>();
+        CompletableFuture<String> inFlightRequest = inFlightRequests.putIfAbsent(key, request);
+        if (inFlightRequest != null) {
+            return await(inFlightRequest);
+        }
+        try {
+            // The response may have been fetched after the lookup by a request which has completed since
+            entry = lookup(key);
+            String body = entry != null && isFresh(entry) ? entry.body() : fetch(key, entry, fetcher);
+            request.complete(body);
+            return body;
+        } catch (RuntimeException e) {
+            request.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightRequests.remove(key, request);
+        }
+    }
+
+    private String fetch(String key, Entry entry, Fetcher fetcher) {
+        Response response;
+        try {
+            response = fetcher.fetch(entry != null ? entry.etag() : null);
+        } catch (RuntimeException e) {
+            // Serve the expired response if Central cannot be reached
+            if (entry != null) {
+                return entry.body();
+            }
+            throw e;
+        }
+
+        Entry fetchedEntry = response.notModified() && entry != null
+                ? new Entry(key, entry.body(), entry.etag(), clock.getAsLong())
+                : new Entry(key, response.body(), response.etag(), clock.getAsLong());
+        store(fetchedEntry);
+        return fetchedEntry.body();
+    }
+
+    private static String await(CompletableFuture<String> request) {
+        try {
+            return request.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private boolean isFresh(Entry entry) {
+        return clock.getAsLong() - entry.fetchedAt() < ttlMillis;
+    }
+
+    private Entry lookup(String key) {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+        if (entry != null || directory == null) {
+            return entry;
+        }
+
+        Path file = cacheFile(key);
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try {
+            entry = Entry.fromJson(JsonParser.parseString(Files.readString(file, StandardCharsets.UTF_8)));
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+        // Discard the entry of another key with the same hash
+        if (!key.equals(entry.key())) {
+            return null;
+        }
+        try {
+            // Mark the response as recently used, so that it is retained by the sweeps
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            // The response is still served, while it may be deleted by a later sweep
+        }
+        synchronized (entries) {
+            entries.put(key, entry);
+        }
+        return entry;
+    }
+
+    private void store(Entry entry) {
+        synchronized (entries) {
+            entries.put(entry.key(), entry);
+        }
+        if (directory == null) {
+            return;
+        }
+
+        Path file = cacheFile(entry.key());
+        try {
+            Files.createDirectories(directory);
+            Path tempFile = Files.createTempFile(directory, file.getFileName().toString(), null);
+            Files.writeString(tempFile, entry.toJson().toString(), StandardCharsets.UTF_8);
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // The response is still cached in memory
+        }
+    }
+
+    private Path cacheFile(String key) {
+        return directory.resolve(hash(key) + CACHE_FILE_EXTENSION);
+    }
+
+    private static String hash(String value) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Fetches a response from Central.
+     */
+    @FunctionalInterface
+    interface Fetcher {
+
+        /**
+         * Fetches the response.
+         *
+         * @param etag ETag of the cached response to revalidate, or null if the response is not cached
+         * @return the fetched response
+         */
+        Response fetch(String etag);
+    }
+
+    /**
+     * Represents a response of Central.
+     *
+     * @param body        body of the response
+     * @param etag        ETag of the response, or null if Central did not provide one
+     * @param notModified whether the cached response has not been modified
+     */
+    record Response(String body, String etag, boolean notModified) {
+
+        static Response of(String body) {
+            return new Response(body, null, false);
+        }
+
+        static Response notModifiedResponse() {
+            return new Response(null, null, true);
+        }
+    }
+
+    private record CacheFile(Path path, long lastModified) {
+    }
+
+    private record Entry(String key, String body, String etag, long fetchedAt) {
+
+        private static final String KEY = "key";
+        private static final String BODY = "body";
+        private static final String ETAG = "etag";
+        private static final String FETCHED_AT = "fetchedAt";
+
+        JsonObject toJson() {
+            JsonObject json = new JsonObject();
+            json.addProperty(KEY, key);
+            json.addProperty(BODY, body);
+            json.addProperty(ETAG, etag);
+            json.addProperty(FETCHED_AT, fetchedAt);
+            return json;
+        }
+
+        static Entry fromJson(JsonElement element) {
+            JsonObject json = element.getAsJsonObject();
+            JsonElement etag = json.get(ETAG);
+            return new Entry(json.get(KEY).getAsString(), json.get(BODY).getAsString(),
+                    etag == null || etag.isJsonNull() ? null : etag.getAsString(), json.get(FETCHED_AT).getAsLong());
+        }
+    }
+}
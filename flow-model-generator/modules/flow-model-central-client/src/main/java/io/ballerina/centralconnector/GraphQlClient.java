@@ -58,6 +58,8 @@ class GraphQlClient {
 
     private final Map<String, String> queryMap;
     private final Gson gson;
+    private final String graphQlApi;
+    private final CentralResponseCache cache;
 
     private static final String GRAPHQL_API = "https://api.central.ballerina.io/2.0/graphql";
     private static final String QUERY_DIRECTORY = "graphql_queries";
@@ -66,7 +68,13 @@ class GraphQlClient {
     private static final String GET_LISTENERS_QUERY = "GetListeners.graphql";
     private static final String GET_CONNECTION_QUERY = "GetConnector.graphql";
 
-    public GraphQlClient() {
+    public GraphQlClient(CentralResponseCache cache) {
+        this(GRAPHQL_API, cache);
+    }
+
+    GraphQlClient(String graphQlApi, CentralResponseCache cache) {
+        this.graphQlApi = graphQlApi;
+        this.cache = cache;
         queryMap = new HashMap<>();
 
         gson = new GsonBuilder()
@@ -121,13 +129,20 @@ class GraphQlClient {
 
     private String query(String queryBody) {
         String query = String.format("{\"query\": \"%s\"}", queryBody);
+        return cache.get(graphQlApi + "#" + query, etag -> fetch(query, etag));
+    }
+
+    private CentralResponseCache.Response fetch(String query, String etag) {
         HttpURLConnection conn = null;
         try {
-            URL url = new URL(GRAPHQL_API);
+            URL url = new URL(graphQlApi);
             conn = (HttpURLConnection) url.openConnection();
 
             conn.setRequestMethod("POST");
             conn.setRequestProperty("Content-Type", "application/json");
+            if (etag != null) {
+                conn.setRequestProperty(RestClient.IF_NONE_MATCH, etag);
+            }
             conn.setDoOutput(true);
 
             // Write the request body
@@ -136,6 +151,10 @@ class GraphQlClient {
                 os.write(input, 0, input.length);
             }
 
+            if (conn.getResponseCode() == HttpURLConnection.HTTP_NOT_MODIFIED) {
+                return CentralResponseCache.Response.notModifiedResponse();
+            }
+
             // Read the response
             try (BufferedReader br = new BufferedReader(
                     new InputStreamReader(conn.getInputStream(), StandardCharsets.UTF_8))) {
@@ -144,7 +163,8 @@ class GraphQlClient {
                 while ((responseLine = br.readLine()) != null) {
                     response.append(responseLine.trim());
                 }
-                return response.toString();
+                return new CentralResponseCache.Response(response.toString(), conn.getHeaderField(RestClient.ETAG),
+                        false);
             }
         } catch (IOException e) {
             throw new RuntimeException(e);
@@ -31,7 +31,8 @@ import java.util.Map;
 
 /**
  * An implementation {@code CentralAPI} to interact with the Ballerina central to obtain information about the Ballerina
- * libraries. This class provides a facade for interacting with REST and GraphQL clients.
+ * libraries. This class provides a facade for interacting with REST and GraphQL clients, whose responses are cached in
+ * memory and on disk.
  *
  * @since 1.0.0
  */
@@ -39,6 +40,7 @@ public class RemoteCentral implements CentralAPI {
 
     private final RestClient restClient;
     private final GraphQlClient graphQlClient;
+    private final CentralResponseCache cache;
 
     private static class Holder {
 
@@ -50,8 +52,22 @@ public class RemoteCentral implements CentralAPI {
     }
 
     private RemoteCentral() {
-        this.restClient = new RestClient();
-        this.graphQlClient = new GraphQlClient();
+        this.cache = CentralResponseCache.create();
+        this.restClient = new RestClient(cache);
+        this.graphQlClient = new GraphQlClient(cache);
+    }
+
+    /**
+     * Enables or disables the offline mode, in which only the cached responses of Central are served.
+     *
+     * @param offline whether to enable the offline mode
+     */
+    public void setOffline(boolean offline) {
+        cache.setOffline(offline);
+    }
+
+    public boolean isOffline() {
+        return cache.isOffline();
     }
 
     @Override
@@ -56,50 +56,77 @@ import static io.ballerina.projects.util.ProjectUtils.initializeProxy;
 class RestClient {
 
     private static final String BASE_URL = "https://api.central.ballerina.io/2.0/registry/";
+    static final String ETAG = "ETag";
+    static final String IF_NONE_MATCH = "If-None-Match";
     private static final String SEARCH_SYMBOLS = "search-symbols";
     private static final String SEARCH_PACKAGES = "search-packages";
     private static final String CONNECTOR = "connector";
+    private static final String CONNECTORS = "connectors";
+    private static final String PACKAGE_VERSIONS = "package-versions";
     private final Gson gson;
+    private final String baseUrl;
     private final CentralAPIClient centralClient;
     private final String accessToken;
+    private final String identity;
+    private final CentralResponseCache cache;
 
     private static final String supportedPlatform = Arrays.stream(JvmTarget.values())
             .map(JvmTarget::code)
             .collect(Collectors.joining(","));
 
-    public RestClient() {
+    public RestClient(CentralResponseCache cache) {
         gson = new Gson();
         Settings settings = RepoUtils.readSettings();
         Central central = settings.getCentral();
         Proxy proxy = settings.getProxy();
+        this.baseUrl = BASE_URL;
         this.accessToken = getAccessTokenOfCLI(settings);
+        this.identity = CentralResponseCache.identity(accessToken);
+        this.cache = cache;
         centralClient = new CentralAPIClient(RepoUtils.getRemoteRepoURL(), initializeProxy(proxy), proxy.username(),
                 proxy.password(), accessToken, central.getConnectTimeout(), central.getReadTimeout(),
                 central.getWriteTimeout(), central.getCallTimeout(), central.getMaxRetries());
     }
 
+    RestClient(String baseUrl, CentralAPIClient centralClient, String accessToken, CentralResponseCache cache) {
+        this.gson = new Gson();
+        this.baseUrl = baseUrl;
+        this.centralClient = centralClient;
+        this.accessToken = accessToken;
+        this.identity = CentralResponseCache.identity(accessToken);
+        this.cache = cache;
+    }
+
     public ConnectorsResponse connectors(Map<String, String> queryMap) {
-        JsonElement connectorSearchResult;
-        try {
-            connectorSearchResult = centralClient.getConnectors(queryMap, "any", RepoUtils.getBallerinaVersion());
-        } catch (CentralClientException e) {
-            throw new RuntimeException(e);
-        }
-        return gson.fromJson(connectorSearchResult.getAsString(), ConnectorsResponse.class);
+        String key = String.format("%s/%s?%s", baseUrl, CONNECTORS, getQueryMapString(queryMap));
+        String response = cache.get(cacheKey(key), etag -> {
+            try {
+                JsonElement connectorSearchResult =
+                        centralClient.getConnectors(queryMap, "any", RepoUtils.getBallerinaVersion());
+                return CentralResponseCache.Response.of(connectorSearchResult.getAsString());
+            } catch (CentralClientException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        return gson.fromJson(response, ConnectorsResponse.class);
     }
 
     public ConnectorResponse connector(String id) {
-        JsonObject connectorSearchResult;
-        try {
-            connectorSearchResult = centralClient.getConnector(id, "any", RepoUtils.getBallerinaVersion());
-        } catch (CentralClientException e) {
-            throw new RuntimeException(e);
-        }
-        return gson.fromJson(connectorSearchResult, ConnectorResponse.class);
+        String key = String.format("%s/%s/%s", baseUrl, CONNECTORS, id);
+        String response = cache.get(cacheKey(key), etag -> {
+            try {
+                JsonObject connectorSearchResult =
+                        centralClient.getConnector(id, "any", RepoUtils.getBallerinaVersion());
+                return CentralResponseCache.Response.of(connectorSearchResult.toString());
+            } catch (CentralClientException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        return gson.fromJson(response, ConnectorResponse.class);
     }
 
     public ConnectorResponse connector(String org, String module, String version, String connector) {
-        String path = String.format("%s/connectors/%s/%s/%s/%s/%s", BASE_URL, org, module, version, module, connector);
+        String path = String.format("%s/connectors/%s/%s/%s/%s/%s", baseUrl, org, module, version, module, connector);
         String response = query(path);
         return gson.fromJson(response, ConnectorResponse.class);
     }
@@ -117,6 +144,12 @@ class RestClient {
     }
 
     public String latestPackageVersion(String org, String name) {
+        String key = String.format("%s/%s/%s/%s", baseUrl, PACKAGE_VERSIONS, org, name);
+        return cache.get(cacheKey(key),
+                etag -> CentralResponseCache.Response.of(fetchLatestPackageVersion(org, name)));
+    }
+
+    private String fetchLatestPackageVersion(String org, String name) {
         try {
             List<String> packageVersions =
                     centralClient.getPackageVersions(org, name, supportedPlatform, RepoUtils.getBallerinaVersion());
@@ -154,6 +187,21 @@ class RestClient {
     }
 
     private String query(String api) {
+        return cache.get(cacheKey(api), etag -> fetch(api, etag));
+    }
+
+    /**
+     * Returns the cache key of the request, which identifies the access token of an authorized request since the
+     * responses of Central may depend on the user.
+     *
+     * @param key key which identifies the request
+     * @return the cache key of the request
+     */
+    private String cacheKey(String key) {
+        return identity != null ? key + "#" + identity : key;
+    }
+
+    private CentralResponseCache.Response fetch(String api, String etag) {
         HttpURLConnection conn = null;
         try {
             URL url = new URL(api);
@@ -164,8 +212,14 @@ class RestClient {
             if (hasAuthorizedAccess()) {
                 conn.setRequestProperty("Authorization", "Bearer " + this.accessToken);
             }
+            if (etag != null) {
+                conn.setRequestProperty(IF_NONE_MATCH, etag);
+            }
 
             int responseCode = conn.getResponseCode();
+            if (responseCode == HttpURLConnection.HTTP_NOT_MODIFIED) {
+                return CentralResponseCache.Response.notModifiedResponse();
+            }
             if (responseCode == HttpURLConnection.HTTP_OK) { // success
                 try (BufferedReader in = new BufferedReader(
                         new InputStreamReader(conn.getInputStream(), StandardCharsets.UTF_8))) {
@@ -175,7 +229,7 @@ class RestClient {
                     while ((inputLine = in.readLine()) != null) {
                         response.append(inputLine);
                     }
-                    return response.toString();
+                    return new CentralResponseCache.Response(response.toString(), conn.getHeaderField(ETAG), false);
                 }
             }
             throw new RuntimeException("GET request not worked");
@@ -190,7 +244,7 @@ class RestClient {
     }
 
     private String query(String api, String queryMap) {
-        String fullUrl = String.format("%s/%s?%s", BASE_URL, api, queryMap);
+        String fullUrl = String.format("%s/%s?%s", baseUrl, api, queryMap);
         return query(fullUrl);
     }
 }
@@ -0,0 +1,259 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.centralconnector;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.ballerina.centralconnector.response.PackageResponse;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Tests caching the responses of Central against a local stub server.
+ *
+ * @since 1.5.0
+ */
+public class CentralResponseCacheTest {
+
+    private static final Duration TTL = Duration.ofMinutes(1);
+    private static final String ETAG = "\"packages-v1\"";
+    private static final String BODY = "{\"packages\": [{\"organization\": \"ballerina\", \"name\": \"http\", " +
+            "\"version\": \"2.12.0\"}], \"count\": 1, \"offset\": 0, \"limit\": 10}";
+    private static final Map<String, String> QUERY = Map.of("q", "http");
+    private static final long TIMEOUT_SECONDS = 5;
+
+    private HttpServer server;
+    private String baseUrl;
+    private AtomicInteger requests;
+    private AtomicInteger notModifiedResponses;
+    private AtomicLong clock;
+    private volatile CountDownLatch requestReceived;
+    private volatile CountDownLatch responseReleased;
+
+    @BeforeMethod
+    public void startServer() throws IOException {
+        requests = new AtomicInteger();
+        notModifiedResponses = new AtomicInteger();
+        clock = new AtomicLong();
+        requestReceived = new CountDownLatch(1);
+        responseReleased = new CountDownLatch(0);
+
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/", this::handle);
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+    }
+
+    @AfterMethod
+    public void stopServer() {
+        server.stop(0);
+    }
+
+    @Test(description = "Test whether a response is reused until it expires, and then revalidated with its ETag")
+    public void testExpiration() {
+        RestClient client = restClient(new CentralResponseCache(null, TTL, clock::get));
+        assertResponse(client.searchPackages(QUERY));
+        assertResponse(client.searchPackages(QUERY));
+        Assert.assertEquals(requests.get(), 1);
+
+        clock.addAndGet(TTL.toMillis());
+        assertResponse(client.searchPackages(QUERY));
+        Assert.assertEquals(requests.get(), 2);
+        Assert.assertEquals(notModifiedResponses.get(), 1);
+
+        // The revalidated response is fresh again
+        assertResponse(client.searchPackages(QUERY));
+        Assert.assertEquals(requests.get(), 2);
+    }
+
+    @Test(description = "Test whether the identical concurrent requests are coalesced into a single request")
+    public void testCoalescing() throws Exception {
+        responseReleased = new CountDownLatch(1);
+        RestClient client = restClient(new CentralResponseCache(null, TTL, clock::get));
+
+        int concurrentRequests = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(concurrentRequests);
+        try {
+            List<Future<PackageResponse>> responses = new ArrayList<>();
+            for (int i = 0; i < concurrentRequests; i++) {
+                responses.add(executor.submit(() -> client.searchPackages(QUERY)));
+            }
+            Assert.assertTrue(requestReceived.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            Thread.sleep(100);
+            responseReleased.countDown();
+
+            for (Future<PackageResponse> response : responses) {
+                assertResponse(response.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            }
+            Assert.assertEquals(requests.get(), 1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(description = "Test whether the responses persisted on disk are served in the offline mode")
+    public void testOfflineMode() throws IOException {
+        Path directory = Files.createTempDirectory("central-cache");
+        restClient(new CentralResponseCache(directory, TTL, clock::get)).searchPackages(QUERY);
+        Assert.assertEquals(requests.get(), 1);
+
+        // A new cache, such as the cache of a restarted language server, reads the persisted response
+        CentralResponseCache offlineCache = new CentralResponseCache(directory, TTL, clock::get);
+        offlineCache.setOffline(true);
+        clock.addAndGet(TTL.toMillis() * 10);
+        RestClient offlineClient = restClient(offlineCache);
+        assertResponse(offlineClient.searchPackages(QUERY));
+        Assert.assertEquals(requests.get(), 1);
+
+        Assert.assertThrows(IllegalStateException.class, () -> offlineClient.searchPackages(Map.of("q", "sql")));
+        Assert.assertEquals(requests.get(), 1);
+    }
+
+    @Test(description = "Test whether an expired response is served when Central cannot be reached")
+    public void testUnreachableCentral() {
+        RestClient client = restClient(new CentralResponseCache(null, TTL, clock::get));
+        assertResponse(client.searchPackages(QUERY));
+
+        server.stop(0);
+        clock.addAndGet(TTL.toMillis());
+        assertResponse(client.searchPackages(QUERY));
+        Assert.assertThrows(RuntimeException.class, () -> client.searchPackages(Map.of("q", "sql")));
+    }
+
+    @Test(description = "Test whether the responses of an access token are not served to another access token")
+    public void testAccessTokenIdentity() throws IOException {
+        Path directory = Files.createTempDirectory("central-cache");
+        CentralResponseCache cache = new CentralResponseCache(directory, TTL, clock::get);
+        assertResponse(restClient(cache, "token-a").searchPackages(QUERY));
+        assertResponse(restClient(cache, "token-a").searchPackages(QUERY));
+        Assert.assertEquals(requests.get(), 1);
+
+        assertResponse(restClient(cache, "token-b").searchPackages(QUERY));
+        assertResponse(restClient(cache, null).searchPackages(QUERY));
+        Assert.assertEquals(requests.get(), 3);
+
+        // The access tokens are not persisted along with the responses
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                String content = Files.readString(file, StandardCharsets.UTF_8);
+                Assert.assertFalse(content.contains("token-a") || content.contains("token-b"), content);
+            }
+        }
+    }
+
+    @Test(description = "Test whether the expired and the least recently used responses are deleted from the disk")
+    public void testSweep() throws IOException {
+        Path directory = Files.createTempDirectory("central-cache");
+        RestClient client = restClient(new CentralResponseCache(directory, TTL, clock::get));
+        List<String> queries = List.of("http", "sql", "io");
+        for (String query : queries) {
+            client.searchPackages(Map.of("q", query));
+        }
+        Assert.assertEquals(fileCount(directory), queries.size());
+
+        // Order the files by their last use, where the last file has not been used within the maximum age
+        long now = System.currentTimeMillis();
+        List<Path> files;
+        try (Stream<Path> paths = Files.list(directory)) {
+            files = paths.sorted().toList();
+        }
+        for (int i = 0; i < files.size(); i++) {
+            Files.setLastModifiedTime(files.get(i), FileTime.fromMillis(now - (long) i * TTL.toMillis()));
+        }
+        Files.setLastModifiedTime(files.getLast(),
+                FileTime.fromMillis(now - CentralResponseCache.MAX_AGE.toMillis()));
+
+        CentralResponseCache.sweep(directory, CentralResponseCache.MAX_FILES, CentralResponseCache.MAX_AGE, now);
+        Assert.assertEquals(fileCount(directory), queries.size() - 1);
+        Assert.assertFalse(Files.exists(files.getLast()));
+
+        CentralResponseCache.sweep(directory, 1, CentralResponseCache.MAX_AGE, now);
+        Assert.assertEquals(fileCount(directory), 1);
+        Assert.assertTrue(Files.exists(files.getFirst()));
+    }
+
+    private static long fileCount(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    private RestClient restClient(CentralResponseCache cache) {
+        return restClient(cache, null);
+    }
+
+    private RestClient restClient(CentralResponseCache cache, String accessToken) {
+        return new RestClient(baseUrl, null, accessToken, cache);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        requestReceived.countDown();
+        try {
+            if (!responseReleased.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                exchange.sendResponseHeaders(503, -1);
+                exchange.close();
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (ETAG.equals(exchange.getRequestHeaders().getFirst(RestClient.IF_NONE_MATCH))) {
+            notModifiedResponses.incrementAndGet();
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+            return;
+        }
+        byte[] body = BODY.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add(RestClient.ETAG, ETAG);
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(body);
+        }
+    }
+
+    private static void assertResponse(PackageResponse response) {
+        Assert.assertEquals(response.count(), 1);
+        Assert.assertEquals(response.packages().getFirst().name(), "http");
+    }
+}
@@ -223,9 +223,7 @@ public class DataMapManager {
         if (targetNode == null) {
             return null;
         }
-        List<Symbol> typeDefSymbols = semanticModel.moduleSymbols().stream()
-                .filter(symbol -> symbol.kind() == SymbolKind.TYPE_DEFINITION)
-                .toList();
+        List<Symbol> typeDefSymbols = typeDefinitionIndex(semanticModel).typeDefinitions();
         Map<String, MappingPort> references = new HashMap<>();
         RefType refType;
         try {
@@ -235,7 +233,7 @@ public class DataMapManager {
                 targetTypeSymbol =
                         filterErrorOrNil(semanticModel, (UnionTypeSymbol) rawtargetTypeSymbol, new ArrayList<>());
             }
-            refType = ReferenceType.fromSemanticSymbol(targetTypeSymbol, typeDefSymbols);
+            refType = ReferenceType.fromSemanticSymbol(targetTypeSymbol, typeDefSymbols, typeGraphScope());
         } catch (UnsupportedOperationException e) {
             return null;
         }
@@ -280,7 +278,8 @@ public class DataMapManager {
                 if (rawTypeSymbol.typeKind() == TypeDescKind.ARRAY) {
                     TypeSymbol memberTypeSymbol = ((ArrayTypeSymbol) rawTypeSymbol).memberTypeDescriptor();
                     MappingPort mappingPort = getRefMappingPort(fromClauseVar, fromClauseVar,
-                            Objects.requireNonNull(ReferenceType.fromSemanticSymbol(memberTypeSymbol, typeDefSymbols)),
+                            Objects.requireNonNull(ReferenceType.fromSemanticSymbol(memberTypeSymbol, typeDefSymbols,
+                                    typeGraphScope())),
                             new HashMap<>(), references);
                     mappingPort.setFocusExpression(expression.toString().trim());
                     mappingPort.setIsIterableVariable(true);
@@ -348,7 +347,8 @@ public class DataMapManager {
                 Symbol symbol = optSymbol.get();
                 String letVarName = symbol.getName().orElseThrow();
                 subMappingPorts.add(getRefMappingPort(letVarName, letVarName,
-                        Objects.requireNonNull(ReferenceType.fromSemanticSymbol(symbol, typeDefSymbols)),
+                        Objects.requireNonNull(ReferenceType.fromSemanticSymbol(symbol, typeDefSymbols,
+                                typeGraphScope())),
                         new HashMap<>(), references));
             }
         } else {
@@ -426,7 +426,7 @@ public class DataMapManager {
         if (varSymbol.isPresent()) {
             MappingPort mappingPort = getRefMappingPort(varName, varName,
                     Objects.requireNonNull(ReferenceType.fromSemanticSymbol(varSymbol.get(),
-                            typeDefSymbols)), new HashMap<>(), references);
+                            typeDefSymbols, typeGraphScope())), new HashMap<>(), references);
             mappingPort.focusExpression = expression;
             inputPorts.add(mappingPort);
         }
@@ -501,7 +501,7 @@ public class DataMapManager {
             TypeSymbol memberTypeSymbol = ((ArrayTypeSymbol) rawTypeSymbol).memberTypeDescriptor();
             MappingPort mappingPort = getRefMappingPort(varName, varName,
                     Objects.requireNonNull(ReferenceType.fromSemanticSymbol(memberTypeSymbol,
-                            typeDefSymbols)), new HashMap<>(), references);
+                            typeDefSymbols, typeGraphScope())), new HashMap<>(), references);
             mappingPort.setFocusExpression(clauseExpr);
             mappingPort.setIsIterableVariable(true);
             inputPorts.add(mappingPort);
@@ -906,9 +906,7 @@ public class DataMapManager {
     private List<MappingPort> getInputPorts(SemanticModel semanticModel, Document document, LinePosition position,
                                             List<MappingPort> enumPorts, Map<String, MappingPort> references) {
         List<MappingPort> refMappingPorts =  new ArrayList<>();
-        List<Symbol> typeDefSymbols = semanticModel.moduleSymbols().stream()
-                .filter(symbol -> symbol.kind() == SymbolKind.TYPE_DEFINITION)
-                .toList();
+        List<Symbol> typeDefSymbols = typeDefinitionIndex(semanticModel).typeDefinitions();
         List<Symbol> symbols = semanticModel.visibleSymbols(document, position);
         for (Symbol symbol : symbols) {
             SymbolKind kind = symbol.kind();
@@ -952,7 +950,7 @@ public class DataMapManager {
             } else if (kind == SymbolKind.CONSTANT) {
                 RefType refType;
                 try {
-                    refType = ReferenceType.fromSemanticSymbol(symbol, typeDefSymbols);
+                    refType = ReferenceType.fromSemanticSymbol(symbol, typeDefSymbols, typeGraphScope());
                     if (refType == null) {
                         continue;
                     }
@@ -967,7 +965,7 @@ public class DataMapManager {
             } else if (kind == SymbolKind.ENUM) {
                 RefType refType;
                 try {
-                    refType = ReferenceType.fromSemanticSymbol(symbol, typeDefSymbols);
+                    refType = ReferenceType.fromSemanticSymbol(symbol, typeDefSymbols, typeGraphScope());
                     if (refType == null) {
                         continue;
                     }
@@ -995,12 +993,10 @@ public class DataMapManager {
             ts = filterErrorOrNil(semanticModel, (UnionTypeSymbol) rawType, errorOrNil);
         }
 
-        List<Symbol> typeDefSymbols = semanticModel.moduleSymbols().stream()
-                .filter(symbol -> symbol.kind() == SymbolKind.TYPE_DEFINITION)
-                .toList();
+        List<Symbol> typeDefSymbols = typeDefinitionIndex(semanticModel).typeDefinitions();
         RefType refType;
         try {
-            refType = ReferenceType.fromSemanticSymbol(ts, typeDefSymbols);
+            refType = ReferenceType.fromSemanticSymbol(ts, typeDefSymbols, typeGraphScope());
             if (refType == null) {
                 return null;
             }
@@ -1045,7 +1041,7 @@ public class DataMapManager {
                 }
                 RefType refType;
                 try {
-                    refType = ReferenceType.fromSemanticSymbol(symbol, typeDefSymbols);
+                    refType = ReferenceType.fromSemanticSymbol(symbol, typeDefSymbols, typeGraphScope());
                     if (refType == null) {
                         continue;
                     }
@@ -1070,7 +1066,7 @@ public class DataMapManager {
 
                 RefType refType;
                 try {
-                    refType = ReferenceType.fromSemanticSymbol(symbol, typeDefSymbols);
+                    refType = ReferenceType.fromSemanticSymbol(symbol, typeDefSymbols, typeGraphScope());
                     if (refType == null) {
                         continue;
                     }
@@ -1086,7 +1082,7 @@ public class DataMapManager {
             } else if (kind == SymbolKind.CONSTANT) {
                 RefType refType;
                 try {
-                    refType = ReferenceType.fromSemanticSymbol(symbol, typeDefSymbols);
+                    refType = ReferenceType.fromSemanticSymbol(symbol, typeDefSymbols, typeGraphScope());
                     if (refType == null) {
                         continue;
                     }
@@ -1101,7 +1097,7 @@ public class DataMapManager {
             } else if (kind == SymbolKind.ENUM) {
                 RefType refType;
                 try {
-                    refType = ReferenceType.fromSemanticSymbol(symbol, typeDefSymbols);
+                    refType = ReferenceType.fromSemanticSymbol(symbol, typeDefSymbols, typeGraphScope());
                     if (refType == null) {
                         continue;
                     }
@@ -1433,6 +1429,29 @@ public class DataMapManager {
         }
     }
 
+    /**
+     * Returns the index of the type definitions of the current compilation of the module, which is shared by the data
+     * mapper requests on the same compilation.
+     *
+     * @param semanticModel semantic model of the module of the document
+     * @return the index of the type definitions
+     */
+    private TypeDefinitionIndex typeDefinitionIndex(SemanticModel semanticModel) {
+        return this.document != null ? TypeDefinitionIndex.of(this.document.module(), semanticModel) :
+                TypeDefinitionIndex.from(semanticModel);
+    }
+
+    /**
+     * Returns the scope of the reference types generated for the document. The package is used as the scope, since a
+     * new package is created for each modification of the project, and thereby the types of a previous compilation are
+     * not reused.
+     *
+     * @return the package of the document, or null if there is no document
+     */
+    private Object typeGraphScope() {
+        return this.document != null ? this.document.module().packageInstance() : null;
+    }
+
     private boolean isExternalType(RefType refType) {
         if (refType.moduleInfo == null) {
             return false;
@@ -1996,16 +2015,19 @@ public class DataMapManager {
     }
 
     public TypeDefinitionSymbol getMatchedTypeDefSymbol(String prefix, String type, SemanticModel defaultModuleSM) {
-        List<ModuleSymbol> modules = getModuleSymbols(defaultModuleSM);
+        return getMatchedTypeDefSymbol(prefix, type, defaultModuleSM, typeDefinitionIndex(defaultModuleSM));
+    }
+
+    private TypeDefinitionSymbol getMatchedTypeDefSymbol(String prefix, String type, SemanticModel semanticModel,
+                                                         TypeDefinitionIndex typeDefinitionIndex) {
+        List<ModuleSymbol> modules = getModuleSymbols(semanticModel);
         for (ModuleSymbol module : modules) {
             if (!module.id().modulePrefix().equals(prefix)) {
                 continue;
             }
-            for (TypeDefinitionSymbol typeDefinition : module.typeDefinitions()) {
-                Optional<String> name = typeDefinition.getName();
-                if (name.isPresent() && name.get().equals(type)) {
-                    return typeDefinition;
-                }
+            Optional<TypeDefinitionSymbol> typeDefinition = typeDefinitionIndex.typeDefinition(module, type);
+            if (typeDefinition.isPresent()) {
+                return typeDefinition.get();
             }
         }
         return null;
@@ -2059,14 +2081,12 @@ public class DataMapManager {
             return gson.toJsonTree(dataMapCapability);
         }
 
-        for (Symbol symbol : semanticModel.moduleSymbols()) {
-            if (symbol.kind() != SymbolKind.TYPE_DEFINITION) {
-                continue;
-            }
-            if (symbol.getName().isEmpty() || !symbol.getName().get().equals(type)) {
-                continue;
-            }
-            return gson.toJsonTree(getDataMapCapability((TypeDefinitionSymbol) symbol, isArray));
+        // The index is shared only for the semantic model of the document
+        TypeDefinitionIndex typeDefinitionIndex = semanticModel == sm ? typeDefinitionIndex(semanticModel) :
+                TypeDefinitionIndex.from(semanticModel);
+        Optional<TypeDefinitionSymbol> typeDefSymbol = typeDefinitionIndex.typeDefinition(type);
+        if (typeDefSymbol.isPresent()) {
+            return gson.toJsonTree(getDataMapCapability(typeDefSymbol.get(), isArray));
         }
 
         String[] typeSegments = type.split(":");
@@ -2074,7 +2094,8 @@ public class DataMapManager {
         if (hasModulePrefix) {
             String prefix = typeSegments[0];
             String typeName = typeSegments[1];
-            TypeDefinitionSymbol matchedSymbol = getMatchedTypeDefSymbol(prefix, typeName, semanticModel);
+            TypeDefinitionSymbol matchedSymbol =
+                    getMatchedTypeDefSymbol(prefix, typeName, semanticModel, typeDefinitionIndex);
             if (matchedSymbol != null) {
                 return gson.toJsonTree(getDataMapCapability(matchedSymbol, isArray));
             }
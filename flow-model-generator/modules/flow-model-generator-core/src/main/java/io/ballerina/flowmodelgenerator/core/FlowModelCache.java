@@ -0,0 +1,170 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core;
+
+import com.google.gson.JsonElement;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.projects.PackageCompilation;
+import io.ballerina.tools.text.LineRange;
+
+import java.lang.ref.WeakReference;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Memoizes the generated flow models and assigns a version to each of them, so that a client holding a previous
+ * version of a flow model can be sent a patch instead of the whole model.
+ *
+ * <p>
+ * A flow model of a canvas is reused as long as the document is not modified and the package is not recompiled, since
+ * the syntax tree of the document and the compilation of the package are the only inputs to the model. The recent
+ * versions of the flow models are retained to compute the patches against.
+ * </p>
+ *
+ * @since 1.5.0
+ */
+public class FlowModelCache {
+
+    private static final int MAX_CANVASES = 32;
+    private static final int MAX_VERSIONS = 64;
+    private static volatile FlowModelCache instance;
+
+    private final Map<CanvasKey, CachedModel> models;
+    private final Map<Long, JsonElement> versions;
+    private final AtomicLong nextVersion;
+
+    private FlowModelCache() {
+        this.models = new BoundedMap<>(MAX_CANVASES);
+        this.versions = new BoundedMap<>(MAX_VERSIONS);
+        this.nextVersion = new AtomicLong();
+    }
+
+    /**
+     * Gets the singleton instance of FlowModelCache using double-checked locking.
+     *
+     * @return The singleton instance
+     */
+    public static FlowModelCache getInstance() {
+        if (instance == null) {
+            synchronized (FlowModelCache.class) {
+                if (instance == null) {
+                    instance = new FlowModelCache();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the flow model of the canvas, which is generated only if the document or the compilation has changed
+     * since the model was last generated.
+     *
+     * @param filePath    path of the document
+     * @param lineRange   line range of the canvas
+     * @param syntaxTree  current syntax tree of the document
+     * @param compilation current compilation of the package, or null if the model should not be memoized
+     * @param generator   generator of the flow model
+     * @return the flow model along with its version
+     */
+    public VersionedModel getFlowModel(Path filePath, LineRange lineRange, SyntaxTree syntaxTree,
+                                       PackageCompilation compilation, Supplier<JsonElement> generator) {
+        CanvasKey key = CanvasKey.from(filePath, lineRange);
+        if (compilation != null) {
+            CachedModel cachedModel;
+            synchronized (models) {
+                cachedModel = models.get(key);
+            }
+            if (cachedModel != null && cachedModel.syntaxTree().get() == syntaxTree
+                    && cachedModel.compilation().get() == compilation) {
+                return cachedModel.model();
+            }
+        }
+
+        VersionedModel model = new VersionedModel(nextVersion.incrementAndGet(), generator.get());
+        synchronized (versions) {
+            versions.put(model.version(), model.model());
+        }
+        if (compilation != null) {
+            synchronized (models) {
+                models.put(key, new CachedModel(new WeakReference<>(syntaxTree), new WeakReference<>(compilation),
+                        model));
+            }
+        }
+        return model;
+    }
+
+    /**
+     * Returns a recently generated flow model of the given version.
+     *
+     * @param version version of the flow model
+     * @return the flow model, or empty if the version is unknown or no longer retained
+     */
+    public Optional<JsonElement> getFlowModel(long version) {
+        synchronized (versions) {
+            return Optional.ofNullable(versions.get(version));
+        }
+    }
+
+    /**
+     * Represents a generated flow model.
+     *
+     * @param version version of the flow model
+     * @param model   JSON representation of the flow model
+     */
+    public record VersionedModel(long version, JsonElement model) {
+    }
+
+    private record CanvasKey(Path filePath, int startLine, int startOffset, int endLine, int endOffset) {
+
+        static CanvasKey from(Path filePath, LineRange lineRange) {
+            return new CanvasKey(filePath, lineRange.startLine().line(), lineRange.startLine().offset(),
+                    lineRange.endLine().line(), lineRange.endLine().offset());
+        }
+    }
+
+    /**
+     * A memoized flow model, along with the inputs it was generated from. The inputs are weakly referenced so that the
+     * cache does not retain the previous compilations of a package.
+     */
+    private record CachedModel(WeakReference<SyntaxTree> syntaxTree, WeakReference<PackageCompilation> compilation,
+                               VersionedModel model) {
+    }
+
+    /**
+     * A map which evicts the least recently accessed entry once its capacity is exceeded.
+     */
+    private static class BoundedMap<K, V> extends LinkedHashMap<K, V> {
+
+        private final int capacity;
+
+        BoundedMap(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            return size() > capacity;
+        }
+    }
+}
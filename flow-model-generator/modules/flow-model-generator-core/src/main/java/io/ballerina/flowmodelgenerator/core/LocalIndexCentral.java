@@ -26,6 +26,7 @@ import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
 import com.google.gson.reflect.TypeToken;
 import com.google.gson.stream.JsonReader;
 import io.ballerina.flowmodelgenerator.core.model.AvailableNode;
@@ -43,17 +44,23 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * An implementation of the Central API using a local index.
  *
+ * <p>
+ * Each bundled resource is parsed once into a JSON tree which is retained in memory. The models, such as the node
+ * templates, are materialized from the tree only when they are requested, hence each request receives its own copy
+ * without reading or tokenizing the resource again.
+ * </p>
+ *
  * @since 1.0.0
  */
 public class LocalIndexCentral {
 
     private final Gson gson;
-    private Map<String, FlowNode> templateCache;
-    private Map<String, List<Item>> connectionMap;
+    private final Map<String, JsonElement> resources;
     private static final String NODE_TEMPLATES_JSON = "node_templates.json";
     private static final String CONNECTORS_JSON = "connectors.json";
     private static final String CONNECTIONS_JSON = "connections.json";
@@ -78,13 +85,12 @@ public class LocalIndexCentral {
                 .registerTypeAdapter(Item.class, new ItemDeserializer())
                 .registerTypeAdapter(Category.class, new CategoryDeserializer())
                 .create();
+        this.resources = new ConcurrentHashMap<>();
     }
 
     public FlowNode getNodeTemplate(Codedata codedata) {
-        if (templateCache == null) {
-            initializeTemplateCache();
-        }
-        return templateCache.get(codedata.toString());
+        JsonElement template = getResource(NODE_TEMPLATES_JSON).getAsJsonObject().get(codedata.toString());
+        return template != null ? gson.fromJson(template, FlowNode.class) : null;
     }
 
     public List<Item> getConnectors() {
@@ -123,10 +129,8 @@ public class LocalIndexCentral {
     }
 
     public List<Item> getConnectorActions(Codedata codedata) {
-        if (connectionMap == null) {
-            initializeConnectionMap();
-        }
-        return connectionMap.get(codedata.toString());
+        JsonElement actions = getResource(CONNECTIONS_JSON).getAsJsonObject().get(codedata.toString());
+        return actions != null ? gson.fromJson(actions, new ConnectionTypeToken().getType()) : null;
     }
 
     public List<AvailableNode> getConnectors(Map<String, String> queryMap) {
@@ -162,31 +166,27 @@ public class LocalIndexCentral {
         return availableNodes;
     }
 
-    private void initializeTemplateCache() {
-        templateCache = readJsonResource(NODE_TEMPLATES_JSON, new FlowNodeTypeToken().getType());
+    public <T> T readJsonResource(String resourcePath, Type type) {
+        return gson.fromJson(getResource(resourcePath), type);
     }
 
-    private void initializeConnectionMap() {
-        connectionMap = readJsonResource(CONNECTIONS_JSON, new ConnectionTypeToken().getType());
+    private JsonElement getResource(String resourcePath) {
+        return resources.computeIfAbsent(resourcePath, this::parseResource);
     }
 
-    public <T> T readJsonResource(String resourcePath, Type type) {
+    private JsonElement parseResource(String resourcePath) {
         InputStream resourceStream = getClass().getClassLoader().getResourceAsStream(resourcePath);
         if (resourceStream == null) {
             throw new IllegalArgumentException("Resource not found: " + resourcePath);
         }
         try (JsonReader reader = new JsonReader(new InputStreamReader(resourceStream, StandardCharsets.UTF_8))) {
-            return gson.fromJson(reader, type);
+            return JsonParser.parseReader(reader);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
     }
 
-    private static class FlowNodeTypeToken extends TypeToken<Map<String, FlowNode>> {
-
-    }
-
-    private static class ConnectionTypeToken extends TypeToken<Map<String, List<Item>>> {
+    private static class ConnectionTypeToken extends TypeToken<List<Item>> {
 
     }
 
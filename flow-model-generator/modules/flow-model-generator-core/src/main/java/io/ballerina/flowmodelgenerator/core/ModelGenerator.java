@@ -91,7 +91,6 @@ public class ModelGenerator {
 
     private final SemanticModel semanticModel;
     private final Path filePath;
-    private final Gson gson;
     private final Project project;
     private final WorkspaceManager workspaceManager;
 
@@ -102,12 +101,13 @@ public class ModelGenerator {
     );
     private static final String NODE_KIND_FILTER = "kind";
     private static final String EXACT_MATCH_FILTER = "exactMatch";
+    // Gson instances are thread-safe, hence shared across the generators
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create();
 
     public ModelGenerator(Project project, SemanticModel model, Path filePath, WorkspaceManager workspaceManager) {
         this.semanticModel = model;
         this.filePath = filePath;
         this.project = project;
-        this.gson = new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create();
         this.workspaceManager = workspaceManager;
     }
 
@@ -172,7 +172,7 @@ public class ModelGenerator {
 
         // Generate the flow model
         Diagram diagram = new Diagram(filePath.toString(), codeAnalyzer.getFlowNodes(), moduleConnections);
-        return gson.toJsonTree(diagram);
+        return GSON.toJsonTree(diagram);
     }
 
     public JsonElement getModuleNodes() {
@@ -195,7 +195,7 @@ public class ModelGenerator {
         variablesList.sort(comparator);
 
         ExtendedDiagram diagram = new ExtendedDiagram(filePath.toString(), List.of(), connectionsList, variablesList);
-        return gson.toJsonTree(diagram);
+        return GSON.toJsonTree(diagram);
     }
 
     public JsonElement getServiceFieldNodes(LinePosition pos) {
@@ -257,7 +257,7 @@ public class ModelGenerator {
                 }
             }
             Diagram diagram = new Diagram(filePath.toString(), List.of(), connections);
-            return gson.toJsonTree(diagram);
+            return GSON.toJsonTree(diagram);
         }
         return null;
     }
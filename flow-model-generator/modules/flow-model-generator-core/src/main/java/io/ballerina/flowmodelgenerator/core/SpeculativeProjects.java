@@ -0,0 +1,125 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core;
+
+import io.ballerina.modelgenerator.commons.PackageUtil;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.Project;
+
+import java.lang.ref.WeakReference;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Keeps a speculative copy of each project to preview the edits, such as the AI suggestions, without modifying the
+ * workspace project.
+ *
+ * <p>
+ * A copy is created and compiled only when the package of the workspace project has changed since the copy was
+ * created. Each speculative edit is applied to the unmodified package of the copy, hence only the module of the edited
+ * document is recompiled, while the compilation of the other modules and the resolved dependencies are reused.
+ * </p>
+ *
+ * @since 1.5.0
+ */
+public class SpeculativeProjects {
+
+    private static final int MAX_PROJECTS = 4;
+
+    private final Map<Path, SpeculativeProject> projects;
+
+    private SpeculativeProjects() {
+        this.projects = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Path, SpeculativeProject> eldest) {
+                return size() > MAX_PROJECTS;
+            }
+        };
+    }
+
+    /**
+     * Get the singleton instance of SpeculativeProjects.
+     *
+     * @return the SpeculativeProjects instance
+     */
+    public static SpeculativeProjects getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Replaces the content of the document in the speculative copy of the project, and runs the task on the modified
+     * document. The speculative edits of a project are serialized, since they modify the same copy.
+     *
+     * @param project    workspace project of the document
+     * @param documentId id of the document
+     * @param content    speculative content of the document
+     * @param task       task to run on the modified document
+     * @param <T>        type of the result of the task
+     * @return the result of the task
+     */
+    public <T> T speculate(Project project, DocumentId documentId, String content, Function<Document, T> task) {
+        SpeculativeProject speculativeProject = getSpeculativeProject(project);
+        synchronized (speculativeProject) {
+            // Modify the unmodified package, so that the previous speculative edits are discarded
+            Document document = speculativeProject.basePackage()
+                    .module(documentId.moduleId())
+                    .document(documentId);
+            Document modifiedDocument = document.modify().withContent(content).apply();
+            return task.apply(modifiedDocument);
+        }
+    }
+
+    private SpeculativeProject getSpeculativeProject(Project project) {
+        Package currentPackage = project.currentPackage();
+        synchronized (projects) {
+            SpeculativeProject speculativeProject = projects.get(project.sourceRoot());
+            if (speculativeProject != null && speculativeProject.workspacePackage().get() == currentPackage) {
+                return speculativeProject;
+            }
+        }
+
+        // Compile the copy upfront, so that the compilation is shared by the speculative edits
+        Package basePackage = project.duplicate().currentPackage();
+        PackageUtil.getCompilation(basePackage);
+        SpeculativeProject speculativeProject =
+                new SpeculativeProject(new WeakReference<>(currentPackage), basePackage);
+        synchronized (projects) {
+            projects.put(project.sourceRoot(), speculativeProject);
+        }
+        return speculativeProject;
+    }
+
+    /**
+     * A speculative copy of a project.
+     *
+     * @param workspacePackage package of the workspace project which was copied
+     * @param basePackage      unmodified package of the copy
+     */
+    private record SpeculativeProject(WeakReference<Package> workspacePackage, Package basePackage) {
+    }
+
+    private static class Holder {
+
+        private static final SpeculativeProjects INSTANCE = new SpeculativeProjects();
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.ModuleSymbol;
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.api.symbols.SymbolKind;
+import io.ballerina.compiler.api.symbols.TypeDefinitionSymbol;
+import io.ballerina.projects.Module;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Indexes the type definitions of a module, so that the data mapper can look up a type definition by its name instead
+ * of scanning the module symbols on each request.
+ *
+ * <p>
+ * An index is shared by the requests on the same compilation of a module. Since a new module instance is created for
+ * each modification of the package, the index of a previous compilation is not reused and is discarded along with the
+ * module.
+ * </p>
+ *
+ * @since 1.5.0
+ */
+public class TypeDefinitionIndex {
+
+    private static final Map<Module, TypeDefinitionIndex> INDEXES =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final List<Symbol> typeDefinitions;
+    private final Map<String, TypeDefinitionSymbol> typeDefinitionsByName;
+    private final Map<String, Map<String, TypeDefinitionSymbol>> moduleTypeDefinitions;
+
+    private TypeDefinitionIndex(SemanticModel semanticModel) {
+        this.typeDefinitions = semanticModel.moduleSymbols().stream()
+                .filter(symbol -> symbol.kind() == SymbolKind.TYPE_DEFINITION)
+                .toList();
+        this.typeDefinitionsByName = new HashMap<>();
+        for (Symbol symbol : typeDefinitions) {
+            symbol.getName().ifPresent(name ->
+                    typeDefinitionsByName.putIfAbsent(name, (TypeDefinitionSymbol) symbol));
+        }
+        this.moduleTypeDefinitions = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns the index of the current compilation of the module, which is created on the first use.
+     *
+     * @param module        module to index
+     * @param semanticModel semantic model of the module
+     * @return the index of the module
+     */
+    public static TypeDefinitionIndex of(Module module, SemanticModel semanticModel) {
+        return INDEXES.computeIfAbsent(module, key -> new TypeDefinitionIndex(semanticModel));
+    }
+
+    /**
+     * Creates an index of the module of the semantic model which is not shared with the other requests.
+     *
+     * @param semanticModel semantic model of the module
+     * @return the index of the module
+     */
+    public static TypeDefinitionIndex from(SemanticModel semanticModel) {
+        return new TypeDefinitionIndex(semanticModel);
+    }
+
+    /**
+     * Returns the type definitions of the module. The same list is returned for the lifetime of the index.
+     *
+     * @return the type definitions of the module
+     */
+    public List<Symbol> typeDefinitions() {
+        return typeDefinitions;
+    }
+
+    /**
+     * Looks up a type definition of the module by its name.
+     *
+     * @param name name of the type definition
+     * @return the type definition, or empty if the module does not define it
+     */
+    public Optional<TypeDefinitionSymbol> typeDefinition(String name) {
+        return Optional.ofNullable(typeDefinitionsByName.get(name));
+    }
+
+    /**
+     * Looks up a type definition of an imported module by its name. The type definitions of the imported module are
+     * indexed on the first lookup.
+     *
+     * @param module imported module
+     * @param name   name of the type definition
+     * @return the type definition, or empty if the imported module does not define it
+     */
+    public Optional<TypeDefinitionSymbol> typeDefinition(ModuleSymbol module, String name) {
+        Map<String, TypeDefinitionSymbol> typeDefinitions =
+                moduleTypeDefinitions.computeIfAbsent(module.id().toString(), key -> {
+                    Map<String, TypeDefinitionSymbol> moduleTypes = new HashMap<>();
+                    for (TypeDefinitionSymbol typeDefinition : module.typeDefinitions()) {
+                        typeDefinition.getName().ifPresent(typeName ->
+                                moduleTypes.putIfAbsent(typeName, typeDefinition));
+                    }
+                    return moduleTypes;
+                });
+        return Optional.ofNullable(typeDefinitions.get(name));
+    }
+}
@@ -19,19 +19,41 @@
 package io.ballerina.flowmodelgenerator.core.expressioneditor;
 
 import io.ballerina.flowmodelgenerator.core.expressioneditor.services.DebouncedExpressionEditorRequest;
+import io.ballerina.flowmodelgenerator.core.expressioneditor.services.DebouncedExpressionEditorRequest.Priority;
 
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Debouncing ensures that a task is only executed after a specified delay has passed since its last invocation,
  * cancelling any pending executions in between. This class follows the Singleton pattern, ensuring only one instance
  * exists across the application.
+ * <p>
+ * Requests with different keys are independent of each other. Once the delay of a request has passed, it is queued for
+ * a pool of workers, where the interactive requests such as completions and signature help are executed ahead of the
+ * background requests such as diagnostics. A request which is superseded by a newer request with the same key is
+ * cancelled. A request which is already running is allowed to finish, since interrupting the compiler may leave shared
+ * caches in an inconsistent state, but its result is discarded. Since the requests temporarily modify the documents of
+ * the project, the requests of the same project are executed one at a time.
+ * </p>
  *
  * @since 1.0.0
  */
@@ -40,68 +62,267 @@ public class Debouncer {
     // Time unit for the delay
     private static final TimeUnit TIME_UNIT = TimeUnit.MILLISECONDS;
 
+    // System property to configure the number of workers
+    private static final String WORKER_COUNT_PROPERTY = "ballerina.expressionEditor.workers";
+    private static final int DEFAULT_WORKER_COUNT = Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+
     // Map to hold scheduled tasks
     private final ConcurrentHashMap<String, ScheduledTaskHolder<?>> delayedMap;
 
-    // Single-thread scheduler to debounce tasks.
+    // Scheduler which only hands over the tasks to the workers once their delay has passed
     private final ScheduledExecutorService scheduler;
 
+    // Workers which execute the tasks in the order of their priority
+    private final ThreadPoolExecutor workers;
+
+    // Projects with a running task, and the tasks waiting for them
+    private final Set<Path> busyProjects;
+    private final Map<Path, List<QueuedTask<?>>> waitingTasks;
+
+    private final AtomicLong sequence;
+    private final AtomicLong supersededTasks;
+    private final AtomicLong discardedTasks;
+    private final Map<Priority, LaneStats> laneStats;
+
     private Debouncer() {
-        scheduler = Executors.newSingleThreadScheduledExecutor();
+        this(Integer.getInteger(WORKER_COUNT_PROPERTY, DEFAULT_WORKER_COUNT));
+    }
+
+    public Debouncer(int workerCount) {
+        scheduler = Executors.newSingleThreadScheduledExecutor(daemonThreadFactory("expression-editor-scheduler"));
+        workers = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+                new PriorityBlockingQueue<>(), daemonThreadFactory("expression-editor-worker"));
         delayedMap = new ConcurrentHashMap<>();
+        busyProjects = new HashSet<>();
+        waitingTasks = new HashMap<>();
+        sequence = new AtomicLong();
+        supersededTasks = new AtomicLong();
+        discardedTasks = new AtomicLong();
+        laneStats = new EnumMap<>(Priority.class);
+        for (Priority priority : Priority.values()) {
+            laneStats.put(priority, new LaneStats());
+        }
     }
 
     /**
      * Debounce the given DebouncedExpressionEditorApi request by scheduling it to execute after the provided delay.
-     * Any previously scheduled task with the same key is cancelled.
+     * Any previously scheduled task with the same key is cancelled, or its result is discarded if it is already
+     * running.
      */
     public <T> CompletableFuture<T> debounce(DebouncedExpressionEditorRequest<T> request) {
         long delay = request.getDelay();
         String key = request.getKey();
         CompletableFuture<T> promise = new CompletableFuture<>();
+        QueuedTask<T> task = new QueuedTask<>(key, request, promise, sequence.incrementAndGet());
 
-        // Schedule the task to run after the specified delay.
+        // Queue the task for the workers once the specified delay has passed.
         Future<?> scheduledFuture = scheduler.schedule(() -> {
+            task.queuedAt = System.nanoTime();
+            workers.execute(task);
+        }, delay, TIME_UNIT);
+
+        // Replace any existing scheduled task with the new one.
+        ScheduledTaskHolder<T> holder = new ScheduledTaskHolder<>(task, scheduledFuture);
+        ScheduledTaskHolder<?> prev = delayedMap.put(key, holder);
+        if (prev != null) {
+            prev.future().cancel(false);
+            prev.task().supersede();
+        }
+        return promise;
+    }
+
+    /**
+     * Returns a snapshot of the scheduling metrics.
+     *
+     * @return {@link Metrics} of this debouncer
+     */
+    public Metrics metrics() {
+        Map<Priority, LaneMetrics> lanes = new EnumMap<>(Priority.class);
+        laneStats.forEach((priority, stats) -> lanes.put(priority, stats.snapshot()));
+        return new Metrics(delayedMap.size(), workers.getQueue().size(), workers.getActiveCount(),
+                supersededTasks.get(), discardedTasks.get(), lanes);
+    }
+
+    public static Debouncer getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    private void run(QueuedTask<?> task) {
+        Path projectRoot = task.projectRoot();
+        synchronized (busyProjects) {
+            if (!busyProjects.add(projectRoot)) {
+                // Wait until the running task of the project completes, without holding a worker
+                waitingTasks.computeIfAbsent(projectRoot, k -> new ArrayList<>()).add(task);
+                return;
+            }
+        }
+
+        try {
+            task.execute();
+        } finally {
+            List<QueuedTask<?>> pending;
+            synchronized (busyProjects) {
+                busyProjects.remove(projectRoot);
+                pending = waitingTasks.remove(projectRoot);
+            }
+            if (pending != null) {
+                // Requeue the waiting tasks, which are then picked in the order of their priority
+                pending.forEach(workers::execute);
+            }
+        }
+    }
+
+    private static ThreadFactory daemonThreadFactory(String name) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static class Holder {
+
+        private static final Debouncer INSTANCE = new Debouncer();
+    }
+
+    /**
+     * A debounced request which is ready to be executed by the workers. The tasks are ordered by their priority, and
+     * then by the order in which they were received.
+     *
+     * @param <T> the type of result promised by the request
+     */
+    private final class QueuedTask<T> implements Runnable, Comparable<QueuedTask<?>> {
+
+        private final String key;
+        private final DebouncedExpressionEditorRequest<T> request;
+        private final CompletableFuture<T> promise;
+        private final long sequenceNumber;
+        private volatile long queuedAt;
+        private Path projectRoot;
+
+        // Guarded by this task
+        private boolean running;
+        private boolean superseded;
+
+        private QueuedTask(String key, DebouncedExpressionEditorRequest<T> request, CompletableFuture<T> promise,
+                           long sequenceNumber) {
+            this.key = key;
+            this.request = request;
+            this.promise = promise;
+            this.sequenceNumber = sequenceNumber;
+        }
+
+        @Override
+        public void run() {
+            Debouncer.this.run(this);
+        }
+
+        private Path projectRoot() {
+            if (projectRoot == null) {
+                projectRoot = request.getProjectRoot();
+            }
+            return projectRoot;
+        }
+
+        private void execute() {
+            synchronized (this) {
+                if (superseded) {
+                    return;
+                }
+                running = true;
+            }
+            laneStats.get(request.getPriority()).record(System.nanoTime() - queuedAt);
             try {
+                // The result of a superseded task is discarded, since its promise has already been cancelled
                 T result = request.call();
                 promise.complete(result);
             } catch (Exception ex) {
                 promise.completeExceptionally(ex);
             } finally {
+                synchronized (this) {
+                    running = false;
+                }
                 if (promise.isCompletedExceptionally()) {
                     request.revertDocument();
                 }
-                delayedMap.remove(key);
+                delayedMap.computeIfPresent(key, (k, holder) -> holder.task() == this ? null : holder);
             }
-        }, delay, TIME_UNIT);
+        }
 
-        // Replace any existing scheduled task with the new one.
-        @SuppressWarnings("unchecked")
-        ScheduledTaskHolder<T> prev = (ScheduledTaskHolder<T>) delayedMap.put(key,
-                new ScheduledTaskHolder<>(promise, scheduledFuture));
-        if (prev != null) {
-            prev.future().cancel(true);
-            prev.promise().completeExceptionally(new CancellationException("Debounced by a new request"));
+        private void supersede() {
+            supersededTasks.incrementAndGet();
+            synchronized (this) {
+                superseded = true;
+                if (running) {
+                    discardedTasks.incrementAndGet();
+                }
+            }
+            promise.completeExceptionally(new CancellationException("Debounced by a new request"));
         }
-        return promise;
-    }
 
-    public static Debouncer getInstance() {
-        return Holder.INSTANCE;
+        @Override
+        public int compareTo(QueuedTask<?> other) {
+            int priorityComparison = request.getPriority().compareTo(other.request.getPriority());
+            return priorityComparison != 0 ? priorityComparison : Long.compare(sequenceNumber, other.sequenceNumber);
+        }
     }
 
-    private static class Holder {
+    /**
+     * Accumulates the time the tasks of a priority lane waited in the queue before their execution.
+     */
+    private static class LaneStats {
 
-        private static final Debouncer INSTANCE = new Debouncer();
+        private final AtomicLong executedTasks = new AtomicLong();
+        private final AtomicLong totalWaitNanos = new AtomicLong();
+        private final AtomicLong maxWaitNanos = new AtomicLong();
+
+        private void record(long waitNanos) {
+            executedTasks.incrementAndGet();
+            totalWaitNanos.addAndGet(waitNanos);
+            maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+        }
+
+        private LaneMetrics snapshot() {
+            long executed = executedTasks.get();
+            long averageWait = executed == 0 ? 0 : totalWaitNanos.get() / executed;
+            return new LaneMetrics(executed, TimeUnit.NANOSECONDS.toMillis(averageWait),
+                    TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get()));
+        }
     }
 
     /**
      * Holder for scheduled task information.
      *
-     * @param <T>     the type of result promised by the CompletableFuture.
-     * @param promise the CompletableFuture that will eventually complete with the result of the scheduled task.
-     * @param future  the Future representing the scheduled task, allowing for control over task execution.
+     * @param <T>    the type of result promised by the scheduled task.
+     * @param task   the task which completes the promise of the request.
+     * @param future the Future representing the scheduled task, allowing for control over task execution.
+     */
+    private record ScheduledTaskHolder<T>(QueuedTask<T> task, Future<?> future) {
+    }
+
+    /**
+     * Metrics of the expression editor debouncer.
+     *
+     * @param pendingTasks    number of tasks which are scheduled, queued or running
+     * @param queuedTasks     number of tasks waiting for a worker
+     * @param runningTasks    number of tasks being executed
+     * @param supersededTasks number of tasks superseded by a newer request with the same key
+     * @param discardedTasks  number of running tasks whose results are discarded due to a newer request with the same
+     *                        key
+     * @param lanes           wait time metrics of each priority lane
+     */
+    public record Metrics(int pendingTasks, int queuedTasks, int runningTasks, long supersededTasks,
+                          long discardedTasks, Map<Priority, LaneMetrics> lanes) {
+    }
+
+    /**
+     * Metrics of a priority lane.
+     *
+     * @param executedTasks     number of tasks executed
+     * @param averageWaitMillis average time a task waited for a worker after its delay
+     * @param maxWaitMillis     maximum time a task waited for a worker after its delay
      */
-    private record ScheduledTaskHolder<T>(CompletableFuture<T> promise, Future<?> future) {
+    public record LaneMetrics(long executedTasks, long averageWaitMillis, long maxWaitMillis) {
     }
 }
@@ -136,6 +136,10 @@ public class DocumentContext {
         return filePath;
     }
 
+    public Path inputFilePath() {
+        return inputFilePath;
+    }
+
     public List<ImportDeclarationNode> imports() {
         if (imports == null) {
             initialize();
@@ -21,6 +21,7 @@ package io.ballerina.flowmodelgenerator.core.expressioneditor.services;
 import io.ballerina.flowmodelgenerator.core.expressioneditor.ExpressionEditorContext;
 import io.ballerina.tools.text.TextDocument;
 
+import java.nio.file.Path;
 import java.util.concurrent.Callable;
 
 /**
@@ -67,6 +68,31 @@ public abstract class DebouncedExpressionEditorRequest<T> implements Callable<T>
      */
     public abstract long getDelay();
 
+    /**
+     * Returns the priority of the request once its delay has passed. Requests which the user is actively waiting for
+     * are executed ahead of the background requests.
+     *
+     * @return The priority of the request
+     */
+    public Priority getPriority() {
+        return Priority.INTERACTIVE;
+    }
+
+    /**
+     * Returns the root of the project modified by the request. The requests of the same project are executed one at a
+     * time, since they modify the same project instance.
+     *
+     * @return The project root, or the file path if the project root cannot be determined
+     */
+    public Path getProjectRoot() {
+        Path filePath = context.documentContext().inputFilePath();
+        try {
+            return context.workspaceManager().projectRoot(filePath);
+        } catch (RuntimeException e) {
+            return filePath;
+        }
+    }
+
     @Override
     public T call() throws Exception {
         // Capture the first state of the document
@@ -86,4 +112,12 @@ public abstract class DebouncedExpressionEditorRequest<T> implements Callable<T>
             this.reverted = true;
         }
     }
+
+    /**
+     * Priority of a debounced request. The requests are executed in the declaration order of the priorities.
+     */
+    public enum Priority {
+        INTERACTIVE,
+        BACKGROUND
+    }
 }
@@ -104,6 +104,11 @@ public abstract class DiagnosticsRequest extends DebouncedExpressionEditorReques
         return 350;
     }
 
+    @Override
+    public Priority getPriority() {
+        return Priority.BACKGROUND;
+    }
+
     public record Diagnostics(Set<Diagnostic> diagnostics) {
     }
 }
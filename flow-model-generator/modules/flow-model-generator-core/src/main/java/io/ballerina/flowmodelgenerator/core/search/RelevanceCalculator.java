@@ -37,6 +37,13 @@ public class RelevanceCalculator {
     private static final int DESCRIPTION_MATCH_BONUS = 200;
     private static final int DESCRIPTION_PREFIX_BONUS = 100;
 
+    /**
+     * Highest score of a type whose name does not contain the query, which is used to skip the fuzzy matching once
+     * enough substring matches are found.
+     */
+    static final int MAX_NON_SUBSTRING_SCORE =
+            FUZZY_MATCH_MAX + ABBREVIATION_BONUS + DESCRIPTION_MATCH_BONUS + DESCRIPTION_PREFIX_BONUS;
+
     // Cache for thread-local reusable arrays to avoid repeated allocations
     private static final ThreadLocal<int[]> DISTANCE_ROW_CACHE = ThreadLocal.withInitial(() -> new int[256]);
 
@@ -58,11 +65,23 @@ public class RelevanceCalculator {
         if (query == null || query.isEmpty()) {
             return 1;  // No query means everything matches with minimal score
         }
+        String lowerDescription = description != null ? description.toLowerCase(Locale.ROOT) : "";
+        return calculateFuzzyRelevanceScore(typeName.toLowerCase(Locale.ROOT), abbreviationOf(typeName),
+                lowerDescription, query.toLowerCase(Locale.ROOT));
+    }
 
-        // Cache lowercase conversions
-        String lowerTypeName = typeName.toLowerCase(Locale.ROOT);
-        String lowerQuery = query.toLowerCase(Locale.ROOT);
-
+    /**
+     * Calculates the fuzzy match relevance score from the precomputed forms of the type, so that the forms are not
+     * recomputed for each query.
+     *
+     * @param lowerTypeName    The lowercase name of the type
+     * @param abbreviation     The abbreviation of the type name, as returned by {@link #abbreviationOf(String)}
+     * @param lowerDescription The lowercase description of the type (can be empty)
+     * @param lowerQuery       The non-empty lowercase query
+     * @return A relevance score (0 = no match, higher = better match)
+     */
+    static int calculateFuzzyRelevanceScore(String lowerTypeName, String abbreviation, String lowerDescription,
+                                            String lowerQuery) {
         int score = 0;
 
         // --- TYPE NAME MATCHING (Weighted Higher) ---
@@ -101,7 +120,7 @@ public class RelevanceCalculator {
                 }
 
                 // Also check if query is an abbreviation (matches first letters)
-                if (matchesAbbreviation(lowerTypeName, lowerQuery)) {
+                if (matchesAbbreviation(abbreviation, lowerQuery)) {
                     score += ABBREVIATION_BONUS;
                 }
             } else {
@@ -113,9 +132,7 @@ public class RelevanceCalculator {
 
         // --- DESCRIPTION MATCHING (Bonus Points - Lower Weight) ---
         // Only process description if we need additional scoring
-        if (description != null && !description.isEmpty() && score < EXACT_MATCH_SCORE) {
-            String lowerDescription = description.toLowerCase(Locale.ROOT);
-
+        if (!lowerDescription.isEmpty() && score < EXACT_MATCH_SCORE) {
             if (lowerDescription.startsWith(lowerQuery)) {
                 // Extra bonus if description starts with query
                 score += DESCRIPTION_MATCH_BONUS + DESCRIPTION_PREFIX_BONUS;
@@ -211,40 +228,49 @@ public class RelevanceCalculator {
     }
 
     /**
-     * Checks if the query could be an abbreviation of the type name. Optimized version using char arrays for better
-     * performance. For example, "HC" could match "HttpClient", "AC" could match "ApplicationConfig".
+     * Returns the lowercase first letters of the words in the type name. A word starts at the first character of the
+     * name, and at each uppercase character after a lowercase character (camelCase boundary). For example, the
+     * abbreviation of "HttpClient" is "hc".
+     *
+     * @param typeName The type name
+     * @return The abbreviation of the type name
+     */
+    static String abbreviationOf(String typeName) {
+        StringBuilder abbreviation = new StringBuilder();
+        char prevChar = '\0';
+        for (int i = 0; i < typeName.length(); i++) {
+            char typeChar = typeName.charAt(i);
+            if (i == 0 || (Character.isUpperCase(typeChar) && Character.isLowerCase(prevChar))) {
+                abbreviation.append(Character.toLowerCase(typeChar));
+            }
+            prevChar = typeChar;
+        }
+        return abbreviation.toString();
+    }
+
+    /**
+     * Checks if the query could be an abbreviation of the type name, i.e. the query matches the first letters of the
+     * words in the type name in order. For example, "HC" could match "HttpClient", "AC" could match
+     * "ApplicationConfig".
      *
-     * @param typeName The type name to check against
-     * @param query    The potential abbreviation
+     * @param abbreviation The abbreviation of the type name
+     * @param query        The potential abbreviation
      * @return true if query matches the first letters of words in typeName
      */
-    private static boolean matchesAbbreviation(String typeName, String query) {
-        int typeLen = typeName.length();
+    private static boolean matchesAbbreviation(String abbreviation, String query) {
+        int abbreviationLen = abbreviation.length();
         int queryLen = query.length();
 
-        if (queryLen > typeLen || queryLen == 0) {
+        if (queryLen > abbreviationLen || queryLen == 0) {
             return false;
         }
 
         int queryIndex = 0;
-        char prevChar = '\0';
-
-        for (int i = 0; i < typeLen && queryIndex < queryLen; i++) {
-            char typeChar = typeName.charAt(i);
-            boolean isCurrentUpper = Character.isUpperCase(typeChar);
-            boolean isPrevLower = Character.isLowerCase(prevChar);
-
-            // Check if this is the start of a new word
-            // 1. First character of string
-            // 2. Uppercase after lowercase (camelCase boundary)
-            if ((i == 0 || (isCurrentUpper && isPrevLower)) &&
-                    Character.toLowerCase(typeChar) == query.charAt(queryIndex)) {
+        for (int i = 0; i < abbreviationLen && queryIndex < queryLen; i++) {
+            if (abbreviation.charAt(i) == query.charAt(queryIndex)) {
                 queryIndex++;
             }
-
-            prevChar = typeChar;
         }
-
         return queryIndex == queryLen;
     }
 }
@@ -0,0 +1,246 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * An immutable index of the type names of a module, which ranks the types against a query using
+ * {@link RelevanceCalculator}. The lowercase and abbreviation forms of the types are computed once when the index is
+ * built, and the trigrams of the type names are indexed to find the types containing the query without scanning all
+ * the types. The remaining types are only scored for the fuzzy matches when the substring matches are not enough to
+ * fill the results.
+ *
+ * @since 1.5.0
+ */
+public final class TypeNameIndex {
+
+    private static final int GRAM_SIZE = 3;
+    private static final int[] NO_POSTINGS = new int[0];
+
+    private final IndexedType[] types;
+    private final Map<String, int[]> trigramPostings;
+
+    private TypeNameIndex(IndexedType[] types, Map<String, int[]> trigramPostings) {
+        this.types = types;
+        this.trigramPostings = trigramPostings;
+    }
+
+    /**
+     * Builds the index of the given types. The order of the types is used to rank the types with the same score.
+     *
+     * @param types types to be indexed
+     * @return {@link TypeNameIndex} of the types
+     */
+    public static TypeNameIndex of(List<Type> types) {
+        IndexedType[] indexedTypes = new IndexedType[types.size()];
+        Map<String, List<Integer>> postings = new HashMap<>();
+        for (int i = 0; i < indexedTypes.length; i++) {
+            Type type = types.get(i);
+            String lowerName = type.name().toLowerCase(Locale.ROOT);
+            String lowerDescription = type.description() != null ? type.description().toLowerCase(Locale.ROOT) : "";
+            indexedTypes[i] = new IndexedType(type, lowerName, RelevanceCalculator.abbreviationOf(type.name()),
+                    lowerDescription);
+            for (String trigram : trigrams(lowerName)) {
+                postings.computeIfAbsent(trigram, key -> new ArrayList<>()).add(i);
+            }
+        }
+
+        Map<String, int[]> trigramPostings = new HashMap<>(postings.size());
+        postings.forEach((trigram, typeIds) ->
+                trigramPostings.put(trigram, typeIds.stream().mapToInt(Integer::intValue).toArray()));
+        return new TypeNameIndex(indexedTypes, trigramPostings);
+    }
+
+    /**
+     * Returns the number of indexed types.
+     *
+     * @return number of types
+     */
+    public int size() {
+        return types.length;
+    }
+
+    /**
+     * Returns the top ranked types for the given query, in the same order as ranking all the types by
+     * {@link RelevanceCalculator#calculateFuzzyRelevanceScore(String, String, String)}.
+     *
+     * @param query search query, where an empty query matches all the types
+     * @param limit maximum number of types to return
+     * @return matching types with their scores, highest score first
+     */
+    public List<Match> search(String query, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        if (query == null || query.isEmpty()) {
+            List<Match> matches = new ArrayList<>();
+            for (int i = 0; i < Math.min(limit, types.length); i++) {
+                matches.add(new Match(types[i].type(), 1));
+            }
+            return matches;
+        }
+
+        String lowerQuery = query.toLowerCase(Locale.ROOT);
+        TopMatches topMatches = new TopMatches(limit);
+        boolean[] scored = new boolean[types.length];
+
+        // Score the types whose names may contain the query first, as they score higher than the other types
+        int[] candidates = substringCandidates(lowerQuery);
+        if (candidates != null) {
+            for (int typeId : candidates) {
+                scored[typeId] = true;
+                topMatches.offer(typeId, score(typeId, lowerQuery));
+            }
+            if (topMatches.isFull() && topMatches.minScore() > RelevanceCalculator.MAX_NON_SUBSTRING_SCORE) {
+                return topMatches.toList();
+            }
+        }
+
+        for (int typeId = 0; typeId < types.length; typeId++) {
+            if (!scored[typeId]) {
+                topMatches.offer(typeId, score(typeId, lowerQuery));
+            }
+        }
+        return topMatches.toList();
+    }
+
+    private int score(int typeId, String lowerQuery) {
+        IndexedType type = types[typeId];
+        return RelevanceCalculator.calculateFuzzyRelevanceScore(type.lowerName(), type.abbreviation(),
+                type.lowerDescription(), lowerQuery);
+    }
+
+    /**
+     * Returns the types which contain all the trigrams of the query, or null if the query is too short to use the
+     * trigrams.
+     */
+    private int[] substringCandidates(String lowerQuery) {
+        if (lowerQuery.length() < GRAM_SIZE) {
+            return null;
+        }
+        List<int[]> postings = new ArrayList<>();
+        for (String trigram : trigrams(lowerQuery)) {
+            int[] typeIds = trigramPostings.get(trigram);
+            if (typeIds == null) {
+                return NO_POSTINGS;
+            }
+            postings.add(typeIds);
+        }
+
+        // Intersect starting from the shortest postings list
+        postings.sort(Comparator.comparingInt(typeIds -> typeIds.length));
+        int[] candidates = postings.getFirst();
+        for (int i = 1; i < postings.size() && candidates.length > 0; i++) {
+            int[] typeIds = postings.get(i);
+            candidates = Arrays.stream(candidates)
+                    .filter(typeId -> Arrays.binarySearch(typeIds, typeId) >= 0)
+                    .toArray();
+        }
+        return candidates;
+    }
+
+    private static Set<String> trigrams(String text) {
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + GRAM_SIZE <= text.length(); i++) {
+            trigrams.add(text.substring(i, i + GRAM_SIZE));
+        }
+        return trigrams;
+    }
+
+    /**
+     * Bounded min-heap of the best matches, where the types with the same score are ranked by their order in the
+     * index.
+     */
+    private final class TopMatches {
+
+        private final int limit;
+        private final PriorityQueue<long[]> heap;
+
+        TopMatches(int limit) {
+            this.limit = limit;
+            // The head of the heap is the worst match: the lowest score, and the last type among the same scores
+            this.heap = new PriorityQueue<>(Math.min(limit, types.length) + 1,
+                    Comparator.<long[]>comparingLong(match -> match[1]).thenComparingLong(match -> -match[0]));
+        }
+
+        void offer(int typeId, int score) {
+            if (score <= 0) {
+                return;
+            }
+            if (heap.size() < limit) {
+                heap.add(new long[]{typeId, score});
+                return;
+            }
+            long[] worst = heap.peek();
+            if (score > worst[1] || (score == worst[1] && typeId < worst[0])) {
+                heap.poll();
+                heap.add(new long[]{typeId, score});
+            }
+        }
+
+        boolean isFull() {
+            return heap.size() == limit;
+        }
+
+        long minScore() {
+            return heap.isEmpty() ? 0 : heap.peek()[1];
+        }
+
+        List<Match> toList() {
+            List<long[]> matches = new ArrayList<>(heap);
+            matches.sort(Comparator.<long[]>comparingLong(match -> -match[1]).thenComparingLong(match -> match[0]));
+            List<Match> result = new ArrayList<>(matches.size());
+            for (long[] match : matches) {
+                result.add(new Match(types[(int) match[0]].type(), (int) match[1]));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * A type to be indexed.
+     *
+     * @param name        name of the type
+     * @param description description of the type (can be null or empty)
+     */
+    public record Type(String name, String description) {
+    }
+
+    /**
+     * A type matching the query.
+     *
+     * @param type  matching type
+     * @param score relevance score of the type
+     */
+    public record Match(Type type, int score) {
+    }
+
+    private record IndexedType(Type type, String lowerName, String abbreviation, String lowerDescription) {
+    }
+}
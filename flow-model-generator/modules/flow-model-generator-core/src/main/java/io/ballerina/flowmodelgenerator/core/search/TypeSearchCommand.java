@@ -25,6 +25,7 @@ import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.compiler.api.symbols.Documentation;
 import io.ballerina.compiler.api.symbols.Symbol;
 import io.ballerina.compiler.api.symbols.TypeDefinitionSymbol;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.flowmodelgenerator.core.model.AvailableNode;
 import io.ballerina.flowmodelgenerator.core.model.Category;
 import io.ballerina.flowmodelgenerator.core.model.Codedata;
@@ -35,6 +36,7 @@ import io.ballerina.modelgenerator.commons.CommonUtils;
 import io.ballerina.modelgenerator.commons.PackageUtil;
 import io.ballerina.modelgenerator.commons.SearchResult;
 import io.ballerina.projects.Module;
+import io.ballerina.projects.ModuleId;
 import io.ballerina.projects.ModuleName;
 import io.ballerina.projects.Package;
 import io.ballerina.projects.Project;
@@ -42,11 +44,12 @@ import io.ballerina.tools.text.LineRange;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.WeakHashMap;
 
 /**
  * Represents a command to search for types within a module. This class extends SearchCommand and provides functionality
@@ -69,6 +72,10 @@ import java.util.Objects;
  */
 class TypeSearchCommand extends SearchCommand {
 
+    // Weakly keyed, so that the indexes are discarded along with the modules
+    private static final Map<ModuleId, ModuleTypeIndex> TYPE_NAME_INDEXES =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
     private final List<String> moduleNames;
 
     public TypeSearchCommand(Project project, LineRange position, Map<String, String> queryMap) {
@@ -198,61 +205,34 @@ class TypeSearchCommand extends SearchCommand {
         }
     }
 
-     private void buildImportedLocalModules() {
+    private void buildImportedLocalModules() {
         Iterable<Module> modules = project.currentPackage().modules();
         for (Module module : modules) {
             if (module.isDefaultModule()) {
                 continue;
             }
-            SemanticModel semanticModel = PackageUtil.getCompilation(module.packageInstance())
-                    .getSemanticModel(module.moduleId());
-            if (semanticModel == null) {
+            Optional<TypeNameIndex> typeNameIndex = typeNameIndex(module);
+            if (typeNameIndex.isEmpty()) {
                 continue;
             }
-            List<Symbol> symbols = semanticModel.moduleSymbols();
             String moduleName = module.moduleName().toString();
             Category.Builder moduleBuilder = rootBuilder.stepIn(Category.Name.IMPORTED_TYPES);
             String orgName = module.packageInstance().packageOrg().toString();
             String packageName = module.packageInstance().packageName().toString();
             String version = module.packageInstance().packageVersion().toString();
 
-            // Collect all types with their scores for ranking
-            List<ScoredType> scoredTypes = new ArrayList<>();
-
-            for (Symbol symbol : symbols) {
-                if (symbol instanceof TypeDefinitionSymbol typeDefinitionSymbol) {
-                    if (typeDefinitionSymbol.getName().isEmpty()) {
-                        continue;
-                    }
-                    String typeName = typeDefinitionSymbol.getName().get();
-                    Documentation documentation = typeDefinitionSymbol.documentation()
-                            .orElse(null);
-                    String description = documentation != null ? documentation.description().orElse("") : "";
-
-
-                    // Calculate the relevance score, and filter out types with score 0 (no match)
-                    int score = RelevanceCalculator.calculateFuzzyRelevanceScore(typeName, description, query);
-                    if (score > 0) {
-                        scoredTypes.add(new ScoredType(typeDefinitionSymbol, typeName, description, score));
-                    }
-                }
-            }
-
-            // Sort by score in descending order (highest score first)
-            scoredTypes.sort(Comparator.comparingInt(ScoredType::getScore).reversed());
-
-            // Build nodes from sorted list
-            for (ScoredType scoredType : scoredTypes) {
+            // Build nodes from the top ranked types, highest score first
+            for (TypeNameIndex.Match match : typeNameIndex.get().search(query, limit)) {
                 Metadata metadata = new Metadata.Builder<>(null)
-                        .label(scoredType.getTypeName())
-                        .description(scoredType.getDescription())
+                        .label(match.type().name())
+                        .description(match.type().description())
                         .build();
 
                 Codedata codedata = new Codedata.Builder<>(null)
                         .org(orgName)
                         .module(moduleName)
                         .packageName(packageName)
-                        .symbol(scoredType.getTypeName())
+                        .symbol(match.type().name())
                         .version(version)
                         .build();
 
@@ -263,37 +243,56 @@ class TypeSearchCommand extends SearchCommand {
     }
 
     /**
-     * Helper class to store type symbols along with their relevance scores for ranking.
+     * Returns the index of the types defined in the module. The index is reused until a document of the module is
+     * modified, since the type names and their descriptions only depend on the documents of the module.
      */
-    private static class ScoredType {
-        private final TypeDefinitionSymbol symbol;
-        private final String typeName;
-        private final String description;
-        private final int score;
-
-        ScoredType(TypeDefinitionSymbol symbol, String typeName, String description, int score) {
-            this.symbol = symbol;
-            this.typeName = typeName;
-            this.description = description;
-            this.score = score;
+    private static Optional<TypeNameIndex> typeNameIndex(Module module) {
+        List<SyntaxTree> syntaxTrees = module.documentIds().stream()
+                .map(documentId -> module.document(documentId).syntaxTree())
+                .toList();
+        ModuleTypeIndex cached = TYPE_NAME_INDEXES.get(module.moduleId());
+        if (cached != null && cached.isValidFor(syntaxTrees)) {
+            return Optional.of(cached.index());
         }
 
-        TypeDefinitionSymbol getSymbol() {
-            return symbol;
+        SemanticModel semanticModel = PackageUtil.getCompilation(module.packageInstance())
+                .getSemanticModel(module.moduleId());
+        if (semanticModel == null) {
+            return Optional.empty();
         }
-
-        String getTypeName() {
-            return typeName;
+        List<TypeNameIndex.Type> types = new ArrayList<>();
+        for (Symbol symbol : semanticModel.moduleSymbols()) {
+            if (symbol instanceof TypeDefinitionSymbol typeDefinitionSymbol && symbol.getName().isPresent()) {
+                String description = typeDefinitionSymbol.documentation()
+                        .flatMap(Documentation::description)
+                        .orElse("");
+                types.add(new TypeNameIndex.Type(symbol.getName().get(), description));
+            }
         }
+        TypeNameIndex index = TypeNameIndex.of(types);
+        TYPE_NAME_INDEXES.put(module.moduleId(), new ModuleTypeIndex(syntaxTrees, index));
+        return Optional.of(index);
+    }
 
-        String getDescription() {
-            return description;
-        }
+    /**
+     * Index of the types of a module, along with the syntax trees of the module documents it was built from.
+     *
+     * @param syntaxTrees syntax trees of the module documents
+     * @param index       index of the types
+     */
+    private record ModuleTypeIndex(List<SyntaxTree> syntaxTrees, TypeNameIndex index) {
 
-        int getScore() {
-            return score;
+        boolean isValidFor(List<SyntaxTree> currentSyntaxTrees) {
+            if (syntaxTrees.size() != currentSyntaxTrees.size()) {
+                return false;
+            }
+            for (int i = 0; i < syntaxTrees.size(); i++) {
+                // Unmodified documents retain their syntax trees across the package modifications
+                if (syntaxTrees.get(i) != currentSyntaxTrees.get(i)) {
+                    return false;
+                }
+            }
+            return true;
         }
     }
-
-
 }
@@ -0,0 +1,211 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core.utils;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+import java.util.Map;
+
+/**
+ * Utility class to compute and apply JSON patches as defined in RFC 6902. Only the add, remove and replace operations
+ * are generated.
+ *
+ * @since 1.5.0
+ */
+public class JsonPatchUtil {
+
+    private static final String OP = "op";
+    private static final String PATH = "path";
+    private static final String VALUE = "value";
+    private static final String ADD = "add";
+    private static final String REMOVE = "remove";
+    private static final String REPLACE = "replace";
+
+    private JsonPatchUtil() {
+    }
+
+    /**
+     * Computes the patch which transforms the source into the target. The elements of arrays are compared by their
+     * positions, after skipping the common leading and trailing elements.
+     *
+     * @param source source JSON
+     * @param target target JSON
+     * @return array of the patch operations, which is empty if the source is equal to the target
+     */
+    public static JsonArray diff(JsonElement source, JsonElement target) {
+        JsonArray patch = new JsonArray();
+        diff(source, target, "", patch);
+        return patch;
+    }
+
+    /**
+     * Applies the patch to a copy of the source.
+     *
+     * @param source source JSON
+     * @param patch  array of the patch operations
+     * @return patched JSON
+     * @throws IllegalArgumentException if an operation is not supported or its path does not exist in the source
+     */
+    public static JsonElement apply(JsonElement source, JsonArray patch) {
+        JsonElement result = source.deepCopy();
+        for (JsonElement element : patch) {
+            JsonObject operation = element.getAsJsonObject();
+            String op = operation.get(OP).getAsString();
+            String path = operation.get(PATH).getAsString();
+            JsonElement value = operation.get(VALUE);
+            if (path.isEmpty()) {
+                if (!REPLACE.equals(op)) {
+                    throw new IllegalArgumentException("Unsupported operation on the root: " + op);
+                }
+                result = value.deepCopy();
+                continue;
+            }
+
+            int separator = path.lastIndexOf('/');
+            JsonElement parent = resolve(result, path.substring(0, separator));
+            String token = unescape(path.substring(separator + 1));
+            if (parent.isJsonObject()) {
+                JsonObject object = parent.getAsJsonObject();
+                switch (op) {
+                    case ADD, REPLACE -> object.add(token, value.deepCopy());
+                    case REMOVE -> object.remove(token);
+                    default -> throw new IllegalArgumentException("Unsupported operation: " + op);
+                }
+            } else if (parent.isJsonArray()) {
+                JsonArray array = parent.getAsJsonArray();
+                int index = Integer.parseInt(token);
+                switch (op) {
+                    case ADD -> insert(array, index, value.deepCopy());
+                    case REPLACE -> array.set(index, value.deepCopy());
+                    case REMOVE -> array.remove(index);
+                    default -> throw new IllegalArgumentException("Unsupported operation: " + op);
+                }
+            } else {
+                throw new IllegalArgumentException("Invalid path: " + path);
+            }
+        }
+        return result;
+    }
+
+    private static void diff(JsonElement source, JsonElement target, String path, JsonArray patch) {
+        if (source.equals(target)) {
+            return;
+        }
+        if (source.isJsonObject() && target.isJsonObject()) {
+            diffObjects(source.getAsJsonObject(), target.getAsJsonObject(), path, patch);
+        } else if (source.isJsonArray() && target.isJsonArray()) {
+            diffArrays(source.getAsJsonArray(), target.getAsJsonArray(), path, patch);
+        } else {
+            patch.add(operation(REPLACE, path, target));
+        }
+    }
+
+    private static void diffObjects(JsonObject source, JsonObject target, String path, JsonArray patch) {
+        for (Map.Entry<String, JsonElement> entry : source.entrySet()) {
+            String memberPath = path + "/" + escape(entry.getKey());
+            JsonElement targetValue = target.get(entry.getKey());
+            if (targetValue == null) {
+                patch.add(operation(REMOVE, memberPath, null));
+            } else {
+                diff(entry.getValue(), targetValue, memberPath, patch);
+            }
+        }
+        for (Map.Entry<String, JsonElement> entry : target.entrySet()) {
+            if (!source.has(entry.getKey())) {
+                patch.add(operation(ADD, path + "/" + escape(entry.getKey()), entry.getValue()));
+            }
+        }
+    }
+
+    private static void diffArrays(JsonArray source, JsonArray target, String path, JsonArray patch) {
+        int sourceSize = source.size();
+        int targetSize = target.size();
+
+        // Skip the common leading and trailing elements, so that an insertion or a removal is a single operation
+        int start = 0;
+        while (start < sourceSize && start < targetSize && source.get(start).equals(target.get(start))) {
+            start++;
+        }
+        int sourceEnd = sourceSize;
+        int targetEnd = targetSize;
+        while (sourceEnd > start && targetEnd > start && source.get(sourceEnd - 1).equals(target.get(targetEnd - 1))) {
+            sourceEnd--;
+            targetEnd--;
+        }
+
+        int common = Math.min(sourceEnd, targetEnd) - start;
+        for (int i = start; i < start + common; i++) {
+            diff(source.get(i), target.get(i), path + "/" + i, patch);
+        }
+        for (int i = start + common; i < sourceEnd; i++) {
+            // The following elements are shifted left after each removal
+            patch.add(operation(REMOVE, path + "/" + (start + common), null));
+        }
+        for (int i = start + common; i < targetEnd; i++) {
+            patch.add(operation(ADD, path + "/" + i, target.get(i)));
+        }
+    }
+
+    private static JsonObject operation(String op, String path, JsonElement value) {
+        JsonObject operation = new JsonObject();
+        operation.add(OP, new JsonPrimitive(op));
+        operation.add(PATH, new JsonPrimitive(path));
+        if (value != null) {
+            operation.add(VALUE, value);
+        }
+        return operation;
+    }
+
+    private static JsonElement resolve(JsonElement root, String path) {
+        JsonElement current = root;
+        if (path.isEmpty()) {
+            return current;
+        }
+        for (String token : path.substring(1).split("/", -1)) {
+            String name = unescape(token);
+            if (current.isJsonObject() && current.getAsJsonObject().has(name)) {
+                current = current.getAsJsonObject().get(name);
+            } else if (current.isJsonArray()) {
+                current = current.getAsJsonArray().get(Integer.parseInt(name));
+            } else {
+                throw new IllegalArgumentException("Invalid path: " + path);
+            }
+        }
+        return current;
+    }
+
+    private static void insert(JsonArray array, int index, JsonElement value) {
+        array.add(value);
+        for (int i = array.size() - 1; i > index; i--) {
+            array.set(i, array.get(i - 1));
+        }
+        array.set(index, value);
+    }
+
+    private static String escape(String token) {
+        return token.replace("~", "~0").replace("/", "~1");
+    }
+
+    private static String unescape(String token) {
+        return token.replace("~1", "/").replace("~0", "~");
+    }
+}
@@ -36,15 +36,24 @@ import org.eclipse.lsp4j.services.LanguageServer;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Service for managing Copilot library operations.
- * Provides streaming JSON processing for efficient memory usage.
+ * <p>
+ * The context file of each mode is parsed once on its first use, and kept as a {@link LibraryIndex}, so that the
+ * frequent requests of the AI assistant do not re-read the whole context file.
+ * </p>
  *
  * @since 1.0.1
  */
@@ -61,6 +70,9 @@ public class CopilotLibraryService implements ExtendedLanguageServerService {
     private static final String FIELD_NAME = "name";
     private static final String FIELD_DESCRIPTION = "description";
 
+    // Indexed libraries of the context files, keyed by the path of the context file
+    private static final Map<String, LibraryIndex> LIBRARY_INDEXES = new ConcurrentHashMap<>();
+
     @Override
     public void init(LanguageServer langServer, WorkspaceManager workspaceManager) {
         // Initialization logic if needed
@@ -78,8 +90,7 @@ public class CopilotLibraryService implements ExtendedLanguageServerService {
         return CompletableFuture.supplyAsync(() -> {
             try {
                 String mode = request.mode() != null ? request.mode() : MODE_CORE;
-                JsonArray libraries = loadLibrariesFromContext(null, true, mode);
-                return createResponse(libraries);
+                return createResponse(getLibraryIndex(mode).limitedLibraries());
             } catch (Exception e) {
                 throw new RuntimeException("Failed to load libraries: " + e.getMessage(), e);
             }
@@ -98,10 +109,8 @@ public class CopilotLibraryService implements ExtendedLanguageServerService {
                 }
 
                 String mode = request.mode() != null ? request.mode() : MODE_CORE;
-                // Convert to Set for efficient lookup during streaming
-                Set<String> requestedLibraries = new HashSet<>(Arrays.asList(libraryNames));
-                JsonArray filteredLibraries = loadLibrariesFromContext(requestedLibraries, false, mode);
-                return createResponse(filteredLibraries);
+                Set<String> requestedLibraries = new LinkedHashSet<>(Arrays.asList(libraryNames));
+                return createResponse(getLibraryIndex(mode).libraries(requestedLibraries));
             } catch (Exception e) {
                 throw new RuntimeException("Failed to load filtered libraries: " + e.getMessage(), e);
             }
@@ -109,130 +118,95 @@ public class CopilotLibraryService implements ExtendedLanguageServerService {
     }
 
     /**
-     * Loads libraries from the context.json file using streaming JSON parsing with optional filtering.
+     * Returns the indexed libraries of the context file of the given mode, loading the context file on the first use.
      *
-     * @param requestedLibraries Set of library names to filter by, or null to load all libraries
-     * @param limitedFields      whether to return only name and description fields (true) or full objects (false)
-     * @param mode               The mode to determine which context file to read ("CORE" or "HEALTHCARE")
-     * @return JsonArray containing library information
-     * @throws IOException if file reading fails
+     * @param mode The mode to determine which context file to read ("CORE" or "HEALTHCARE")
+     * @return the indexed libraries of the mode
+     * @throws IOException if the context file cannot be read
      */
-    private JsonArray loadLibrariesFromContext(Set<String> requestedLibraries, boolean limitedFields, String mode)
-            throws IOException {
-
-        JsonArray libraries = new JsonArray();
-
-        try (InputStream inputStream = getContextInputStream(mode);
-             InputStreamReader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8);
-             JsonReader jsonReader = new JsonReader(reader)) {
-
-            processLibraryArray(jsonReader, libraries, requestedLibraries, limitedFields);
+    static LibraryIndex getLibraryIndex(String mode) throws IOException {
+
+        String contextPath = getContextPath(mode);
+        try {
+            return LIBRARY_INDEXES.computeIfAbsent(contextPath, path -> {
+                try {
+                    return loadLibraryIndex(path);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
         }
-
-        return libraries;
     }
 
     /**
-     * Gets the input stream for the context file based on the mode.
+     * Gets the path of the context file based on the mode.
      *
      * @param mode The mode to determine which context file to read
-     * @return InputStream for the context file
-     * @throws IOException if file not found
+     * @return the resource path of the context file
      */
-    private InputStream getContextInputStream(String mode) throws IOException {
+    private static String getContextPath(String mode) {
 
-        String contextPath;
         if (MODE_HEALTHCARE.equals(mode)) {
-            contextPath = HEALTHCARE_CONTEXT_JSON_PATH;
-        } else {
-            contextPath = CORE_CONTEXT_JSON_PATH; // Default to CORE
-        }
-
-        InputStream inputStream = CopilotLibraryService.class.getResourceAsStream(contextPath);
-        if (inputStream == null) {
-            throw new IOException("Context file not found: " + contextPath);
+            return HEALTHCARE_CONTEXT_JSON_PATH;
         }
-        return inputStream;
+        return CORE_CONTEXT_JSON_PATH; // Default to CORE
     }
 
     /**
-     * Processes the JSON array containing library information with optional filtering.
+     * Loads the libraries of the given context file using streaming JSON parsing.
      *
-     * @param jsonReader         the JSON reader
-     * @param libraries          the array to populate with library data
-     * @param requestedLibraries Set of library names to filter by, or null to include all libraries
-     * @param limitedFields      whether to return only name and description fields (true) or full objects (false)
-     * @throws IOException if JSON parsing fails
+     * @param contextPath the resource path of the context file
+     * @return the indexed libraries of the context file
+     * @throws IOException if file reading fails
      */
-    private void processLibraryArray(JsonReader jsonReader, JsonArray libraries, Set<String> requestedLibraries,
-                                     boolean limitedFields) throws IOException {
+    private static LibraryIndex loadLibraryIndex(String contextPath) throws IOException {
 
-        jsonReader.beginArray();
-
-        while (jsonReader.hasNext()) {
-            JsonObject libraryInfo = parseLibraryObject(jsonReader, limitedFields);
-            if (isValidLibrary(libraryInfo) && shouldIncludeLibrary(libraryInfo, requestedLibraries)) {
-                libraries.add(libraryInfo);
-            }
+        InputStream stream = CopilotLibraryService.class.getResourceAsStream(contextPath);
+        if (stream == null) {
+            throw new IOException("Context file not found: " + contextPath);
         }
 
-        jsonReader.endArray();
-    }
-
-    /**
-     * Parses a single library object from the JSON stream.
-     *
-     * @param jsonReader    the JSON reader
-     * @param limitedFields whether to return only name and description fields (true) or full objects (false)
-     * @return JsonObject representing the library
-     * @throws IOException if JSON parsing fails
-     */
-    private JsonObject parseLibraryObject(JsonReader jsonReader, boolean limitedFields) throws IOException {
+        List<String> libraries = new ArrayList<>();
+        Map<String, List<Integer>> positions = new HashMap<>();
+        JsonArray limitedLibraries = new JsonArray();
+        try (InputStream inputStream = stream;
+             InputStreamReader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8);
+             JsonReader jsonReader = new JsonReader(reader)) {
 
-        JsonObject libraryInfo = new JsonObject();
-        jsonReader.beginObject();
-        while (jsonReader.hasNext()) {
-            String fieldName = jsonReader.nextName();
-            processLibraryField(jsonReader, libraryInfo, fieldName, limitedFields);
+            jsonReader.beginArray();
+            while (jsonReader.hasNext()) {
+                JsonElement element = JsonParser.parseReader(jsonReader);
+                if (!element.isJsonObject() || !isValidLibrary(element.getAsJsonObject())) {
+                    continue;
+                }
+                JsonObject libraryInfo = element.getAsJsonObject();
+                String name = libraryInfo.get(FIELD_NAME).getAsString();
+                positions.computeIfAbsent(name, k -> new ArrayList<>()).add(libraries.size());
+                libraries.add(libraryInfo.toString());
+                limitedLibraries.add(getLimitedFields(libraryInfo));
+            }
+            jsonReader.endArray();
         }
-
-        jsonReader.endObject();
-
-        return libraryInfo;
+        return new LibraryIndex(List.copyOf(libraries), Map.copyOf(positions), limitedLibraries);
     }
 
     /**
-     * Processes a single field in the library object.
+     * Creates a copy of the library object with only the name and description fields.
      *
-     * @param jsonReader  the JSON reader
-     * @param libraryInfo the library object to populate
-     * @param fieldName   the current field name
-     * @throws IOException if JSON parsing fails
+     * @param libraryInfo the library object
+     * @return JsonObject containing the name and description of the library
      */
-    private void processLibraryField(JsonReader jsonReader, JsonObject libraryInfo, String fieldName,
-                                     boolean limitedFields) throws IOException {
-
-        if (limitedFields) {
-            // For limited fields, only process name and description
-            switch (fieldName) {
-                case FIELD_NAME:
-                    String name = jsonReader.nextString();
-                    libraryInfo.addProperty(FIELD_NAME, name);
-                    break;
-                case FIELD_DESCRIPTION:
-                    String description = jsonReader.nextString();
-                    libraryInfo.addProperty(FIELD_DESCRIPTION, description);
-                    break;
-                default:
-                    jsonReader.skipValue(); // Skip other fields
-                    break;
-            }
-        } else {
-            // Add all fields to the libraryInfo object as a exact copy.
-            JsonElement element = JsonParser.parseReader(jsonReader);
-            libraryInfo.add(fieldName, element);
-        }
+    private static JsonObject getLimitedFields(JsonObject libraryInfo) {
 
+        JsonObject limitedInfo = new JsonObject();
+        limitedInfo.add(FIELD_NAME, libraryInfo.get(FIELD_NAME));
+        JsonElement description = libraryInfo.get(FIELD_DESCRIPTION);
+        if (description != null && description.isJsonPrimitive()) {
+            limitedInfo.addProperty(FIELD_DESCRIPTION, description.getAsString());
+        }
+        return limitedInfo;
     }
 
     /**
@@ -241,32 +215,10 @@ public class CopilotLibraryService implements ExtendedLanguageServerService {
      * @param libraryInfo the library object to validate
      * @return true if valid, false otherwise
      */
-    private boolean isValidLibrary(JsonObject libraryInfo) {
+    private static boolean isValidLibrary(JsonObject libraryInfo) {
 
-        return libraryInfo.has(FIELD_NAME) &&
-                libraryInfo.get(FIELD_NAME).getAsString() != null &&
-                !libraryInfo.get(FIELD_NAME).getAsString().trim().isEmpty();
-    }
-
-    /**
-     * Determines if a library should be included based on the filter criteria.
-     *
-     * @param libraryInfo        the library object to check
-     * @param requestedLibraries Set of library names to filter by, or null to include all libraries
-     * @return true if the library should be included, false otherwise
-     */
-    private boolean shouldIncludeLibrary(JsonObject libraryInfo, Set<String> requestedLibraries) {
-
-        if (requestedLibraries == null || requestedLibraries.isEmpty()) {
-            return true; // Include all libraries if no filter specified
-        }
-
-        if (!libraryInfo.has(FIELD_NAME)) {
-            return false; // Skip libraries without names
-        }
-
-        String libraryName = libraryInfo.get(FIELD_NAME).getAsString();
-        return requestedLibraries.contains(libraryName);
+        JsonElement name = libraryInfo.get(FIELD_NAME);
+        return name != null && name.isJsonPrimitive() && !name.getAsString().trim().isEmpty();
     }
 
     /**
@@ -281,4 +233,40 @@ public class CopilotLibraryService implements ExtendedLanguageServerService {
         response.setLibraries(libraries);
         return response;
     }
+
+    /**
+     * Libraries of a context file, indexed by their names. The full library objects are kept in their compact
+     * serialized form and are only parsed when requested, while the name and description projection used for the
+     * library list is computed upfront.
+     *
+     * @param libraries        serialized library objects in the order of the context file
+     * @param positions        positions of the libraries in the context file, keyed by the library name
+     * @param limitedLibraries name and description of all the libraries, which must not be modified
+     */
+    record LibraryIndex(List<String> libraries, Map<String, List<Integer>> positions, JsonArray limitedLibraries) {
+
+        /**
+         * Returns the full library objects with the given names in the order of the context file.
+         *
+         * @param names names of the libraries
+         * @return JsonArray containing the library objects
+         */
+        JsonArray libraries(Set<String> names) {
+
+            List<Integer> matches = new ArrayList<>();
+            for (String name : names) {
+                List<Integer> libraryPositions = positions.get(name);
+                if (libraryPositions != null) {
+                    matches.addAll(libraryPositions);
+                }
+            }
+            matches.sort(null);
+
+            JsonArray result = new JsonArray(matches.size());
+            for (int position : matches) {
+                result.add(JsonParser.parseString(libraries.get(position)));
+            }
+            return result;
+        }
+    }
 }
@@ -30,9 +30,11 @@ import io.ballerina.flowmodelgenerator.core.CopilotContextGenerator;
 import io.ballerina.flowmodelgenerator.core.DeleteNodeHandler;
 import io.ballerina.flowmodelgenerator.core.EnclosedNodeFinder;
 import io.ballerina.flowmodelgenerator.core.ErrorHandlerGenerator;
+import io.ballerina.flowmodelgenerator.core.FlowModelCache;
 import io.ballerina.flowmodelgenerator.core.ModelGenerator;
 import io.ballerina.flowmodelgenerator.core.NodeTemplateGenerator;
 import io.ballerina.flowmodelgenerator.core.SourceGenerator;
+import io.ballerina.flowmodelgenerator.core.SpeculativeProjects;
 import io.ballerina.flowmodelgenerator.core.SuggestedComponentService;
 import io.ballerina.flowmodelgenerator.core.SuggestedModelGenerator;
 import io.ballerina.flowmodelgenerator.core.analyzers.function.ModuleNodeAnalyzer;
@@ -40,6 +42,7 @@ import io.ballerina.flowmodelgenerator.core.diagnostics.DiagnosticRequest;
 import io.ballerina.flowmodelgenerator.core.diagnostics.DiagnosticsDebouncer;
 import io.ballerina.flowmodelgenerator.core.search.SearchCommand;
 import io.ballerina.flowmodelgenerator.core.utils.FileSystemUtils;
+import io.ballerina.flowmodelgenerator.core.utils.JsonPatchUtil;
 import io.ballerina.flowmodelgenerator.extension.request.ComponentDeleteRequest;
 import io.ballerina.flowmodelgenerator.extension.request.CopilotContextRequest;
 import io.ballerina.flowmodelgenerator.extension.request.EnclosedFuncDefRequest;
@@ -70,7 +73,8 @@ import io.ballerina.modelgenerator.commons.ModuleInfo;
 import io.ballerina.modelgenerator.commons.PackageUtil;
 import io.ballerina.projects.Document;
 import io.ballerina.projects.DocumentId;
-import io.ballerina.projects.Module;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.PackageCompilation;
 import io.ballerina.projects.Project;
 import io.ballerina.projects.ProjectKind;
 import io.ballerina.tools.text.LinePosition;
@@ -133,6 +137,8 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
                 // Obtain the semantic model and the document
                 WorkspaceManager workspaceManager = workspaceManagerProxy.get(request.filePath());
                 Project project = workspaceManager.loadProject(filePath);
+                // The compilation is obtained first, so that a model is never memoized against a newer compilation
+                Optional<PackageCompilation> compilation = workspaceManager.waitAndGetPackageCompilation(filePath);
                 Optional<SemanticModel> semanticModel = workspaceManager.semanticModel(filePath);
                 Optional<Document> document = workspaceManager.document(filePath);
                 if (semanticModel.isEmpty() || document.isEmpty()) {
@@ -143,13 +149,25 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
                 Optional<Document> dataMappingsDoc = getDocumentFromFile(projectPath, "data_mappings.bal");
                 Optional<Document> functionsDoc = getDocumentFromFile(projectPath, "functions.bal");
 
-                // Generate the flow design model
+                // Generate the flow design model, unless it is memoized for the current document and compilation
                 ModelGenerator modelGenerator =
                         new ModelGenerator(project, semanticModel.get(), filePath, workspaceManager);
-                response.setFlowDesignModel(
-                        modelGenerator.getFlowModel(document.get(), request.lineRange(),
+                FlowModelCache flowModelCache = FlowModelCache.getInstance();
+                FlowModelCache.VersionedModel flowModel = flowModelCache.getFlowModel(filePath,
+                        request.lineRange(), document.get().syntaxTree(), compilation.orElse(null),
+                        () -> modelGenerator.getFlowModel(document.get(), request.lineRange(),
                                 dataMappingsDoc.orElse(null),
                                 functionsDoc.orElse(null)));
+
+                // Send a patch if the client holds a flow model which is still retained
+                Optional<JsonElement> clientModel = request.modelVersion() == null ? Optional.empty()
+                        : flowModelCache.getFlowModel(request.modelVersion());
+                if (clientModel.isPresent()) {
+                    response.setFlowModelPatch(JsonPatchUtil.diff(clientModel.get(), flowModel.model()));
+                } else {
+                    response.setFlowDesignModel(flowModel.model());
+                }
+                response.setModelVersion(flowModel.version());
             } catch (Throwable e) {
                 response.setError(e);
             }
@@ -174,75 +192,48 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
                 if (semanticModel.isEmpty() || document.isEmpty()) {
                     return response;
                 }
-                // TODO: Check how we can delegate this to the model generator
                 Path projectPath = workspaceManager.projectRoot(filePath);
-                Optional<Document> dataMappingsDoc = getDocumentFromFile(projectPath, "data_mappings.bal");
-                Optional<Document> functionsDoc = getDocumentFromFile(projectPath, "functions.bal");
-
-                // Generate the flow design model
-                ModelGenerator modelGenerator =
-                        new ModelGenerator(project, semanticModel.get(), filePath, workspaceManager);
-                JsonElement oldFlowModel =
-                        modelGenerator.getFlowModel(document.get(), request.lineRange(),
-                                dataMappingsDoc.orElse(null),
-                                functionsDoc.orElse(null));
-
-                // Create a temporary directory for the in-memory cache
-                Project newProject = project.duplicate();
-                DocumentId documentId = newProject.documentId(filePath);
-                Module newModule = newProject.currentPackage().module(documentId.moduleId());
-                SemanticModel newSemanticModel =
-                        PackageUtil.getCompilation(newProject).getSemanticModel(newModule.moduleId());
-                Document newDocument = newModule.document(documentId);
-                if (newSemanticModel == null || newDocument == null) {
-                    return response;
-                }
-                Optional<Document> newDataMappingsDoc;
-                Optional<Document> newFunctionsDoc;
-                try {
-                    DocumentId dataMappingDocId = newProject.documentId(projectPath.resolve("data_mappings.bal"));
-                    Module dataMappingModule = newProject.currentPackage().module(dataMappingDocId.moduleId());
-                    newDataMappingsDoc = Optional.of(dataMappingModule.document(dataMappingDocId));
-
-                    DocumentId functionsDocId = newProject.documentId(projectPath.resolve("functions.bal"));
-                    Module functionsModule = newProject.currentPackage().module(functionsDocId.moduleId());
-                    newFunctionsDoc = Optional.of(functionsModule.document(functionsDocId));
-                } catch (Throwable e) {
-                    newDataMappingsDoc = Optional.empty();
-                    newFunctionsDoc = Optional.empty();
-                }
-
-                TextDocument textDocument = newDocument.textDocument();
+                TextDocument textDocument = document.get().textDocument();
                 int textPosition = textDocument.textPositionFrom(request.position());
 
                 TextEdit textEdit = TextEdit.from(TextRange.from(textPosition, 0), request.text());
                 TextDocument newTextDocument =
                         textDocument.apply(TextDocumentChange.from(List.of(textEdit).toArray(new TextEdit[0])));
-                Document newDoc = newDocument.modify()
-                        .withContent(String.join(System.lineSeparator(), newTextDocument.textLines()))
-                        .apply();
 
                 int end = textDocument.textPositionFrom(request.endLine());
                 LineRange endLineRange = LineRange.from(request.lineRange().fileName(), request.lineRange().startLine(),
                         newTextDocument.linePositionFrom(end + request.text().length()));
 
-                ModelGenerator suggestedModelGenerator =
-                        new ModelGenerator(newProject, PackageUtil.getCompilation(newProject)
-                                .getSemanticModel(newDoc.module().moduleId()), filePath, workspaceManager);
-                JsonElement newFlowModel = suggestedModelGenerator.getFlowModel(newDoc,
-                        endLineRange, newDataMappingsDoc.orElse(null), newFunctionsDoc.orElse(null));
-
                 LinePosition endPosition = newTextDocument.linePositionFrom(textPosition + request.text().length());
                 LineRange newLineRange =
                         LineRange.from(getRelativePath(projectPath, filePath), request.position(), endPosition);
 
-                JsonArray newNodes = newFlowModel.getAsJsonObject().getAsJsonArray("nodes");
-                SuggestedModelGenerator suggestedNodesGenerator =
-                        new SuggestedModelGenerator(newDoc, newLineRange, newSemanticModel);
-                suggestedNodesGenerator.markSuggestedNodes(newNodes, 1);
-                if (!suggestedNodesGenerator.hasSuggestedNodes()) {
-                    newFlowModel.getAsJsonObject().add("nodes", new JsonArray());
-                }
+                // Generate the flow design model of the suggestion in the speculative copy of the project, where only
+                // the module of the document is recompiled
+                String newContent = String.join(System.lineSeparator(), newTextDocument.textLines());
+                JsonElement newFlowModel = SpeculativeProjects.getInstance().speculate(project,
+                        document.get().documentId(), newContent, newDoc -> {
+                            Package newPackage = newDoc.module().packageInstance();
+                            SemanticModel newSemanticModel = PackageUtil.getCompilation(newPackage)
+                                    .getSemanticModel(newDoc.module().moduleId());
+                            ModelGenerator suggestedModelGenerator = new ModelGenerator(newDoc.module().project(),
+                                    newSemanticModel, filePath, workspaceManager);
+                            JsonElement flowModel = suggestedModelGenerator.getFlowModel(newDoc, endLineRange,
+                                    getDocumentFromPackage(newPackage, projectPath.resolve("data_mappings.bal"))
+                                            .orElse(null),
+                                    getDocumentFromPackage(newPackage, projectPath.resolve("functions.bal"))
+                                            .orElse(null));
+
+                            // The semantic diagnostics are obtained from the document before the suggestion
+                            JsonArray newNodes = flowModel.getAsJsonObject().getAsJsonArray("nodes");
+                            SuggestedModelGenerator suggestedNodesGenerator =
+                                    new SuggestedModelGenerator(newDoc, newLineRange, semanticModel.get());
+                            suggestedNodesGenerator.markSuggestedNodes(newNodes, 1);
+                            if (!suggestedNodesGenerator.hasSuggestedNodes()) {
+                                flowModel.getAsJsonObject().add("nodes", new JsonArray());
+                            }
+                            return flowModel;
+                        });
                 response.setFlowDesignModel(newFlowModel);
             } catch (Throwable e) {
                 response.setError(e);
@@ -682,6 +673,15 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
         return relativePath.toString();
     }
 
+    private static Optional<Document> getDocumentFromPackage(Package balPackage, Path filePath) {
+        try {
+            DocumentId documentId = balPackage.project().documentId(filePath);
+            return Optional.of(balPackage.module(documentId.moduleId()).document(documentId));
+        } catch (Throwable e) {
+            return Optional.empty();
+        }
+    }
+
     private Optional<Document> getDocumentFromFile(Path projectPath, String fileName) {
         try {
             return this.workspaceManagerProxy.get().document(projectPath.resolve(fileName));
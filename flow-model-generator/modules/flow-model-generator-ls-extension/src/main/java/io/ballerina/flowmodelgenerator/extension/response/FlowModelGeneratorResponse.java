@@ -18,16 +18,20 @@
 
 package io.ballerina.flowmodelgenerator.extension.response;
 
+import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 
 /**
- * Represents the response for the flow model getSourceCode API.
+ * Represents the response for the flow model getSourceCode API. The response carries either the whole flow model, or
+ * a JSON patch (RFC 6902) to the flow model version sent in the request.
  *
  * @since 1.0.0
  */
 public class FlowModelGeneratorResponse extends AbstractFlowModelResponse {
 
     private JsonElement flowModel;
+    private JsonArray flowModelPatch;
+    private Long modelVersion;
 
     public void setFlowDesignModel(JsonElement flowDesignModel) {
         this.flowModel = flowDesignModel;
@@ -36,4 +40,20 @@ public class FlowModelGeneratorResponse extends AbstractFlowModelResponse {
     public JsonElement flowDesignModel() {
         return flowModel;
     }
+
+    public void setFlowModelPatch(JsonArray flowModelPatch) {
+        this.flowModelPatch = flowModelPatch;
+    }
+
+    public JsonArray flowModelPatch() {
+        return flowModelPatch;
+    }
+
+    public void setModelVersion(long modelVersion) {
+        this.modelVersion = modelVersion;
+    }
+
+    public Long modelVersion() {
+        return modelVersion;
+    }
 }
@@ -0,0 +1,127 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.extension;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import io.ballerina.flowmodelgenerator.extension.request.GetAllLibrariesRequest;
+import io.ballerina.flowmodelgenerator.extension.request.GetSelectedLibrariesRequest;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+/**
+ * Tests the copilot library endpoints against streaming the context file, and their response time.
+ *
+ * @since 1.5.0
+ */
+public class CopilotLibraryBenchmarkTest {
+
+    private final CopilotLibraryService service = new CopilotLibraryService();
+
+    @DataProvider(name = "modes")
+    public Object[][] getModes() {
+        return new Object[][]{
+                {"CORE", "/copilot/context.json"},
+                {"HEALTHCARE", "/copilot/healthcare-context.json"}
+        };
+    }
+
+    @Test(dataProvider = "modes", groups = "benchmark")
+    public void testLibrariesList(String mode, String contextPath) throws Exception {
+        JsonArray libraries = service.getLibrariesList(new GetAllLibrariesRequest(mode)).get().getLibraries();
+        Assert.assertEquals(libraries, streamLibraries(contextPath, null, true));
+        assertResponseTime(() -> service.getLibrariesList(new GetAllLibrariesRequest(mode)).get()
+                .getLibraries().size());
+    }
+
+    @Test(dataProvider = "modes", groups = "benchmark")
+    public void testFilteredLibraries(String mode, String contextPath) throws Exception {
+        JsonArray allLibraries = service.getLibrariesList(new GetAllLibrariesRequest(mode)).get().getLibraries();
+        Assert.assertTrue(allLibraries.size() >= 2, "Expected at least two libraries in " + contextPath);
+
+        // Request the last two libraries, which are the worst case for streaming the context file
+        String[] libNames = {
+                allLibraries.get(allLibraries.size() - 1).getAsJsonObject().get("name").getAsString(),
+                allLibraries.get(allLibraries.size() - 2).getAsJsonObject().get("name").getAsString()
+        };
+        GetSelectedLibrariesRequest request = new GetSelectedLibrariesRequest(libNames, mode);
+        JsonArray libraries = service.getFilteredLibraries(request).get().getLibraries();
+        Assert.assertEquals(libraries, streamLibraries(contextPath, Set.of(libNames), false));
+        assertResponseTime(() -> service.getFilteredLibraries(request).get().getLibraries().size());
+    }
+
+    private static void assertResponseTime(Operation operation) throws Exception {
+        long start = System.currentTimeMillis();
+        int size = operation.run();
+        long end = System.currentTimeMillis();
+        Assert.assertTrue(size > 0);
+        long actualResponseTime = end - start;
+        int expectedResponseTime = PerformanceTestUtils.getCopilotLibraryResponseTimeThreshold();
+        Assert.assertTrue(actualResponseTime < expectedResponseTime,
+                String.format("Expected response time = %d, received %d.", expectedResponseTime, actualResponseTime));
+    }
+
+    /**
+     * Streams the whole context file, as done by the endpoints before the libraries were indexed.
+     */
+    private static JsonArray streamLibraries(String contextPath, Set<String> names, boolean limitedFields)
+            throws IOException {
+        JsonArray libraries = new JsonArray();
+        InputStream stream = CopilotLibraryBenchmarkTest.class.getResourceAsStream(contextPath);
+        Assert.assertNotNull(stream, "Context file not found: " + contextPath);
+        try (JsonReader reader = new JsonReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+            reader.beginArray();
+            while (reader.hasNext()) {
+                JsonObject library = JsonParser.parseReader(reader).getAsJsonObject();
+                JsonElement name = library.get("name");
+                if (name == null || name.getAsString().isBlank() ||
+                        (names != null && !names.contains(name.getAsString()))) {
+                    continue;
+                }
+                if (limitedFields) {
+                    JsonObject limitedLibrary = new JsonObject();
+                    limitedLibrary.add("name", name);
+                    if (library.has("description")) {
+                        limitedLibrary.add("description", library.get("description"));
+                    }
+                    library = limitedLibrary;
+                }
+                libraries.add(library);
+            }
+            reader.endArray();
+        }
+        return libraries;
+    }
+
+    @FunctionalInterface
+    private interface Operation {
+
+        int run() throws Exception;
+    }
+}
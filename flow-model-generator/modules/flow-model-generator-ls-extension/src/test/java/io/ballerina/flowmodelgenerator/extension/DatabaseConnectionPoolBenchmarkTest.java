@@ -0,0 +1,87 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.extension;
+
+import io.ballerina.modelgenerator.commons.SearchDatabaseManager;
+import io.ballerina.modelgenerator.commons.SearchResult;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests the search index queries served by the pooled connections from concurrent threads, and the response time of
+ * a pooled query.
+ *
+ * @since 1.5.0
+ */
+public class DatabaseConnectionPoolBenchmarkTest {
+
+    private static final String QUERY = "http";
+    private static final int QUERIES_PER_THREAD = 50;
+
+    private final SearchDatabaseManager databaseManager = SearchDatabaseManager.getInstance();
+
+    @Test(groups = "benchmark")
+    public void testConcurrentQueries() throws Exception {
+        List<String> expectedNames = search();
+        Assert.assertFalse(expectedNames.isEmpty());
+
+        // More threads than pooled connections, so that the threads wait for the borrowed connections
+        int threadCount = Math.max(2, Runtime.getRuntime().availableProcessors()) * 2;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threadCount; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < QUERIES_PER_THREAD; j++) {
+                        Assert.assertEquals(search(), expectedNames);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(5, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(dependsOnMethods = "testConcurrentQueries", groups = "benchmark")
+    public void testQueryResponseTime() {
+        long start = System.currentTimeMillis();
+        List<String> names = search();
+        long end = System.currentTimeMillis();
+        Assert.assertFalse(names.isEmpty());
+        long actualResponseTime = end - start;
+        int expectedResponseTime = PerformanceTestUtils.getSearchIndexResponseTimeThreshold();
+        Assert.assertTrue(actualResponseTime < expectedResponseTime,
+                String.format("Expected response time = %d, received %d.", expectedResponseTime, actualResponseTime));
+    }
+
+    private List<String> search() {
+        return databaseManager.searchFunctions(QUERY, 10, 0).stream().map(SearchResult::name).toList();
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.extension;
+
+import io.ballerina.flowmodelgenerator.core.expressioneditor.Debouncer;
+import io.ballerina.flowmodelgenerator.core.expressioneditor.ExpressionEditorContext;
+import io.ballerina.flowmodelgenerator.core.expressioneditor.services.DebouncedExpressionEditorRequest;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Tests the scheduling of the expression editor debouncer.
+ *
+ * @since 1.5.0
+ */
+public class ExpressionEditorDebouncerTest {
+
+    private static final Path PROJECT_A = Path.of("projectA");
+    private static final Path PROJECT_B = Path.of("projectB");
+
+    @Test(description = "Test whether the interactive requests are executed ahead of the background requests")
+    public void testPriorityLanes() throws Exception {
+        Debouncer debouncer = new Debouncer(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> executed = new CopyOnWriteArrayList<>();
+
+        // Occupy the only worker
+        CompletableFuture<String> blocker = debouncer.debounce(new TestRequest("blocker", PROJECT_A,
+                DebouncedExpressionEditorRequest.Priority.INTERACTIVE, () -> {
+                    release.await(5, TimeUnit.SECONDS);
+                    return "blocker";
+                }));
+        awaitQueued(debouncer, 0, 1);
+
+        CompletableFuture<String> diagnostics = debouncer.debounce(new TestRequest("diagnostics", PROJECT_B,
+                DebouncedExpressionEditorRequest.Priority.BACKGROUND, () -> record(executed, "diagnostics")));
+        awaitQueued(debouncer, 1, 1);
+        CompletableFuture<String> completions = debouncer.debounce(new TestRequest("completions", PROJECT_B,
+                DebouncedExpressionEditorRequest.Priority.INTERACTIVE, () -> record(executed, "completions")));
+        awaitQueued(debouncer, 2, 1);
+
+        release.countDown();
+        CompletableFuture.allOf(blocker, diagnostics, completions).get(5, TimeUnit.SECONDS);
+        Assert.assertEquals(executed, List.of("completions", "diagnostics"));
+    }
+
+    @Test(description = "Test whether requests of different projects run concurrently")
+    public void testIndependentProjects() throws Exception {
+        Debouncer debouncer = new Debouncer(2);
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        Task task = () -> {
+            bothStarted.countDown();
+            // Only completes if the other request is running at the same time
+            return String.valueOf(bothStarted.await(5, TimeUnit.SECONDS));
+        };
+
+        CompletableFuture<String> first = debouncer.debounce(new TestRequest("completions", PROJECT_A,
+                DebouncedExpressionEditorRequest.Priority.INTERACTIVE, task));
+        CompletableFuture<String> second = debouncer.debounce(new TestRequest("diagnostics", PROJECT_B,
+                DebouncedExpressionEditorRequest.Priority.BACKGROUND, task));
+        Assert.assertEquals(first.get(5, TimeUnit.SECONDS), "true");
+        Assert.assertEquals(second.get(5, TimeUnit.SECONDS), "true");
+    }
+
+    @Test(description = "Test whether the result of a running request is discarded by a newer request with the same " +
+            "key, without interrupting the running request")
+    public void testSupersededRunningRequest() throws Exception {
+        Debouncer debouncer = new Debouncer(2);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+
+        CompletableFuture<String> stale = debouncer.debounce(new TestRequest("diagnostics", PROJECT_A,
+                DebouncedExpressionEditorRequest.Priority.BACKGROUND, () -> {
+                    started.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        interrupted.set(true);
+                    }
+                    return "stale";
+                }));
+        Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<String> latest = debouncer.debounce(new TestRequest("diagnostics", PROJECT_A,
+                DebouncedExpressionEditorRequest.Priority.BACKGROUND, () -> "latest"));
+        try {
+            stale.get(5, TimeUnit.SECONDS);
+            Assert.fail("Expected the superseded request to be cancelled");
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof CancellationException);
+        }
+
+        // The newer request waits until the running request of the same project completes
+        release.countDown();
+        Assert.assertEquals(latest.get(5, TimeUnit.SECONDS), "latest");
+        Assert.assertFalse(interrupted.get(), "The running request was interrupted");
+
+        Debouncer.Metrics metrics = debouncer.metrics();
+        Assert.assertEquals(metrics.supersededTasks(), 1);
+        Assert.assertEquals(metrics.discardedTasks(), 1);
+    }
+
+    private static String record(List<String> executed, String name) {
+        executed.add(name);
+        return name;
+    }
+
+    private static void awaitQueued(Debouncer debouncer, int queuedTasks, int runningTasks)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            Debouncer.Metrics metrics = debouncer.metrics();
+            if (metrics.queuedTasks() == queuedTasks && metrics.runningTasks() == runningTasks) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+        Assert.fail("Timed out waiting for " + queuedTasks + " queued tasks");
+    }
+
+    @FunctionalInterface
+    private interface Task {
+
+        String run() throws Exception;
+    }
+
+    /**
+     * A request which runs the given task without modifying any document.
+     */
+    private static class TestRequest extends DebouncedExpressionEditorRequest<String> {
+
+        private final String key;
+        private final Path projectRoot;
+        private final Priority priority;
+        private final Task task;
+
+        TestRequest(String key, Path projectRoot, Priority priority, Task task) {
+            super(null);
+            this.key = key;
+            this.projectRoot = projectRoot;
+            this.priority = priority;
+            this.task = task;
+        }
+
+        @Override
+        public String call() throws Exception {
+            return task.run();
+        }
+
+        @Override
+        public String getResponse(ExpressionEditorContext context) {
+            return null;
+        }
+
+        @Override
+        public String getKey() {
+            return key;
+        }
+
+        @Override
+        public long getDelay() {
+            return 0;
+        }
+
+        @Override
+        public Priority getPriority() {
+            return priority;
+        }
+
+        @Override
+        public Path getProjectRoot() {
+            return projectRoot;
+        }
+    }
+}
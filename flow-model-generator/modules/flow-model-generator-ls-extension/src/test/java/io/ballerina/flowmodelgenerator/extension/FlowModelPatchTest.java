@@ -0,0 +1,129 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.extension;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import io.ballerina.flowmodelgenerator.core.utils.JsonPatchUtil;
+import io.ballerina.flowmodelgenerator.extension.request.FlowModelGeneratorRequest;
+import io.ballerina.modelgenerator.commons.AbstractLSTest;
+import io.ballerina.tools.text.LinePosition;
+import org.eclipse.lsp4j.DidChangeTextDocumentParams;
+import org.eclipse.lsp4j.DidCloseTextDocumentParams;
+import org.eclipse.lsp4j.DidOpenTextDocumentParams;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.eclipse.lsp4j.TextDocumentIdentifier;
+import org.eclipse.lsp4j.VersionedTextDocumentIdentifier;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Test cases for the versioned flow models and the patches returned by the flow model generator service.
+ *
+ * @since 1.5.0
+ */
+public class FlowModelPatchTest extends AbstractLSTest {
+
+    @Override
+    @Test(dataProvider = "data-provider")
+    public void test(Path config) throws IOException {
+        Path configJsonPath = configDir.resolve(config);
+        TestConfig testConfig = gson.fromJson(Files.newBufferedReader(configJsonPath), TestConfig.class);
+        String sourcePath = getSourcePath(testConfig.source());
+        String fileUri = sourceDir.resolve(testConfig.source()).toAbsolutePath().toUri().toString();
+        sendNotification("textDocument/didOpen",
+                new DidOpenTextDocumentParams(getDocumentIdentifier(sourcePath, fileUri)));
+
+        try {
+            // The first request of the client receives the whole flow model
+            JsonObject response = getResponse(new FlowModelGeneratorRequest(sourcePath, testConfig.start(),
+                    testConfig.end()));
+            JsonObject flowModel = response.getAsJsonObject("flowModel");
+            long version = response.get("modelVersion").getAsLong();
+            Assert.assertNotNull(flowModel, "Expected the flow model in the response");
+
+            // The flow model is reused when the document is not modified
+            JsonObject unchangedResponse = getResponse(new FlowModelGeneratorRequest(sourcePath, testConfig.start(),
+                    testConfig.end(), version));
+            Assert.assertEquals(unchangedResponse.get("modelVersion").getAsLong(), version);
+            Assert.assertEquals(unchangedResponse.getAsJsonArray("flowModelPatch").size(), 0);
+
+            String editedText = getText(sourcePath).replace(testConfig.oldText(), testConfig.newText());
+            sendNotification("textDocument/didChange", new DidChangeTextDocumentParams(
+                    new VersionedTextDocumentIdentifier(fileUri, 2),
+                    List.of(new TextDocumentContentChangeEvent(editedText))));
+
+            // The client holding the previous version receives a patch to the flow model of the edited document
+            JsonObject patchResponse = getResponse(new FlowModelGeneratorRequest(sourcePath, testConfig.start(),
+                    testConfig.editedEnd(), version));
+            Assert.assertNull(patchResponse.get("flowModel"));
+            Assert.assertNotEquals(patchResponse.get("modelVersion").getAsLong(), version);
+            JsonArray patch = patchResponse.getAsJsonArray("flowModelPatch");
+
+            JsonObject editedFlowModel = getResponse(new FlowModelGeneratorRequest(sourcePath, testConfig.start(),
+                    testConfig.editedEnd())).getAsJsonObject("flowModel");
+            Assert.assertEquals(JsonPatchUtil.apply(flowModel, patch), editedFlowModel,
+                    String.format("Failed test: '%s' (%s)", testConfig.description(), configJsonPath));
+            Assert.assertTrue(patch.toString().length() < editedFlowModel.toString().length(),
+                    "Expected the patch to be smaller than the flow model");
+        } finally {
+            sendNotification("textDocument/didClose",
+                    new DidCloseTextDocumentParams(new TextDocumentIdentifier(fileUri)));
+        }
+    }
+
+    @Override
+    protected String getResourceDir() {
+        return "flow_model_patch";
+    }
+
+    @Override
+    protected Class<? extends AbstractLSTest> clazz() {
+        return FlowModelPatchTest.class;
+    }
+
+    @Override
+    protected String getApiName() {
+        return "getFlowModel";
+    }
+
+    /**
+     * Represents the test configuration for the flow model patch test.
+     *
+     * @param start       The start position of the diagram
+     * @param end         The end position of the diagram
+     * @param editedEnd   The end position of the diagram after the edit
+     * @param source      The source file
+     * @param description The description of the test
+     * @param oldText     The text to be replaced in the source
+     * @param newText     The replacement of the text
+     */
+    private record TestConfig(LinePosition start, LinePosition end, LinePosition editedEnd, String source,
+                              String description, String oldText, String newText) {
+
+        public String description() {
+            return description == null ? "" : description;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.extension;
+
+import com.google.gson.Gson;
+import io.ballerina.flowmodelgenerator.core.LocalIndexCentral;
+import io.ballerina.flowmodelgenerator.core.model.Codedata;
+import io.ballerina.flowmodelgenerator.core.model.FlowNode;
+import io.ballerina.flowmodelgenerator.core.model.Item;
+import io.ballerina.flowmodelgenerator.core.model.NodeKind;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+/**
+ * Tests materializing the models from the bundled resources retained by {@link LocalIndexCentral}.
+ *
+ * @since 1.5.0
+ */
+public class LocalIndexCentralTest {
+
+    private static final Gson GSON = new Gson();
+    private static final Codedata HTTP_CLIENT = new Codedata.Builder<>(null)
+            .node(NodeKind.NEW_CONNECTION)
+            .org("ballerina")
+            .module("http")
+            .object("Client")
+            .symbol("init")
+            .build();
+
+    @Test(description = "Test whether a copy of the node template is materialized for each request")
+    public void testNodeTemplate() {
+        LocalIndexCentral central = LocalIndexCentral.getInstance();
+        FlowNode template = central.getNodeTemplate(HTTP_CLIENT);
+        Assert.assertNotNull(template);
+        Assert.assertEquals(template.codedata().toString(), HTTP_CLIENT.toString());
+
+        FlowNode anotherTemplate = central.getNodeTemplate(HTTP_CLIENT);
+        Assert.assertNotSame(anotherTemplate, template);
+        Assert.assertEquals(GSON.toJson(anotherTemplate), GSON.toJson(template));
+    }
+
+    @Test(description = "Test whether the actions of a connector are materialized for each request")
+    public void testConnectorActions() {
+        LocalIndexCentral central = LocalIndexCentral.getInstance();
+        List<Item> actions = central.getConnectorActions(HTTP_CLIENT);
+        Assert.assertNotNull(actions);
+        Assert.assertFalse(actions.isEmpty());
+        Assert.assertNotSame(central.getConnectorActions(HTTP_CLIENT), actions);
+
+        Codedata unknownConnector = new Codedata.Builder<>(null)
+                .node(NodeKind.NEW_CONNECTION)
+                .org("ballerina")
+                .module("unknown")
+                .build();
+        Assert.assertNull(central.getConnectorActions(unknownConnector));
+        Assert.assertNull(central.getNodeTemplate(unknownConnector));
+    }
+
+    @Test(description = "Test whether a modified category does not affect the subsequent requests")
+    public void testCategoryIsolation() {
+        LocalIndexCentral central = LocalIndexCentral.getInstance();
+        List<Item> functions = central.getFunctions();
+        int size = functions.size();
+        functions.clear();
+        Assert.assertEquals(central.getFunctions().size(), size);
+    }
+}
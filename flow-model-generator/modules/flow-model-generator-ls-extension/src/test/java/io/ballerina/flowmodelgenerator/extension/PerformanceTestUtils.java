@@ -0,0 +1,60 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.extension;
+
+/**
+ * Test utils for running performance tests.
+ *
+ * @since 1.5.0
+ */
+public final class PerformanceTestUtils {
+
+    private static final String RES_TIME_THRESHOLD_SYSTEM_PROPERTY = "responseTimeThreshold";
+
+    private PerformanceTestUtils() {
+    }
+
+    /**
+     * Get response time threshold for the suggested flow model performance test.
+     */
+    public static int getSuggestedFlowModelResponseTimeThreshold() {
+        return Integer.parseInt(System.getProperty(RES_TIME_THRESHOLD_SYSTEM_PROPERTY));
+    }
+
+    /**
+     * Get response time threshold for the search index performance test.
+     */
+    public static int getSearchIndexResponseTimeThreshold() {
+        return Integer.parseInt(System.getProperty(RES_TIME_THRESHOLD_SYSTEM_PROPERTY)) / 4;
+    }
+
+    /**
+     * Get response time threshold for the copilot library performance test.
+     */
+    public static int getCopilotLibraryResponseTimeThreshold() {
+        return Integer.parseInt(System.getProperty(RES_TIME_THRESHOLD_SYSTEM_PROPERTY)) / 4;
+    }
+
+    /**
+     * Get response time threshold for the type search performance test.
+     */
+    public static int getTypeSearchResponseTimeThreshold() {
+        return Integer.parseInt(System.getProperty(RES_TIME_THRESHOLD_SYSTEM_PROPERTY)) / 4;
+    }
+}
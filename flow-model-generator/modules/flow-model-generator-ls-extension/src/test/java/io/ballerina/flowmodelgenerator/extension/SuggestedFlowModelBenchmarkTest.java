@@ -0,0 +1,147 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.extension;
+
+import com.google.gson.JsonObject;
+import io.ballerina.flowmodelgenerator.extension.request.FlowModelSuggestedGenerationRequest;
+import io.ballerina.modelgenerator.commons.AbstractLSTest;
+import io.ballerina.tools.text.LinePosition;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reports the latency percentiles and tests the response time of the AI suggestions, which are previewed in a
+ * speculative copy of the project.
+ *
+ * @since 1.5.0
+ */
+public class SuggestedFlowModelBenchmarkTest extends AbstractLSTest {
+
+    private static final PrintStream OUT = System.out;
+    private static final int WARMUP_REQUESTS = 5;
+    private static final int MEASURED_REQUESTS = 50;
+
+    @DataProvider(name = "data-provider")
+    @Override
+    protected Object[] getConfigsList() {
+        return new Object[][]{
+                {Path.of("if1.json")},
+                {Path.of("error_handler1.json")}
+        };
+    }
+
+    @Override
+    @Test(dataProvider = "data-provider", groups = "benchmark")
+    public void test(Path config) throws IOException {
+        Path configJsonPath = configDir.resolve(config);
+        TestConfig testConfig = gson.fromJson(Files.newBufferedReader(configJsonPath), TestConfig.class);
+        FlowModelSuggestedGenerationRequest request = getRequest(testConfig);
+
+        // The speculative copy must produce the same suggestion as the expected diagram
+        JsonObject flowModel = getResponse(request).getAsJsonObject("flowModel");
+        Assert.assertEquals(flowModel.get("nodes"), testConfig.diagram().get("nodes"),
+                String.format("Failed test: '%s' (%s)", testConfig.description(), configJsonPath));
+
+        for (int i = 0; i < WARMUP_REQUESTS; i++) {
+            getResponse(request);
+        }
+        long[] latencies = new long[MEASURED_REQUESTS];
+        for (int i = 0; i < MEASURED_REQUESTS; i++) {
+            long start = System.nanoTime();
+            getResponse(request);
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+        OUT.printf("getSuggestedFlowModel (%s): p50 = %d ms, p95 = %d ms, p99 = %d ms%n", config,
+                toMillis(percentile(latencies, 50)), toMillis(percentile(latencies, 95)),
+                toMillis(percentile(latencies, 99)));
+    }
+
+    @Test(dataProvider = "data-provider", groups = "benchmark", dependsOnMethods = "test")
+    public void testResponseTime(Path config) throws IOException {
+        TestConfig testConfig = gson.fromJson(Files.newBufferedReader(configDir.resolve(config)), TestConfig.class);
+        FlowModelSuggestedGenerationRequest request = getRequest(testConfig);
+
+        // The speculative copy of the project is reused by the subsequent requests
+        getResponse(request);
+        long start = System.currentTimeMillis();
+        getResponse(request);
+        long end = System.currentTimeMillis();
+        long actualResponseTime = end - start;
+        int expectedResponseTime = PerformanceTestUtils.getSuggestedFlowModelResponseTimeThreshold();
+        Assert.assertTrue(actualResponseTime < expectedResponseTime,
+                String.format("Expected response time = %d, received %d.", expectedResponseTime, actualResponseTime));
+    }
+
+    private FlowModelSuggestedGenerationRequest getRequest(TestConfig testConfig) {
+        return new FlowModelSuggestedGenerationRequest(sourceDir.resolve(testConfig.source()).toAbsolutePath()
+                .toString(), testConfig.start(), testConfig.end(), testConfig.text(), testConfig.position());
+    }
+
+    private static long percentile(long[] sortedLatencies, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(0, index)];
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    @Override
+    protected String getResourceDir() {
+        return "suggested_flow_model";
+    }
+
+    @Override
+    protected Class<? extends AbstractLSTest> clazz() {
+        return SuggestedFlowModelBenchmarkTest.class;
+    }
+
+    @Override
+    protected String getApiName() {
+        return "getSuggestedFlowModel";
+    }
+
+    /**
+     * Represents the test configuration of a suggestion.
+     *
+     * @param start       The start position of the diagram
+     * @param end         The end position of the diagram
+     * @param source      The source file
+     * @param text        the AI generated text
+     * @param position    the position of the AI generated text
+     * @param description The description of the test
+     * @param diagram     The expected diagram for the given inputs
+     */
+    private record TestConfig(LinePosition start, LinePosition end, String source, String text, LinePosition position,
+                              String description, JsonObject diagram) {
+
+        public String description() {
+            return description == null ? "" : description;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.extension;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.api.symbols.SymbolKind;
+import io.ballerina.flowmodelgenerator.core.TypeDefinitionIndex;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.directory.ProjectLoader;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Tests the lookups of the type definitions indexed for the data mapper.
+ *
+ * @since 1.5.0
+ */
+public class TypeDefinitionIndexTest {
+
+    private static final Path SOURCE = Path.of("src/test/resources/type_definition_index/source/orders.bal")
+            .toAbsolutePath();
+
+    private Module module;
+    private SemanticModel semanticModel;
+
+    @BeforeClass
+    public void setup() {
+        Project project = ProjectLoader.loadProject(SOURCE);
+        module = project.currentPackage().getDefaultModule();
+        semanticModel = project.currentPackage().getCompilation().getSemanticModel(module.moduleId());
+    }
+
+    @Test(description = "Test whether the index contains the type definitions of the module")
+    public void testTypeDefinitions() {
+        TypeDefinitionIndex index = TypeDefinitionIndex.of(module, semanticModel);
+        List<Symbol> expected = semanticModel.moduleSymbols().stream()
+                .filter(symbol -> symbol.kind() == SymbolKind.TYPE_DEFINITION)
+                .toList();
+        Assert.assertEquals(index.typeDefinitions(), expected);
+
+        for (String name : List.of("Address", "Customer", "Item", "Order", "Orders", "Payload")) {
+            Assert.assertEquals(index.typeDefinition(name).flatMap(Symbol::getName).orElse(null), name);
+        }
+        Assert.assertTrue(index.typeDefinition("Invoice").isEmpty());
+    }
+
+    @Test(description = "Test whether the index is shared within a compilation and recreated after a modification")
+    public void testInvalidation() {
+        TypeDefinitionIndex index = TypeDefinitionIndex.of(module, semanticModel);
+        Assert.assertSame(TypeDefinitionIndex.of(module, semanticModel), index);
+
+        Document document = module.document(module.documentIds().iterator().next());
+        Document modifiedDocument = document.modify()
+                .withContent(document.textDocument().toString() + System.lineSeparator() + "type Invoice Order;")
+                .apply();
+        Module modifiedModule = modifiedDocument.module();
+        SemanticModel modifiedSemanticModel =
+                modifiedModule.packageInstance().getCompilation().getSemanticModel(modifiedModule.moduleId());
+        TypeDefinitionIndex modifiedIndex = TypeDefinitionIndex.of(modifiedModule, modifiedSemanticModel);
+        Assert.assertNotSame(modifiedIndex, index);
+        Assert.assertTrue(modifiedIndex.typeDefinition("Invoice").isPresent());
+        Assert.assertTrue(index.typeDefinition("Invoice").isEmpty());
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.extension;
+
+import io.ballerina.flowmodelgenerator.core.search.RelevanceCalculator;
+import io.ballerina.flowmodelgenerator.core.search.TypeNameIndex;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the ranking and the latency of the types of a large module with {@link TypeNameIndex} against scoring and
+ * sorting all the types on every keystroke.
+ *
+ * @since 1.5.0
+ */
+public class TypeSearchBenchmarkTest {
+
+    private static final PrintStream OUT = System.out;
+    private static final int TYPE_COUNT = 5000;
+    private static final int LIMIT = 20;
+    private static final int WARMUP_QUERIES = 20;
+    private static final int MEASURED_QUERIES = 200;
+    private static final String[] WORDS = {"Customer", "Order", "Invoice", "Payment", "Account", "Address", "Item",
+            "Shipment", "Product", "Employee", "Request", "Response", "Record", "Detail", "Summary", "Status"};
+
+    private final List<TypeNameIndex.Type> types = generateTypes();
+    private final TypeNameIndex index = TypeNameIndex.of(types);
+
+    @DataProvider(name = "queries")
+    public Object[][] getQueries() {
+        return new Object[][]{
+                {""},
+                {"c"},
+                {"cu"},
+                {"cust"},
+                {"customer"},
+                {"orderitem"},
+                {"oi"},
+                {"paymnt"},
+                {"xyz"}
+        };
+    }
+
+    @Test(dataProvider = "queries", groups = "benchmark")
+    public void testSearch(String query) {
+        Assert.assertEquals(index.size(), TYPE_COUNT);
+        Assert.assertEquals(index.search(query, LIMIT), scan(query));
+
+        long scanNanos = measure(() -> scan(query).size());
+        long indexedNanos = measure(() -> index.search(query, LIMIT).size());
+        OUT.printf("Type search ('%s'): scan = %d us/op, indexed = %d us/op%n", query,
+                TimeUnit.NANOSECONDS.toMicros(scanNanos), TimeUnit.NANOSECONDS.toMicros(indexedNanos));
+
+        long actualResponseTime = TimeUnit.NANOSECONDS.toMillis(indexedNanos);
+        int expectedResponseTime = PerformanceTestUtils.getTypeSearchResponseTimeThreshold();
+        Assert.assertTrue(actualResponseTime < expectedResponseTime,
+                String.format("Expected response time = %d, received %d.", expectedResponseTime, actualResponseTime));
+    }
+
+    private static long measure(Operation operation) {
+        for (int i = 0; i < WARMUP_QUERIES; i++) {
+            operation.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_QUERIES; i++) {
+            operation.run();
+        }
+        return (System.nanoTime() - start) / MEASURED_QUERIES;
+    }
+
+    /**
+     * Scores and sorts all the types, as done by the type search before the types were indexed.
+     */
+    private List<TypeNameIndex.Match> scan(String query) {
+        List<TypeNameIndex.Match> matches = new ArrayList<>();
+        for (TypeNameIndex.Type type : types) {
+            int score = RelevanceCalculator.calculateFuzzyRelevanceScore(type.name(), type.description(), query);
+            if (score > 0) {
+                matches.add(new TypeNameIndex.Match(type, score));
+            }
+        }
+        // The sort is stable, hence the types with the same score retain their order
+        matches.sort(Comparator.comparingInt(TypeNameIndex.Match::score).reversed());
+        return matches.subList(0, Math.min(LIMIT, matches.size()));
+    }
+
+    private static List<TypeNameIndex.Type> generateTypes() {
+        Random random = new Random(42);
+        List<TypeNameIndex.Type> types = new ArrayList<>(TYPE_COUNT);
+        for (int i = 0; i < TYPE_COUNT; i++) {
+            String first = WORDS[random.nextInt(WORDS.length)];
+            String second = WORDS[random.nextInt(WORDS.length)];
+            types.add(new TypeNameIndex.Type(first + second + i,
+                    "Represents the " + second.toLowerCase() + " of a " + first.toLowerCase()));
+        }
+        return types;
+    }
+
+    @FunctionalInterface
+    private interface Operation {
+
+        int run();
+    }
+}
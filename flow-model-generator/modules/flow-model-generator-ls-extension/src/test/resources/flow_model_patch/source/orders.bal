@@ -0,0 +1,22 @@
+type Order record {|
+    string id;
+    int quantity;
+    decimal price;
+|};
+
+public function processOrders(Order[] orders) returns decimal {
+    decimal total = 0;
+    int count = 0;
+    foreach Order 'order in orders {
+        if 'order.quantity <= 0 {
+            continue;
+        }
+        decimal amount = 'order.price * 'order.quantity;
+        total += amount;
+        count += 1;
+    }
+    string summary = string `Processed ${count} orders`;
+    decimal discount = count > 10 ? 0.1 : 0;
+    decimal finalTotal = total - (total * discount);
+    return finalTotal;
+}
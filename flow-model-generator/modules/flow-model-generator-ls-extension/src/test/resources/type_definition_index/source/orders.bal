@@ -0,0 +1,26 @@
+type Address record {|
+    string street;
+    string city;
+|};
+
+type Customer record {|
+    string name;
+    Address billingAddress;
+    Address? shippingAddress;
+|};
+
+type Item record {|
+    string sku;
+    int quantity;
+|};
+
+type Order record {|
+    string id;
+    Customer customer;
+    Item[] items;
+    map<Address> deliveries;
+|};
+
+type Orders Order[];
+
+type Payload Order|Customer;
@@ -33,23 +33,31 @@ import io.ballerina.modelgenerator.commons.FunctionData;
 import io.ballerina.modelgenerator.commons.FunctionDataBuilder;
 import io.ballerina.modelgenerator.commons.ModuleInfo;
 import io.ballerina.modelgenerator.commons.PackageUtil;
-import io.ballerina.modelgenerator.commons.ParameterData;
-import io.ballerina.modelgenerator.commons.ParameterMemberTypeData;
 import io.ballerina.projects.Module;
 import io.ballerina.projects.ModuleDescriptor;
 import io.ballerina.projects.Package;
+import io.ballerina.projects.PackageCompilation;
 import io.ballerina.projects.directory.BuildProject;
 
 import java.io.FileReader;
 import java.io.IOException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Logger;
 
 /**
@@ -64,20 +72,24 @@ class IndexGenerator {
             }.getType();
     private static final Logger LOGGER = Logger.getLogger(IndexGenerator.class.getName());
 
+    private static final int QUEUE_CAPACITY = 32;
+    static final ModuleIndex END_OF_MODULES = new ModuleIndex(null, null, null, null, null, List.of());
+
     public static void main(String[] args) {
         DatabaseManager.createDatabase();
-        BuildProject buildProject = PackageUtil.getSampleProject();
 
         Gson gson = new Gson();
         URL resource = IndexGenerator.class.getClassLoader().getResource(PackageListGenerator.PACKAGE_JSON_FILE);
         try (FileReader reader = new FileReader(Objects.requireNonNull(resource).getFile(), StandardCharsets.UTF_8)) {
             Map<String, List<PackageListGenerator.PackageMetadataInfo>> packagesMap = gson.fromJson(reader,
                     typeToken);
-            ForkJoinPool forkJoinPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
-            forkJoinPool.submit(() -> packagesMap.forEach((key, value) -> value.forEach(
-                    packageMetadataInfo -> resolvePackage(buildProject, key, packageMetadataInfo)))).join();
+            generateIndex(packagesMap);
         } catch (IOException e) {
             LOGGER.severe("Error reading packages JSON file: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.severe("Index generation interrupted");
+            return;
         }
 
         // TODO: Remove this once thw raw parameter property type is introduced
@@ -117,8 +129,85 @@ class IndexGenerator {
         DatabaseManager.updateTypeParameter("lang.value", "value:Type", "(any|error)");
     }
 
+    /**
+     * Generates the index using a pipeline of three stages. The packages are resolved, compiled and converted to
+     * index entries in parallel, and the entries of each module are handed over through a bounded queue to a single
+     * writer, which inserts them in batches.
+     * <p>
+     * The package resolver and the environment of a project are not thread-safe, hence each worker resolves and
+     * compiles the packages using a sample project of its own.
+     * </p>
+     */
+    private static void generateIndex(Map<String, List<PackageListGenerator.PackageMetadataInfo>> packagesMap)
+            throws InterruptedException {
+        StageTimer timer = new StageTimer();
+        BlockingQueue<ModuleIndex> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        ThreadLocal<BuildProject> workerProject = ThreadLocal.withInitial(PackageUtil::getSampleProject);
+        long start = System.nanoTime();
+        try (IndexWriter indexWriter = DatabaseManager.openIndexWriter()) {
+            Thread writer = Thread.ofPlatform().name("index-writer")
+                    .start(() -> writeModules(indexWriter, queue, timer));
+            ExecutorService executorService = Executors.newFixedThreadPool(parallelism);
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                packagesMap.forEach((org, packages) -> packages.forEach(packageMetadataInfo -> futures.add(
+                        executorService.submit(() -> resolvePackage(workerProject.get(), org, packageMetadataInfo,
+                                queue, timer)))));
+                for (Future<?> future : futures) {
+                    try {
+                        future.get();
+                    } catch (ExecutionException e) {
+                        LOGGER.severe("Error indexing package: " + e.getCause().getMessage());
+                    }
+                }
+            } finally {
+                executorService.shutdownNow();
+                queue.put(END_OF_MODULES);
+                writer.join();
+            }
+        } catch (SQLException e) {
+            LOGGER.severe("Error writing the index: " + e.getMessage());
+            return;
+        }
+        timer.report(System.nanoTime() - start, parallelism);
+    }
+
+    /**
+     * Writes the modules taken from the queue until {@link #END_OF_MODULES} is taken.
+     */
+    static void writeModules(IndexWriter indexWriter, BlockingQueue<ModuleIndex> queue, StageTimer timer) {
+        while (true) {
+            long waitStart = System.nanoTime();
+            ModuleIndex moduleIndex;
+            try {
+                moduleIndex = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            long writeStart = System.nanoTime();
+            timer.writerIdle.addAndGet(writeStart - waitStart);
+            if (moduleIndex == END_OF_MODULES) {
+                return;
+            }
+            try {
+                timer.rows.addAndGet(indexWriter.write(moduleIndex));
+                timer.modules.incrementAndGet();
+            } catch (SQLException | RuntimeException e) {
+                // Keep draining the queue, so that the producers are never blocked by a failed module
+                LOGGER.severe("Error inserting module to database: " + moduleIndex.moduleName() + " " +
+                        e.getMessage());
+            }
+            timer.write.addAndGet(System.nanoTime() - writeStart);
+        }
+    }
+
     private static void resolvePackage(BuildProject buildProject, String org,
-                                       PackageListGenerator.PackageMetadataInfo packageMetadataInfo) {
+                                       PackageListGenerator.PackageMetadataInfo packageMetadataInfo,
+                                       BlockingQueue<ModuleIndex> queue, StageTimer timer)
+            throws InterruptedException {
+        long resolutionStart = System.nanoTime();
         Package resolvedPackage;
         try {
             resolvedPackage = Objects.requireNonNull(PackageUtil.getModulePackage(buildProject, org,
@@ -126,38 +215,52 @@ class IndexGenerator {
         } catch (Throwable e) {
             LOGGER.severe("Error resolving package: " + packageMetadataInfo.name() + e.getMessage());
             return;
+        } finally {
+            timer.resolution.addAndGet(System.nanoTime() - resolutionStart);
+        }
+
+        long compilationStart = System.nanoTime();
+        PackageCompilation compilation;
+        try {
+            compilation = PackageUtil.getCompilation(resolvedPackage);
+        } catch (Exception e) {
+            LOGGER.severe("Error compiling package: " + packageMetadataInfo.name() + e.getMessage());
+            return;
+        } finally {
+            timer.compilation.addAndGet(System.nanoTime() - compilationStart);
         }
 
         List<String> exportedModules = resolvedPackage.manifest().exportedModules();
         for (Module module : resolvedPackage.modules()) {
             if (exportedModules.contains(module.descriptor().name().toString())) {
-                processModule(resolvedPackage, module);
+                long extractionStart = System.nanoTime();
+                Optional<ModuleIndex> moduleIndex = processModule(resolvedPackage, compilation, module);
+                long extractionEnd = System.nanoTime();
+                timer.extraction.addAndGet(extractionEnd - extractionStart);
+                if (moduleIndex.isPresent()) {
+                    queue.put(moduleIndex.get());
+                    timer.queueBlocked.addAndGet(System.nanoTime() - extractionEnd);
+                }
             }
         }
     }
 
-    private static void processModule(Package resolvedPackage, Module module) {
+    private static Optional<ModuleIndex> processModule(Package resolvedPackage, PackageCompilation compilation,
+                                                       Module module) {
         ModuleDescriptor descriptor = module.descriptor();
         String moduleName = descriptor.name().toString();
         LOGGER.info("Processing package: " + moduleName);
-        int packageId = DatabaseManager.insertPackage(descriptor.org().value(),
-                module.packageInstance().packageName().value(), moduleName,
-                descriptor.version().value().toString(), resolvedPackage.manifest().keywords());
-        if (packageId == -1) {
-            LOGGER.severe("Error inserting package to database: " + moduleName);
-            return;
-        }
 
         SemanticModel semanticModel;
         try {
-            semanticModel = PackageUtil.getCompilation(resolvedPackage)
-                    .getSemanticModel(module.moduleId());
+            semanticModel = compilation.getSemanticModel(module.moduleId());
         } catch (Exception e) {
             LOGGER.severe("Error reading semantic model: " + e.getMessage());
-            return;
+            return Optional.empty();
         }
 
         TypeSymbol errorTypeSymbol = semanticModel.types().ERROR;
+        List<FunctionIndex> functions = new ArrayList<>();
 
         for (Symbol symbol : semanticModel.moduleSymbols()) {
             if (symbol.kind() == SymbolKind.FUNCTION) {
@@ -166,8 +269,9 @@ class IndexGenerator {
                     continue;
                 }
 
-                processFunctionSymbol(semanticModel, functionSymbol, functionSymbol, packageId, FunctionType.FUNCTION,
-                        moduleName, errorTypeSymbol, module);
+                processFunctionSymbol(semanticModel, functionSymbol, functionSymbol, FunctionType.FUNCTION,
+                        moduleName, errorTypeSymbol, module)
+                        .ifPresent(functionData -> functions.add(new FunctionIndex(functionData, List.of())));
                 continue;
             }
             if (symbol.kind() == SymbolKind.CLASS) {
@@ -183,14 +287,14 @@ class IndexGenerator {
                 if (!classSymbol.nameEquals("Client")) {
                     continue;
                 }
-                int connectorId = processFunctionSymbol(semanticModel, initMethodSymbol.get(), classSymbol, packageId,
-                        FunctionType.CONNECTOR,
-                        moduleName, errorTypeSymbol, module);
-                if (connectorId == -1) {
+                Optional<FunctionData> connector = processFunctionSymbol(semanticModel, initMethodSymbol.get(),
+                        classSymbol, FunctionType.CONNECTOR, moduleName, errorTypeSymbol, module);
+                if (connector.isEmpty()) {
                     continue;
                 }
 
                 // Process the actions of the client
+                List<FunctionData> actions = new ArrayList<>();
                 Map<String, MethodSymbol> methods = classSymbol.methods();
                 for (Map.Entry<String, MethodSymbol> entry : methods.entrySet()) {
                     MethodSymbol methodSymbol = entry.getValue();
@@ -206,29 +310,30 @@ class IndexGenerator {
                     } else {
                         continue;
                     }
-                    int functionId = processFunctionSymbol(semanticModel, methodSymbol, methodSymbol, packageId,
-                            functionType, moduleName, errorTypeSymbol, module);
-                    if (functionId == -1) {
-                        continue;
-                    }
-                    DatabaseManager.mapConnectorAction(functionId, connectorId);
+                    processFunctionSymbol(semanticModel, methodSymbol, methodSymbol, functionType, moduleName,
+                            errorTypeSymbol, module).ifPresent(actions::add);
                 }
+                functions.add(new FunctionIndex(connector.get(), actions));
             }
         }
+        return Optional.of(new ModuleIndex(descriptor.org().value(), module.packageInstance().packageName().value(),
+                moduleName, descriptor.version().value().toString(), resolvedPackage.manifest().keywords(),
+                functions));
     }
 
     private static boolean hasAllQualifiers(List<Qualifier> actualQualifiers, List<Qualifier> expectedQualifiers) {
         return !new HashSet<>(actualQualifiers).containsAll(expectedQualifiers);
     }
 
-    private static int processFunctionSymbol(SemanticModel semanticModel, FunctionSymbol functionSymbol,
-                                             Documentable documentable, int packageId,
-                                             FunctionType functionType, String packageName,
-                                             TypeSymbol errorTypeSymbol, Module module) {
+    private static Optional<FunctionData> processFunctionSymbol(SemanticModel semanticModel,
+                                                                FunctionSymbol functionSymbol,
+                                                                Documentable documentable, FunctionType functionType,
+                                                                String packageName, TypeSymbol errorTypeSymbol,
+                                                                Module module) {
         // Capture the name of the function
         Optional<String> name = functionSymbol.getName();
         if (name.isEmpty()) {
-            return packageId;
+            return Optional.empty();
         }
 
         // Create ModuleInfo for the function
@@ -257,31 +362,13 @@ class IndexGenerator {
             functionDataBuilder.name(name.get());
         }
 
-        // Build the function data
-        FunctionData functionData = functionDataBuilder.build();
-
-        // Insert function into database
-        String resourcePath = functionData.resourcePath() != null ? functionData.resourcePath() : "";
-        int functionId = DatabaseManager.insertFunction(packageId, functionData.name(),
-                functionData.description(), functionData.returnType(),
-                functionData.kind().name(), resourcePath,
-                functionData.returnError() ? 1 : 0, functionData.inferredReturnType(),
-                functionData.importStatements());
-
-        // Insert parameters into database
-        for (Map.Entry<String, ParameterData> entry : functionData.parameters().entrySet()) {
-            ParameterData parameterData = entry.getValue();
-            int paramId = DatabaseManager.insertFunctionParameter(functionId, parameterData.name(),
-                    parameterData.description(), parameterData.type(), parameterData.placeholder(),
-                    parameterData.defaultValue(),
-                    FunctionParameterKind.fromString(parameterData.kind().name()),
-                    parameterData.optional() ? 1 : 0, parameterData.importStatements(), parameterData.label());
-
-            // Insert parameter member types
-            insertParameterMemberTypesFromParameterData(paramId, parameterData);
+        // Build the function data, which is written to the database by the index writer
+        try {
+            return Optional.of(functionDataBuilder.build());
+        } catch (RuntimeException e) {
+            LOGGER.severe("Error building function data: " + name.get() + " " + e.getMessage());
+            return Optional.empty();
         }
-
-        return functionId;
     }
 
     private static FunctionData.Kind mapFunctionTypeToKind(FunctionType functionType) {
@@ -293,10 +380,47 @@ class IndexGenerator {
         };
     }
 
-    private static void insertParameterMemberTypesFromParameterData(int parameterId, ParameterData parameterData) {
-        for (ParameterMemberTypeData memberType : parameterData.typeMembers()) {
-            DatabaseManager.insertParameterMemberType(parameterId, memberType.type(), memberType.kind(),
-                    memberType.packageInfo(), memberType.packageName());
+    /**
+     * Index entries of a module, produced by the resolver threads and consumed by the index writer.
+     */
+    record ModuleIndex(String org, String packageName, String moduleName, String version, List<String> keywords,
+                       List<FunctionIndex> functions) {
+    }
+
+    /**
+     * Index entry of a function, or of a connector along with its actions.
+     */
+    record FunctionIndex(FunctionData functionData, List<FunctionData> actions) {
+    }
+
+    /**
+     * Accumulates the time spent in each stage of the index generation. The time of the parallel stages is summed
+     * across the threads.
+     */
+    static class StageTimer {
+
+        private final AtomicLong resolution = new AtomicLong();
+        private final AtomicLong compilation = new AtomicLong();
+        private final AtomicLong extraction = new AtomicLong();
+        private final AtomicLong queueBlocked = new AtomicLong();
+        private final AtomicLong write = new AtomicLong();
+        private final AtomicLong writerIdle = new AtomicLong();
+        private final AtomicLong modules = new AtomicLong();
+        private final AtomicLong rows = new AtomicLong();
+
+        private void report(long totalNanos, int parallelism) {
+            LOGGER.info(String.format("Index generation completed in %d ms using %d threads", toMillis(totalNanos),
+                    parallelism));
+            LOGGER.info(String.format("  resolution: %d ms, compilation: %d ms, model extraction: %d ms " +
+                            "(cumulative across the threads)", toMillis(resolution.get()),
+                    toMillis(compilation.get()), toMillis(extraction.get())));
+            LOGGER.info(String.format("  blocked on the queue: %d ms, write: %d ms for %d modules (%d rows), " +
+                            "writer idle: %d ms", toMillis(queueBlocked.get()), toMillis(write.get()), modules.get(),
+                    rows.get(), toMillis(writerIdle.get())));
+        }
+
+        private static long toMillis(long nanos) {
+            return TimeUnit.NANOSECONDS.toMillis(nanos);
         }
     }
 
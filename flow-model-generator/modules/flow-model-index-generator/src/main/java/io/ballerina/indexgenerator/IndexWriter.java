@@ -0,0 +1,178 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.indexgenerator;
+
+import io.ballerina.modelgenerator.commons.FunctionData;
+import io.ballerina.modelgenerator.commons.ParameterData;
+import io.ballerina.modelgenerator.commons.ParameterMemberTypeData;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes the index entries of the modules to the central index database. The entries of a module are inserted using
+ * batched statements within a single transaction.
+ * <p>
+ * Since the generated keys of a batch are not reliably reported by the SQLite driver, the writer assigns the primary
+ * keys of the packages, functions and parameters itself. Hence, there must not be any other writer for the database
+ * while this writer is open.
+ * </p>
+ *
+ * @since 1.5.0
+ */
+class IndexWriter implements AutoCloseable {
+
+    private static final String INSERT_PACKAGE = "INSERT INTO Package (package_id, org, package_name, module_name, " +
+            "version, keywords) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_FUNCTION = "INSERT INTO Function (function_id, package_id, name, description, " +
+            "return_type, kind, resource_path, return_error, inferred_return_type, import_statements) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_CONNECTOR_ACTION =
+            "INSERT INTO FunctionConnector (function_id, connector_id) VALUES (?, ?)";
+    private static final String INSERT_PARAMETER = "INSERT INTO Parameter (parameter_id, function_id, name, " +
+            "description, type, placeholder, default_value, kind, optional, import_statements, label) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_PARAMETER_MEMBER_TYPE = "INSERT INTO ParameterMemberType (parameter_id, type, " +
+            "kind, package_identifier, package_name) VALUES (?, ?, ?, ?, ?)";
+
+    private final Connection conn;
+    private final PreparedStatement packageStmt;
+    private final PreparedStatement functionStmt;
+    private final PreparedStatement connectorActionStmt;
+    private final PreparedStatement parameterStmt;
+    private final PreparedStatement parameterMemberTypeStmt;
+    private final List<PreparedStatement> statements;
+
+    private int nextPackageId;
+    private int nextFunctionId;
+    private int nextParameterId;
+    private int pendingRows;
+
+    IndexWriter(Connection conn) throws SQLException {
+        this.conn = conn;
+        try {
+            conn.setAutoCommit(false);
+            this.nextPackageId = nextId("Package", "package_id");
+            this.nextFunctionId = nextId("Function", "function_id");
+            this.nextParameterId = nextId("Parameter", "parameter_id");
+            this.packageStmt = conn.prepareStatement(INSERT_PACKAGE);
+            this.functionStmt = conn.prepareStatement(INSERT_FUNCTION);
+            this.connectorActionStmt = conn.prepareStatement(INSERT_CONNECTOR_ACTION);
+            this.parameterStmt = conn.prepareStatement(INSERT_PARAMETER);
+            this.parameterMemberTypeStmt = conn.prepareStatement(INSERT_PARAMETER_MEMBER_TYPE);
+        } catch (SQLException e) {
+            conn.close();
+            throw e;
+        }
+        // Ordered such that the referenced rows are inserted first
+        this.statements = List.of(packageStmt, functionStmt, connectorActionStmt, parameterStmt,
+                parameterMemberTypeStmt);
+    }
+
+    /**
+     * Writes the index entries of the given module and commits them.
+     *
+     * @param moduleIndex the index entries of the module
+     * @return the number of rows written
+     * @throws SQLException if the entries cannot be written, in which case none of the entries of the module are
+     *                      written
+     */
+    int write(IndexGenerator.ModuleIndex moduleIndex) throws SQLException {
+        pendingRows = 0;
+        try {
+            int packageId = nextPackageId++;
+            addBatch(packageStmt, packageId, moduleIndex.org(), moduleIndex.packageName(), moduleIndex.moduleName(),
+                    moduleIndex.version(), moduleIndex.keywords() == null ? "" : String.join(",",
+                            moduleIndex.keywords()));
+            for (IndexGenerator.FunctionIndex function : moduleIndex.functions()) {
+                int connectorId = addFunction(packageId, function.functionData());
+                for (FunctionData action : function.actions()) {
+                    int actionId = addFunction(packageId, action);
+                    addBatch(connectorActionStmt, actionId, connectorId);
+                }
+            }
+            for (PreparedStatement stmt : statements) {
+                stmt.executeBatch();
+            }
+            conn.commit();
+            return pendingRows;
+        } catch (SQLException e) {
+            for (PreparedStatement stmt : statements) {
+                stmt.clearBatch();
+            }
+            conn.rollback();
+            throw e;
+        }
+    }
+
+    private int addFunction(int packageId, FunctionData functionData) throws SQLException {
+        int functionId = nextFunctionId++;
+        String resourcePath = functionData.resourcePath() != null ? functionData.resourcePath() : "";
+        addBatch(functionStmt, functionId, packageId, functionData.name(), functionData.description(),
+                functionData.returnType(), functionData.kind().name(), resourcePath,
+                functionData.returnError() ? 1 : 0, functionData.inferredReturnType() ? 1 : 0,
+                functionData.importStatements());
+
+        for (Map.Entry<String, ParameterData> entry : functionData.parameters().entrySet()) {
+            ParameterData parameterData = entry.getValue();
+            int parameterId = nextParameterId++;
+            addBatch(parameterStmt, parameterId, functionId, parameterData.name(), parameterData.description(),
+                    parameterData.type(), parameterData.placeholder(), parameterData.defaultValue(),
+                    IndexGenerator.FunctionParameterKind.fromString(parameterData.kind().name()).name(),
+                    parameterData.optional() ? 1 : 0, parameterData.importStatements(), parameterData.label());
+
+            for (ParameterMemberTypeData memberType : parameterData.typeMembers()) {
+                addBatch(parameterMemberTypeStmt, parameterId, memberType.type(), memberType.kind(),
+                        memberType.packageInfo(), memberType.packageName());
+            }
+        }
+        return functionId;
+    }
+
+    private void addBatch(PreparedStatement stmt, Object... params) throws SQLException {
+        for (int i = 0; i < params.length; i++) {
+            stmt.setObject(i + 1, params[i]);
+        }
+        stmt.addBatch();
+        pendingRows++;
+    }
+
+    private int nextId(String table, String column) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT COALESCE(MAX(" + column + "), 0) FROM " + table)) {
+            return rs.next() ? rs.getInt(1) + 1 : 1;
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            for (PreparedStatement stmt : statements) {
+                stmt.close();
+            }
+        } finally {
+            conn.close();
+        }
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.indexgenerator;
+
+import io.ballerina.modelgenerator.commons.FunctionData;
+import io.ballerina.modelgenerator.commons.ParameterData;
+import io.ballerina.modelgenerator.commons.ParameterMemberTypeData;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Tests whether the modules handed over to the {@link IndexWriter} through the queue of the index generation pipeline
+ * are written the same as the modules written sequentially.
+ *
+ * @since 1.5.0
+ */
+public class IndexWriterTest {
+
+    private static final Path CENTRAL_INDEX_SQL = Path.of("src", "main", "resources", "central-index.sql");
+    private static final int MODULE_COUNT = 40;
+    private static final int FUNCTION_COUNT = 3;
+    private static final int ACTION_COUNT = 2;
+    private static final int PARAMETER_COUNT = 2;
+    private static final int PRODUCERS = 4;
+    private static final int QUEUE_CAPACITY = 2;
+
+    // The primary keys depend on the order in which the modules are written, hence only the contents are compared
+    private static final List<String> CONTENT_QUERIES = List.of(
+            "SELECT org, package_name, module_name, version, keywords FROM Package",
+            "SELECT p.module_name, f.name, f.kind, f.description, f.return_type, f.resource_path, f.return_error, " +
+                    "f.inferred_return_type, f.import_statements " +
+                    "FROM Function f JOIN Package p ON f.package_id = p.package_id",
+            "SELECT p.module_name, c.name, a.name " +
+                    "FROM FunctionConnector fc " +
+                    "JOIN Function a ON fc.function_id = a.function_id " +
+                    "JOIN Function c ON fc.connector_id = c.function_id " +
+                    "JOIN Package p ON c.package_id = p.package_id",
+            "SELECT p.module_name, f.name, pa.name, pa.description, pa.type, pa.placeholder, pa.default_value, " +
+                    "pa.kind, pa.optional, pa.import_statements, pa.label " +
+                    "FROM Parameter pa JOIN Function f ON pa.function_id = f.function_id " +
+                    "JOIN Package p ON f.package_id = p.package_id",
+            "SELECT p.module_name, f.name, pa.name, m.type, m.kind, m.package_identifier, m.package_name " +
+                    "FROM ParameterMemberType m JOIN Parameter pa ON m.parameter_id = pa.parameter_id " +
+                    "JOIN Function f ON pa.function_id = f.function_id " +
+                    "JOIN Package p ON f.package_id = p.package_id"
+    );
+
+    private Path tempDir;
+
+    @BeforeClass
+    public void init() throws IOException {
+        tempDir = Files.createTempDirectory("central-index-test");
+    }
+
+    @Test(description = "Test whether the concurrently produced modules are written the same as the sequential write")
+    public void testQueueHandoff() throws Exception {
+        List<IndexGenerator.ModuleIndex> modules = new ArrayList<>();
+        for (int i = 0; i < MODULE_COUNT; i++) {
+            modules.add(createModule("module" + i));
+        }
+
+        String sequentialDb = createDatabase("sequential.sqlite");
+        try (IndexWriter indexWriter = new IndexWriter(DriverManager.getConnection(sequentialDb))) {
+            for (IndexGenerator.ModuleIndex module : modules) {
+                indexWriter.write(module);
+            }
+        }
+
+        // Hand over the modules through a queue smaller than the number of producers, as in the pipeline
+        String pipelineDb = createDatabase("pipeline.sqlite");
+        BlockingQueue<IndexGenerator.ModuleIndex> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        try (IndexWriter indexWriter = new IndexWriter(DriverManager.getConnection(pipelineDb))) {
+            Thread writer = Thread.ofPlatform().name("index-writer-test").start(
+                    () -> IndexGenerator.writeModules(indexWriter, queue, new IndexGenerator.StageTimer()));
+            ExecutorService executorService = Executors.newFixedThreadPool(PRODUCERS);
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for (IndexGenerator.ModuleIndex module : modules) {
+                    futures.add(executorService.submit(() -> {
+                        queue.put(module);
+                        return null;
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get(20, TimeUnit.SECONDS);
+                }
+            } finally {
+                executorService.shutdownNow();
+                queue.put(IndexGenerator.END_OF_MODULES);
+                writer.join(TimeUnit.SECONDS.toMillis(20));
+            }
+            Assert.assertFalse(writer.isAlive(), "The writer did not stop at the end of the modules");
+        }
+
+        for (String query : CONTENT_QUERIES) {
+            List<String> expectedRows = readRows(sequentialDb, query);
+            Assert.assertFalse(expectedRows.isEmpty(), "No rows written for: " + query);
+            Assert.assertEquals(readRows(pipelineDb, query), expectedRows, "Mismatched rows for: " + query);
+        }
+    }
+
+    private static IndexGenerator.ModuleIndex createModule(String moduleName) {
+        List<IndexGenerator.FunctionIndex> functions = new ArrayList<>();
+        for (int i = 0; i < FUNCTION_COUNT; i++) {
+            functions.add(new IndexGenerator.FunctionIndex(
+                    createFunction(moduleName, "function" + i, FunctionData.Kind.FUNCTION), List.of()));
+        }
+        List<FunctionData> actions = new ArrayList<>();
+        for (int i = 0; i < ACTION_COUNT; i++) {
+            actions.add(createFunction(moduleName, "action" + i, FunctionData.Kind.REMOTE));
+        }
+        functions.add(new IndexGenerator.FunctionIndex(
+                createFunction(moduleName, "Client", FunctionData.Kind.CONNECTOR), actions));
+        return new IndexGenerator.ModuleIndex("ballerinax", moduleName, moduleName, "1.0.0",
+                List.of("keyword1", "keyword2"), functions);
+    }
+
+    private static FunctionData createFunction(String moduleName, String name, FunctionData.Kind kind) {
+        FunctionData functionData = new FunctionData(0, name, "Description of " + name, "string|error",
+                moduleName, moduleName, "ballerinax", "1.0.0", null, kind, true, false, null);
+        Map<String, ParameterData> parameters = new LinkedHashMap<>();
+        for (int i = 0; i < PARAMETER_COUNT; i++) {
+            String parameterName = "param" + i;
+            List<ParameterMemberTypeData> memberTypes = List.of(
+                    new ParameterMemberTypeData("string", "BASIC_TYPE", "ballerina:lang.string:0.0.0", "string"));
+            parameters.put(parameterName, new ParameterData(0, parameterName, "string", ParameterData.Kind.REQUIRED,
+                    "\"\"", null, "Description of " + parameterName, parameterName, false, null, memberTypes, null));
+        }
+        functionData.setParameters(parameters);
+        return functionData;
+    }
+
+    private String createDatabase(String fileName) throws IOException, SQLException {
+        String dbPath = "jdbc:sqlite:" + tempDir.resolve(fileName);
+        try (Connection conn = DriverManager.getConnection(dbPath);
+             Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate(Files.readString(CENTRAL_INDEX_SQL));
+        }
+        return dbPath;
+    }
+
+    private static List<String> readRows(String dbPath, String query) throws SQLException {
+        List<String> rows = new ArrayList<>();
+        try (Connection conn = DriverManager.getConnection(dbPath);
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(query)) {
+            int columnCount = rs.getMetaData().getColumnCount();
+            while (rs.next()) {
+                StringBuilder row = new StringBuilder();
+                for (int i = 1; i <= columnCount; i++) {
+                    row.append(rs.getString(i)).append('|');
+                }
+                rows.add(row.toString());
+            }
+        }
+        rows.sort(Comparator.naturalOrder());
+        return rows;
+    }
+
+    @AfterClass
+    public void cleanup() throws IOException {
+        try (Stream<Path> paths = Files.walk(tempDir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
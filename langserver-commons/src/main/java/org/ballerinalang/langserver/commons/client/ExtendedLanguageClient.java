@@ -44,4 +44,7 @@ public interface ExtendedLanguageClient extends LanguageClient {
 
     @JsonNotification("projectService/pushMigratedProject")
     void pushMigratedProject(Object notification);
+
+    @JsonNotification("testManagerService/publishTestChanges")
+    void publishTestChanges(Object testChanges);
 }
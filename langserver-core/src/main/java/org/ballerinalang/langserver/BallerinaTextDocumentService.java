@@ -27,6 +27,7 @@ import org.ballerinalang.formatter.core.FormatterUtils;
 import org.ballerinalang.formatter.core.options.FormattingOptions;
 import org.ballerinalang.langserver.codelenses.CodeLensUtil;
 import org.ballerinalang.langserver.codelenses.LSCodeLensesProviderHolder;
+import org.ballerinalang.langserver.common.utils.CommonUtil;
 import org.ballerinalang.langserver.common.utils.PathUtil;
 import org.ballerinalang.langserver.commons.BallerinaDefinitionContext;
 import org.ballerinalang.langserver.commons.CodeActionContext;
@@ -44,10 +45,12 @@ import org.ballerinalang.langserver.commons.RenameContext;
 import org.ballerinalang.langserver.commons.SemanticTokensContext;
 import org.ballerinalang.langserver.commons.SignatureContext;
 import org.ballerinalang.langserver.commons.capability.LSClientCapabilities;
+import org.ballerinalang.langserver.commons.client.ExtendedLanguageClient;
 import org.ballerinalang.langserver.commons.codeaction.ResolvableCodeAction;
 import org.ballerinalang.langserver.commons.eventsync.EventKind;
 import org.ballerinalang.langserver.contexts.ContextBuilder;
 import org.ballerinalang.langserver.definition.DefinitionUtil;
+import org.ballerinalang.langserver.diagnostic.DiagnosticsHelper;
 import org.ballerinalang.langserver.documentsymbol.DocumentSymbolUtil;
 import org.ballerinalang.langserver.eventsync.EventSyncPubSubHolder;
 import org.ballerinalang.langserver.exception.UserErrorException;
@@ -56,9 +59,11 @@ import org.ballerinalang.langserver.hover.HoverUtil;
 import org.ballerinalang.langserver.inlayhint.InlayHintProvider;
 import org.ballerinalang.langserver.references.ReferencesUtil;
 import org.ballerinalang.langserver.rename.RenameUtil;
+import org.ballerinalang.langserver.semantictokens.SemanticTokensCache;
 import org.ballerinalang.langserver.semantictokens.SemanticTokensUtils;
 import org.ballerinalang.langserver.signature.SignatureHelpUtil;
 import org.ballerinalang.langserver.workspace.BallerinaWorkspaceManagerProxy;
+import org.ballerinalang.langserver.workspace.index.WorkspaceIndexManager;
 import org.eclipse.lsp4j.CodeAction;
 import org.eclipse.lsp4j.CodeActionParams;
 import org.eclipse.lsp4j.CodeLens;
@@ -88,11 +93,15 @@ import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.PrepareRenameDefaultBehavior;
 import org.eclipse.lsp4j.PrepareRenameParams;
 import org.eclipse.lsp4j.PrepareRenameResult;
+import org.eclipse.lsp4j.ProgressParams;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.ReferenceParams;
 import org.eclipse.lsp4j.RenameParams;
 import org.eclipse.lsp4j.SemanticTokens;
+import org.eclipse.lsp4j.SemanticTokensDelta;
+import org.eclipse.lsp4j.SemanticTokensDeltaParams;
 import org.eclipse.lsp4j.SemanticTokensParams;
+import org.eclipse.lsp4j.SemanticTokensRangeParams;
 import org.eclipse.lsp4j.SignatureHelp;
 import org.eclipse.lsp4j.SignatureHelpParams;
 import org.eclipse.lsp4j.SymbolInformation;
@@ -104,6 +113,7 @@ import org.eclipse.lsp4j.jsonrpc.messages.Either;
 import org.eclipse.lsp4j.jsonrpc.messages.Either3;
 import org.eclipse.lsp4j.services.TextDocumentService;
 
+import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -233,6 +243,13 @@ class BallerinaTextDocumentService implements TextDocumentService {
             (DefinitionParams params) {
         return CompletableFutures.computeAsync((cancelChecker) -> {
             try {
+                // Answer from the persisted index while the project is being compiled after a restart
+                Optional<List<Location>> indexedDefinition = indexedFilePath(params.getTextDocument().getUri())
+                        .flatMap(filePath -> WorkspaceIndexManager.getInstance(this.serverContext)
+                                .definition(this.workspaceManagerProxy.get(), filePath, params.getPosition()));
+                if (indexedDefinition.isPresent()) {
+                    return Either.forLeft(indexedDefinition.get());
+                }
                 BallerinaDefinitionContext defContext = ContextBuilder.buildDefinitionContext(
                         PathUtil.convertUriSchemeFromBala(params.getTextDocument().getUri()),
                         this.workspaceManagerProxy.get(),
@@ -259,6 +276,15 @@ class BallerinaTextDocumentService implements TextDocumentService {
         return CompletableFutures.computeAsync((cancelChecker) -> {
             try {
                 String fileUri = params.getTextDocument().getUri();
+                // Answer from the persisted index while the project is being compiled after a restart
+                boolean includeDeclaration = params.getContext() != null && params.getContext().isIncludeDeclaration();
+                Optional<List<Location>> indexedReferences = indexedFilePath(fileUri)
+                        .flatMap(filePath -> WorkspaceIndexManager.getInstance(this.serverContext)
+                                .references(this.workspaceManagerProxy.get(fileUri), filePath, params.getPosition(),
+                                        includeDeclaration));
+                if (indexedReferences.isPresent()) {
+                    return indexedReferences.get();
+                }
                 ReferencesContext context = ContextBuilder.buildReferencesContext(
                         PathUtil.convertUriSchemeFromBala(fileUri),
                         this.workspaceManagerProxy.get(fileUri),
@@ -266,27 +292,22 @@ class BallerinaTextDocumentService implements TextDocumentService {
                         params.getPosition(),
                         cancelChecker);
 
+                Either<String, Integer> partialResultToken = params.getPartialResultToken();
+                ExtendedLanguageClient client = this.languageServer.getClient();
+                if (partialResultToken != null && client != null) {
+                    // Stream the references of each module as soon as the module has been searched
+                    ReferencesUtil.getReferences(context, (module, locations) ->
+                            client.notifyProgress(new ProgressParams(partialResultToken,
+                                    Either.forRight(toLocations(module, locations, params)))));
+                    return Collections.emptyList();
+                }
+
                 Map<Module, List<io.ballerina.tools.diagnostics.Location>> referencesMap =
                         ReferencesUtil.getReferences(context);
 
                 context.checkCancelled();
                 List<Location> references = new ArrayList<>();
-                referencesMap.forEach((module, locations) ->
-                        locations.forEach(location -> {
-                            Path filePath = PathUtil.getPathFromLocation(module, location);
-                            String uri = filePath.toUri().toString();
-                            // If path is readonly, change the URI scheme
-                            if (PathUtil.isWriteProtectedPath(filePath)) {
-                                try {
-                                    uri = PathUtil.getBalaUriForPath(serverContext, filePath);
-                                } catch (URISyntaxException e) {
-                                    this.clientLogger.logError(LSContextOperation.TXT_REFERENCES,
-                                            "Failed to convert path to bala URI", e,
-                                            params.getTextDocument(), params.getPosition());
-                                }
-                            }
-                            references.add(new Location(uri, PathUtil.getRange(location)));
-                        }));
+                referencesMap.forEach((module, locations) -> references.addAll(toLocations(module, locations, params)));
 
                 return references;
             } catch (UserErrorException e) {
@@ -303,6 +324,34 @@ class BallerinaTextDocumentService implements TextDocumentService {
         });
     }
 
+    private Optional<Path> indexedFilePath(String fileUri) {
+        if (!CommonUtil.URI_SCHEME_FILE.equals(URI.create(fileUri).getScheme())) {
+            return Optional.empty();
+        }
+        return PathUtil.getPathFromURI(fileUri);
+    }
+
+    private List<Location> toLocations(Module module, List<io.ballerina.tools.diagnostics.Location> locations,
+                                       ReferenceParams params) {
+        List<Location> references = new ArrayList<>();
+        locations.forEach(location -> {
+            Path filePath = PathUtil.getPathFromLocation(module, location);
+            String uri = filePath.toUri().toString();
+            // If path is readonly, change the URI scheme
+            if (PathUtil.isWriteProtectedPath(filePath)) {
+                try {
+                    uri = PathUtil.getBalaUriForPath(serverContext, filePath);
+                } catch (URISyntaxException e) {
+                    this.clientLogger.logError(LSContextOperation.TXT_REFERENCES,
+                            "Failed to convert path to bala URI", e,
+                            params.getTextDocument(), params.getPosition());
+                }
+            }
+            references.add(new Location(uri, PathUtil.getRange(location)));
+        });
+        return references;
+    }
+
     @Override
     public CompletableFuture<List<Either<SymbolInformation, DocumentSymbol>>>
     documentSymbol(DocumentSymbolParams params) {
@@ -581,8 +630,11 @@ class BallerinaTextDocumentService implements TextDocumentService {
                     this.workspaceManagerProxy.get(fileUri),
                     LSContextOperation.TXT_DID_OPEN, this.serverContext);
             this.workspaceManagerProxy.didOpen(params);
+            DiagnosticsHelper.getInstance(this.serverContext).clearPublishedDiagnostics(fileUri);
             this.clientLogger.logTrace("Operation '" + LSContextOperation.TXT_DID_OPEN.getName() +
                     "' {fileUri: '" + fileUri + "'} opened");
+            indexedFilePath(fileUri).ifPresent(filePath -> WorkspaceIndexManager.getInstance(this.serverContext)
+                    .didOpen(this.workspaceManagerProxy.get(fileUri), filePath));
             EventSyncPubSubHolder.getInstance(this.serverContext)
                     .getPublisher(EventKind.PROJECT_UPDATE)
                     .publish(this.languageServer.getClient(), this.serverContext, context);
@@ -626,6 +678,10 @@ class BallerinaTextDocumentService implements TextDocumentService {
                     LSContextOperation.TXT_DID_CLOSE,
                     this.serverContext);
             this.workspaceManagerProxy.didClose(params);
+            SemanticTokensCache.getInstance(this.serverContext).remove(fileUri);
+            DiagnosticsHelper.getInstance(this.serverContext).clearPublishedDiagnostics(fileUri);
+            indexedFilePath(fileUri).ifPresent(filePath -> WorkspaceIndexManager.getInstance(this.serverContext)
+                    .didClose(this.workspaceManagerProxy.get(fileUri), filePath));
             this.clientLogger.logTrace("Operation '" + LSContextOperation.TXT_DID_CLOSE.getName() +
                     "' {fileUri: '" + fileUri + "'} closed");
         } catch (Throwable e) {
@@ -637,6 +693,15 @@ class BallerinaTextDocumentService implements TextDocumentService {
 
     @Override
     public void didSave(DidSaveTextDocumentParams params) {
+        String fileUri = params.getTextDocument().getUri();
+        try {
+            indexedFilePath(fileUri).ifPresent(filePath -> WorkspaceIndexManager.getInstance(this.serverContext)
+                    .didSave(this.workspaceManagerProxy.get(fileUri), filePath));
+        } catch (Throwable e) {
+            String msg = "Operation 'text/didSave' failed!";
+            this.clientLogger.logError(LSContextOperation.TXT_DID_SAVE, msg, e, params.getTextDocument(),
+                    (Position) null);
+        }
     }
 
     @Override
@@ -690,6 +755,55 @@ class BallerinaTextDocumentService implements TextDocumentService {
         });
     }
 
+    @Override
+    public CompletableFuture<Either<SemanticTokens, SemanticTokensDelta>> semanticTokensFullDelta(
+            SemanticTokensDeltaParams params) {
+        return CompletableFutures.computeAsync((cancelChecker) -> {
+            try {
+                SemanticTokensContext context = ContextBuilder.buildSemanticTokensContext(
+                        params.getTextDocument().getUri(),
+                        this.workspaceManagerProxy.get(),
+                        this.serverContext,
+                        cancelChecker);
+
+                return SemanticTokensUtils.getSemanticTokensDelta(context, params.getPreviousResultId());
+            } catch (CancellationException ignore) {
+                // Ignore cancellation exception
+            } catch (Throwable e) {
+                String msg = "Operation 'textDocument/semanticTokens/full/delta' failed!";
+                this.clientLogger.logError(LSContextOperation.TXT_SEMANTIC_TOKENS_FULL_DELTA, msg, e,
+                        new TextDocumentIdentifier(params.getTextDocument().getUri()),
+                        (Position) null);
+            }
+
+            return Either.forLeft(new SemanticTokens(new ArrayList<>()));
+        });
+    }
+
+    @Override
+    public CompletableFuture<SemanticTokens> semanticTokensRange(SemanticTokensRangeParams params) {
+        return CompletableFutures.computeAsync((cancelChecker) -> {
+            try {
+                SemanticTokensContext context = ContextBuilder.buildSemanticTokensContext(
+                        params.getTextDocument().getUri(),
+                        this.workspaceManagerProxy.get(),
+                        this.serverContext,
+                        cancelChecker);
+
+                return SemanticTokensUtils.getSemanticTokens(context, params.getRange());
+            } catch (CancellationException ignore) {
+                // Ignore cancellation exception
+            } catch (Throwable e) {
+                String msg = "Operation 'textDocument/semanticTokens/range' failed!";
+                this.clientLogger.logError(LSContextOperation.TXT_SEMANTIC_TOKENS_RANGE, msg, e,
+                        new TextDocumentIdentifier(params.getTextDocument().getUri()),
+                        (Position) null);
+            }
+
+            return new SemanticTokens(new ArrayList<>());
+        });
+    }
+
     @Override
     public CompletableFuture<List<InlayHint>> inlayHint(InlayHintParams params) {
         return CompletableFutures.computeAsync((cancelChecker) -> {
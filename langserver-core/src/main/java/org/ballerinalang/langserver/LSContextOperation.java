@@ -26,6 +26,7 @@ public enum LSContextOperation implements LSOperation {
     TXT_COMPLETION("text/completion"),
     TXT_DID_CHANGE("text/didChange"),
     TXT_DID_CLOSE("text/didClose"),
+    TXT_DID_SAVE("text/didSave"),
     DIAGNOSTICS("debouncer/diagnostics"),
     TXT_DID_OPEN("text/didOpen"),
     TXT_HOVER("text/hover"),
@@ -44,6 +45,8 @@ public enum LSContextOperation implements LSOperation {
     TXT_IMPL("text/implementation"),
     TXT_FOLDING_RANGE("text/foldingRange"),
     TXT_SEMANTIC_TOKENS_FULL("text/semanticTokens/full"),
+    TXT_SEMANTIC_TOKENS_FULL_DELTA("text/semanticTokens/full/delta"),
+    TXT_SEMANTIC_TOKENS_RANGE("text/semanticTokens/range"),
     WS_SYMBOL("workspace/symbol"),
     WS_EXEC_CMD("workspace/executeCommand"),
     WS_WF_CHANGED("workspace/didChangeWatchedFiles"),
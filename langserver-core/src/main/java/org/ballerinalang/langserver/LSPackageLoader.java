@@ -22,6 +22,7 @@ import com.google.gson.annotations.SerializedName;
 import io.ballerina.compiler.api.ModuleID;
 import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.projects.Module;
+import io.ballerina.projects.ModuleId;
 import io.ballerina.projects.Package;
 import io.ballerina.projects.PackageCompilation;
 import io.ballerina.projects.PackageDependencyScope;
@@ -49,6 +50,7 @@ import org.eclipse.lsp4j.ProgressParams;
 import org.eclipse.lsp4j.WorkDoneProgressBegin;
 import org.eclipse.lsp4j.WorkDoneProgressCreateParams;
 import org.eclipse.lsp4j.WorkDoneProgressEnd;
+import org.eclipse.lsp4j.WorkDoneProgressNotification;
 import org.eclipse.lsp4j.WorkDoneProgressReport;
 import org.eclipse.lsp4j.jsonrpc.messages.Either;
 import org.wso2.ballerinalang.compiler.util.Names;
@@ -59,14 +61,19 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
-import java.util.stream.Collectors;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * An in-memory cache for Ballerina modules(packages) in local, remote and central repositories.
@@ -77,12 +84,21 @@ public class LSPackageLoader {
             new LanguageServerContext.Key<>();
     public static final String SERVICE_TEMPLATES = "service_templates.json";
 
-    private final List<ModuleInfo> distRepoPackages = new ArrayList<>();
-    private final List<ModuleInfo> remoteRepoPackages = new ArrayList<>();
-    private final List<ModuleInfo> localRepoPackages = new ArrayList<>();
-    private final List<ModuleInfo> centralPackages = new ArrayList<>();
+    private static final int MAX_PACKAGE_RESOLVERS = Math.max(1, Math.min(4,
+            Runtime.getRuntime().availableProcessors() - 1));
+
+    // The package lists are immutable and replaced as a whole, so that the readers never observe a partially loaded
+    // list while the packages are being indexed
+    private volatile List<ModuleInfo> distRepoPackages = List.of();
+    private volatile List<ModuleInfo> remoteRepoPackages = List.of();
+    private final List<ModuleInfo> localRepoPackages = List.of();
+    private volatile List<ModuleInfo> centralPackages = List.of();
     private final LSClientLogger clientLogger;
 
+    private volatile long repositoryVersion;
+    private volatile RepositoryPackages repositoryPackages;
+    private volatile CurrentPackageModules currentPackageModules;
+
     ExtendedLanguageClient languageClient;
 
     private String notificationTaskId;
@@ -119,84 +135,92 @@ public class LSPackageLoader {
      * @param context language server context.
      */
     public void loadModules(LanguageServerContext context) {
-            LSClientLogger lsClientLogger = LSClientLogger.getInstance(context);
-            String taskId = UUID.randomUUID().toString();
-            notificationTaskId = taskId;
-            Map<String, ModuleInfo> packagesList = new HashMap<>();
-            CompletableFuture.runAsync(() -> {
-                this.languageClient = context.get(ExtendedLanguageClient.class);
-                if (languageClient == null) {
-                    return;
-                }
-                // Initialize progress notification
-                WorkDoneProgressCreateParams workDoneProgressCreateParams = new WorkDoneProgressCreateParams();
-                workDoneProgressCreateParams.setToken(taskId);
-                languageClient.createProgress(workDoneProgressCreateParams);
-
-                // Start progress
-                WorkDoneProgressBegin beginNotification = new WorkDoneProgressBegin();
-                beginNotification.setTitle("Indexing");
-                beginNotification.setCancellable(false);
-                beginNotification.setMessage("Loading packages from Ballerina home...");
-                languageClient.notifyProgress(new ProgressParams(Either.forLeft(taskId),
-                        Either.forLeft(beginNotification)));
-            }).thenRunAsync(() -> {
-                Environment environment = EnvironmentBuilder.getBuilder().build();
-                BallerinaDistribution ballerinaDistribution = BallerinaDistribution.from(environment);
-                PackageRepository packageRepository = ballerinaDistribution.packageRepository();
-                List<String> skippedLangLibs = Arrays.asList("lang.annotations", "lang.__internal", "lang.query");
-                lsClientLogger.logTrace("Loading packages from Ballerina distribution");
-
-                try {
-                    String moduleInfo = FileUtils.readFileAsString(SERVICE_TEMPLATES);
-                    Map<String, Map<String, Map<String, List<ListenerData>>>> listenerData =
-                            new Gson().fromJson(moduleInfo, listenerDataTypeToken);
-                    this.distRepoPackages.addAll(checkAndResolvePackagesFromRepository(packageRepository,
-                            listenerData, skippedLangLibs, Collections.emptySet()));
-                    lsClientLogger.logTrace("Successfully loaded packages from Ballerina distribution");
-                } catch (IOException e) {
-                    throw new RuntimeException("Failed to load listener metadata from " + SERVICE_TEMPLATES, e);
-                }
-
-                this.getDistributionRepoModules().forEach(packageInfo ->
-                        packagesList.put(packageInfo.packageIdentifier(), packageInfo));
-                List<ModuleInfo> repoPackages = new ArrayList<>(this.getLocalRepoModules());
-                repoPackages.stream().filter(packageInfo -> !packagesList.containsKey(packageInfo.packageIdentifier()))
-                        .forEach(packageInfo -> packagesList.put(packageInfo.packageIdentifier(), packageInfo));
-            }).thenRunAsync(() -> {
-                WorkDoneProgressCreateParams workDoneProgressCreateParams = new WorkDoneProgressCreateParams();
-                workDoneProgressCreateParams.setToken(taskId);
-                languageClient.createProgress(workDoneProgressCreateParams);
-
-                // Start progress
-                WorkDoneProgressReport progressNotification = new WorkDoneProgressReport();
-                progressNotification.setMessage("Loading packages from Ballerina central");
-                progressNotification.setCancellable(false);
-                languageClient.notifyProgress(new ProgressParams(Either.forLeft(taskId),
-                        Either.forLeft(progressNotification)));
-                try {
-                    String moduleInfo = FileUtils.readFileAsString("moduleInfo.json");
-                    this.centralPackages.addAll(new Gson().fromJson(moduleInfo, new TypeToken<List<ModuleInfo>>() {
-                    }.getType()));
-                } catch (IOException e) {
-                    throw new RuntimeException(e);
-                }
-            }).thenRunAsync(() -> {
-                WorkDoneProgressEnd endNotification = new WorkDoneProgressEnd();
-                endNotification.setMessage("Initialized Successfully!");
-                languageClient.notifyProgress(new ProgressParams(Either.forLeft(taskId),
-                        Either.forLeft(endNotification)));
-            }).exceptionally(e -> {
-                WorkDoneProgressEnd endNotification = new WorkDoneProgressEnd();
-                endNotification.setMessage("Initialization Failed!");
-                languageClient.notifyProgress(new ProgressParams(Either.forLeft(taskId),
-                        Either.forLeft(endNotification)));
-                clientLogger.logTrace("Failed initializing the Package Loader due to "
-                        + e.getMessage());
-                return null;
+        LSClientLogger lsClientLogger = LSClientLogger.getInstance(context);
+        String taskId = UUID.randomUUID().toString();
+        notificationTaskId = taskId;
+        CompletableFuture.runAsync(() -> {
+            this.languageClient = context.get(ExtendedLanguageClient.class);
+            if (languageClient == null) {
+                return;
+            }
+            // Initialize progress notification
+            WorkDoneProgressCreateParams workDoneProgressCreateParams = new WorkDoneProgressCreateParams();
+            workDoneProgressCreateParams.setToken(taskId);
+            languageClient.createProgress(workDoneProgressCreateParams);
+
+            // Start progress
+            WorkDoneProgressBegin beginNotification = new WorkDoneProgressBegin();
+            beginNotification.setTitle("Indexing");
+            beginNotification.setCancellable(false);
+            beginNotification.setMessage("Loading packages from Ballerina home...");
+            notifyProgress(taskId, beginNotification);
+        }).thenRunAsync(() -> {
+            Environment environment = EnvironmentBuilder.getBuilder().build();
+            BallerinaDistribution ballerinaDistribution = BallerinaDistribution.from(environment);
+            PackageRepository packageRepository = ballerinaDistribution.packageRepository();
+            List<String> skippedLangLibs = Arrays.asList("lang.annotations", "lang.__internal", "lang.query");
+            lsClientLogger.logTrace("Loading packages from Ballerina distribution");
+
+            ExecutorService packageResolvers = Executors.newFixedThreadPool(MAX_PACKAGE_RESOLVERS, runnable -> {
+                Thread thread = new Thread(runnable, "package-resolver");
+                thread.setDaemon(true);
+                return thread;
             });
+            try {
+                String moduleInfo = FileUtils.readFileAsString(SERVICE_TEMPLATES);
+                Map<String, Map<String, Map<String, List<ListenerData>>>> listenerData =
+                        new Gson().fromJson(moduleInfo, listenerDataTypeToken);
+                List<ModuleInfo> distPackages = checkAndResolvePackagesFromRepository(packageRepository,
+                        listenerData, skippedLangLibs, Collections.emptySet(), packageResolvers,
+                        (descriptor, resolvedCount, totalCount) -> {
+                            WorkDoneProgressReport progressNotification = new WorkDoneProgressReport();
+                            progressNotification.setMessage("Loaded " + descriptor.org() + "/" + descriptor.name()
+                                    + " (" + resolvedCount + "/" + totalCount + ")");
+                            progressNotification.setPercentage(resolvedCount * 100 / totalCount);
+                            progressNotification.setCancellable(false);
+                            notifyProgress(taskId, progressNotification);
+                        });
+                this.setDistributionRepoModules(distPackages);
+                lsClientLogger.logTrace("Successfully loaded packages from Ballerina distribution");
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to load listener metadata from " + SERVICE_TEMPLATES, e);
+            } finally {
+                packageResolvers.shutdown();
+            }
+        }).thenRunAsync(() -> {
+            WorkDoneProgressReport progressNotification = new WorkDoneProgressReport();
+            progressNotification.setMessage("Loading packages from Ballerina central");
+            progressNotification.setCancellable(false);
+            notifyProgress(taskId, progressNotification);
+            try {
+                String moduleInfo = FileUtils.readFileAsString("moduleInfo.json");
+                List<ModuleInfo> packages = new Gson().fromJson(moduleInfo, new TypeToken<List<ModuleInfo>>() {
+                }.getType());
+                this.centralPackages = List.copyOf(packages);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }).thenRunAsync(() -> {
+            WorkDoneProgressEnd endNotification = new WorkDoneProgressEnd();
+            endNotification.setMessage("Initialized Successfully!");
+            notifyProgress(taskId, endNotification);
+        }).exceptionally(e -> {
+            WorkDoneProgressEnd endNotification = new WorkDoneProgressEnd();
+            endNotification.setMessage("Initialization Failed!");
+            notifyProgress(taskId, endNotification);
+            clientLogger.logTrace("Failed initializing the Package Loader due to "
+                    + e.getMessage());
+            return null;
+        });
 
-            this.initialized = true;
+        this.initialized = true;
+    }
+
+    private void notifyProgress(String taskId, WorkDoneProgressNotification notification) {
+        if (languageClient == null) {
+            return;
+        }
+        languageClient.notifyProgress(new ProgressParams(Either.forLeft(taskId), Either.forLeft(notification)));
     }
 
     /**
@@ -244,33 +268,84 @@ public class LSPackageLoader {
      * @return {@link List} packages
      */
     public List<ModuleInfo> getAllVisiblePackages(DocumentServiceContext ctx) {
-        Map<String, ModuleInfo> packagesList = new HashMap<>();
-        this.getDistributionRepoModules().forEach(packageInfo ->
-                packagesList.put(packageInfo.packageIdentifier(), packageInfo));
-        List<ModuleInfo> repoPackages = new ArrayList<>();
-        repoPackages.addAll(this.getRemoteRepoModules());
-        repoPackages.addAll(this.getLocalRepoModules());
-        repoPackages.stream().filter(packageInfo -> !packagesList.containsKey(packageInfo.packageIdentifier()))
-                .forEach(packageInfo -> packagesList.put(packageInfo.packageIdentifier(), packageInfo));
+        List<ModuleInfo> repoPackages = this.getRepositoryPackages().packages();
+        Optional<Module> currentModule = ctx.currentModule();
+        if (currentModule.isEmpty()) {
+            return new ArrayList<>(repoPackages);
+        }
         Package currentPackage = ctx.workspace().project(ctx.filePath()).get().currentPackage();
-        currentPackage.modules().forEach(module -> {
-            Package packageInstance = module.packageInstance();
-            ModuleInfo moduleInfo = new ModuleInfo(PackageOrg.from(""), packageInstance.packageName(),
-                    packageInstance.packageVersion(), packageInstance.project().sourceRoot());
-            moduleInfo.setModuleFromCurrentPackage(true);
-            Optional<Module> currentModule = ctx.currentModule();
-            String packageName = moduleInfo.packageName();
-            String moduleName = module.descriptor().name().moduleNamePart();
-            String qualifiedModName = packageName + Names.DOT + moduleName;
-            if (currentModule.isEmpty() || module.isDefaultModule() || module.equals(currentModule.get()) ||
-                    ModuleUtil.matchingImportedModule(ctx, "", qualifiedModName).isPresent()) {
+        Map<ModuleId, ModuleInfo> modules = this.getCurrentPackageModules(currentPackage).modules();
+        List<ModuleInfo> packagesList = new ArrayList<>(repoPackages.size() + modules.size());
+        packagesList.addAll(repoPackages);
+        ModuleId currentModuleId = currentModule.get().moduleId();
+        modules.forEach((moduleId, moduleInfo) -> {
+            if (moduleId.equals(currentModuleId)
+                    || ModuleUtil.matchingImportedModule(ctx, "", moduleInfo.packageName()).isPresent()) {
                 return;
-            } else {
-                moduleInfo.packageName = packageName + "." + moduleName;
             }
-            packagesList.put(moduleInfo.packageName, moduleInfo);
+            packagesList.add(moduleInfo);
         });
-        return new ArrayList<>(packagesList.values());
+        return packagesList;
+    }
+
+    /**
+     * Get the repository and distribution packages whose identifier ({@code org/name}) starts with the given prefix.
+     * Unlike {@link #getAllVisiblePackages(DocumentServiceContext)}, the modules of the current package are not
+     * included, since those do not have an organization.
+     *
+     * @param prefix prefix of the package identifier
+     * @return {@link List} of packages sorted by the package identifier
+     */
+    public List<ModuleInfo> getVisibleRepoPackages(String prefix) {
+        return this.getRepositoryPackages().packagesWithPrefix(prefix);
+    }
+
+    private RepositoryPackages getRepositoryPackages() {
+        List<ModuleInfo> distPackages = this.getDistributionRepoModules();
+        List<ModuleInfo> remotePackages = this.getRemoteRepoModules();
+        List<ModuleInfo> localPackages = this.getLocalRepoModules();
+        long version = this.repositoryVersion;
+        RepositoryPackages packages = this.repositoryPackages;
+        if (packages == null || packages.isStale(version, distPackages, remotePackages, localPackages)) {
+            packages = RepositoryPackages.from(version, distPackages, remotePackages, localPackages);
+            this.repositoryPackages = packages;
+        }
+        return packages;
+    }
+
+    private CurrentPackageModules getCurrentPackageModules(Package currentPackage) {
+        CurrentPackageModules modules = this.currentPackageModules;
+        if (modules == null || modules.isStale(currentPackage)) {
+            modules = CurrentPackageModules.from(currentPackage);
+            this.currentPackageModules = modules;
+        }
+        return modules;
+    }
+
+    private synchronized void setDistributionRepoModules(List<ModuleInfo> distPackages) {
+        this.distRepoPackages = List.copyOf(distPackages);
+        this.repositoryVersion++;
+    }
+
+    /**
+     * Adds the packages to the remote repository packages which are not already there, and returns the added
+     * packages.
+     */
+    private synchronized List<ModuleInfo> addRemoteRepoModules(List<ModuleInfo> packages) {
+        Set<String> loadedPackages = new HashSet<>();
+        this.remoteRepoPackages.forEach(packageInfo -> loadedPackages.add(packageInfo.packageIdentifier()));
+        List<ModuleInfo> addedPackages = packages.stream()
+                .filter(packageInfo -> loadedPackages.add(packageInfo.packageIdentifier()))
+                .toList();
+        if (addedPackages.isEmpty()) {
+            return addedPackages;
+        }
+        List<ModuleInfo> remotePackages = new ArrayList<>(this.remoteRepoPackages.size() + addedPackages.size());
+        remotePackages.addAll(this.remoteRepoPackages);
+        remotePackages.addAll(addedPackages);
+        this.remoteRepoPackages = Collections.unmodifiableList(remotePackages);
+        this.repositoryVersion++;
+        return addedPackages;
     }
 
     /**
@@ -291,8 +366,31 @@ public class LSPackageLoader {
     public List<ModuleInfo> checkAndResolvePackagesFromRepository(
             PackageRepository repository, Map<String, Map<String, Map<String, List<ListenerData>>>> listenerData,
             List<String> skipList, Set<String> loadedPackages) {
+        return checkAndResolvePackagesFromRepository(repository, listenerData, skipList, loadedPackages, Runnable::run,
+                (descriptor, resolvedCount, totalCount) -> {
+                });
+    }
+
+    /**
+     * Resolves the packages of the repository. The repository and its environment are shared by all the packages,
+     * hence the packages are loaded from the repository one at a time on the calling thread, while the listener
+     * metadata of each loaded package is generated on the given executor. The packages are returned in the order of
+     * the repository regardless of the order in which they are resolved.
+     *
+     * @param repository       package repository
+     * @param listenerData     listener metadata of the packages
+     * @param skipList         names of the packages to skip
+     * @param loadedPackages   identifiers of the packages which are already loaded
+     * @param executor         executor to generate the listener metadata of the loaded packages
+     * @param progressListener listener which is notified as each package is resolved
+     * @return {@link List} of resolved packages
+     */
+    public List<ModuleInfo> checkAndResolvePackagesFromRepository(
+            PackageRepository repository, Map<String, Map<String, Map<String, List<ListenerData>>>> listenerData,
+            List<String> skipList, Set<String> loadedPackages, Executor executor,
+            PackageResolutionListener progressListener) {
         Map<String, List<String>> packageMap = repository.getPackages();
-        List<ModuleInfo> packages = new ArrayList<>();
+        List<PackageDescriptor> descriptors = new ArrayList<>();
         packageMap.forEach((key, value) -> {
 
             if (key.equals(Names.BALLERINA_INTERNAL_ORG.getValue())) {
@@ -311,32 +409,63 @@ public class LSPackageLoader {
                 if (loadedPackages.contains(packageIdentifier)) {
                     return;
                 }
-                PackageVersion pkgVersion = PackageVersion.from(version);
-
                 try {
-                    PackageDescriptor pkdDesc = PackageDescriptor.from(packageOrg, packageName, pkgVersion);
-                    ResolutionRequest request = ResolutionRequest.from(pkdDesc, PackageDependencyScope.DEFAULT);
-
-                    Optional<Package> optRepoPackage = repository.getPackage(request,
-                            ResolutionOptions.builder().setOffline(true).build());
-                    if (optRepoPackage.isPresent()) {
-                        Package repoPackage = optRepoPackage.get();
-                        List<ServiceTemplateGenerator.ListenerMetaData> listenerMetadata =
-                                getListenerMetadata(listenerData, packageOrg.value(), packageName.value(),
-                                        pkgVersion.value().toString(), repoPackage.project().sourceRoot());
-                        packages.add(new ModuleInfo(repoPackage, listenerMetadata));
-                    }
+                    descriptors.add(PackageDescriptor.from(packageOrg, packageName, PackageVersion.from(version)));
                 } catch (Throwable e) {
-                    clientLogger.logTrace("Failed to resolve package "
-                            + packageOrg + (!packageOrg.value().isEmpty() ? "/" : ""
-                            + packageName + ":" + pkgVersion));
+                    clientLogger.logTrace("Failed to resolve package " + packageIdentifier + ":" + version);
                 }
             });
 
         });
+
+        int totalCount = descriptors.size();
+        AtomicInteger resolvedCount = new AtomicInteger();
+        List<CompletableFuture<Optional<ModuleInfo>>> resolutions = new ArrayList<>(totalCount);
+        for (PackageDescriptor descriptor : descriptors) {
+            Optional<Package> repoPackage = loadPackage(repository, descriptor);
+            resolutions.add(CompletableFuture.supplyAsync(() -> {
+                Optional<ModuleInfo> moduleInfo =
+                        repoPackage.flatMap(pkg -> createModuleInfo(listenerData, descriptor, pkg));
+                progressListener.packageResolved(descriptor, resolvedCount.incrementAndGet(), totalCount);
+                return moduleInfo;
+            }, executor));
+        }
+        List<ModuleInfo> packages = new ArrayList<>();
+        resolutions.forEach(resolution -> resolution.join().ifPresent(packages::add));
         return packages;
     }
 
+    private Optional<Package> loadPackage(PackageRepository repository, PackageDescriptor descriptor) {
+        try {
+            ResolutionRequest request = ResolutionRequest.from(descriptor, PackageDependencyScope.DEFAULT);
+            return repository.getPackage(request, ResolutionOptions.builder().setOffline(true).build());
+        } catch (Throwable e) {
+            logResolutionFailure(descriptor);
+            return Optional.empty();
+        }
+    }
+
+    private Optional<ModuleInfo> createModuleInfo(
+            Map<String, Map<String, Map<String, List<ListenerData>>>> listenerData, PackageDescriptor descriptor,
+            Package repoPackage) {
+        try {
+            List<ServiceTemplateGenerator.ListenerMetaData> listenerMetadata =
+                    getListenerMetadata(listenerData, descriptor.org().value(), descriptor.name().value(),
+                            descriptor.version().value().toString(), repoPackage.project().sourceRoot());
+            return Optional.of(new ModuleInfo(repoPackage, listenerMetadata));
+        } catch (Throwable e) {
+            logResolutionFailure(descriptor);
+            return Optional.empty();
+        }
+    }
+
+    private void logResolutionFailure(PackageDescriptor descriptor) {
+        PackageOrg packageOrg = descriptor.org();
+        clientLogger.logTrace("Failed to resolve package "
+                + packageOrg + (!packageOrg.value().isEmpty() ? "/" : "")
+                + descriptor.name() + ":" + descriptor.version());
+    }
+
     private List<ServiceTemplateGenerator.ListenerMetaData> getListenerMetadata(
             Map<String, Map<String, Map<String, List<ListenerData>>>> listenerData, String org,
             String module, String version, Path sourceRoot) {
@@ -402,12 +531,115 @@ public class LSPackageLoader {
         BallerinaUserHome ballerinaUserHome = BallerinaUserHome
                 .from(project.get().projectEnvironmentContext().environment());
         PackageRepository remoteRepository = ballerinaUserHome.remotePackageRepository();
-        List<ModuleInfo> moduleInfos =
-                checkAndResolvePackagesFromRepository(remoteRepository, Collections.emptyMap(), Collections.emptyList(),
-                        this.remoteRepoPackages.stream().map(ModuleInfo::packageIdentifier)
-                                .collect(Collectors.toSet()));
-        this.remoteRepoPackages.addAll(moduleInfos);
-        return moduleInfos;
+        Set<String> loadedPackages = new HashSet<>();
+        this.remoteRepoPackages.forEach(packageInfo -> loadedPackages.add(packageInfo.packageIdentifier()));
+        List<ModuleInfo> moduleInfos = checkAndResolvePackagesFromRepository(remoteRepository,
+                Collections.emptyMap(), Collections.emptyList(), loadedPackages);
+        return this.addRemoteRepoModules(moduleInfos);
+    }
+
+    /**
+     * Listens to the progress of resolving the packages of a repository.
+     */
+    @FunctionalInterface
+    public interface PackageResolutionListener {
+
+        /**
+         * Invoked when a package is resolved, whether or not it could be loaded.
+         *
+         * @param descriptor    descriptor of the package
+         * @param resolvedCount number of packages resolved so far
+         * @param totalCount    total number of packages to resolve
+         */
+        void packageResolved(PackageDescriptor descriptor, int resolvedCount, int totalCount);
+    }
+
+    /**
+     * An immutable snapshot of the distribution, remote and local repository packages, which is rebuilt only when the
+     * repositories change. The packages are also kept sorted by the package identifier to look up the packages of an
+     * organization, or the packages with a given name prefix, without going through all the packages.
+     *
+     * @param version        repository version of the snapshot
+     * @param packages       distinct packages, where a distribution package shadows the repository packages
+     * @param identifiers    sorted package identifiers
+     * @param sortedPackages packages in the order of the sorted identifiers
+     * @param sourceSizes    sizes of the distribution, remote and local repository lists used for the snapshot
+     */
+    private record RepositoryPackages(long version, List<ModuleInfo> packages, String[] identifiers,
+                                      List<ModuleInfo> sortedPackages, int[] sourceSizes) {
+
+        static RepositoryPackages from(long version, List<ModuleInfo> distPackages, List<ModuleInfo> remotePackages,
+                                       List<ModuleInfo> localPackages) {
+            Map<String, ModuleInfo> packagesList = new LinkedHashMap<>();
+            distPackages.forEach(packageInfo -> packagesList.put(packageInfo.packageIdentifier(), packageInfo));
+            remotePackages.forEach(packageInfo -> packagesList.putIfAbsent(packageInfo.packageIdentifier(),
+                    packageInfo));
+            localPackages.forEach(packageInfo -> packagesList.putIfAbsent(packageInfo.packageIdentifier(),
+                    packageInfo));
+
+            List<ModuleInfo> sortedPackages = new ArrayList<>(packagesList.values());
+            sortedPackages.sort(Comparator.comparing(ModuleInfo::packageIdentifier));
+            String[] identifiers = sortedPackages.stream().map(ModuleInfo::packageIdentifier).toArray(String[]::new);
+            int[] sourceSizes = {distPackages.size(), remotePackages.size(), localPackages.size()};
+            return new RepositoryPackages(version, List.copyOf(packagesList.values()), identifiers,
+                    List.copyOf(sortedPackages), sourceSizes);
+        }
+
+        /**
+         * Checks whether the repositories have changed since the snapshot was taken. Since the repository lists are
+         * only appended to, a change in the size of a list is also considered a change of the repositories.
+         */
+        boolean isStale(long currentVersion, List<ModuleInfo> distPackages, List<ModuleInfo> remotePackages,
+                        List<ModuleInfo> localPackages) {
+            return version != currentVersion || sourceSizes[0] != distPackages.size()
+                    || sourceSizes[1] != remotePackages.size() || sourceSizes[2] != localPackages.size();
+        }
+
+        List<ModuleInfo> packagesWithPrefix(String prefix) {
+            int index = Arrays.binarySearch(identifiers, prefix);
+            int start = index < 0 ? -(index + 1) : index;
+            int end = start;
+            while (end < identifiers.length && identifiers[end].startsWith(prefix)) {
+                end++;
+            }
+            return sortedPackages.subList(start, end);
+        }
+    }
+
+    /**
+     * The non-default modules of the current package, which only change when the {@code Ballerina.toml} of the
+     * package or its modules change.
+     *
+     * @param sourceRoot source root of the package
+     * @param descriptor package descriptor derived from the {@code Ballerina.toml}
+     * @param moduleIds  IDs of all the modules of the package
+     * @param modules    module information of the non-default modules
+     */
+    private record CurrentPackageModules(Path sourceRoot, PackageDescriptor descriptor, Set<ModuleId> moduleIds,
+                                         Map<ModuleId, ModuleInfo> modules) {
+
+        static CurrentPackageModules from(Package currentPackage) {
+            Map<ModuleId, ModuleInfo> modules = new LinkedHashMap<>();
+            currentPackage.modules().forEach(module -> {
+                if (module.isDefaultModule()) {
+                    return;
+                }
+                Package packageInstance = module.packageInstance();
+                ModuleInfo moduleInfo = new ModuleInfo(PackageOrg.from(""), packageInstance.packageName(),
+                        packageInstance.packageVersion(), packageInstance.project().sourceRoot());
+                moduleInfo.setModuleFromCurrentPackage(true);
+                moduleInfo.packageName = moduleInfo.packageName() + "." + module.descriptor().name().moduleNamePart();
+                modules.put(module.moduleId(), moduleInfo);
+            });
+            return new CurrentPackageModules(currentPackage.project().sourceRoot(), currentPackage.descriptor(),
+                    new HashSet<>(currentPackage.moduleIds()), Collections.unmodifiableMap(modules));
+        }
+
+        boolean isStale(Package currentPackage) {
+            return !sourceRoot.equals(currentPackage.project().sourceRoot())
+                    || !descriptor.equals(currentPackage.descriptor())
+                    || !moduleIds.equals(new HashSet<>(currentPackage.moduleIds()));
+        }
     }
 
     /**
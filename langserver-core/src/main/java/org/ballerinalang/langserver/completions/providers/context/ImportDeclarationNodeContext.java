@@ -337,7 +337,8 @@ public class ImportDeclarationNodeContext extends AbstractCompletionProvider<Imp
             }
             return completionItems;
         }
-        moduleList = LSPackageLoader.getInstance(serverContext).getAllVisiblePackages(context);
+        moduleList = LSPackageLoader.getInstance(serverContext)
+                .getVisibleRepoPackages(orgName + Names.ORG_NAME_SEPARATOR.getValue());
         moduleList.forEach(ballerinaPackage -> {
             String packageName = ballerinaPackage.packageName();
             String insertText;
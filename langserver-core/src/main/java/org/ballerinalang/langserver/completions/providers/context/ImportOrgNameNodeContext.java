@@ -59,7 +59,8 @@ public class ImportOrgNameNodeContext extends AbstractCompletionProvider<ImportO
         if (orgName.equals("ballerinax")) {
             packages = LSPackageLoader.getInstance(ctx.languageServercontext()).getCentralPackages();
         } else {
-            packages = LSPackageLoader.getInstance(ctx.languageServercontext()).getAllVisiblePackages(ctx);
+            packages = LSPackageLoader.getInstance(ctx.languageServercontext())
+                    .getVisibleRepoPackages(orgName + Names.ORG_NAME_SEPARATOR.getValue());
         }
         ArrayList<LSCompletionItem> completionItems = moduleNameContextCompletions(ctx, orgName, packages);
 
@@ -46,9 +46,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentLinkedDeque;
-import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -62,13 +60,19 @@ public class DiagnosticsHelper {
     private static final LanguageServerContext.Key<DiagnosticsHelper> DIAGNOSTICS_HELPER_KEY =
             new LanguageServerContext.Key<>();
     private static final long DIAGNOSTIC_DELAY = 1;
+    private static final Runnable NO_OP_PUBLISHER = () -> {
+    };
     /**
      * Holds file URIs that had diagnostics in the last publication for the purpose of clear-off when publishing new
      * diagnostics. Key: package root path, Value: set of file URIs that had diagnostics
      */
     private final Map<Path, Set<String>> lastDiagnosticFileUris;
-    private CompletableFuture<Boolean> latestScheduled = null;
+    /**
+     * Holds the last published diagnostics per file URI, so that unchanged diagnostics are not republished.
+     */
+    private final Map<String, List<Diagnostic>> lastPublishedDiagnostics;
     private final Deque<String> cyclicDependencyErrors;
+    private final DiagnosticsPublishDebouncer debouncer;
 
     public static DiagnosticsHelper getInstance(LanguageServerContext serverContext) {
         DiagnosticsHelper diagnosticsHelper = serverContext.get(DIAGNOSTICS_HELPER_KEY);
@@ -82,7 +86,10 @@ public class DiagnosticsHelper {
     private DiagnosticsHelper(LanguageServerContext serverContext) {
         serverContext.put(DIAGNOSTICS_HELPER_KEY, this);
         this.lastDiagnosticFileUris = new HashMap<>();
+        this.lastPublishedDiagnostics = new HashMap<>();
         this.cyclicDependencyErrors = new ConcurrentLinkedDeque<>();
+        this.debouncer = new DiagnosticsPublishDebouncer(DIAGNOSTIC_DELAY, TimeUnit.SECONDS,
+                Math.max(2, Runtime.getRuntime().availableProcessors() / 2));
     }
 
     /**
@@ -91,14 +98,23 @@ public class DiagnosticsHelper {
      * change events are triggered frequently in subsequent edits, we do compilations and diagnostic calculation for
      * each of the change event. This is time-consuming for the large projects and from the user experience point of
      * view, we can publish the diagnostics after a delay. The default delay specified in {@link #DIAGNOSTIC_DELAY}
+     * <p>
+     * The requests are debounced per project, hence a burst of edits in a project results in a single compilation,
+     * while the compilations of different projects run concurrently.
      *
      * @param client  Language client
      * @param context Document Service context.
      */
-    public synchronized void schedulePublishDiagnostics(ExtendedLanguageClient client, DocumentServiceContext context) {
-        WorkspaceManager workspaceManager = context.workspace();
-        Path projectRoot = workspaceManager.projectRoot(context.filePath());
-        compileAndSendDiagnostics(workspaceManager, projectRoot, client);
+    public void schedulePublishDiagnostics(ExtendedLanguageClient client, DocumentServiceContext context) {
+        Path projectRoot = context.workspace().projectRoot(context.filePath());
+        debouncer.debounce(projectRoot, () -> {
+            if (context.workspace().project(context.filePath()).isEmpty()) {
+                return NO_OP_PUBLISHER;
+            }
+            DiagnosticsResponse response = getLatestDiagnosticsWithPackages(context);
+            return () -> sendDiagnostics(client, response.diagnostics(), response.compiledPackages(),
+                    response.packageFileUris());
+        });
     }
 
     /**
@@ -111,11 +127,30 @@ public class DiagnosticsHelper {
      * @param context     Workspace Service context
      * @param projectRoot project root
      */
-    public synchronized void schedulePublishDiagnostics(ExtendedLanguageClient client,
-                                                        WorkspaceServiceContext context,
-                                                        Path projectRoot) {
+    public void schedulePublishDiagnostics(ExtendedLanguageClient client,
+                                           WorkspaceServiceContext context,
+                                           Path projectRoot) {
         WorkspaceManager workspaceManager = context.workspace();
-        compileAndSendDiagnostics(workspaceManager, projectRoot, client);
+        debouncer.debounce(projectRoot, () -> {
+            Optional<PackageCompilation> compilation = workspaceManager.waitAndGetPackageCompilation(projectRoot);
+            if (compilation.isEmpty()) {
+                return NO_OP_PUBLISHER;
+            }
+            PackageDiagnostics packageDiagnostics = toDiagnosticsMap(
+                    compilation.get().diagnosticResult().diagnostics(false), projectRoot, workspaceManager);
+            return () -> sendDiagnostics(client, packageDiagnostics.diagnostics(), List.of(projectRoot),
+                    Map.of(projectRoot, packageDiagnostics.fileUris()));
+        });
+    }
+
+    /**
+     * Returns the metrics of the debounced diagnostic compilations, such as the number of compilations saved against
+     * the number of requests received.
+     *
+     * @return {@link DiagnosticsPublishDebouncer.Metrics}
+     */
+    public DiagnosticsPublishDebouncer.Metrics metrics() {
+        return debouncer.metrics();
     }
 
     /**
@@ -127,7 +162,7 @@ public class DiagnosticsHelper {
      * @param client  Language server client
      * @param context LS context
      */
-    public synchronized void compileAndSendDiagnostics(ExtendedLanguageClient client, DocumentServiceContext context) {
+    public void compileAndSendDiagnostics(ExtendedLanguageClient client, DocumentServiceContext context) {
         // Compile diagnostics
         Optional<Project> project = context.workspace().project(context.filePath());
         if (project.isEmpty()) {
@@ -138,20 +173,16 @@ public class DiagnosticsHelper {
     }
 
     /**
-     * Compiles and publishes diagnostics for a project.
+     * Forgets the diagnostics last published for the document, so that its diagnostics are published again even if
+     * they have not changed. This is required when the client discards the diagnostics of the document, such as when
+     * the document is closed.
      *
-     * @param client      Language server client
-     * @param projectRoot project root
-     * @param compilation package compilation
+     * @param fileUri URI of the document
      */
-    private synchronized void compileAndSendDiagnostics(ExtendedLanguageClient client, Path projectRoot,
-                                                        PackageCompilation compilation,
-                                                        WorkspaceManager workspaceManager) {
-        PackageDiagnostics packageDiagnostics =
-                toDiagnosticsMap(compilation.diagnosticResult().diagnostics(false), projectRoot, workspaceManager);
-        Map<Path, Set<String>> packageFileUris = new HashMap<>();
-        packageFileUris.put(projectRoot, packageDiagnostics.fileUris());
-        sendDiagnostics(client, packageDiagnostics.diagnostics(), List.of(projectRoot), packageFileUris);
+    public synchronized void clearPublishedDiagnostics(String fileUri) {
+        lastPublishedDiagnostics.remove(fileUri);
+        PathUtil.getPathFromURI(fileUri)
+                .ifPresent(filePath -> lastPublishedDiagnostics.remove(filePath.toUri().toString()));
     }
 
     private synchronized void sendDiagnostics(ExtendedLanguageClient client,
@@ -168,13 +199,20 @@ public class DiagnosticsHelper {
             Set<String> lastFileUris = lastDiagnosticFileUris.getOrDefault(packageRoot, new HashSet<>());
             lastFileUris.forEach(fileUri -> {
                 if (!diagnosticMap.containsKey(fileUri)) {
+                    lastPublishedDiagnostics.remove(fileUri);
                     client.publishDiagnostics(new PublishDiagnosticsParams(fileUri, emptyDiagnosticList));
                 }
             });
         }
 
-        // Publish diagnostics for all packages
-        diagnosticMap.forEach((key, value) -> client.publishDiagnostics(new PublishDiagnosticsParams(key, value)));
+        // Publish diagnostics for all packages, skipping the files whose diagnostics did not change
+        diagnosticMap.forEach((key, value) -> {
+            if (value.equals(lastPublishedDiagnostics.get(key))) {
+                return;
+            }
+            lastPublishedDiagnostics.put(key, value);
+            client.publishDiagnostics(new PublishDiagnosticsParams(key, value));
+        });
 
         // Show cyclic dependency error message if exists
         while (!this.cyclicDependencyErrors.isEmpty()) {
@@ -298,23 +336,6 @@ public class DiagnosticsHelper {
         return new PackageDiagnostics(diagnosticsMap, fileUris);
     }
 
-    private synchronized void compileAndSendDiagnostics(WorkspaceManager workspaceManager,
-                                                        Path projectRoot,
-                                                        ExtendedLanguageClient client) {
-        if (latestScheduled != null && !latestScheduled.isDone()) {
-            latestScheduled.completeExceptionally(new Throwable("Cancelled diagnostic publisher"));
-        }
-
-        Executor delayedExecutor = CompletableFuture.delayedExecutor(DIAGNOSTIC_DELAY, TimeUnit.SECONDS);
-        CompletableFuture<Boolean> scheduledFuture = CompletableFuture.supplyAsync(() -> true, delayedExecutor);
-        latestScheduled = scheduledFuture;
-        scheduledFuture
-                .thenApplyAsync((bool) -> workspaceManager.waitAndGetPackageCompilation(projectRoot))
-                .thenAccept(compilation ->
-                        compilation.ifPresent(pkgCompilation ->
-                                compileAndSendDiagnostics(client, projectRoot, pkgCompilation, workspaceManager)));
-    }
-
     public static Diagnostic getLSDiagnosticsFromCompilationDiagnostics(
             LineRange lineRange, io.ballerina.tools.diagnostics.Diagnostic diag) {
         int startLine = lineRange.startLine().line();
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ballerinalang.langserver.diagnostic;
+
+import java.nio.file.Path;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Debounces the diagnostic compilations per project root. A burst of requests for the same project is coalesced into
+ * a single compilation which runs after the configured delay has passed since the last request, while the
+ * compilations of different projects run concurrently on a bounded worker pool.
+ * <p>
+ * A compilation which is superseded by a newer request before it starts is cancelled. A compilation which is already
+ * running is allowed to finish, since interrupting the compiler may leave shared caches in an inconsistent state, but
+ * its result is discarded instead of being published.
+ *
+ * @since 1.5.0
+ */
+public class DiagnosticsPublishDebouncer {
+
+    private final long delay;
+    private final TimeUnit timeUnit;
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService workers;
+    private final ConcurrentHashMap<Path, Long> latestGenerations;
+    private final ConcurrentHashMap<Path, Future<?>> scheduledTasks;
+    private final AtomicLong generationCounter;
+
+    // Metrics
+    private final AtomicLong requestsReceived;
+    private final AtomicLong compilationsStarted;
+    private final AtomicLong staleResultsDiscarded;
+
+    public DiagnosticsPublishDebouncer(long delay, TimeUnit timeUnit, int workerCount) {
+        this.delay = delay;
+        this.timeUnit = timeUnit;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(daemonThreadFactory("diagnostics-scheduler"));
+        this.workers = Executors.newFixedThreadPool(workerCount, daemonThreadFactory("diagnostics-worker"));
+        this.latestGenerations = new ConcurrentHashMap<>();
+        this.scheduledTasks = new ConcurrentHashMap<>();
+        this.generationCounter = new AtomicLong();
+        this.requestsReceived = new AtomicLong();
+        this.compilationsStarted = new AtomicLong();
+        this.staleResultsDiscarded = new AtomicLong();
+    }
+
+    /**
+     * Schedules the given compilation for the project. Any compilation of the same project which has not started yet
+     * is cancelled.
+     *
+     * @param projectRoot the project root used to coalesce the requests
+     * @param compilation compiles the project and returns the action to publish its result. The publish action is only
+     *                    executed if no newer request has been received for the project in the meantime.
+     */
+    public void debounce(Path projectRoot, Supplier<Runnable> compilation) {
+        requestsReceived.incrementAndGet();
+        long generation = generationCounter.incrementAndGet();
+        latestGenerations.put(projectRoot, generation);
+
+        Future<?> scheduledFuture = scheduler.schedule(() -> workers.execute(() -> {
+            if (!isLatest(projectRoot, generation)) {
+                return;
+            }
+            compilationsStarted.incrementAndGet();
+            Runnable publisher = compilation.get();
+            // Publishing is serialized, so that a stale result never overrides a newer one
+            synchronized (this) {
+                if (!isLatest(projectRoot, generation)) {
+                    staleResultsDiscarded.incrementAndGet();
+                    return;
+                }
+                publisher.run();
+            }
+        }), delay, timeUnit);
+
+        Future<?> prev = scheduledTasks.put(projectRoot, scheduledFuture);
+        if (prev != null) {
+            prev.cancel(false);
+        }
+    }
+
+    private boolean isLatest(Path projectRoot, long generation) {
+        Long latest = latestGenerations.get(projectRoot);
+        return latest != null && latest == generation;
+    }
+
+    /**
+     * Returns a snapshot of the debouncing metrics.
+     *
+     * @return {@link Metrics} of this debouncer
+     */
+    public Metrics metrics() {
+        long requests = requestsReceived.get();
+        long compilations = compilationsStarted.get();
+        return new Metrics(requests, compilations, requests - compilations, staleResultsDiscarded.get());
+    }
+
+    private static ThreadFactory daemonThreadFactory(String name) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Metrics of the diagnostics debouncer.
+     *
+     * @param requestsReceived      number of diagnostic requests received, typically one per edit
+     * @param compilationsStarted   number of compilations started for the requests
+     * @param compilationsSaved     number of requests coalesced into another compilation
+     * @param staleResultsDiscarded number of compilation results discarded since a newer request has been received
+     */
+    public record Metrics(long requestsReceived, long compilationsStarted, long compilationsSaved,
+                          long staleResultsDiscarded) {
+    }
+}
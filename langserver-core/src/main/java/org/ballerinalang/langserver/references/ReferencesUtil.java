@@ -21,8 +21,12 @@ import io.ballerina.compiler.syntax.tree.ModulePartNode;
 import io.ballerina.compiler.syntax.tree.NodeLocation;
 import io.ballerina.compiler.syntax.tree.NonTerminalNode;
 import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.projects.Document;
 import io.ballerina.projects.Module;
+import io.ballerina.projects.ModuleId;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.PackageCompilation;
 import io.ballerina.projects.Project;
 import io.ballerina.tools.diagnostics.Location;
 import io.ballerina.tools.text.LinePosition;
@@ -33,43 +37,75 @@ import org.ballerinalang.langserver.common.utils.PositionUtil;
 import org.ballerinalang.langserver.commons.PositionedOperationContext;
 import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 
 /**
  * Utility class for go to definition functionality of language server.
  */
 public final class ReferencesUtil {
 
+    private static final int MAX_REFERENCE_FINDERS = Math.max(1, Math.min(4,
+            Runtime.getRuntime().availableProcessors() - 1));
+    private static final ExecutorService REFERENCE_FINDERS = Executors.newFixedThreadPool(MAX_REFERENCE_FINDERS,
+            runnable -> {
+                Thread thread = new Thread(runnable, "references-finder");
+                thread.setDaemon(true);
+                return thread;
+            });
+
     private ReferencesUtil() {
     }
-    
+
     public static Map<Module, List<Location>> getReferences(PositionedOperationContext context) {
-        Map<Module, List<Location>> references = new HashMap<>();
+        return getReferences(context, (module, locations) -> {
+        });
+    }
+
+    /**
+     * Returns the references of the symbol at cursor, including the references in documentation. The references of
+     * each module are passed to the given consumer as soon as the module has been searched, so that they can be
+     * reported as partial results.
+     *
+     * @param context               Operation context triggered with a cursor position
+     * @param partialResultConsumer Consumer of the references of a module. Invoked on the calling thread
+     * @return Map of module and list of reference locations.
+     */
+    public static Map<Module, List<Location>> getReferences(PositionedOperationContext context,
+                                                            BiConsumer<Module, List<Location>> partialResultConsumer) {
         Optional<Project> project = context.workspace().project(context.filePath());
         Optional<Symbol> symbol = getSymbolAtCursor(context);
         if (project.isEmpty() || symbol.isEmpty()) {
-            return references;
+            return new HashMap<>();
         }
-        references.putAll(getReferences(project.get(), symbol.get()));
-        references.forEach((module, locations) -> {
-            List<Location> docReferences = new LinkedList<>();
-            // Find references in documentation
-            locations.forEach(location -> {
-                List<NodeLocation> refs = findReferencesInDocumentation(location, module, context, symbol.get());
-                if (refs != null && !refs.isEmpty()) {
-                    docReferences.addAll(refs);
-                }
-            });
-            locations.addAll(docReferences);
-        });
-        return references;
+        return getReferences(project.get(), symbol.get(), context.getCancelChecker().orElse(null),
+                (module, locations) -> {
+                    // Find references in documentation
+                    Map<Path, Optional<SyntaxTree>> syntaxTrees = new HashMap<>();
+                    List<Location> docReferences = new ArrayList<>();
+                    locations.forEach(location -> docReferences.addAll(
+                            findReferencesInDocumentation(location, module, context, symbol.get(), syntaxTrees)));
+                    List<Location> moduleReferences = new ArrayList<>(locations);
+                    moduleReferences.addAll(docReferences);
+                    return moduleReferences;
+                }, partialResultConsumer);
     }
 
     /**
@@ -80,36 +116,105 @@ public final class ReferencesUtil {
      * @return Map of module and list of reference locations.
      */
     public static Map<Module, List<Location>> getReferences(Project project, Symbol symbol) {
+        return getReferences(project, symbol, null, (module, locations) -> locations, (module, locations) -> {
+        });
+    }
+
+    /**
+     * Searches the modules of the project for the references of the symbol on a bounded pool. The cancel checker is
+     * checked before searching a module and after the references of each module are received, and the pending
+     * searches are cancelled once the request is cancelled.
+     */
+    private static Map<Module, List<Location>> getReferences(Project project, Symbol symbol,
+                                                             CancelChecker cancelChecker,
+                                                             BiFunction<Module, List<Location>, List<Location>> mapper,
+                                                             BiConsumer<Module, List<Location>> consumer) {
+        Package currentPackage = project.currentPackage();
+        // Compile the package once, before the modules are searched concurrently
+        PackageCompilation compilation = currentPackage.getCompilation();
+        Collection<ModuleId> moduleIds = currentPackage.moduleIds();
         Map<Module, List<Location>> moduleLocationMap = new HashMap<>();
-        project.currentPackage().moduleIds().forEach(moduleId -> {
-            List<Location> references = project.currentPackage()
-                    .getCompilation().getSemanticModel(moduleId).references(symbol);
-            if (references.isEmpty()) {
-                return;
+        if (moduleIds.size() == 1) {
+            ModuleId moduleId = moduleIds.iterator().next();
+            checkCanceled(cancelChecker);
+            List<Location> references = compilation.getSemanticModel(moduleId).references(symbol);
+            if (!references.isEmpty()) {
+                Module module = currentPackage.module(moduleId);
+                List<Location> locations = mapper.apply(module, references);
+                moduleLocationMap.put(module, locations);
+                consumer.accept(module, locations);
             }
-            Module module = project.currentPackage().module(moduleId);
-            moduleLocationMap.put(module, references);
-        });
-        
+            return moduleLocationMap;
+        }
+
+        CompletionService<Map.Entry<Module, List<Location>>> completionService =
+                new ExecutorCompletionService<>(REFERENCE_FINDERS);
+        List<Future<Map.Entry<Module, List<Location>>>> futures = new ArrayList<>();
+        for (ModuleId moduleId : moduleIds) {
+            futures.add(completionService.submit(() -> {
+                if (cancelChecker != null && cancelChecker.isCanceled()) {
+                    return null;
+                }
+                List<Location> references = compilation.getSemanticModel(moduleId).references(symbol);
+                if (references.isEmpty()) {
+                    return null;
+                }
+                Module module = currentPackage.module(moduleId);
+                return Map.entry(module, mapper.apply(module, references));
+            }));
+        }
+
+        try {
+            for (int i = 0; i < futures.size(); i++) {
+                checkCanceled(cancelChecker);
+                Map.Entry<Module, List<Location>> entry = completionService.take().get();
+                checkCanceled(cancelChecker);
+                if (entry == null) {
+                    continue;
+                }
+                moduleLocationMap.put(entry.getKey(), entry.getValue());
+                consumer.accept(entry.getKey(), entry.getValue());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while searching for references");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Failed to search for references", cause);
+        } finally {
+            futures.forEach(future -> future.cancel(false));
+        }
         return moduleLocationMap;
     }
-    
+
+    private static void checkCanceled(CancelChecker cancelChecker) {
+        if (cancelChecker != null) {
+            cancelChecker.checkCanceled();
+        }
+    }
+
     private static List<NodeLocation> findReferencesInDocumentation(Location location,
                                                                     Module module,
                                                                     PositionedOperationContext context,
-                                                                    Symbol symbol) {
+                                                                    Symbol symbol,
+                                                                    Map<Path, Optional<SyntaxTree>> syntaxTrees) {
         Path filePath = PathUtil.getPathFromLocation(module, location);
         Range range = PositionUtil.getRangeFromLineRange(location.lineRange());
-        Optional<NonTerminalNode> node = context.workspace().syntaxTree(filePath)
+        Optional<NonTerminalNode> node = syntaxTrees
+                .computeIfAbsent(filePath, path -> context.workspace().syntaxTree(path))
                 .map(syntaxTree -> CommonUtil.findNode(range, syntaxTree));
         if (node.isEmpty() || node.get().kind() == SyntaxKind.LIST) {
             return Collections.emptyList();
         }
 
         DocumentationReferenceFinder finder = new DocumentationReferenceFinder(symbol);
-        return node.get().apply(finder);
+        List<NodeLocation> references = node.get().apply(finder);
+        return references != null ? references : Collections.emptyList();
     }
-    
+
     /**
      * Returns the symbol at cursor handling a special case where cursor position is at the RHS end of the symbol.
      *
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ballerinalang.langserver.semantictokens;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.ballerinalang.langserver.commons.LanguageServerContext;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Holds the last semantic tokens sent for each document, so that the subsequent requests of the document can be
+ * answered with the delta of the tokens.
+ *
+ * @since 1.5.0
+ */
+public class SemanticTokensCache {
+
+    private static final LanguageServerContext.Key<SemanticTokensCache> SEMANTIC_TOKENS_CACHE_KEY =
+            new LanguageServerContext.Key<>();
+    private static final int MAX_DOCUMENTS = 64;
+
+    private final Cache<String, CachedTokens> tokensByUri;
+    private final AtomicLong nextResultId;
+
+    private SemanticTokensCache(LanguageServerContext serverContext) {
+        this.tokensByUri = CacheBuilder.newBuilder().maximumSize(MAX_DOCUMENTS).build();
+        this.nextResultId = new AtomicLong();
+        serverContext.put(SEMANTIC_TOKENS_CACHE_KEY, this);
+    }
+
+    public static synchronized SemanticTokensCache getInstance(LanguageServerContext serverContext) {
+        SemanticTokensCache semanticTokensCache = serverContext.get(SEMANTIC_TOKENS_CACHE_KEY);
+        if (semanticTokensCache == null) {
+            semanticTokensCache = new SemanticTokensCache(serverContext);
+        }
+        return semanticTokensCache;
+    }
+
+    /**
+     * Caches the semantic tokens sent for the document.
+     *
+     * @param fileUri URI of the document
+     * @param data    encoded semantic tokens
+     * @return result ID of the semantic tokens
+     */
+    public String put(String fileUri, int[] data) {
+        String resultId = Long.toString(nextResultId.incrementAndGet());
+        tokensByUri.put(fileUri, new CachedTokens(resultId, data));
+        return resultId;
+    }
+
+    /**
+     * Returns the semantic tokens sent for the document with the given result ID.
+     *
+     * @param fileUri  URI of the document
+     * @param resultId result ID of the semantic tokens
+     * @return encoded semantic tokens, or empty if the result ID is not the latest result of the document
+     */
+    public Optional<int[]> get(String fileUri, String resultId) {
+        CachedTokens cachedTokens = tokensByUri.getIfPresent(fileUri);
+        if (cachedTokens == null || !cachedTokens.resultId().equals(resultId)) {
+            return Optional.empty();
+        }
+        return Optional.of(cachedTokens.data());
+    }
+
+    /**
+     * Removes the semantic tokens of the document.
+     *
+     * @param fileUri URI of the document
+     */
+    public void remove(String fileUri) {
+        tokensByUri.invalidate(fileUri);
+    }
+
+    private record CachedTokens(String resultId, int[] data) {
+    }
+}
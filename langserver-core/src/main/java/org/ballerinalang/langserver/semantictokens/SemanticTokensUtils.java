@@ -15,24 +15,35 @@
  */
 package org.ballerinalang.langserver.semantictokens;
 
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
 import io.ballerina.projects.Document;
+import io.ballerina.tools.text.LinePosition;
+import io.ballerina.tools.text.LineRange;
+import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextRange;
 import org.ballerinalang.langserver.common.utils.PathUtil;
 import org.ballerinalang.langserver.commons.SemanticTokensContext;
 import org.ballerinalang.langserver.commons.client.ExtendedLanguageClient;
+import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.Registration;
 import org.eclipse.lsp4j.RegistrationParams;
 import org.eclipse.lsp4j.SemanticTokens;
+import org.eclipse.lsp4j.SemanticTokensDelta;
+import org.eclipse.lsp4j.SemanticTokensEdit;
 import org.eclipse.lsp4j.SemanticTokensLegend;
 import org.eclipse.lsp4j.SemanticTokensServerFull;
 import org.eclipse.lsp4j.SemanticTokensWithRegistrationOptions;
 import org.eclipse.lsp4j.Unregistration;
 import org.eclipse.lsp4j.UnregistrationParams;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
 
 import java.nio.file.Path;
+import java.util.AbstractList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.RandomAccess;
 
 /**
  * Semantic tokens util class.
@@ -51,17 +62,119 @@ public final class SemanticTokensUtils {
      * @return {@link SemanticTokens}
      */
     public static SemanticTokens getSemanticTokens(SemanticTokensContext semanticTokensContext) {
-        String fileUri = semanticTokensContext.fileUri();
-        Optional<Path> filePath = PathUtil.getPathFromURI(fileUri);
-        if (filePath.isEmpty()) {
+        Optional<Document> document = getDocument(semanticTokensContext);
+        if (document.isEmpty()) {
             return new SemanticTokens(Collections.emptyList());
         }
-        Optional<Document> document = semanticTokensContext.currentDocument();
+        int[] data = new SemanticTokensVisitor(semanticTokensContext).getSemanticTokensData(document.get()
+                .syntaxTree().rootNode());
+        String resultId = SemanticTokensCache.getInstance(semanticTokensContext.languageServercontext())
+                .put(semanticTokensContext.fileUri(), data);
+        return new SemanticTokens(resultId, asList(data));
+    }
+
+    /**
+     * Returns the semantic tokens for a given context as a delta of the previous result. The full semantic tokens are
+     * returned if the previous result is no longer available.
+     *
+     * @param semanticTokensContext context
+     * @param previousResultId      result ID of the previous semantic tokens of the document
+     * @return {@link SemanticTokensDelta} or {@link SemanticTokens}
+     */
+    public static Either<SemanticTokens, SemanticTokensDelta> getSemanticTokensDelta(
+            SemanticTokensContext semanticTokensContext, String previousResultId) {
+        Optional<Document> document = getDocument(semanticTokensContext);
+        if (document.isEmpty()) {
+            return Either.forLeft(new SemanticTokens(Collections.emptyList()));
+        }
+        SemanticTokensCache cache = SemanticTokensCache.getInstance(semanticTokensContext.languageServercontext());
+        String fileUri = semanticTokensContext.fileUri();
+        Optional<int[]> previousData = cache.get(fileUri, previousResultId);
+
+        int[] data = new SemanticTokensVisitor(semanticTokensContext).getSemanticTokensData(document.get()
+                .syntaxTree().rootNode());
+        String resultId = cache.put(fileUri, data);
+        if (previousData.isEmpty()) {
+            return Either.forLeft(new SemanticTokens(resultId, asList(data)));
+        }
+        return Either.forRight(new SemanticTokensDelta(getEdits(previousData.get(), data), resultId));
+    }
+
+    /**
+     * Returns the semantic tokens within the given range. Only the nodes overlapping with the lines of the range are
+     * visited.
+     *
+     * @param semanticTokensContext context
+     * @param range                 range of the document
+     * @return {@link SemanticTokens}
+     */
+    public static SemanticTokens getSemanticTokens(SemanticTokensContext semanticTokensContext, Range range) {
+        Optional<Document> document = getDocument(semanticTokensContext);
         if (document.isEmpty()) {
             return new SemanticTokens(Collections.emptyList());
         }
-        return new SemanticTokensVisitor(semanticTokensContext).getSemanticTokens(document.get().syntaxTree()
-                .rootNode());
+
+        // Expand the range to cover the whole lines
+        ModulePartNode rootNode = document.get().syntaxTree().rootNode();
+        TextDocument textDocument = document.get().textDocument();
+        int lineCount = textDocument.textLines().size();
+        int documentLength = rootNode.textRangeWithMinutiae().endOffset();
+        int startLine = Math.min(Math.max(range.getStart().getLine(), 0), lineCount);
+        int endLine = Math.min(Math.max(range.getEnd().getLine() + 1, startLine), lineCount);
+        int startOffset = startLine < lineCount
+                ? textDocument.textPositionFrom(LinePosition.from(startLine, 0)) : documentLength;
+        int endOffset = endLine < lineCount
+                ? textDocument.textPositionFrom(LinePosition.from(endLine, 0)) : documentLength;
+        LineRange lineRange = LineRange.from(document.get().name(), LinePosition.from(startLine, 0),
+                LinePosition.from(endLine, 0));
+
+        int[] data = new SemanticTokensVisitor(semanticTokensContext).getSemanticTokensData(rootNode,
+                TextRange.from(startOffset, endOffset - startOffset), lineRange);
+        return new SemanticTokens(asList(data));
+    }
+
+    private static Optional<Document> getDocument(SemanticTokensContext semanticTokensContext) {
+        Optional<Path> filePath = PathUtil.getPathFromURI(semanticTokensContext.fileUri());
+        if (filePath.isEmpty()) {
+            return Optional.empty();
+        }
+        return semanticTokensContext.currentDocument();
+    }
+
+    /**
+     * Computes the edits to transform the previous semantic tokens to the current semantic tokens. Since an edit of
+     * the document usually affects the tokens of a single region, a single edit replacing the region between the
+     * common prefix and the common suffix is returned.
+     *
+     * @param previous previous encoded semantic tokens
+     * @param current  current encoded semantic tokens
+     * @return edits of the semantic tokens
+     */
+    static List<SemanticTokensEdit> getEdits(int[] previous, int[] current) {
+        int prefix = Arrays.mismatch(previous, current);
+        if (prefix == -1) {
+            return Collections.emptyList();
+        }
+        int maxSuffix = Math.min(previous.length, current.length) - prefix;
+        int suffix = 0;
+        while (suffix < maxSuffix &&
+                previous[previous.length - 1 - suffix] == current[current.length - 1 - suffix]) {
+            suffix++;
+        }
+        int deleteCount = previous.length - prefix - suffix;
+        int[] data = Arrays.copyOfRange(current, prefix, current.length - suffix);
+        return List.of(new SemanticTokensEdit(prefix, deleteCount, asList(data)));
+    }
+
+    /**
+     * Returns a fixed-size list view of the given encoded semantic tokens, which avoids keeping a boxed copy of the
+     * tokens.
+     *
+     * @param data encoded semantic tokens
+     * @return list view of the data
+     */
+    static List<Integer> asList(int[] data) {
+        return new IntArrayList(data);
     }
 
     /**
@@ -93,7 +206,10 @@ public final class SemanticTokensUtils {
      */
     public static SemanticTokensWithRegistrationOptions getSemanticTokensRegistrationOptions() {
         SemanticTokensLegend semanticTokensLegend = new SemanticTokensLegend(getTokenTypes(), getTokenTypeModifiers());
-        return new SemanticTokensWithRegistrationOptions(semanticTokensLegend, new SemanticTokensServerFull(false));
+        SemanticTokensWithRegistrationOptions options =
+                new SemanticTokensWithRegistrationOptions(semanticTokensLegend, new SemanticTokensServerFull(true));
+        options.setRange(true);
+        return options;
     }
 
     /**
@@ -125,4 +241,26 @@ public final class SemanticTokensUtils {
         languageClient.unregisterCapability(
                 new UnregistrationParams(Collections.singletonList(unregistration)));
     }
+
+    /**
+     * Fixed-size list view of an integer array.
+     */
+    private static class IntArrayList extends AbstractList<Integer> implements RandomAccess {
+
+        private final int[] data;
+
+        private IntArrayList(int[] data) {
+            this.data = data;
+        }
+
+        @Override
+        public Integer get(int index) {
+            return data[index];
+        }
+
+        @Override
+        public int size() {
+            return data.length;
+        }
+    }
 }
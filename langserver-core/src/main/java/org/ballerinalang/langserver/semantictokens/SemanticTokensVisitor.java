@@ -48,6 +48,7 @@ import io.ballerina.compiler.syntax.tree.MethodDeclarationNode;
 import io.ballerina.compiler.syntax.tree.NamedArgumentNode;
 import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.NodeVisitor;
+import io.ballerina.compiler.syntax.tree.NonTerminalNode;
 import io.ballerina.compiler.syntax.tree.ObjectFieldNode;
 import io.ballerina.compiler.syntax.tree.QualifiedNameReferenceNode;
 import io.ballerina.compiler.syntax.tree.RecordFieldNode;
@@ -66,14 +67,16 @@ import io.ballerina.projects.Document;
 import io.ballerina.tools.diagnostics.Location;
 import io.ballerina.tools.text.LinePosition;
 import io.ballerina.tools.text.LineRange;
+import io.ballerina.tools.text.TextRange;
 import org.ballerinalang.langserver.commons.SemanticTokensContext;
 import org.ballerinalang.langserver.commons.SemanticTokensContext.TokenTypeModifiers;
 import org.ballerinalang.langserver.commons.SemanticTokensContext.TokenTypes;
 import org.eclipse.lsp4j.SemanticTokens;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.NavigableSet;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -86,10 +89,16 @@ import java.util.TreeSet;
  */
 public class SemanticTokensVisitor extends NodeVisitor {
 
+    // Number of integers used to encode a semantic token
+    private static final int TOKEN_DATA_SIZE = 5;
+
     // Sorted tree of semantic tokens
-    private final Set<SemanticToken> semanticTokens;
+    private final NavigableSet<SemanticToken> semanticTokens;
     private final SemanticTokensContext semanticTokensContext;
 
+    // Text range of the visible nodes, or null if all the nodes are visited
+    private TextRange viewport;
+
     public SemanticTokensVisitor(SemanticTokensContext semanticTokensContext) {
         this.semanticTokens = new TreeSet<>(SemanticToken.semanticTokenComparator);
         this.semanticTokensContext = semanticTokensContext;
@@ -103,13 +112,73 @@ public class SemanticTokensVisitor extends NodeVisitor {
      * @return {@link SemanticTokens}
      */
     public SemanticTokens getSemanticTokens(Node node) {
-        List<Integer> data = new ArrayList<>();
+        return new SemanticTokens(SemanticTokensUtils.asList(getSemanticTokensData(node)));
+    }
+
+    /**
+     * Collects the semantic tokens of the given node and returns them in the relative encoded form of the LSP.
+     *
+     * @param node Root node
+     * @return encoded semantic tokens
+     */
+    public int[] getSemanticTokensData(Node node) {
         visitSyntaxNode(node);
-        SemanticToken previousToken = null;
-        for (SemanticToken semanticToken : this.semanticTokens) {
-            previousToken = semanticToken.processSemanticToken(data, previousToken);
+        return encode(this.semanticTokens);
+    }
+
+    /**
+     * Collects the semantic tokens of the given node within the given lines. Only the nodes overlapping with the
+     * given text range are visited.
+     *
+     * @param node      Root node
+     * @param textRange Text range covering the lines
+     * @param lineRange Lines of the semantic tokens
+     * @return encoded semantic tokens
+     */
+    public int[] getSemanticTokensData(Node node, TextRange textRange, LineRange lineRange) {
+        this.viewport = textRange;
+        visitSyntaxNode(node);
+        SemanticToken fromToken = new SemanticToken(lineRange.startLine().line(), lineRange.startLine().offset());
+        SemanticToken toToken = new SemanticToken(lineRange.endLine().line(), lineRange.endLine().offset());
+        return encode(this.semanticTokens.subSet(fromToken, true, toToken, false));
+    }
+
+    @Override
+    protected void visitSyntaxNode(Node node) {
+        if (this.viewport == null || !(node instanceof NonTerminalNode nonTerminalNode)) {
+            super.visitSyntaxNode(node);
+            return;
+        }
+        for (Node child : nonTerminalNode.children()) {
+            TextRange childRange = child.textRangeWithMinutiae();
+            if (childRange.startOffset() < this.viewport.endOffset() &&
+                    childRange.endOffset() > this.viewport.startOffset()) {
+                child.accept(this);
+            }
         }
-        return new SemanticTokens(data);
+    }
+
+    /**
+     * Encodes the given sorted semantic tokens, where the position of each token is relative to the previous token.
+     *
+     * @param tokens sorted semantic tokens
+     * @return encoded semantic tokens
+     */
+    private static int[] encode(Set<SemanticToken> tokens) {
+        int[] data = new int[tokens.size() * TOKEN_DATA_SIZE];
+        int index = 0;
+        int prevLine = 0;
+        int prevColumn = 0;
+        for (SemanticToken token : tokens) {
+            data[index++] = token.getLine() - prevLine;
+            data[index++] = token.getLine() == prevLine ? token.getColumn() - prevColumn : token.getColumn();
+            data[index++] = token.getLength();
+            data[index++] = token.getType();
+            data[index++] = token.getModifiers();
+            prevLine = token.getLine();
+            prevColumn = token.getColumn();
+        }
+        return index == data.length ? data : Arrays.copyOf(data, index);
     }
 
     @Override
@@ -758,26 +827,6 @@ public class SemanticTokensVisitor extends NodeVisitor {
             this.modifiers = modifiers;
         }
 
-        public SemanticToken processSemanticToken(List<Integer> data, SemanticToken previousToken) {
-            int line = this.getLine();
-            int column = this.getColumn();
-            int prevTokenLine = line;
-            int prevTokenColumn = column;
-
-            if (previousToken != null) {
-                if (line == previousToken.getLine()) {
-                    column -= previousToken.getColumn();
-                }
-                line -= previousToken.getLine();
-            }
-            data.add(line);
-            data.add(column);
-            data.add(this.getLength());
-            data.add(this.getType());
-            data.add(this.getModifiers());
-            return new SemanticToken(prevTokenLine, prevTokenColumn);
-        }
-
         @Override
         public boolean equals(Object obj) {
             if (this == obj) {
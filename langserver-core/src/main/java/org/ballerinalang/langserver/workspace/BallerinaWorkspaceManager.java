@@ -36,6 +36,7 @@ import io.ballerina.projects.JarResolver;
 import io.ballerina.projects.JvmTarget;
 import io.ballerina.projects.Module;
 import io.ballerina.projects.ModuleCompilation;
+import io.ballerina.projects.ModuleId;
 import io.ballerina.projects.Package;
 import io.ballerina.projects.PackageCompilation;
 import io.ballerina.projects.Project;
@@ -46,6 +47,8 @@ import io.ballerina.projects.util.ProjectConstants;
 import io.ballerina.projects.util.ProjectPaths;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.ballerina.tools.diagnostics.DiagnosticSeverity;
+import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextDocuments;
 import org.ballerinalang.langserver.LSClientLogger;
 import org.ballerinalang.langserver.LSContextOperation;
 import org.ballerinalang.langserver.common.utils.CommonUtil;
@@ -53,6 +56,7 @@ import org.ballerinalang.langserver.common.utils.PathUtil;
 import org.ballerinalang.langserver.commons.BallerinaCompilerApi;
 import org.ballerinalang.langserver.commons.DocumentServiceContext;
 import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.WorkspaceServiceContext;
 import org.ballerinalang.langserver.commons.client.ExtendedLanguageClient;
 import org.ballerinalang.langserver.commons.eventsync.EventKind;
 import org.ballerinalang.langserver.commons.eventsync.exceptions.EventSyncException;
@@ -63,6 +67,7 @@ import org.ballerinalang.langserver.commons.workspace.WorkspaceDocumentManager;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
 import org.ballerinalang.langserver.config.LSClientConfigHolder;
 import org.ballerinalang.langserver.contexts.ContextBuilder;
+import org.ballerinalang.langserver.diagnostic.DiagnosticsHelper;
 import org.ballerinalang.langserver.eventsync.EventSyncPubSubHolder;
 import org.ballerinalang.langserver.exception.UserErrorException;
 import org.ballerinalang.util.diagnostic.DiagnosticErrorCode;
@@ -73,6 +78,7 @@ import org.eclipse.lsp4j.DidOpenTextDocumentParams;
 import org.eclipse.lsp4j.FileChangeType;
 import org.eclipse.lsp4j.FileEvent;
 import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
 import org.eclipse.lsp4j.TextDocumentIdentifier;
 import org.eclipse.lsp4j.WorkspaceFolder;
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
@@ -84,7 +90,6 @@ import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -100,7 +105,10 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -122,6 +130,11 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
     private static final String HEAP_DUMP_PATH_FLAG = "-XX:HeapDumpPath=";
     private static final String DEBUG_ARGS = "-agentlib:jdwp=transport=dt_socket,server=y,suspend=y,address=*:";
 
+    private static final String TOML_FILE_EXTENSION = ".toml";
+    private static final List<String> COMPILER_CRASH_CODES = List.of(
+            DiagnosticErrorCode.BAD_SAD_FROM_COMPILER.diagnosticId(),
+            DiagnosticErrorCode.CYCLIC_MODULE_IMPORTS_DETECTED.diagnosticId());
+
     /**
      * Cache mapping of document path to source root.
      */
@@ -144,6 +157,11 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
     protected final LSClientLogger clientLogger;
     private final LanguageServerContext serverContext;
     private final Set<Path> openedDocuments = new HashSet<>();
+    /**
+     * Latest content of the opened TOML documents, which is required to apply incremental changes.
+     */
+    private final Map<Path, TextDocument> openedTomlDocuments = new ConcurrentHashMap<>();
+    private final CompilationCrashRecovery compilationCrashRecovery = new CompilationCrashRecovery();
 
     public BallerinaWorkspaceManager(LanguageServerContext serverContext) {
         this.serverContext = serverContext;
@@ -343,10 +361,13 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
         Optional<Module> module = this.module(filePath);
         Optional<PackageCompilation> packageCompilation = waitAndGetPackageCompilation(filePath);
         Optional<ProjectContext> projectPair = projectContext(projectRoot(filePath));
-        if (module.isEmpty() || packageCompilation.isEmpty() || projectPair.isEmpty()
-                || projectPair.get().compilationCrashed()) {
+        if (module.isEmpty() || projectPair.isEmpty()) {
             return Optional.empty();
         }
+        if (packageCompilation.isEmpty() || projectPair.get().compilationCrashed()) {
+            // Serve the read-only features from the last successful compilation until the project is recovered
+            return projectPair.get().lastGoodSemanticModel(module.get().moduleId());
+        }
         return Optional.of(packageCompilation.get().getSemanticModel(module.get().moduleId()));
     }
 
@@ -355,10 +376,13 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
         Optional<Module> module = this.module(filePath);
         Optional<PackageCompilation> packageCompilation = waitAndGetPackageCompilation(filePath, cancelChecker);
         Optional<ProjectContext> projectPair = projectContext(projectRoot(filePath));
-        if (module.isEmpty() || packageCompilation.isEmpty() || projectPair.isEmpty()
-                || projectPair.get().compilationCrashed()) {
+        if (module.isEmpty() || projectPair.isEmpty()) {
             return Optional.empty();
         }
+        if (packageCompilation.isEmpty() || projectPair.get().compilationCrashed()) {
+            // Serve the read-only features from the last successful compilation until the project is recovered
+            return projectPair.get().lastGoodSemanticModel(module.get().moduleId());
+        }
         return Optional.of(packageCompilation.get().getSemanticModel(module.get().moduleId()));
     }
 
@@ -372,32 +396,168 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
     public Optional<PackageCompilation> waitAndGetPackageCompilation(Path filePath, boolean isSourceChange) {
         // Get Project and Lock
         Optional<ProjectContext> projectPair = projectContext(projectRoot(filePath));
-        if (projectPair.isEmpty() || (projectPair.get().compilationCrashed() && !isSourceChange)) {
+        // A crashed package is not recompiled on each request, but a modified package may no longer crash
+        if (projectPair.isEmpty() || (projectPair.get().compilationCrashed() && !isSourceChange
+                && !projectPair.get().modifiedSinceCrash())) {
             return Optional.empty();
         }
 
+        // Pin the compilation of the current package if it is already available. The read lock only waits for the
+        // in-progress modifications, and the returned compilation is immutable, hence readers run in parallel.
+        Lock readLock = projectPair.get().readLockAndGet();
+        try {
+            Optional<PackageCompilation> snapshot = projectPair.get().compilationSnapshot();
+            if (snapshot.isPresent()) {
+                return snapshot;
+            }
+        } finally {
+            readLock.unlock();
+        }
+
         // Lock Project Instance
         Lock lock = projectPair.get().lockAndGet();
         try {
-            PackageCompilation compilation = projectPair.get().project().currentPackage().getCompilation();
-            if (projectPair.get().compilationCrashed()) {
-                projectPair.get().setCompilationCrashed(false);
-            }
-            if (compilation.diagnosticResult().diagnostics().stream()
-                    .anyMatch(diagnostic ->
-                            Arrays.asList(DiagnosticErrorCode.BAD_SAD_FROM_COMPILER.diagnosticId(),
-                                            DiagnosticErrorCode.CYCLIC_MODULE_IMPORTS_DETECTED.diagnosticId())
-                                    .contains(diagnostic.diagnosticInfo().code()))) {
-                projectPair.get().setCompilationCrashed(true);
-                projectPair.get().project().clearCaches();
+            // Another thread may have compiled the package while waiting for the lock
+            Optional<PackageCompilation> snapshot = projectPair.get().compilationSnapshot();
+            if (snapshot.isPresent()) {
+                return snapshot;
             }
-            return Optional.of(compilation);
+            return Optional.of(compile(projectPair.get(), false));
         } finally {
             // Unlock Project Instance
             lock.unlock();
         }
     }
 
+    /**
+     * Compiles the current package of the project. If the compilation crashes, the project is marked as crashed and
+     * the compilation is retried in the background, instead of clearing the caches of the project while holding the
+     * lock. Project write lock should be acquired before calling.
+     *
+     * @param projectContext project to be compiled
+     * @param retry          whether the compilation is a retry of a crashed compilation, which is already being
+     *                       recovered
+     * @return {@link PackageCompilation} of the current package
+     */
+    private PackageCompilation compile(ProjectContext projectContext, boolean retry) {
+        Package currentPackage = projectContext.project().currentPackage();
+        PackageCompilation compilation = currentPackage.getCompilation();
+        Set<ModuleId> crashedModules = crashedModules(currentPackage, compilation);
+        if (crashedModules.isEmpty()) {
+            projectContext.setCompilationCrashed(false);
+            projectContext.setCompilationSnapshot(currentPackage, compilation);
+            return compilation;
+        }
+
+        projectContext.setCompilationCrashed(true);
+        projectContext.setCrashedCompilation(currentPackage, crashedModules);
+        if (!retry) {
+            Path projectRoot = projectContext.project().sourceRoot();
+            compilationCrashRecovery.compilationCrashed(projectRoot,
+                    (attempt, lastAttempt) -> retryCompilation(projectRoot, lastAttempt));
+        }
+        return compilation;
+    }
+
+    /**
+     * Retries the compilation of a crashed project. Only the modules reported by the crash are invalidated, unless
+     * this is the last attempt, in which case the caches of the project are cleared.
+     *
+     * @param projectRoot root of the project
+     * @param lastAttempt whether this is the last attempt to recover the project
+     * @return true if the project is no longer in a crashed state
+     */
+    private boolean retryCompilation(Path projectRoot, boolean lastAttempt) {
+        Optional<ProjectContext> projectContext = projectContext(projectRoot);
+        if (projectContext.isEmpty()) {
+            return true;
+        }
+        Lock lock = projectContext.get().lockAndGet();
+        try {
+            if (!projectContext.get().compilationCrashed()) {
+                // Recovered by a compilation of a modified package
+                return true;
+            }
+            Project project = projectContext.get().project();
+            if (lastAttempt) {
+                project.clearCaches();
+                compilationCrashRecovery.fullCacheCleared();
+            } else {
+                for (ModuleId moduleId : projectContext.get().crashedModules()) {
+                    if (!project.currentPackage().moduleIds().contains(moduleId)) {
+                        continue;
+                    }
+                    // Modifying a document discards the compilation state of its module and the dependent modules
+                    Module module = project.currentPackage().module(moduleId);
+                    module.documentIds().stream().findFirst()
+                            .or(() -> module.testDocumentIds().stream().findFirst())
+                            .ifPresent(documentId -> module.document(documentId).modify().apply());
+                }
+            }
+            projectContext.get().invalidateCompilationSnapshot();
+            compile(projectContext.get(), true);
+        } finally {
+            lock.unlock();
+        }
+        if (projectContext.get().compilationCrashed()) {
+            return false;
+        }
+        publishDiagnostics(projectRoot);
+        return true;
+    }
+
+    /**
+     * Returns the modules reported by the compiler crash diagnostics of the compilation. If a crash cannot be
+     * attributed to a module, all the modules of the package are returned.
+     *
+     * @param pkg         compiled package
+     * @param compilation compilation of the package
+     * @return {@link ModuleId}s of the crashed modules, or an empty set if the compilation has not crashed
+     */
+    private static Set<ModuleId> crashedModules(Package pkg, PackageCompilation compilation) {
+        Set<ModuleId> crashedModules = new HashSet<>();
+        boolean crashed = false;
+        for (Diagnostic diagnostic : compilation.diagnosticResult().diagnostics()) {
+            if (!COMPILER_CRASH_CODES.contains(diagnostic.diagnosticInfo().code())) {
+                continue;
+            }
+            crashed = true;
+            if (diagnostic.location() == null) {
+                continue;
+            }
+            String fileName = diagnostic.location().lineRange().fileName();
+            for (Module module : pkg.modules()) {
+                boolean hasDocument = Stream.concat(module.documentIds().stream(), module.testDocumentIds().stream())
+                        .anyMatch(documentId -> module.document(documentId).name().equals(fileName));
+                if (hasDocument) {
+                    crashedModules.add(module.moduleId());
+                }
+            }
+        }
+        if (crashed && crashedModules.isEmpty()) {
+            crashedModules.addAll(pkg.moduleIds());
+        }
+        return crashedModules;
+    }
+
+    private void publishDiagnostics(Path projectRoot) {
+        ExtendedLanguageClient client = this.serverContext.get(ExtendedLanguageClient.class);
+        if (client == null) {
+            return;
+        }
+        WorkspaceServiceContext context = ContextBuilder.buildDidChangeWatchedFilesContext(this, this.serverContext);
+        DiagnosticsHelper.getInstance(this.serverContext).schedulePublishDiagnostics(client, context, projectRoot);
+    }
+
+    /**
+     * Returns the metrics of the compilation crash recoveries.
+     *
+     * @return {@link CompilationCrashRecovery.Metrics}
+     */
+    public CompilationCrashRecovery.Metrics compilationRecoveryMetrics() {
+        return compilationCrashRecovery.metrics();
+    }
+
     /**
      * Returns module compilation from the file path provided.
      *
@@ -430,6 +590,11 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
         ProjectContext projectContext = createOrGetProjectPair(filePath,
                 LSContextOperation.TXT_DID_OPEN.getName(), true);
         Project project = projectContext.project();
+        if (isTomlFile(filePath)) {
+            // TOML documents are not tracked as project documents, hence keep the opened content to apply the
+            // incremental changes on
+            this.openedTomlDocuments.put(filePath, TextDocuments.from(params.getTextDocument().getText()));
+        }
         if (filePath.equals(project.sourceRoot().resolve(ProjectConstants.BALLERINA_TOML))) {
             // Check if this is a workspace or package Ballerina.toml
             if (isWorkspaceToml(filePath)) {
@@ -469,31 +634,46 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
                 LSContextOperation.TXT_DID_CHANGE.getName(), true);
 
         Project project = projectContext.project();
+        List<TextDocumentContentChangeEvent> changes = params.getContentChanges();
         if (filePath.equals(project.sourceRoot().resolve(ProjectConstants.BALLERINA_TOML))) {
             // Check if this is a workspace or package Ballerina.toml
             if (isWorkspaceToml(filePath)) {
-                updateWorkspaceToml(params.getContentChanges().get(0).getText(), projectContext, false);
+                updateWorkspaceToml(applyTomlContentChanges(filePath, changes), projectContext, false);
             } else {
-                updateBallerinaToml(params.getContentChanges().get(0).getText(), projectContext, false);
+                updateBallerinaToml(applyTomlContentChanges(filePath, changes), projectContext, false);
             }
         } else if (filePath.equals(project.sourceRoot().resolve(ProjectConstants.DEPENDENCIES_TOML))) {
             // create or update Dependencies.toml
-            updateDependenciesToml(params.getContentChanges().get(0).getText(), projectContext, false);
+            updateDependenciesToml(applyTomlContentChanges(filePath, changes), projectContext, false);
         } else if (filePath.equals(project.sourceRoot().resolve(ProjectConstants.CLOUD_TOML))) {
             // create or update Cloud.toml
-            updateCloudToml(params.getContentChanges().get(0).getText(), projectContext, false);
+            updateCloudToml(applyTomlContentChanges(filePath, changes), projectContext, false);
         } else if (filePath.equals(project.sourceRoot().resolve(ProjectConstants.COMPILER_PLUGIN_TOML))) {
             // create or update Compiler-plugin.toml
-            updateCompilerPluginToml(params.getContentChanges().get(0).getText(), projectContext, false);
+            updateCompilerPluginToml(applyTomlContentChanges(filePath, changes), projectContext, false);
         } else if (filePath.equals(project.sourceRoot().resolve(ProjectConstants.BAL_TOOL_TOML))) {
             // create or update BalTool.toml
-            updateBalToolToml(params.getContentChanges().get(0).getText(), projectContext, false);
+            updateBalToolToml(applyTomlContentChanges(filePath, changes), projectContext, false);
         } else if (ProjectPaths.isBalFile(filePath) && project.kind() != ProjectKind.BALA_PROJECT) {
             // Update .bal document
-            updateBalDocument(filePath, params.getContentChanges().get(0).getText(), projectContext);
+            updateBalDocument(filePath, changes, projectContext);
         }
     }
 
+    /**
+     * Returns the latest content of an opened document as seen by the workspace manager.
+     *
+     * @param filePath {@link Path} of the document
+     * @return content of the document, if the document is known to the workspace manager
+     */
+    public Optional<String> documentContent(Path filePath) {
+        TextDocument tomlDocument = this.openedTomlDocuments.get(filePath);
+        if (tomlDocument != null) {
+            return Optional.of(tomlDocument.toString());
+        }
+        return this.document(filePath).map(document -> document.textDocument().toString());
+    }
+
     /**
      * The file change notification is sent from the client to the server to signal changes to watched files.
      *
@@ -831,6 +1011,7 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
         Lock lock = projectPairOpt.get().lockAndGet();
         try {
             projectPairOpt.get().project().clearCaches();
+            projectPairOpt.get().invalidateCompilationSnapshot();
         } finally {
             lock.unlock();
         }
@@ -1430,8 +1611,8 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
         }
     }
 
-    private void updateBalDocument(Path filePath, String content, ProjectContext projectContext)
-            throws WorkspaceDocumentException {
+    private void updateBalDocument(Path filePath, List<TextDocumentContentChangeEvent> changes,
+                                   ProjectContext projectContext) throws WorkspaceDocumentException {
         // Lock Project Instance
         Lock lock = projectContext.lockAndGet();
         try {
@@ -1440,13 +1621,40 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
             if (document.isEmpty()) {
                 throw new WorkspaceDocumentException("Document does not exist in path: " + filePath.toString());
             }
-            document.get().modify().withContent(content).apply();
+            // Apply the range changes on the current text document instead of expecting the full content
+            TextDocument updatedTextDocument =
+                    TextDocumentChangeUtil.applyContentChanges(document.get().textDocument(), changes);
+            document.get().modify().withContent(updatedTextDocument.toString()).apply();
         } finally {
             // Unlock Project Instance
             lock.unlock();
         }
     }
 
+    private String applyTomlContentChanges(Path filePath, List<TextDocumentContentChangeEvent> changes)
+            throws WorkspaceDocumentException {
+        TextDocument textDocument = this.openedTomlDocuments.get(filePath);
+        if (textDocument == null) {
+            if (TextDocumentChangeUtil.startsWithFullContentChange(changes)) {
+                textDocument = TextDocuments.from("");
+            } else {
+                try {
+                    textDocument = TextDocuments.from(Files.readString(filePath));
+                } catch (IOException e) {
+                    throw new WorkspaceDocumentException("Could not read the content of: " + filePath, e);
+                }
+            }
+        }
+        TextDocument updatedTextDocument = TextDocumentChangeUtil.applyContentChanges(textDocument, changes);
+        this.openedTomlDocuments.put(filePath, updatedTextDocument);
+        return updatedTextDocument.toString();
+    }
+
+    private static boolean isTomlFile(Path filePath) {
+        Path fileName = filePath.getFileName();
+        return fileName != null && fileName.toString().endsWith(TOML_FILE_EXTENSION);
+    }
+
     private void createBalDocument(Path filePath, String content, ProjectContext projectContext)
             throws WorkspaceDocumentException {
         // Lock Project Instance
@@ -1485,6 +1693,7 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
     @Override
     public void didClose(Path filePath, DidCloseTextDocumentParams params) {
         this.openedDocuments.remove(filePath);
+        this.openedTomlDocuments.remove(filePath);
         Optional<Project> project = project(filePath);
         if (project.isEmpty()) {
             return;
@@ -1684,46 +1893,138 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
      */
     public static class ProjectContext {
 
-        private final Lock lock;
-        private Project project;
+        private final ReadWriteLock lock;
+        private volatile Project project;
+        private volatile CompilationSnapshot compilationSnapshot;
+        private volatile CompilationSnapshot lastGoodCompilation;
 
-        private boolean compilationCrashed;
+        private volatile boolean compilationCrashed;
+        private volatile Package crashedPackage;
+        private Set<ModuleId> crashedModules;
 
         private Process process;
 
         private boolean projectCrashed;
 
-        private ProjectContext(Project project, Lock lock) {
+        private ProjectContext(Project project, ReadWriteLock lock) {
             this.project = project;
             this.lock = lock;
             this.compilationCrashed = false;
+            this.crashedModules = Collections.emptySet();
         }
 
         public static ProjectContext from(Project project) {
-            return new ProjectContext(project, new ReentrantLock(true));
+            return new ProjectContext(project, new ReentrantReadWriteLock(true));
         }
 
-        public static ProjectContext from(Project project, Lock lock) {
+        public static ProjectContext from(Project project, ReadWriteLock lock) {
             return new ProjectContext(project, lock);
         }
 
         /**
-         * Returns the associated lock for the file.
+         * Creates a project context which uses the given lock for both reading and modifying the project, hence the
+         * readers are serialized as well.
+         *
+         * @param project project of the context
+         * @param lock    lock of the project
+         * @return {@link ProjectContext}
+         * @deprecated use {@link #from(Project, ReadWriteLock)}, which allows the readers to run in parallel
+         */
+        @Deprecated
+        public static ProjectContext from(Project project, Lock lock) {
+            return new ProjectContext(project, new ReadWriteLock() {
+                @Override
+                public Lock readLock() {
+                    return lock;
+                }
+
+                @Override
+                public Lock writeLock() {
+                    return lock;
+                }
+            });
+        }
+
+        /**
+         * Returns the associated write lock for the project. The write lock should be acquired before modifying or
+         * compiling the project.
          *
          * @return {@link Lock}
          */
         public Lock locker() {
-            return this.lock;
+            return this.lock.writeLock();
         }
 
         /**
-         * Returns the associated lock for the file.
+         * Acquires and returns the associated write lock for the project.
          *
          * @return {@link Lock}
          */
         public Lock lockAndGet() {
-            this.lock.lock();
-            return this.lock;
+            Lock writeLock = this.lock.writeLock();
+            writeLock.lock();
+            return writeLock;
+        }
+
+        /**
+         * Acquires and returns the associated read lock for the project. Multiple readers can hold the read lock
+         * at the same time, while it blocks until the in-progress modifications are applied.
+         *
+         * @return {@link Lock}
+         */
+        public Lock readLockAndGet() {
+            Lock readLock = this.lock.readLock();
+            readLock.lock();
+            return readLock;
+        }
+
+        /**
+         * Returns the compilation of the current package, if the package has already been compiled. Since both the
+         * package and its compilation are immutable, the returned compilation can be used without holding the lock.
+         *
+         * @return {@link PackageCompilation} of the current package
+         */
+        public Optional<PackageCompilation> compilationSnapshot() {
+            CompilationSnapshot snapshot = this.compilationSnapshot;
+            if (snapshot == null || snapshot.pkg() != this.project.currentPackage()) {
+                return Optional.empty();
+            }
+            return Optional.of(snapshot.compilation());
+        }
+
+        /**
+         * Set the compilation of the given package. Project write lock should be acquired before calling.
+         *
+         * @param pkg         compiled package
+         * @param compilation compilation of the package
+         */
+        public void setCompilationSnapshot(Package pkg, PackageCompilation compilation) {
+            this.compilationSnapshot = new CompilationSnapshot(pkg, compilation);
+            this.lastGoodCompilation = this.compilationSnapshot;
+        }
+
+        /**
+         * Returns the semantic model of the given module from the last compilation which has not crashed. The
+         * semantic model may not reflect the latest changes of the module, hence it is only used for the read-only
+         * features while the project is in a crashed state.
+         *
+         * @param moduleId module of the semantic model
+         * @return {@link SemanticModel} of the module, if the module was in the last successful compilation
+         */
+        public Optional<SemanticModel> lastGoodSemanticModel(ModuleId moduleId) {
+            CompilationSnapshot snapshot = this.lastGoodCompilation;
+            if (snapshot == null || !snapshot.pkg().moduleIds().contains(moduleId)) {
+                return Optional.empty();
+            }
+            return Optional.of(snapshot.compilation().getSemanticModel(moduleId));
+        }
+
+        /**
+         * Discard the compilation snapshot, so that the next request compiles the current package. Project write lock
+         * should be acquired before calling.
+         */
+        public void invalidateCompilationSnapshot() {
+            this.compilationSnapshot = null;
         }
 
         /**
@@ -1760,6 +2061,42 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
          */
         public void setCompilationCrashed(boolean compilationCrashed) {
             this.compilationCrashed = compilationCrashed;
+            if (!compilationCrashed) {
+                this.crashedPackage = null;
+                this.crashedModules = Collections.emptySet();
+            }
+        }
+
+        /**
+         * Check if the project has been modified since its compilation crashed.
+         *
+         * @return whether the current package differs from the crashed package
+         */
+        public boolean modifiedSinceCrash() {
+            Package pkg = this.crashedPackage;
+            return pkg != null && pkg != this.project.currentPackage();
+        }
+
+        /**
+         * Returns the modules reported by the last crashed compilation. Project lock should be acquired before
+         * calling.
+         *
+         * @return {@link ModuleId}s of the crashed modules
+         */
+        public Set<ModuleId> crashedModules() {
+            return this.crashedModules;
+        }
+
+        /**
+         * Set the package of the last crashed compilation and the modules reported by the crash. Project lock should
+         * be acquired before calling.
+         *
+         * @param pkg            crashed package
+         * @param crashedModules {@link ModuleId}s of the crashed modules
+         */
+        public void setCrashedCompilation(Package pkg, Set<ModuleId> crashedModules) {
+            this.crashedPackage = pkg;
+            this.crashedModules = Collections.unmodifiableSet(crashedModules);
         }
 
         /**
@@ -1799,6 +2136,9 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
         public void removeProcess() {
             this.process = null;
         }
+
+        private record CompilationSnapshot(Package pkg, PackageCompilation compilation) {
+        }
     }
 
     /**
@@ -27,16 +27,26 @@ import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
 import org.eclipse.lsp4j.DidChangeTextDocumentParams;
 import org.eclipse.lsp4j.DidCloseTextDocumentParams;
 import org.eclipse.lsp4j.DidOpenTextDocumentParams;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.eclipse.lsp4j.VersionedTextDocumentIdentifier;
 
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Ballerina workspace manager proxy implementation.
  * This proxy maintains two workspace managers, one for the expr file scheme based documents and the default manager
  * for the file scheme based documents.
+ * <p>
+ * The changes of the file scheme based documents are not forwarded to the cloned workspace as they arrive. Instead,
+ * the changed documents are tracked and synced with their latest content only when the cloned workspace is accessed,
+ * so that the cloned projects are not updated on every keystroke while the expression editor is idle.
+ * </p>
  *
  * @since 1.0.0
  */
@@ -45,10 +55,14 @@ public class BallerinaWorkspaceManagerProxyImpl implements BallerinaWorkspaceMan
     private final ClonedWorkspace clonedWorkspaceManager;
     private final AIWorkspace aiWorkspaceManager;
 
+    // Documents changed in the base workspace since they were last synced to the cloned workspace
+    private final Map<Path, VersionedTextDocumentIdentifier> unsyncedDocuments;
+
     public BallerinaWorkspaceManagerProxyImpl(LanguageServerContext serverContext) {
         this.baseWorkspaceManager = new BallerinaWorkspaceManager(serverContext);
         this.clonedWorkspaceManager = new ClonedWorkspace(serverContext);
         this.aiWorkspaceManager = new AIWorkspace(serverContext);
+        this.unsyncedDocuments = new ConcurrentHashMap<>();
     }
     
     @Override
@@ -65,6 +79,7 @@ public class BallerinaWorkspaceManagerProxyImpl implements BallerinaWorkspaceMan
         if (scheme.equals(CommonUtil.AI_SCHEME)) {
             return this.aiWorkspaceManager;
         } else if (scheme.equals(CommonUtil.EXPR_SCHEME)) {
+            syncClonedWorkspace();
             return this.clonedWorkspaceManager;
         }
         return this.baseWorkspaceManager;
@@ -79,7 +94,12 @@ public class BallerinaWorkspaceManagerProxyImpl implements BallerinaWorkspaceMan
         }
         if (this.isExprScheme(uri)) {
             Optional<Project> project = this.baseWorkspaceManager.project(path.get());
-            project.ifPresent(this.clonedWorkspaceManager::open);
+            project.ifPresent(value -> {
+                // The duplicated project already contains the pending changes of the base workspace
+                Path sourceRoot = value.sourceRoot();
+                this.unsyncedDocuments.keySet().removeIf(documentPath -> documentPath.startsWith(sourceRoot));
+                this.clonedWorkspaceManager.open(value);
+            });
         } else if (this.isAIScheme(uri)) {
             Optional<Project> project = this.baseWorkspaceManager.project(path.get());
             project.ifPresent(this.aiWorkspaceManager::open);
@@ -89,6 +109,7 @@ public class BallerinaWorkspaceManagerProxyImpl implements BallerinaWorkspaceMan
             // Send didOpen if the project is already opened in the cloned workspace
             Optional<Project> project = this.clonedWorkspaceManager.project(path.get());
             if (project.isPresent()) {
+                this.unsyncedDocuments.remove(path.get());
                 this.clonedWorkspaceManager.didOpen(path.get(), params);
             }
         }
@@ -102,16 +123,39 @@ public class BallerinaWorkspaceManagerProxyImpl implements BallerinaWorkspaceMan
             return;
         }
         if (this.isExprScheme(uri)) {
+            syncClonedWorkspace();
             this.clonedWorkspaceManager.didChange(path.get(), params);
         } else if (this.isAIScheme(uri)) {
             this.aiWorkspaceManager.didChange(path.get(), params);
         } else {
             this.baseWorkspaceManager.didChange(path.get(), params);
 
-            // Send didChange if the project is already opened in the cloned workspace
+            // Defer the change until the cloned workspace is accessed, if the project is opened in it
             Optional<Project> project = this.clonedWorkspaceManager.project(path.get());
             if (project.isPresent()) {
-                this.clonedWorkspaceManager.didChange(path.get(), params);
+                this.unsyncedDocuments.put(path.get(), params.getTextDocument());
+            }
+        }
+    }
+
+    /**
+     * Syncs the documents changed in the base workspace to the cloned workspace. The cloned workspace may have
+     * diverged from the base workspace through the expr scheme edits, hence each document is synced with a single
+     * full content change, which also coalesces all the changes received since the last sync.
+     */
+    private void syncClonedWorkspace() {
+        if (this.unsyncedDocuments.isEmpty()) {
+            return;
+        }
+        // Synchronized to prevent an older content from being applied after a newer one
+        synchronized (this.unsyncedDocuments) {
+            for (Path path : this.unsyncedDocuments.keySet()) {
+                VersionedTextDocumentIdentifier identifier = this.unsyncedDocuments.remove(path);
+                if (identifier == null || this.clonedWorkspaceManager.project(path).isEmpty()) {
+                    continue;
+                }
+                ((BallerinaWorkspaceManager) this.baseWorkspaceManager).documentContent(path)
+                        .ifPresent(content -> this.clonedWorkspaceManager.sync(path, identifier, content));
             }
         }
     }
@@ -153,6 +197,23 @@ public class BallerinaWorkspaceManagerProxyImpl implements BallerinaWorkspaceMan
             this.sourceRootToProject.put(project.sourceRoot(), ProjectContext.from(project.duplicate()));
         }
 
+        /**
+         * Replaces the content of the given document with the content of the base workspace.
+         *
+         * @param filePath   path of the document
+         * @param identifier identifier of the latest version of the document
+         * @param content    content of the document in the base workspace
+         */
+        public void sync(Path filePath, VersionedTextDocumentIdentifier identifier, String content) {
+            try {
+                didChange(filePath, new DidChangeTextDocumentParams(identifier,
+                        List.of(new TextDocumentContentChangeEvent(content))));
+            } catch (WorkspaceDocumentException e) {
+                this.clientLogger.logError(LSContextOperation.TXT_DID_CHANGE,
+                        "Failed to sync the document with the base workspace", e, identifier, (Position) null);
+            }
+        }
+
         @Override
         public void didClose(Path filePath, DidCloseTextDocumentParams params) {
             Optional<Project> project = project(filePath);
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ballerinalang.langserver.workspace;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Retries the compilation of the projects whose compilation has crashed, in the background with an exponential
+ * backoff. A crash is usually transient, hence the compilation is retried a bounded number of times instead of
+ * recompiling the project on each request. The retries of all the workspace managers run on a single shared thread,
+ * which is only started once a compilation crashes.
+ *
+ * @since 1.5.0
+ */
+public final class CompilationCrashRecovery {
+
+    private static final long INITIAL_DELAY_MILLIS = 500;
+    private static final long MAX_DELAY_MILLIS = 30_000;
+    private static final int MAX_ATTEMPTS = 5;
+
+    private final long initialDelayMillis;
+    private final long maxDelayMillis;
+    private final int maxAttempts;
+    private final Map<Path, Boolean> pendingRecoveries;
+
+    // Metrics
+    private final AtomicLong crashes;
+    private final AtomicLong retries;
+    private final AtomicLong recoveries;
+    private final AtomicLong abandonedRecoveries;
+    private final AtomicLong fullCacheClears;
+
+    CompilationCrashRecovery() {
+        this(INITIAL_DELAY_MILLIS, MAX_DELAY_MILLIS, MAX_ATTEMPTS);
+    }
+
+    CompilationCrashRecovery(long initialDelayMillis, long maxDelayMillis, int maxAttempts) {
+        this.initialDelayMillis = initialDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+        this.maxAttempts = maxAttempts;
+        this.pendingRecoveries = new ConcurrentHashMap<>();
+        this.crashes = new AtomicLong();
+        this.retries = new AtomicLong();
+        this.recoveries = new AtomicLong();
+        this.abandonedRecoveries = new AtomicLong();
+        this.fullCacheClears = new AtomicLong();
+    }
+
+    /**
+     * Records a crashed compilation of the project, and schedules the recovery of the project unless a recovery is
+     * already in progress. The compilations of the retry task must not be recorded, since they are counted as
+     * retries.
+     *
+     * @param projectRoot root of the project
+     * @param task        task which recompiles the project
+     */
+    void compilationCrashed(Path projectRoot, RetryTask task) {
+        crashes.incrementAndGet();
+        if (pendingRecoveries.putIfAbsent(projectRoot, Boolean.TRUE) == null) {
+            schedule(projectRoot, task, 1, initialDelayMillis);
+        }
+    }
+
+    /**
+     * Records a cache clear of a project, which is the last resort when the crashed modules cannot be recovered.
+     */
+    void fullCacheCleared() {
+        fullCacheClears.incrementAndGet();
+    }
+
+    /**
+     * Returns the metrics of the crash recoveries.
+     *
+     * @return {@link Metrics} of the crash recoveries
+     */
+    public Metrics metrics() {
+        return new Metrics(crashes.get(), retries.get(), recoveries.get(), abandonedRecoveries.get(),
+                fullCacheClears.get());
+    }
+
+    private void schedule(Path projectRoot, RetryTask task, int attempt, long delayMillis) {
+        SchedulerHolder.SCHEDULER.schedule(() -> retry(projectRoot, task, attempt, delayMillis), delayMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    private void retry(Path projectRoot, RetryTask task, int attempt, long delayMillis) {
+        retries.incrementAndGet();
+        boolean recovered;
+        try {
+            recovered = task.retry(attempt, attempt == maxAttempts);
+        } catch (Throwable e) {
+            recovered = false;
+        }
+        if (recovered) {
+            recoveries.incrementAndGet();
+            pendingRecoveries.remove(projectRoot);
+        } else if (attempt < maxAttempts) {
+            schedule(projectRoot, task, attempt + 1, Math.min(delayMillis * 2, maxDelayMillis));
+        } else {
+            abandonedRecoveries.incrementAndGet();
+            pendingRecoveries.remove(projectRoot);
+        }
+    }
+
+    /**
+     * Holds the scheduler of the retries, which is created on the first crash.
+     */
+    private static final class SchedulerHolder {
+
+        private static final ScheduledExecutorService SCHEDULER =
+                Executors.newSingleThreadScheduledExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "compilation-recovery");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Recompiles a crashed project.
+     */
+    @FunctionalInterface
+    interface RetryTask {
+
+        /**
+         * Recompiles the project.
+         *
+         * @param attempt     attempt number, starting from 1
+         * @param lastAttempt whether this is the last attempt before giving up
+         * @return true if the project is no longer in a crashed state
+         */
+        boolean retry(int attempt, boolean lastAttempt);
+    }
+
+    /**
+     * Metrics of the compilation crash recoveries.
+     *
+     * @param crashes             number of crashed compilations, excluding the retried compilations
+     * @param retries             number of compilations retried in the background
+     * @param recoveries          number of crashed projects which were recovered
+     * @param abandonedRecoveries number of crashed projects which could not be recovered within the retry limit
+     * @param fullCacheClears     number of times the caches of a project were cleared to recover it
+     */
+    public record Metrics(long crashes, long retries, long recoveries, long abandonedRecoveries,
+                          long fullCacheClears) {
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ballerinalang.langserver.workspace;
+
+import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextDocumentChange;
+import io.ballerina.tools.text.TextDocuments;
+import io.ballerina.tools.text.TextEdit;
+import io.ballerina.tools.text.TextRange;
+import org.ballerinalang.langserver.common.utils.PositionUtil;
+import org.ballerinalang.langserver.commons.workspace.WorkspaceDocumentException;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+
+import java.util.List;
+
+/**
+ * Applies the content changes of a textDocument/didChange notification on top of an existing text document. Both
+ * full and incremental (range based) changes are supported.
+ *
+ * @since 1.5.0
+ */
+public final class TextDocumentChangeUtil {
+
+    private TextDocumentChangeUtil() {
+    }
+
+    /**
+     * Applies the given content changes to the text document. As per the LSP specification, each change is relative to
+     * the document state produced by the previous change in the list.
+     *
+     * @param textDocument text document to apply the changes on
+     * @param changes      content changes of the notification
+     * @return {@link TextDocument} after applying all the changes
+     * @throws WorkspaceDocumentException when a range does not belong to the document
+     */
+    public static TextDocument applyContentChanges(TextDocument textDocument,
+                                                   List<TextDocumentContentChangeEvent> changes)
+            throws WorkspaceDocumentException {
+        TextDocument updatedDocument = textDocument;
+        for (TextDocumentContentChangeEvent change : changes) {
+            Range range = change.getRange();
+            if (range == null) {
+                updatedDocument = TextDocuments.from(change.getText());
+                continue;
+            }
+            updatedDocument = updatedDocument.apply(TextDocumentChange.from(
+                    new TextEdit[]{TextEdit.from(toTextRange(updatedDocument, range), change.getText())}));
+        }
+        return updatedDocument;
+    }
+
+    /**
+     * Checks whether the given content changes can be resolved without the current content of the document.
+     *
+     * @param changes content changes of the notification
+     * @return true if the first change replaces the whole document
+     */
+    public static boolean startsWithFullContentChange(List<TextDocumentContentChangeEvent> changes) {
+        return !changes.isEmpty() && changes.get(0).getRange() == null;
+    }
+
+    private static TextRange toTextRange(TextDocument textDocument, Range range) throws WorkspaceDocumentException {
+        try {
+            int start = textDocument.textPositionFrom(PositionUtil.getLinePosition(range.getStart()));
+            int end = textDocument.textPositionFrom(PositionUtil.getLinePosition(range.getEnd()));
+            if (end < start) {
+                throw new WorkspaceDocumentException("Invalid range in content change: " + range);
+            }
+            return TextRange.from(start, end - start);
+        } catch (IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new WorkspaceDocumentException("Content change range is out of the document bounds: " + range, e);
+        }
+    }
+}
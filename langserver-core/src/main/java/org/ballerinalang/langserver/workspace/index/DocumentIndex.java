@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ballerinalang.langserver.workspace.index;
+
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The indexed symbols of a document. The index of a document is only valid as long as the content of the document
+ * matches the content hash of the index.
+ *
+ * @param contentHash  hash of the content of the document when it was indexed
+ * @param declarations module level symbols declared in the document
+ * @param references   references in the document to the module level symbols of the project
+ * @since 1.5.0
+ */
+public record DocumentIndex(String contentHash, List<Declaration> declarations, List<Reference> references) {
+
+    /**
+     * Returns the hash used to check whether the index of a document is up-to-date with its content.
+     *
+     * @param content content of the document
+     * @return hash of the content
+     */
+    public static String hash(String content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    /**
+     * Returns the declaration with the given name.
+     *
+     * @param name name of the symbol
+     * @return declaration of the symbol, if declared in the document
+     */
+    public Optional<Declaration> declaration(String name) {
+        return declarations.stream().filter(declaration -> declaration.name().equals(name)).findFirst();
+    }
+
+    /**
+     * Returns the declaration or the reference at the given position, as the target symbol of the position.
+     *
+     * @param document relative path of this document
+     * @param position cursor position
+     * @return the symbol at the position, as a pair of the declaring document and the symbol name
+     */
+    public Optional<Reference> symbolAt(String document, Position position) {
+        for (Declaration declaration : declarations) {
+            if (contains(declaration.nameRange(), position)) {
+                return Optional.of(new Reference(declaration.nameRange(), document, declaration.name()));
+            }
+        }
+        return references.stream().filter(reference -> contains(reference.range(), position)).findFirst();
+    }
+
+    private static boolean contains(Range range, Position position) {
+        return compare(range.getStart(), position) <= 0 && compare(position, range.getEnd()) <= 0;
+    }
+
+    private static int compare(Position pos1, Position pos2) {
+        if (pos1.getLine() != pos2.getLine()) {
+            return Integer.compare(pos1.getLine(), pos2.getLine());
+        }
+        return Integer.compare(pos1.getCharacter(), pos2.getCharacter());
+    }
+
+    /**
+     * A module level symbol declared in the document.
+     *
+     * @param name      name of the symbol
+     * @param kind      kind of the symbol
+     * @param nameRange range of the symbol name
+     */
+    public record Declaration(String name, String kind, Range nameRange) {
+    }
+
+    /**
+     * A reference to a module level symbol of the project. The target is kept by its name instead of its position, so
+     * that the reference stays valid when only the declaring document changes.
+     *
+     * @param range          range of the reference
+     * @param targetDocument relative path of the document which declares the symbol
+     * @param targetName     name of the symbol
+     */
+    public record Reference(Range range, String targetDocument, String targetName) {
+    }
+}
@@ -0,0 +1,302 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ballerinalang.langserver.workspace.index;
+
+import org.ballerinalang.langserver.workspace.index.DocumentIndex.Declaration;
+import org.ballerinalang.langserver.workspace.index.DocumentIndex.Reference;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An immutable index of the documents of a project, persisted in a single file. When loaded from the disk, only the
+ * table of documents is decoded upfront, while the symbols of a document are decoded on the first access. A document
+ * which cannot be decoded marks the whole index as corrupted.
+ *
+ * <pre>
+ * index    := MAGIC VERSION count document*
+ * document := path hash length payload
+ * payload  := count (name kind range)* count (range targetDocument targetName)*
+ * </pre>
+ *
+ * @since 1.5.0
+ */
+public final class WorkspaceIndex {
+
+    private static final int MAGIC = 0x42414C49;
+    private static final int VERSION = 1;
+    // Minimum encoded sizes, used to reject the corrupted lengths before allocating for them
+    private static final int STRING_SIZE = Integer.BYTES;
+    private static final int RANGE_SIZE = 4 * Integer.BYTES;
+    private static final int DOCUMENT_SIZE = 3 * Integer.BYTES;
+    private static final int DECLARATION_SIZE = 2 * STRING_SIZE + RANGE_SIZE;
+    private static final int REFERENCE_SIZE = RANGE_SIZE + 2 * STRING_SIZE;
+    private static final WorkspaceIndex EMPTY = new WorkspaceIndex(Collections.emptyMap(), Collections.emptyMap());
+
+    private final Map<String, String> hashes;
+    private final Map<String, ByteBuffer> payloads;
+    private final Map<String, DocumentIndex> documents;
+    private volatile boolean corrupted;
+
+    private WorkspaceIndex(Map<String, String> hashes, Map<String, ByteBuffer> payloads) {
+        this.hashes = hashes;
+        this.payloads = payloads;
+        this.documents = new ConcurrentHashMap<>();
+    }
+
+    public static WorkspaceIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Creates an index of the given documents.
+     *
+     * @param documents index of each document, keyed by the path of the document relative to the project root
+     * @return {@link WorkspaceIndex} of the documents
+     */
+    public static WorkspaceIndex of(Map<String, DocumentIndex> documents) {
+        Map<String, String> hashes = new HashMap<>();
+        documents.forEach((path, document) -> hashes.put(path, document.contentHash()));
+        WorkspaceIndex index = new WorkspaceIndex(Collections.unmodifiableMap(hashes), Collections.emptyMap());
+        index.documents.putAll(documents);
+        return index;
+    }
+
+    /**
+     * Loads the index file. The file is read in full instead of being memory-mapped, so that it can be replaced by a
+     * newer index while this index is in use.
+     *
+     * @param indexFile index file
+     * @return {@link WorkspaceIndex} of the file
+     * @throws IOException if the file cannot be read or is not a valid index file
+     */
+    public static WorkspaceIndex load(Path indexFile) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(indexFile)).asReadOnlyBuffer();
+        try {
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                throw new IOException("Unsupported index file: " + indexFile);
+            }
+            int count = readCount(buffer, DOCUMENT_SIZE);
+            Map<String, String> hashes = new HashMap<>(count);
+            Map<String, ByteBuffer> payloads = new HashMap<>(count);
+            for (int i = 0; i < count; i++) {
+                String path = readString(buffer);
+                hashes.put(path, readString(buffer));
+                int length = readLength(buffer);
+                payloads.put(path, buffer.slice(buffer.position(), length));
+                buffer.position(buffer.position() + length);
+            }
+            if (buffer.hasRemaining()) {
+                throw new IOException("Corrupted index file: " + indexFile);
+            }
+            return new WorkspaceIndex(Collections.unmodifiableMap(hashes), Collections.unmodifiableMap(payloads));
+        } catch (BufferUnderflowException | IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IOException("Corrupted index file: " + indexFile, e);
+        }
+    }
+
+    /**
+     * Returns the relative paths of the indexed documents.
+     *
+     * @return {@link Set} of relative paths
+     */
+    public Set<String> documents() {
+        return hashes.keySet();
+    }
+
+    /**
+     * Returns the content hash of the indexed document.
+     *
+     * @param path path of the document relative to the project root
+     * @return content hash of the document, if the document is indexed
+     */
+    public Optional<String> contentHash(String path) {
+        return Optional.ofNullable(hashes.get(path));
+    }
+
+    /**
+     * Returns the index of the document.
+     *
+     * @param path path of the document relative to the project root
+     * @return {@link DocumentIndex} of the document, if the document is indexed and can be decoded
+     */
+    public Optional<DocumentIndex> document(String path) {
+        if (!hashes.containsKey(path)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(documents.computeIfAbsent(path, this::decode));
+    }
+
+    /**
+     * Returns whether a document of the index could not be decoded. The answers derived from a corrupted index may be
+     * incomplete, hence the index should be discarded.
+     *
+     * @return true if the index is corrupted, false otherwise
+     */
+    public boolean isCorrupted() {
+        return corrupted;
+    }
+
+    /**
+     * Writes the index to the given file. The index is first written to a temporary file and then moved, so that a
+     * reader never sees a partially written index.
+     *
+     * @param indexFile index file
+     * @throws IOException if the index cannot be written
+     */
+    public void write(Path indexFile) throws IOException {
+        Files.createDirectories(indexFile.getParent());
+        Path tempFile = Files.createTempFile(indexFile.getParent(), indexFile.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeInt(hashes.size());
+                for (Map.Entry<String, String> entry : hashes.entrySet()) {
+                    writeString(out, entry.getKey());
+                    writeString(out, entry.getValue());
+                    byte[] payload = encode(document(entry.getKey()).orElseThrow());
+                    out.writeInt(payload.length);
+                    out.write(payload);
+                }
+            }
+            try {
+                Files.move(tempFile, indexFile, StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, indexFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Decodes the payload of the document.
+     *
+     * @return {@link DocumentIndex} of the document, or null if the payload is corrupted
+     */
+    private DocumentIndex decode(String path) {
+        ByteBuffer payload = payloads.get(path);
+        if (payload == null) {
+            this.corrupted = true;
+            return null;
+        }
+        ByteBuffer buffer = payload.duplicate();
+        try {
+            int declarationCount = readCount(buffer, DECLARATION_SIZE);
+            List<Declaration> declarations = new ArrayList<>(declarationCount);
+            for (int i = 0; i < declarationCount; i++) {
+                declarations.add(new Declaration(readString(buffer), readString(buffer), readRange(buffer)));
+            }
+            int referenceCount = readCount(buffer, REFERENCE_SIZE);
+            List<Reference> references = new ArrayList<>(referenceCount);
+            for (int i = 0; i < referenceCount; i++) {
+                references.add(new Reference(readRange(buffer), readString(buffer), readString(buffer)));
+            }
+            if (buffer.hasRemaining()) {
+                throw new IllegalArgumentException("Unexpected trailing bytes in the index of " + path);
+            }
+            return new DocumentIndex(hashes.get(path), Collections.unmodifiableList(declarations),
+                    Collections.unmodifiableList(references));
+        } catch (BufferUnderflowException | IllegalArgumentException | IndexOutOfBoundsException e) {
+            this.corrupted = true;
+            return null;
+        }
+    }
+
+    private static byte[] encode(DocumentIndex document) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(document.declarations().size());
+            for (Declaration declaration : document.declarations()) {
+                writeString(out, declaration.name());
+                writeString(out, declaration.kind());
+                writeRange(out, declaration.nameRange());
+            }
+            out.writeInt(document.references().size());
+            for (Reference reference : document.references()) {
+                writeRange(out, reference.range());
+                writeString(out, reference.targetDocument());
+                writeString(out, reference.targetName());
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[readLength(buffer)];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a length in bytes, which must fit in the remaining bytes of the buffer.
+     */
+    private static int readLength(ByteBuffer buffer) {
+        return readCount(buffer, 1);
+    }
+
+    /**
+     * Reads a count of elements, each of which takes at least the given number of bytes in the remaining bytes of the
+     * buffer.
+     */
+    private static int readCount(ByteBuffer buffer, int elementSize) {
+        int count = buffer.getInt();
+        if (count < 0 || count > buffer.remaining() / elementSize) {
+            throw new IllegalArgumentException("Invalid length in the index: " + count);
+        }
+        return count;
+    }
+
+    private static void writeRange(DataOutputStream out, Range range) throws IOException {
+        out.writeInt(range.getStart().getLine());
+        out.writeInt(range.getStart().getCharacter());
+        out.writeInt(range.getEnd().getLine());
+        out.writeInt(range.getEnd().getCharacter());
+    }
+
+    private static Range readRange(ByteBuffer buffer) {
+        Position start = new Position(buffer.getInt(), buffer.getInt());
+        return new Range(start, new Position(buffer.getInt(), buffer.getInt()));
+    }
+}
@@ -0,0 +1,426 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ballerinalang.langserver.workspace.index;
+
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.PackageCompilation;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.ProjectException;
+import io.ballerina.projects.ProjectKind;
+import org.ballerinalang.langserver.LSClientLogger;
+import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
+import org.ballerinalang.langserver.workspace.index.DocumentIndex.Declaration;
+import org.ballerinalang.langserver.workspace.index.DocumentIndex.Reference;
+import org.eclipse.lsp4j.Location;
+import org.eclipse.lsp4j.Position;
+import org.wso2.ballerinalang.util.RepoUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * Keeps a persistent index of the declarations and references of each project, so that the navigation requests can
+ * be answered right after a restart, while the project is being compiled in the background. Once a project has been
+ * compiled, the requests are answered by the compilation and the index is updated from it.
+ * <p>
+ * The index of a project is stored in the user cache directory. A request is left to the compilation as soon as the
+ * content of a document involved in the request no longer matches the content hash of its index.
+ *
+ * @since 1.5.0
+ */
+public class WorkspaceIndexManager {
+
+    private static final LanguageServerContext.Key<WorkspaceIndexManager> WORKSPACE_INDEX_MANAGER_KEY =
+            new LanguageServerContext.Key<>();
+    private static final String INDEX_DIR = "ls-index";
+    private static final String INDEX_FILE_EXTENSION = ".idx";
+
+    private final LSClientLogger clientLogger;
+    private final Path indexDir;
+    private final Map<Path, WorkspaceIndex> indexes;
+    private final Map<Path, Set<Path>> openDocuments;
+    private final Set<Path> compiledProjects;
+    private final Set<Path> pendingUpdates;
+    private final ExecutorService indexer;
+
+    private WorkspaceIndexManager(LanguageServerContext serverContext) {
+        this(serverContext, RepoUtils.createAndGetHomeReposPath().resolve(INDEX_DIR));
+    }
+
+    WorkspaceIndexManager(LanguageServerContext serverContext, Path indexDir) {
+        this.clientLogger = LSClientLogger.getInstance(serverContext);
+        this.indexDir = indexDir;
+        this.indexes = new ConcurrentHashMap<>();
+        this.openDocuments = new ConcurrentHashMap<>();
+        this.compiledProjects = ConcurrentHashMap.newKeySet();
+        this.pendingUpdates = ConcurrentHashMap.newKeySet();
+        this.indexer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "workspace-indexer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        serverContext.put(WORKSPACE_INDEX_MANAGER_KEY, this);
+    }
+
+    public static synchronized WorkspaceIndexManager getInstance(LanguageServerContext serverContext) {
+        WorkspaceIndexManager indexManager = serverContext.get(WORKSPACE_INDEX_MANAGER_KEY);
+        if (indexManager == null) {
+            indexManager = new WorkspaceIndexManager(serverContext);
+        }
+        return indexManager;
+    }
+
+    /**
+     * Loads the persisted index of the project of the given document, and schedules the compilation of the project
+     * in the background to update the index.
+     *
+     * @param workspaceManager workspace manager of the document
+     * @param filePath         path of the opened document
+     */
+    public void didOpen(WorkspaceManager workspaceManager, Path filePath) {
+        Optional<Project> project = indexedProject(workspaceManager, filePath);
+        if (project.isEmpty()) {
+            return;
+        }
+        Path projectRoot = project.get().sourceRoot();
+        openDocuments.computeIfAbsent(projectRoot, root -> ConcurrentHashMap.newKeySet()).add(filePath);
+        index(projectRoot);
+        if (!compiledProjects.contains(projectRoot)) {
+            scheduleUpdate(workspaceManager, projectRoot, filePath);
+        }
+    }
+
+    /**
+     * Releases the index of the project of the given document once all the documents of the project are closed. The
+     * persisted index is loaded again when a document of the project is reopened.
+     *
+     * @param workspaceManager workspace manager of the document
+     * @param filePath         path of the closed document
+     */
+    public void didClose(WorkspaceManager workspaceManager, Path filePath) {
+        indexedProject(workspaceManager, filePath).ifPresent(project -> {
+            Path projectRoot = project.sourceRoot();
+            Set<Path> documents = openDocuments.computeIfPresent(projectRoot, (root, paths) -> {
+                paths.remove(filePath);
+                return paths.isEmpty() ? null : paths;
+            });
+            if (documents == null) {
+                compiledProjects.remove(projectRoot);
+                indexes.remove(projectRoot);
+            }
+        });
+    }
+
+    /**
+     * Schedules an update of the index of the project of the given document.
+     *
+     * @param workspaceManager workspace manager of the document
+     * @param filePath         path of the saved document
+     */
+    public void didSave(WorkspaceManager workspaceManager, Path filePath) {
+        indexedProject(workspaceManager, filePath)
+                .ifPresent(project -> scheduleUpdate(workspaceManager, project.sourceRoot(), filePath));
+    }
+
+    /**
+     * Returns the definition of the symbol at the given position from the index, if the project of the document has
+     * not been compiled yet.
+     *
+     * @param workspaceManager workspace manager of the document
+     * @param filePath         path of the document
+     * @param position         cursor position
+     * @return definition of the symbol, or empty if the request should be answered by the compilation
+     */
+    public Optional<List<Location>> definition(WorkspaceManager workspaceManager, Path filePath, Position position) {
+        return resolve(workspaceManager, filePath, context -> {
+            Optional<Reference> symbol = context.symbolAt(position);
+            if (symbol.isEmpty()) {
+                return Optional.empty();
+            }
+            return context.declaration(symbol.get()).map(List::of);
+        });
+    }
+
+    /**
+     * Returns the references of the symbol at the given position from the index, if the project of the document has
+     * not been compiled yet.
+     *
+     * @param workspaceManager   workspace manager of the document
+     * @param filePath           path of the document
+     * @param position           cursor position
+     * @param includeDeclaration true if the declaration of the symbol should be included in the references
+     * @return references of the symbol, or empty if the request should be answered by the compilation
+     */
+    public Optional<List<Location>> references(WorkspaceManager workspaceManager, Path filePath, Position position,
+                                               boolean includeDeclaration) {
+        return resolve(workspaceManager, filePath, context -> {
+            Optional<Reference> symbol = context.symbolAt(position);
+            if (symbol.isEmpty()) {
+                return Optional.empty();
+            }
+            Optional<Location> declaration = context.declaration(symbol.get());
+            if (declaration.isEmpty()) {
+                return Optional.empty();
+            }
+            List<Location> references = new ArrayList<>();
+            if (includeDeclaration) {
+                references.add(declaration.get());
+            }
+            references.addAll(context.references(symbol.get()));
+            return Optional.of(references);
+        });
+    }
+
+    /**
+     * Resolves a request from the index of the project. A corrupted index is discarded, and the request is left to
+     * the compilation, since its answer may be incomplete. The request is also left to the compilation if a document
+     * involved in the request has changed since it was indexed.
+     */
+    private Optional<List<Location>> resolve(WorkspaceManager workspaceManager, Path filePath,
+                                             Function<IndexContext, Optional<List<Location>>> resolver) {
+        Optional<IndexContext> context = indexContext(workspaceManager, filePath);
+        if (context.isEmpty()) {
+            return Optional.empty();
+        }
+        Optional<List<Location>> locations = resolver.apply(context.get());
+        if (context.get().index.isCorrupted()) {
+            discardIndex(context.get().project.sourceRoot(), context.get().index);
+            return Optional.empty();
+        }
+        if (context.get().isStale()) {
+            return Optional.empty();
+        }
+        return locations;
+    }
+
+    private void discardIndex(Path projectRoot, WorkspaceIndex index) {
+        if (!indexes.replace(projectRoot, index, WorkspaceIndex.empty())) {
+            return;
+        }
+        clientLogger.logTrace("Discarded the corrupted index of " + projectRoot);
+        try {
+            Files.deleteIfExists(indexFile(projectRoot));
+        } catch (IOException e) {
+            clientLogger.logTrace("Failed to delete the index of " + projectRoot + ": " + e.getMessage());
+        }
+    }
+
+    private Optional<IndexContext> indexContext(WorkspaceManager workspaceManager, Path filePath) {
+        Optional<Project> project = indexedProject(workspaceManager, filePath);
+        if (project.isEmpty() || compiledProjects.contains(project.get().sourceRoot())) {
+            return Optional.empty();
+        }
+        WorkspaceIndex index = indexes.get(project.get().sourceRoot());
+        if (index == null || index.documents().isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(new IndexContext(project.get(), index, WorkspaceIndexer.documentKey(project.get(),
+                filePath)));
+    }
+
+    private Optional<Project> indexedProject(WorkspaceManager workspaceManager, Path filePath) {
+        return workspaceManager.project(filePath)
+                .filter(project -> project.kind() == ProjectKind.BUILD_PROJECT);
+    }
+
+    private void scheduleUpdate(WorkspaceManager workspaceManager, Path projectRoot, Path filePath) {
+        if (!pendingUpdates.add(projectRoot)) {
+            return;
+        }
+        indexer.execute(() -> {
+            pendingUpdates.remove(projectRoot);
+            try {
+                updateIndex(workspaceManager, projectRoot, filePath);
+            } catch (Throwable e) {
+                clientLogger.logTrace("Failed to update the index of " + projectRoot + ": " + e.getMessage());
+            }
+        });
+    }
+
+    private void updateIndex(WorkspaceManager workspaceManager, Path projectRoot, Path filePath) {
+        Optional<Project> project = workspaceManager.project(filePath);
+        if (project.isEmpty()) {
+            return;
+        }
+        // Waits for the compilation, which is shared with the other requests of the project
+        Optional<PackageCompilation> compilation = workspaceManager.waitAndGetPackageCompilation(filePath);
+        Optional<Project> compiledProject = workspaceManager.project(filePath);
+        if (compilation.isEmpty() || compiledProject.isEmpty()) {
+            return;
+        }
+        if (!openDocuments.containsKey(projectRoot)) {
+            // The project was closed while it was being compiled
+            return;
+        }
+        compiledProjects.add(projectRoot);
+        if (compiledProject.get().currentPackage() != project.get().currentPackage()) {
+            // The package was modified while it was being compiled, hence the compilation may not match the package.
+            // The index is updated on the next save.
+            return;
+        }
+
+        WorkspaceIndex previous = indexes.getOrDefault(projectRoot, WorkspaceIndex.empty());
+        Optional<WorkspaceIndex> index = new WorkspaceIndexer(project.get(), compilation.get()).index(previous);
+        if (index.isEmpty()) {
+            return;
+        }
+        indexes.put(projectRoot, index.get());
+        try {
+            index.get().write(indexFile(projectRoot));
+        } catch (IOException e) {
+            clientLogger.logTrace("Failed to write the index of " + projectRoot + ": " + e.getMessage());
+        }
+    }
+
+    boolean isCompiled(Path projectRoot) {
+        return compiledProjects.contains(projectRoot);
+    }
+
+    /**
+     * Returns the index of the project, which is loaded from the disk on the first access.
+     *
+     * @param projectRoot root of the project
+     * @return {@link WorkspaceIndex} of the project
+     */
+    WorkspaceIndex index(Path projectRoot) {
+        return indexes.computeIfAbsent(projectRoot, this::loadIndex);
+    }
+
+    private WorkspaceIndex loadIndex(Path projectRoot) {
+        Path indexFile = indexFile(projectRoot);
+        if (!Files.exists(indexFile)) {
+            return WorkspaceIndex.empty();
+        }
+        try {
+            return WorkspaceIndex.load(indexFile);
+        } catch (IOException e) {
+            clientLogger.logTrace("Failed to load the index of " + projectRoot + ": " + e.getMessage());
+            return WorkspaceIndex.empty();
+        }
+    }
+
+    Path indexFile(Path projectRoot) {
+        String fileName = DocumentIndex.hash(projectRoot.toAbsolutePath().normalize().toString());
+        return indexDir.resolve(fileName + INDEX_FILE_EXTENSION);
+    }
+
+    /**
+     * Resolves the symbols of a request from the index of a project. Only the index of the documents which have not
+     * changed since they were indexed are used, and the context is marked as stale once a document involved in the
+     * request has changed or has not been indexed.
+     */
+    private static class IndexContext {
+
+        private final Project project;
+        private final WorkspaceIndex index;
+        private final String document;
+        private final Map<String, Optional<DocumentIndex>> validDocuments;
+        private boolean stale;
+
+        IndexContext(Project project, WorkspaceIndex index, String document) {
+            this.project = project;
+            this.index = index;
+            this.document = document;
+            this.validDocuments = new ConcurrentHashMap<>();
+        }
+
+        Optional<Reference> symbolAt(Position position) {
+            return validDocument(document).flatMap(documentIndex -> documentIndex.symbolAt(document, position));
+        }
+
+        Optional<Location> declaration(Reference symbol) {
+            return validDocument(symbol.targetDocument())
+                    .flatMap(documentIndex -> documentIndex.declaration(symbol.targetName()))
+                    .map(Declaration::nameRange)
+                    .map(range -> new Location(uri(symbol.targetDocument()), range));
+        }
+
+        List<Location> references(Reference symbol) {
+            // The references of the documents added after the project was indexed are unknown
+            if (!index.documents().containsAll(projectDocuments())) {
+                stale = true;
+                return List.of();
+            }
+            List<Location> references = new ArrayList<>();
+            for (String indexedDocument : index.documents()) {
+                validDocument(indexedDocument).ifPresent(documentIndex -> documentIndex.references().stream()
+                        .filter(reference -> reference.targetDocument().equals(symbol.targetDocument())
+                                && reference.targetName().equals(symbol.targetName()))
+                        .forEach(reference -> references.add(new Location(uri(indexedDocument),
+                                reference.range()))));
+            }
+            return references;
+        }
+
+        boolean isStale() {
+            return stale;
+        }
+
+        private Optional<DocumentIndex> validDocument(String key) {
+            return validDocuments.computeIfAbsent(key, documentKey -> {
+                Optional<DocumentIndex> documentIndex = index.document(documentKey);
+                boolean valid = documentIndex.isPresent() && content(documentKey)
+                        .map(DocumentIndex::hash)
+                        .filter(documentIndex.get().contentHash()::equals)
+                        .isPresent();
+                if (!valid) {
+                    stale = true;
+                    return Optional.empty();
+                }
+                return documentIndex;
+            });
+        }
+
+        private List<String> projectDocuments() {
+            List<String> documents = new ArrayList<>();
+            for (Module module : project.currentPackage().modules()) {
+                for (DocumentId documentId : module.documentIds()) {
+                    project.documentPath(documentId)
+                            .ifPresent(path -> documents.add(WorkspaceIndexer.documentKey(project, path)));
+                }
+            }
+            return documents;
+        }
+
+        private Optional<String> content(String key) {
+            try {
+                DocumentId documentId = project.documentId(project.sourceRoot().resolve(key));
+                Module module = project.currentPackage().module(documentId.moduleId());
+                Document document = module.document(documentId);
+                return Optional.of(document.textDocument().toString());
+            } catch (ProjectException e) {
+                return Optional.empty();
+            }
+        }
+
+        private String uri(String key) {
+            return project.sourceRoot().resolve(key).toUri().toString();
+        }
+    }
+}
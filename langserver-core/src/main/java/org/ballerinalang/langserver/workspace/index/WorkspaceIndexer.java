@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ballerinalang.langserver.workspace.index;
+
+import io.ballerina.compiler.api.ModuleID;
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.ModuleSymbol;
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.api.symbols.SymbolKind;
+import io.ballerina.compiler.syntax.tree.NodeVisitor;
+import io.ballerina.compiler.syntax.tree.QualifiedNameReferenceNode;
+import io.ballerina.compiler.syntax.tree.SimpleNameReferenceNode;
+import io.ballerina.compiler.syntax.tree.Token;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.PackageCompilation;
+import io.ballerina.projects.Project;
+import io.ballerina.tools.diagnostics.Location;
+import org.ballerinalang.langserver.common.utils.PositionUtil;
+import org.ballerinalang.langserver.workspace.index.DocumentIndex.Declaration;
+import org.ballerinalang.langserver.workspace.index.DocumentIndex.Reference;
+import org.eclipse.lsp4j.Range;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Indexes the documents of a compiled package. Only the documents whose content has changed since the previous index
+ * are analyzed, while the index of the other documents is reused.
+ *
+ * @since 1.5.0
+ */
+final class WorkspaceIndexer {
+
+    private final Project project;
+    private final PackageCompilation compilation;
+    private final Map<String, String> documentKeys;
+    private final Map<String, Map<String, List<Declaration>>> moduleDeclarations;
+
+    WorkspaceIndexer(Project project, PackageCompilation compilation) {
+        this.project = project;
+        this.compilation = compilation;
+        this.documentKeys = new HashMap<>();
+        this.moduleDeclarations = new HashMap<>();
+    }
+
+    /**
+     * Returns the path of the document relative to the project root, which is used as the key of the document in the
+     * index.
+     *
+     * @param project  project of the document
+     * @param filePath path of the document
+     * @return relative path of the document
+     */
+    static String documentKey(Project project, Path filePath) {
+        return project.sourceRoot().relativize(filePath).toString().replace('\\', '/');
+    }
+
+    /**
+     * Indexes the documents of the package.
+     *
+     * @param previous index of the previous compilation
+     * @return index of the package, or empty if no document has changed since the previous index
+     */
+    Optional<WorkspaceIndex> index(WorkspaceIndex previous) {
+        Package currentPackage = project.currentPackage();
+        Map<String, Document> changedDocuments = new HashMap<>();
+        Map<String, Module> documentModules = new HashMap<>();
+        Map<String, DocumentIndex> documents = new HashMap<>();
+        for (Module module : currentPackage.modules()) {
+            for (DocumentId documentId : module.documentIds()) {
+                Optional<Path> documentPath = project.documentPath(documentId);
+                if (documentPath.isEmpty()) {
+                    continue;
+                }
+                Document document = module.document(documentId);
+                String key = documentKey(project, documentPath.get());
+                documentKeys.put(module.moduleName().toString() + "/" + document.name(), key);
+                String contentHash = DocumentIndex.hash(document.textDocument().toString());
+                // A document whose previous index cannot be decoded is indexed again
+                Optional<DocumentIndex> previousDocument = previous.contentHash(key)
+                        .filter(contentHash::equals)
+                        .flatMap(hash -> previous.document(key));
+                if (previousDocument.isPresent()) {
+                    documents.put(key, previousDocument.get());
+                } else {
+                    changedDocuments.put(key, document);
+                    documentModules.put(key, module);
+                    documents.put(key, new DocumentIndex(contentHash, List.of(), List.of()));
+                }
+            }
+        }
+        if (changedDocuments.isEmpty() && documents.keySet().equals(previous.documents())) {
+            return Optional.empty();
+        }
+
+        changedDocuments.forEach((key, document) -> {
+            Module module = documentModules.get(key);
+            SemanticModel semanticModel = compilation.getSemanticModel(module.moduleId());
+            List<Declaration> declarations = declarations(module, semanticModel)
+                    .getOrDefault(document.name(), Collections.emptyList());
+            documents.put(key, new DocumentIndex(documents.get(key).contentHash(), declarations,
+                    references(semanticModel, document)));
+        });
+        return Optional.of(WorkspaceIndex.of(documents));
+    }
+
+    private Map<String, List<Declaration>> declarations(Module module, SemanticModel semanticModel) {
+        return moduleDeclarations.computeIfAbsent(module.moduleName().toString(), moduleName -> {
+            Map<String, List<Declaration>> declarations = new HashMap<>();
+            for (Symbol symbol : semanticModel.moduleSymbols()) {
+                if (symbol.kind() == SymbolKind.MODULE || symbol.getName().isEmpty()
+                        || symbol.getLocation().isEmpty()) {
+                    continue;
+                }
+                Location location = symbol.getLocation().get();
+                Range nameRange = PositionUtil.getRangeFromLineRange(location.lineRange());
+                declarations.computeIfAbsent(location.lineRange().fileName(), fileName -> new ArrayList<>())
+                        .add(new Declaration(symbol.getName().get(), symbol.kind().name(), nameRange));
+            }
+            return declarations;
+        });
+    }
+
+    private List<Reference> references(SemanticModel semanticModel, Document document) {
+        List<Token> names = new ArrayList<>();
+        document.syntaxTree().rootNode().accept(new NodeVisitor() {
+            @Override
+            public void visit(SimpleNameReferenceNode simpleNameReferenceNode) {
+                names.add(simpleNameReferenceNode.name());
+            }
+
+            @Override
+            public void visit(QualifiedNameReferenceNode qualifiedNameReferenceNode) {
+                names.add(qualifiedNameReferenceNode.identifier());
+            }
+        });
+
+        List<Reference> references = new ArrayList<>();
+        for (Token name : names) {
+            if (name.isMissing()) {
+                continue;
+            }
+            semanticModel.symbol(document, name.lineRange().startLine())
+                    .flatMap(this::target)
+                    .ifPresent(target -> references.add(new Reference(
+                            PositionUtil.getRangeFromLineRange(name.lineRange()), target.targetDocument(),
+                            target.targetName())));
+        }
+        return references;
+    }
+
+    /**
+     * Returns the declaration of the symbol, if the symbol is a module level symbol of the current package.
+     */
+    private Optional<Reference> target(Symbol symbol) {
+        Optional<ModuleSymbol> moduleSymbol = symbol.getModule();
+        if (symbol.getName().isEmpty() || symbol.getLocation().isEmpty() || moduleSymbol.isEmpty()) {
+            return Optional.empty();
+        }
+        ModuleID moduleId = moduleSymbol.get().id();
+        Package currentPackage = project.currentPackage();
+        if (!moduleId.orgName().equals(currentPackage.packageOrg().value())
+                || !moduleId.packageName().equals(currentPackage.packageName().value())) {
+            return Optional.empty();
+        }
+        Optional<Module> module = Optional.empty();
+        for (Module pkgModule : currentPackage.modules()) {
+            if (pkgModule.moduleName().toString().equals(moduleId.moduleName())) {
+                module = Optional.of(pkgModule);
+                break;
+            }
+        }
+        if (module.isEmpty()) {
+            return Optional.empty();
+        }
+
+        // Only the module level symbols are indexed
+        Location location = symbol.getLocation().get();
+        String fileName = location.lineRange().fileName();
+        Range nameRange = PositionUtil.getRangeFromLineRange(location.lineRange());
+        String name = symbol.getName().get();
+        SemanticModel semanticModel = compilation.getSemanticModel(module.get().moduleId());
+        boolean isModuleLevel = declarations(module.get(), semanticModel)
+                .getOrDefault(fileName, Collections.emptyList()).stream()
+                .anyMatch(declaration -> declaration.name().equals(name) && declaration.nameRange().equals(nameRange));
+        String targetDocument = documentKeys.get(moduleId.moduleName() + "/" + fileName);
+        if (!isModuleLevel || targetDocument == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new Reference(nameRange, targetDocument, name));
+    }
+}
@@ -131,6 +131,7 @@ public abstract class AbstractLSTest {
                 Mockito.any(), Mockito.any())).thenCallRealMethod();
         Mockito.doNothing().when(this.lsPackageLoader).loadModules(Mockito.any());
         Mockito.when(this.lsPackageLoader.getAllVisiblePackages(Mockito.any())).thenCallRealMethod();
+        Mockito.when(this.lsPackageLoader.getVisibleRepoPackages(Mockito.any())).thenCallRealMethod();
         Mockito.when(this.lsPackageLoader.getPackagesFromBallerinaUserHome(Mockito.any())).thenCallRealMethod();
     }
 
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ballerinalang.langserver.diagnostics;
+
+import org.ballerinalang.langserver.diagnostic.DiagnosticsPublishDebouncer;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Tests the per-project debouncing of the diagnostic compilations.
+ *
+ * @since 1.5.0
+ */
+public class DiagnosticsPublishDebouncerTest {
+
+    private static final Path PROJECT_A = Path.of("projectA");
+    private static final Path PROJECT_B = Path.of("projectB");
+
+    @Test(description = "Test whether a burst of requests for a project is coalesced into a single compilation")
+    public void testCoalesceBurst() {
+        DiagnosticsPublishDebouncer debouncer = new DiagnosticsPublishDebouncer(200, TimeUnit.MILLISECONDS, 2);
+        AtomicInteger compilations = new AtomicInteger();
+        List<Integer> published = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            int edit = i;
+            debouncer.debounce(PROJECT_A, () -> {
+                compilations.incrementAndGet();
+                return () -> published.add(edit);
+            });
+        }
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> published.size() == 1);
+        Assert.assertEquals(compilations.get(), 1);
+        Assert.assertEquals(published, List.of(9));
+
+        DiagnosticsPublishDebouncer.Metrics metrics = debouncer.metrics();
+        Assert.assertEquals(metrics.requestsReceived(), 10);
+        Assert.assertEquals(metrics.compilationsStarted(), 1);
+        Assert.assertEquals(metrics.compilationsSaved(), 9);
+    }
+
+    @Test(description = "Test whether the compilations of different projects run concurrently")
+    public void testConcurrentProjects() throws InterruptedException {
+        DiagnosticsPublishDebouncer debouncer = new DiagnosticsPublishDebouncer(10, TimeUnit.MILLISECONDS, 2);
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        AtomicInteger published = new AtomicInteger();
+        for (Path projectRoot : List.of(PROJECT_A, PROJECT_B)) {
+            debouncer.debounce(projectRoot, () -> {
+                bothStarted.countDown();
+                try {
+                    // Only completes if the other compilation is running at the same time
+                    bothStarted.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return published::incrementAndGet;
+            });
+        }
+
+        Assert.assertTrue(bothStarted.await(5, TimeUnit.SECONDS));
+        await().atMost(5, TimeUnit.SECONDS).until(() -> published.get() == 2);
+    }
+
+    @Test(description = "Test whether the result of a compilation superseded by a newer request is discarded")
+    public void testDiscardStaleCompilation() throws InterruptedException {
+        DiagnosticsPublishDebouncer debouncer = new DiagnosticsPublishDebouncer(10, TimeUnit.MILLISECONDS, 2);
+        CountDownLatch staleStarted = new CountDownLatch(1);
+        CountDownLatch releaseStale = new CountDownLatch(1);
+        List<String> published = new CopyOnWriteArrayList<>();
+        debouncer.debounce(PROJECT_A, () -> {
+            staleStarted.countDown();
+            try {
+                releaseStale.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return () -> published.add("stale");
+        });
+        Assert.assertTrue(staleStarted.await(5, TimeUnit.SECONDS));
+
+        // A newer edit lands while the first compilation is running
+        debouncer.debounce(PROJECT_A, () -> () -> published.add("latest"));
+        await().atMost(5, TimeUnit.SECONDS).until(() -> published.contains("latest"));
+        releaseStale.countDown();
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> debouncer.metrics().staleResultsDiscarded() == 1);
+        Assert.assertEquals(published, List.of("latest"));
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.langserver.diagnostics;
+
+import org.ballerinalang.langserver.LSContextOperation;
+import org.ballerinalang.langserver.commons.DocumentServiceContext;
+import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.client.ExtendedLanguageClient;
+import org.ballerinalang.langserver.contexts.ContextBuilder;
+import org.ballerinalang.langserver.contexts.LanguageServerContextImpl;
+import org.ballerinalang.langserver.diagnostic.DiagnosticsHelper;
+import org.ballerinalang.langserver.workspace.BallerinaWorkspaceManager;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Tests whether the unchanged diagnostics are republished once the published diagnostics of a document are cleared.
+ *
+ * @since 1.5.0
+ */
+public class DiagnosticsRepublishTest {
+
+    private static final String SOURCE = "public function main() {\n    int value = \"value\";\n}\n";
+
+    private LanguageServerContext serverContext;
+    private BallerinaWorkspaceManager workspaceManager;
+    private Path tempDir;
+    private Path filePath;
+
+    @BeforeClass
+    public void setup() throws IOException {
+        serverContext = new LanguageServerContextImpl();
+        workspaceManager = new BallerinaWorkspaceManager(serverContext);
+        tempDir = Files.createTempDirectory("diagnostics-republish");
+        filePath = tempDir.resolve("main.bal");
+        Files.writeString(filePath, SOURCE);
+    }
+
+    @Test(description = "Test whether the diagnostics of a reopened document are published again")
+    public void testRepublishAfterClear() throws Exception {
+        String fileUri = filePath.toUri().toString();
+        workspaceManager.loadProject(filePath);
+        DocumentServiceContext context = ContextBuilder.buildDocumentServiceContext(fileUri, workspaceManager,
+                LSContextOperation.TXT_DID_OPEN, serverContext);
+        DiagnosticsHelper diagnosticsHelper = DiagnosticsHelper.getInstance(serverContext);
+        ExtendedLanguageClient client = Mockito.mock(ExtendedLanguageClient.class);
+
+        diagnosticsHelper.compileAndSendDiagnostics(client, context);
+        ArgumentCaptor<PublishDiagnosticsParams> params = ArgumentCaptor.forClass(PublishDiagnosticsParams.class);
+        Mockito.verify(client).publishDiagnostics(params.capture());
+        Assert.assertEquals(params.getValue().getUri(), fileUri);
+        Assert.assertFalse(params.getValue().getDiagnostics().isEmpty());
+
+        // The unchanged diagnostics are not published again
+        diagnosticsHelper.compileAndSendDiagnostics(client, context);
+        Mockito.verify(client, Mockito.times(1)).publishDiagnostics(Mockito.any());
+
+        // The client discards the diagnostics of a closed document, hence they are published again on reopen
+        diagnosticsHelper.clearPublishedDiagnostics(fileUri);
+        diagnosticsHelper.compileAndSendDiagnostics(client, context);
+        Mockito.verify(client, Mockito.times(2)).publishDiagnostics(params.capture());
+        Assert.assertEquals(params.getValue().getDiagnostics(), params.getAllValues().getFirst().getDiagnostics());
+    }
+
+    @AfterClass
+    public void cleanup() throws IOException {
+        workspaceManager = null;
+        serverContext = null;
+        Files.deleteIfExists(filePath);
+        Files.deleteIfExists(tempDir);
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ballerinalang.langserver.lspackageloader;
+
+import io.ballerina.projects.PackageDescriptor;
+import io.ballerina.projects.PackageName;
+import io.ballerina.projects.PackageOrg;
+import io.ballerina.projects.PackageVersion;
+import io.ballerina.projects.environment.EnvironmentBuilder;
+import io.ballerina.projects.environment.PackageRepository;
+import io.ballerina.projects.internal.environment.BallerinaDistribution;
+import org.ballerinalang.langserver.LSPackageLoader;
+import org.ballerinalang.langserver.contexts.LanguageServerContextImpl;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.PrintStream;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Compares the time taken to resolve the packages of the Ballerina distribution at the startup sequentially and in
+ * parallel. The whole distribution is resolved three times, hence the test is in the benchmark group, which is
+ * excluded from the default suite and run by the benchmark task.
+ *
+ * @since 1.5.0
+ */
+public class LSPackageLoaderBenchmarkTest {
+
+    private static final PrintStream OUT = System.out;
+    private static final List<String> SKIPPED_LANG_LIBS = List.of("lang.annotations", "lang.__internal", "lang.query");
+    private static final int PACKAGE_RESOLVERS = 4;
+
+    @Test(description = "Compare the startup time of resolving the distribution packages sequentially and in parallel",
+            groups = "benchmark")
+    public void testDistributionLoadingTime() {
+        LSPackageLoader lsPackageLoader = LSPackageLoader.getInstance(new LanguageServerContextImpl());
+
+        // Resolve once to warm up the distribution repository, so that both runs start from the same state
+        lsPackageLoader.checkAndResolvePackagesFromRepository(distributionRepository(), Collections.emptyMap(),
+                SKIPPED_LANG_LIBS, Collections.emptySet());
+
+        long start = System.nanoTime();
+        List<LSPackageLoader.ModuleInfo> sequentialPackages = lsPackageLoader.checkAndResolvePackagesFromRepository(
+                distributionRepository(), Collections.emptyMap(), SKIPPED_LANG_LIBS, Collections.emptySet());
+        long sequentialNanos = System.nanoTime() - start;
+
+        ExecutorService executor = Executors.newFixedThreadPool(PACKAGE_RESOLVERS);
+        AtomicInteger lastResolvedCount = new AtomicInteger();
+        Set<PackageDescriptor> reportedPackages = ConcurrentHashMap.newKeySet();
+        List<LSPackageLoader.ModuleInfo> parallelPackages;
+        long parallelNanos;
+        try {
+            start = System.nanoTime();
+            parallelPackages = lsPackageLoader.checkAndResolvePackagesFromRepository(distributionRepository(),
+                    Collections.emptyMap(), SKIPPED_LANG_LIBS, Collections.emptySet(), executor,
+                    (descriptor, resolvedCount, totalCount) -> {
+                        reportedPackages.add(descriptor);
+                        lastResolvedCount.accumulateAndGet(resolvedCount, Math::max);
+                        Assert.assertTrue(resolvedCount <= totalCount);
+                    });
+            parallelNanos = System.nanoTime() - start;
+        } finally {
+            executor.shutdownNow();
+        }
+
+        OUT.printf("Resolved %d distribution packages: sequential = %d ms, parallel (%d threads) = %d ms%n",
+                sequentialPackages.size(), TimeUnit.NANOSECONDS.toMillis(sequentialNanos), PACKAGE_RESOLVERS,
+                TimeUnit.NANOSECONDS.toMillis(parallelNanos));
+        Assert.assertFalse(sequentialPackages.isEmpty());
+        Assert.assertEquals(descriptors(parallelPackages), descriptors(sequentialPackages));
+
+        // The distribution may ship several versions of a package, hence the progress is reported per descriptor
+        Assert.assertEquals(lastResolvedCount.get(), reportedPackages.size());
+        Assert.assertTrue(reportedPackages.containsAll(descriptors(parallelPackages)));
+    }
+
+    private static PackageRepository distributionRepository() {
+        return BallerinaDistribution.from(EnvironmentBuilder.getBuilder().build()).packageRepository();
+    }
+
+    private static List<PackageDescriptor> descriptors(List<LSPackageLoader.ModuleInfo> packages) {
+        return packages.stream()
+                .map(moduleInfo -> PackageDescriptor.from(PackageOrg.from(moduleInfo.packageOrg()),
+                        PackageName.from(moduleInfo.packageName()), PackageVersion.from(moduleInfo.packageVersion())))
+                .toList();
+    }
+}
@@ -37,9 +37,11 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Tests {@link LSPackageLoader}.
@@ -76,6 +78,32 @@ public class LSPackageLoaderTest extends AbstractLSTest {
         //Assert if the package info map is updated with the newly added package.
         int packageCountAfterPullModule = getLoadedPackagesFromLoader(documentServiceContext).size();
         Assert.assertTrue(packageCount < packageCountAfterPullModule);
+
+        //Assert if the visible packages are updated with the newly added package.
+        String pulledPackage = this.remoteRepoPackages.get(this.remoteRepoPackages.size() - 1).packageIdentifier();
+        Assert.assertTrue(getLSPackageLoader().getAllVisiblePackages(documentServiceContext).stream()
+                .anyMatch(moduleInfo -> pulledPackage.equals(moduleInfo.packageIdentifier())));
+    }
+
+    @Test
+    public void testVisibleRepoPackagesWithPrefix() {
+        LSPackageLoader lsPackageLoader = getLSPackageLoader();
+        Set<String> identifiers = new HashSet<>();
+        getDistributionPackages().forEach(moduleInfo -> identifiers.add(moduleInfo.packageIdentifier()));
+        lsPackageLoader.getRemoteRepoModules().forEach(moduleInfo -> identifiers.add(moduleInfo.packageIdentifier()));
+        getLocalPackages().forEach(moduleInfo -> identifiers.add(moduleInfo.packageIdentifier()));
+        Assert.assertEquals(lsPackageLoader.getVisibleRepoPackages("").size(), identifiers.size());
+
+        List<String> expected = identifiers.stream()
+                .filter(identifier -> identifier.startsWith("ballerina/"))
+                .sorted()
+                .toList();
+        List<String> actual = lsPackageLoader.getVisibleRepoPackages("ballerina/").stream()
+                .map(LSPackageLoader.ModuleInfo::packageIdentifier)
+                .toList();
+        Assert.assertFalse(actual.isEmpty());
+        Assert.assertEquals(actual, expected);
+        Assert.assertTrue(lsPackageLoader.getVisibleRepoPackages("nonexistentorg/").isEmpty());
     }
 
     @Override
@@ -87,6 +115,7 @@ public class LSPackageLoaderTest extends AbstractLSTest {
         Mockito.when(lsPackageLoader.getDistributionRepoModules()).thenReturn(getDistributionPackages());
         Mockito.when(lsPackageLoader.getRemoteRepoModules()).thenReturn(this.remoteRepoPackages);
         Mockito.when(lsPackageLoader.getAllVisiblePackages(Mockito.any())).thenCallRealMethod();
+        Mockito.when(lsPackageLoader.getVisibleRepoPackages(Mockito.any())).thenCallRealMethod();
         Mockito.when(lsPackageLoader.getPackagesFromBallerinaUserHome(Mockito.any())).thenCallRealMethod();
         Mockito.doNothing().when(lsPackageLoader).loadModules(Mockito.any());
         Mockito.doAnswer(invocation -> {
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ballerinalang.langserver.performance;
+
+import org.ballerinalang.langserver.common.utils.CommonUtil;
+import org.ballerinalang.langserver.commons.workspace.WorkspaceDocumentException;
+import org.ballerinalang.langserver.contexts.LanguageServerContextImpl;
+import org.ballerinalang.langserver.util.PerformanceTestUtils;
+import org.ballerinalang.langserver.workspace.BallerinaWorkspaceManager;
+import org.eclipse.lsp4j.DidChangeTextDocumentParams;
+import org.eclipse.lsp4j.DidCloseTextDocumentParams;
+import org.eclipse.lsp4j.DidOpenTextDocumentParams;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.eclipse.lsp4j.TextDocumentIdentifier;
+import org.eclipse.lsp4j.TextDocumentItem;
+import org.eclipse.lsp4j.VersionedTextDocumentIdentifier;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Tests the latency of a single keystroke edit with incremental text synchronization against the size of the edited
+ * document.
+ *
+ * @since 1.5.0
+ */
+public class IncrementalDidChangePerformanceTest {
+
+    private static final int WARMUP_EDITS = 20;
+
+    private BallerinaWorkspaceManager workspaceManager;
+    private Path tempDir;
+
+    @BeforeClass
+    public void init() throws IOException {
+        this.workspaceManager = new BallerinaWorkspaceManager(new LanguageServerContextImpl());
+        this.tempDir = Files.createTempDirectory("incremental-did-change");
+    }
+
+    @Test(dataProvider = "document-size-provider")
+    public void testEditLatency(int functionCount) throws IOException, WorkspaceDocumentException {
+        Path filePath = tempDir.resolve("source_" + functionCount + ".bal");
+        String content = generateSource(functionCount);
+        Files.writeString(filePath, content);
+        openDocument(filePath, content);
+        try {
+            // Each function takes three lines, hence edit a line in the middle of the document
+            int line = (functionCount / 2) * 3 + 1;
+            for (int version = 1; version <= WARMUP_EDITS; version++) {
+                didChange(filePath, line, version);
+            }
+
+            long start = System.currentTimeMillis();
+            didChange(filePath, line, WARMUP_EDITS + 1);
+            long end = System.currentTimeMillis();
+            long actualResponseTime = end - start;
+            int expectedResponseTime = PerformanceTestUtils.getDidChangeResponseTimeThreshold();
+            Assert.assertTrue(actualResponseTime < expectedResponseTime,
+                    String.format("Expected response time = %d, received %d.", expectedResponseTime,
+                            actualResponseTime));
+
+            // An odd number of edits leaves a single inserted character in the edited line
+            int offset = nthLineOffset(content, line) + 4;
+            String expectedContent = content.substring(0, offset) + " " + content.substring(offset);
+            Assert.assertEquals(workspaceManager.documentContent(filePath).orElseThrow(), expectedContent);
+        } finally {
+            DidCloseTextDocumentParams closeParams = new DidCloseTextDocumentParams();
+            closeParams.setTextDocument(new TextDocumentIdentifier(filePath.toUri().toString()));
+            workspaceManager.didClose(filePath, closeParams);
+        }
+    }
+
+    private void didChange(Path filePath, int line, int version) throws WorkspaceDocumentException {
+        // Alternate between inserting and removing a character, so that the document size stays constant
+        boolean insert = version % 2 == 1;
+        Range range = insert ? new Range(new Position(line, 4), new Position(line, 4))
+                : new Range(new Position(line, 4), new Position(line, 5));
+        TextDocumentContentChangeEvent change = new TextDocumentContentChangeEvent(range, insert ? " " : "");
+        DidChangeTextDocumentParams params = new DidChangeTextDocumentParams(
+                new VersionedTextDocumentIdentifier(filePath.toUri().toString(), version), List.of(change));
+        workspaceManager.didChange(filePath, params);
+    }
+
+    private void openDocument(Path filePath, String content) throws WorkspaceDocumentException {
+        TextDocumentItem textDocumentItem = new TextDocumentItem();
+        textDocumentItem.setUri(filePath.toUri().toString());
+        textDocumentItem.setText(content);
+        DidOpenTextDocumentParams params = new DidOpenTextDocumentParams();
+        params.setTextDocument(textDocumentItem);
+        workspaceManager.didOpen(filePath, params);
+    }
+
+    private static String generateSource(int functionCount) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < functionCount; i++) {
+            builder.append("function func").append(i).append("() {").append(CommonUtil.LINE_SEPARATOR)
+                    .append("    int value").append(i).append(" = ").append(i).append(";")
+                    .append(CommonUtil.LINE_SEPARATOR)
+                    .append("}").append(CommonUtil.LINE_SEPARATOR);
+        }
+        return builder.toString();
+    }
+
+    private static int nthLineOffset(String text, int line) {
+        int offset = 0;
+        for (int i = 0; i < line; i++) {
+            offset = text.indexOf('\n', offset) + 1;
+        }
+        return offset;
+    }
+
+    @AfterClass
+    public void cleanup() throws IOException {
+        this.workspaceManager = null;
+        try (Stream<Path> paths = Files.walk(tempDir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @DataProvider(name = "document-size-provider")
+    public Object[][] dataProvider() {
+        return new Object[][]{
+                {350},
+                {1700},
+                {3400}
+        };
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ballerinalang.langserver.references;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import org.ballerinalang.langserver.commons.client.ExtendedLanguageClient;
+import org.ballerinalang.langserver.util.FileUtils;
+import org.ballerinalang.langserver.util.TestUtil;
+import org.eclipse.lsp4j.Location;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.ProgressParams;
+import org.eclipse.lsp4j.ReferenceContext;
+import org.eclipse.lsp4j.ReferenceParams;
+import org.eclipse.lsp4j.jsonrpc.Endpoint;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Tests streaming the references of each module as partial results.
+ *
+ * @since 1.5.0
+ */
+public class ReferencesPartialResultTest {
+
+    private static final String PARTIAL_RESULT_TOKEN = "references-partial-result";
+
+    private final Gson gson = new Gson();
+    private ExtendedLanguageClient client;
+    private Endpoint serviceEndpoint;
+    private Path sourcePath;
+
+    @BeforeClass
+    public void init() throws IOException {
+        this.client = Mockito.mock(ExtendedLanguageClient.class);
+        this.serviceEndpoint = TestUtil.newLanguageServer().withClient(client).build();
+        this.sourcePath = FileUtils.RES_DIR.resolve("references").resolve("sources").resolve("projectls")
+                .resolve("defmodsource2.bal");
+        TestUtil.openDocument(serviceEndpoint, sourcePath);
+    }
+
+    @Test(description = "Test whether the partial results add up to the references of the symbol")
+    public void testPartialResults() {
+        Position position = new Position(4, 17);
+        String response = TestUtil.getReferencesResponse(sourcePath.toUri().toString(), position, serviceEndpoint);
+        Set<Location> expected = new HashSet<>();
+        JsonArray result = JsonParser.parseString(response).getAsJsonObject().getAsJsonArray("result");
+        for (JsonElement location : result) {
+            expected.add(gson.fromJson(location, Location.class));
+        }
+        Assert.assertFalse(expected.isEmpty());
+
+        ReferenceParams params = new ReferenceParams(TestUtil.getTextDocumentIdentifier(sourcePath.toUri()),
+                position, new ReferenceContext(true));
+        params.setPartialResultToken(Either.forLeft(PARTIAL_RESULT_TOKEN));
+        CompletableFuture<?> future = serviceEndpoint.request("textDocument/references", params);
+        JsonArray finalResult = JsonParser.parseString(TestUtil.getResponseString(future)).getAsJsonObject()
+                .getAsJsonArray("result");
+        Assert.assertTrue(finalResult.isEmpty(), "Expected the references to be reported as partial results");
+
+        ArgumentCaptor<ProgressParams> captor = ArgumentCaptor.forClass(ProgressParams.class);
+        Mockito.verify(client, Mockito.atLeastOnce()).notifyProgress(captor.capture());
+        Set<Location> actual = new HashSet<>();
+        for (ProgressParams progressParams : captor.getAllValues()) {
+            // Skip the progress notifications of the other operations, such as indexing the packages
+            if (!PARTIAL_RESULT_TOKEN.equals(progressParams.getToken().getLeft())) {
+                continue;
+            }
+            List<?> locations = (List<?>) progressParams.getValue().getRight();
+            locations.forEach(location -> actual.add((Location) location));
+        }
+        Assert.assertEquals(actual, expected);
+    }
+
+    @AfterClass
+    public void cleanUp() {
+        TestUtil.closeDocument(serviceEndpoint, sourcePath);
+        TestUtil.shutdownLanguageServer(serviceEndpoint);
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ballerinalang.langserver.semantictokens;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.ballerinalang.langserver.util.PerformanceTestUtils;
+import org.ballerinalang.langserver.util.TestUtil;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.jsonrpc.Endpoint;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests the delta and range semantic tokens against the full semantic tokens of a 10k-line file, and their response
+ * time.
+ *
+ * @since 1.5.0
+ */
+public class SemanticTokensBenchmarkTest {
+
+    private static final String RESULT = "result";
+    private static final String DATA = "data";
+    private static final String RESULT_ID = "resultId";
+    private static final int FUNCTION_COUNT = 1250;
+    private static final int LINES_PER_FUNCTION = 8;
+    private static final int VIEWPORT_LINES = 60;
+
+    private Endpoint serviceEndpoint;
+    private Path tempDir;
+    private Path sourcePath;
+
+    @BeforeClass
+    public void init() throws IOException {
+        this.serviceEndpoint = TestUtil.initializeLanguageSever();
+        this.tempDir = Files.createTempDirectory("semantic-tokens-benchmark");
+        this.sourcePath = tempDir.resolve("main.bal");
+        Files.writeString(sourcePath, generateSource(-1));
+        TestUtil.openDocument(serviceEndpoint, sourcePath);
+    }
+
+    @Test(description = "Test whether the range semantic tokens match the full semantic tokens of the range")
+    public void testRangeSemanticTokens() {
+        List<int[]> fullTokens = decode(getData(getFullResponse()));
+        int startLine = FUNCTION_COUNT / 2 * LINES_PER_FUNCTION;
+        int endLine = startLine + VIEWPORT_LINES;
+        Range range = new Range(new Position(startLine, 0), new Position(endLine, 0));
+        List<int[]> rangeTokens = decode(getData(getRangeResponse(range)));
+
+        List<int[]> expectedTokens = fullTokens.stream()
+                .filter(token -> token[0] >= startLine && token[0] <= endLine)
+                .toList();
+        Assert.assertFalse(expectedTokens.isEmpty());
+        assertTokens(rangeTokens, expectedTokens);
+    }
+
+    @Test(description = "Test whether the delta semantic tokens transform the previous tokens to the current tokens",
+            dependsOnMethods = "testRangeSemanticTokens")
+    public void testDeltaSemanticTokens() throws IOException {
+        JsonObject previous = getFullResponse();
+        JsonArray previousData = getData(previous);
+
+        // Rename a variable in the middle of the file
+        TestUtil.didChangeDocument(serviceEndpoint, sourcePath, generateSource(FUNCTION_COUNT / 2));
+        JsonObject delta = getDeltaResponse(previous.get(RESULT_ID).getAsString());
+        JsonArray edits = delta.getAsJsonArray("edits");
+        Assert.assertNotNull(edits, "Expected a delta response");
+        Assert.assertEquals(edits.size(), 1);
+
+        JsonObject edit = edits.get(0).getAsJsonObject();
+        int start = edit.get("start").getAsInt();
+        int deleteCount = edit.get("deleteCount").getAsInt();
+        JsonArray applied = new JsonArray();
+        for (int i = 0; i < start; i++) {
+            applied.add(previousData.get(i));
+        }
+        if (edit.has(DATA)) {
+            applied.addAll(edit.getAsJsonArray(DATA));
+        }
+        for (int i = start + deleteCount; i < previousData.size(); i++) {
+            applied.add(previousData.get(i));
+        }
+        Assert.assertEquals(applied, getData(getFullResponse()));
+        Assert.assertTrue(edit.has(DATA) && edit.getAsJsonArray(DATA).size() < previousData.size() / 10,
+                "Expected the delta to be a small fraction of the full semantic tokens");
+    }
+
+    @Test(description = "Test the response time of the delta and range semantic tokens",
+            dependsOnMethods = "testDeltaSemanticTokens")
+    public void testSemanticTokensResponseTime() throws IOException {
+        JsonObject full = getFullResponse();
+        int fullSize = getData(full).size();
+
+        TestUtil.didChangeDocument(serviceEndpoint, sourcePath, generateSource(0));
+        long start = System.currentTimeMillis();
+        JsonObject delta = getDeltaResponse(full.get(RESULT_ID).getAsString());
+        long end = System.currentTimeMillis();
+        assertResponseTime(end - start);
+        int deltaSize = 0;
+        for (JsonElement edit : delta.getAsJsonArray("edits")) {
+            JsonArray data = edit.getAsJsonObject().getAsJsonArray(DATA);
+            deltaSize += data == null ? 0 : data.size();
+        }
+        Assert.assertTrue(deltaSize < fullSize);
+
+        Range range = new Range(new Position(0, 0), new Position(VIEWPORT_LINES, 0));
+        start = System.currentTimeMillis();
+        int rangeSize = getData(getRangeResponse(range)).size();
+        end = System.currentTimeMillis();
+        assertResponseTime(end - start);
+        Assert.assertTrue(rangeSize < fullSize);
+    }
+
+    private static void assertResponseTime(long actualResponseTime) {
+        int expectedResponseTime = PerformanceTestUtils.getSemanticTokensResponseTimeThreshold();
+        Assert.assertTrue(actualResponseTime < expectedResponseTime,
+                String.format("Expected response time = %d, received %d.", expectedResponseTime, actualResponseTime));
+    }
+
+    /**
+     * Generates a source with the given number of functions, where the variable of the given function is renamed.
+     */
+    private static String generateSource(int renamedFunction) {
+        StringBuilder source = new StringBuilder();
+        for (int i = 0; i < FUNCTION_COUNT; i++) {
+            String variable = i == renamedFunction ? "renamedValue" : "value";
+            source.append("function compute").append(i).append("(int a, string b) returns int {\n")
+                    .append("    int ").append(variable).append(" = a + ").append(i).append(";\n")
+                    .append("    string text = b;\n")
+                    .append("    if ").append(variable).append(" > 10 {\n")
+                    .append("        ").append(variable).append(" = ").append(variable).append(" - text.length();\n")
+                    .append("    }\n")
+                    .append("    return ").append(variable).append(";\n")
+                    .append("}\n");
+        }
+        return source.toString();
+    }
+
+    private JsonObject getFullResponse() {
+        String response = TestUtil.getSemanticTokensResponse(serviceEndpoint, sourcePath.toString());
+        return JsonParser.parseString(response).getAsJsonObject().getAsJsonObject(RESULT);
+    }
+
+    private JsonObject getDeltaResponse(String previousResultId) {
+        String response = TestUtil.getSemanticTokensDeltaResponse(serviceEndpoint, sourcePath.toString(),
+                previousResultId);
+        return JsonParser.parseString(response).getAsJsonObject().getAsJsonObject(RESULT);
+    }
+
+    private JsonObject getRangeResponse(Range range) {
+        String response = TestUtil.getSemanticTokensRangeResponse(serviceEndpoint, sourcePath.toString(), range);
+        return JsonParser.parseString(response).getAsJsonObject().getAsJsonObject(RESULT);
+    }
+
+    private static JsonArray getData(JsonObject semanticTokens) {
+        return semanticTokens.getAsJsonArray(DATA);
+    }
+
+    /**
+     * Decodes the relative positions of the semantic tokens to absolute positions.
+     */
+    private static List<int[]> decode(JsonArray data) {
+        List<int[]> tokens = new ArrayList<>();
+        int line = 0;
+        int column = 0;
+        for (int i = 0; i < data.size(); i += 5) {
+            int deltaLine = data.get(i).getAsInt();
+            column = deltaLine == 0 ? column + data.get(i + 1).getAsInt() : data.get(i + 1).getAsInt();
+            line += deltaLine;
+            tokens.add(new int[]{line, column, data.get(i + 2).getAsInt(), data.get(i + 3).getAsInt(),
+                    data.get(i + 4).getAsInt()});
+        }
+        return tokens;
+    }
+
+    private static void assertTokens(List<int[]> actual, List<int[]> expected) {
+        Assert.assertEquals(actual.size(), expected.size());
+        for (int i = 0; i < actual.size(); i++) {
+            Assert.assertEquals(actual.get(i), expected.get(i), "Token mismatch at index " + i);
+        }
+    }
+
+    @AfterClass
+    public void cleanup() throws IOException {
+        TestUtil.closeDocument(serviceEndpoint, sourcePath);
+        TestUtil.shutdownLanguageServer(serviceEndpoint);
+        Files.deleteIfExists(sourcePath);
+        Files.deleteIfExists(tempDir);
+    }
+}
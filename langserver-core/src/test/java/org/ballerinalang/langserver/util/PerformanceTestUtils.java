@@ -54,4 +54,18 @@ public final class PerformanceTestUtils {
     public static int getOpenDocumentResponseTimeThreshold() {
         return Integer.parseInt(System.getProperty(RES_TIME_THRESHOLD_SYSTEM_PROPERTY));
     }
+
+    /**
+     * Get response time threshold for a single textDocument/didChange edit.
+     */
+    public static int getDidChangeResponseTimeThreshold() {
+        return Integer.parseInt(System.getProperty(RES_TIME_THRESHOLD_SYSTEM_PROPERTY)) / 4;
+    }
+
+    /**
+     * Get response time threshold for the delta and range semantic tokens of a large document.
+     */
+    public static int getSemanticTokensResponseTimeThreshold() {
+        return Integer.parseInt(System.getProperty(RES_TIME_THRESHOLD_SYSTEM_PROPERTY)) / 2;
+    }
 }
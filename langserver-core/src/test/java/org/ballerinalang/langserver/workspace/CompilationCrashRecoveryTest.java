@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ballerinalang.langserver.workspace;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Tests retrying the crashed compilations with an exponential backoff.
+ *
+ * @since 1.5.0
+ */
+public class CompilationCrashRecoveryTest {
+
+    private static final Path PROJECT_ROOT = Path.of("project");
+    private static final long TIMEOUT_MILLIS = 5000;
+
+    @Test(description = "Test whether a crashed project is retried until it recovers")
+    public void testRecovery() throws InterruptedException {
+        CompilationCrashRecovery recovery = new CompilationCrashRecovery(10, 40, 5);
+        List<Long> retryTimes = new CopyOnWriteArrayList<>();
+        CountDownLatch recovered = new CountDownLatch(1);
+        recovery.compilationCrashed(PROJECT_ROOT, (attempt, lastAttempt) -> {
+            Assert.assertFalse(lastAttempt);
+            retryTimes.add(System.nanoTime());
+            if (attempt < 3) {
+                return false;
+            }
+            recovered.countDown();
+            return true;
+        });
+
+        Assert.assertTrue(recovered.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        waitFor(recovery, metrics -> metrics.recoveries() == 1);
+        Assert.assertEquals(recovery.metrics(), new CompilationCrashRecovery.Metrics(1, 3, 1, 0, 0));
+
+        // The delay is doubled after each failed attempt
+        Assert.assertTrue(retryTimes.get(2) - retryTimes.get(1) >= TimeUnit.MILLISECONDS.toNanos(20));
+    }
+
+    @Test(description = "Test whether the recovery is abandoned after the last attempt")
+    public void testAbandonedRecovery() throws InterruptedException {
+        CompilationCrashRecovery recovery = new CompilationCrashRecovery(10, 20, 3);
+        List<Boolean> lastAttempts = new CopyOnWriteArrayList<>();
+        recovery.compilationCrashed(PROJECT_ROOT, (attempt, lastAttempt) -> {
+            lastAttempts.add(lastAttempt);
+            return false;
+        });
+
+        waitFor(recovery, metrics -> metrics.abandonedRecoveries() == 1);
+        Assert.assertEquals(lastAttempts, List.of(false, false, true));
+        Assert.assertEquals(recovery.metrics(), new CompilationCrashRecovery.Metrics(1, 3, 0, 1, 0));
+    }
+
+    @Test(description = "Test whether the crashes of a project under recovery do not schedule more retries")
+    public void testCoalescedCrashes() throws InterruptedException {
+        CompilationCrashRecovery recovery = new CompilationCrashRecovery(50, 50, 2);
+        CountDownLatch retried = new CountDownLatch(1);
+        CompilationCrashRecovery.RetryTask task = (attempt, lastAttempt) -> {
+            retried.countDown();
+            return true;
+        };
+        recovery.compilationCrashed(PROJECT_ROOT, task);
+        recovery.compilationCrashed(PROJECT_ROOT, task);
+        recovery.compilationCrashed(PROJECT_ROOT, task);
+
+        Assert.assertTrue(retried.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        waitFor(recovery, metrics -> metrics.recoveries() == 1);
+        Assert.assertEquals(recovery.metrics(), new CompilationCrashRecovery.Metrics(3, 1, 1, 0, 0));
+    }
+
+    private static void waitFor(CompilationCrashRecovery recovery,
+                                Predicate<CompilationCrashRecovery.Metrics> condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.test(recovery.metrics()) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertTrue(condition.test(recovery.metrics()), "Unexpected metrics: " + recovery.metrics());
+    }
+}
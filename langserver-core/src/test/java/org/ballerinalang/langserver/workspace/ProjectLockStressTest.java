@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ballerinalang.langserver.workspace;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.projects.PackageCompilation;
+import io.ballerina.tools.text.LinePosition;
+import org.ballerinalang.langserver.commons.workspace.WorkspaceDocumentException;
+import org.ballerinalang.langserver.contexts.LanguageServerContextImpl;
+import org.eclipse.lsp4j.DidChangeTextDocumentParams;
+import org.eclipse.lsp4j.DidCloseTextDocumentParams;
+import org.eclipse.lsp4j.DidOpenTextDocumentParams;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.eclipse.lsp4j.TextDocumentIdentifier;
+import org.eclipse.lsp4j.TextDocumentItem;
+import org.eclipse.lsp4j.VersionedTextDocumentIdentifier;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Stream;
+
+/**
+ * Stress tests the project locking with concurrent readers and writers.
+ *
+ * @since 1.5.0
+ */
+public class ProjectLockStressTest {
+
+    private static final Path PROJECT_PATH = Path.of("src/test/resources/project/myproject").toAbsolutePath();
+    private static final String EDIT = "// edit" + System.lineSeparator();
+    private static final long DURATION_MILLIS = 3000;
+    private static final long EDIT_INTERVAL_MILLIS = 200;
+
+    private BallerinaWorkspaceManager workspaceManager;
+    private Path tempDir;
+    private Path filePath;
+    private String originalContent;
+
+    @BeforeClass
+    public void init() throws IOException, WorkspaceDocumentException {
+        // The project is edited in a copy, so that the other tests of the fixture do not observe the edits
+        this.tempDir = Files.createTempDirectory("project-lock-stress");
+        Path projectPath = tempDir.resolve(PROJECT_PATH.getFileName());
+        try (Stream<Path> paths = Files.walk(PROJECT_PATH)) {
+            for (Path path : paths.toList()) {
+                Files.copy(path, projectPath.resolve(PROJECT_PATH.relativize(path).toString()));
+            }
+        }
+        this.filePath = projectPath.resolve("main.bal");
+
+        this.workspaceManager = new BallerinaWorkspaceManager(new LanguageServerContextImpl());
+        this.originalContent = Files.readString(filePath);
+        TextDocumentItem textDocumentItem = new TextDocumentItem();
+        textDocumentItem.setUri(filePath.toUri().toString());
+        textDocumentItem.setText(originalContent);
+        DidOpenTextDocumentParams params = new DidOpenTextDocumentParams();
+        params.setTextDocument(textDocumentItem);
+        workspaceManager.didOpen(filePath, params);
+        // Warm up the first compilation
+        Assert.assertTrue(workspaceManager.waitAndGetPackageCompilation(filePath).isPresent());
+    }
+
+    @Test
+    public void testConcurrentReadersAndWriter() throws Exception {
+        int readerCount = Math.max(2, Runtime.getRuntime().availableProcessors());
+        ExecutorService executor = Executors.newFixedThreadPool(readerCount + 1);
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicLongArray completedReads = new AtomicLongArray(readerCount);
+        AtomicInteger failedReads = new AtomicInteger();
+        AtomicInteger edits = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < readerCount; i++) {
+                int reader = i;
+                futures.add(executor.submit(() -> {
+                    while (running.get()) {
+                        Optional<PackageCompilation> compilation =
+                                workspaceManager.waitAndGetPackageCompilation(filePath);
+                        Optional<SemanticModel> semanticModel = workspaceManager.semanticModel(filePath);
+                        if (compilation.isEmpty() || semanticModel.isEmpty()) {
+                            failedReads.incrementAndGet();
+                            continue;
+                        }
+                        semanticModel.get().visibleSymbols(workspaceManager.document(filePath).orElseThrow(),
+                                LinePosition.from(5, 0));
+                        completedReads.incrementAndGet(reader);
+                    }
+                }));
+            }
+            futures.add(executor.submit(() -> {
+                while (running.get()) {
+                    // Toggle a leading comment line, so that each edit requires a recompilation
+                    int version = edits.get() + 1;
+                    TextDocumentContentChangeEvent change = version % 2 == 0
+                            ? new TextDocumentContentChangeEvent(new Range(new Position(0, 0), new Position(1, 0)), "")
+                            : new TextDocumentContentChangeEvent(new Range(new Position(0, 0), new Position(0, 0)),
+                            EDIT);
+                    DidChangeTextDocumentParams params = new DidChangeTextDocumentParams(
+                            new VersionedTextDocumentIdentifier(filePath.toUri().toString(), version),
+                            List.of(change));
+                    workspaceManager.didChange(filePath, params);
+                    edits.incrementAndGet();
+                    Thread.sleep(EDIT_INTERVAL_MILLIS);
+                }
+                return null;
+            }));
+
+            Thread.sleep(DURATION_MILLIS);
+            running.set(false);
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            running.set(false);
+            executor.shutdownNow();
+        }
+
+        Assert.assertEquals(failedReads.get(), 0, "Read requests failed while the project was being edited");
+        Assert.assertTrue(edits.get() > 0, "The writer was blocked by the readers");
+        for (int i = 0; i < readerCount; i++) {
+            Assert.assertTrue(completedReads.get(i) > 0, "Reader " + i + " was blocked by the writer");
+        }
+        // None of the edits is lost, and the last edit is visible to the readers
+        String expectedContent = edits.get() % 2 == 0 ? originalContent : EDIT + originalContent;
+        Assert.assertEquals(workspaceManager.documentContent(filePath).orElseThrow(), expectedContent);
+        Assert.assertTrue(workspaceManager.waitAndGetPackageCompilation(filePath).isPresent());
+    }
+
+    @AfterClass
+    public void cleanup() throws IOException {
+        workspaceManager.didClose(filePath,
+                new DidCloseTextDocumentParams(new TextDocumentIdentifier(filePath.toUri().toString())));
+        this.workspaceManager = null;
+        try (Stream<Path> paths = Files.walk(tempDir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
@@ -51,6 +51,8 @@ import org.eclipse.lsp4j.DidOpenTextDocumentParams;
 import org.eclipse.lsp4j.FileChangeType;
 import org.eclipse.lsp4j.FileEvent;
 import org.eclipse.lsp4j.LogTraceParams;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
 import org.eclipse.lsp4j.TextDocumentIdentifier;
 import org.eclipse.lsp4j.TextDocumentItem;
@@ -178,6 +180,48 @@ public class TestWorkspaceManager {
         Assert.assertEquals(document.get().syntaxTree().textDocument().toString(), dummyDidChangeContent);
     }
 
+    @Test(dataProvider = "fileOpenUpdateTestDataProvider", dependsOnMethods = "testOpenDocument")
+    public void testIncrementalUpdateDocument(Path filePath) throws WorkspaceDocumentException {
+        //Trigger didOpen to create a project instance corresponding to the filePath
+        openFile(filePath);
+
+        // Inputs from lang server, each change is relative to the result of the previous change
+        DidChangeTextDocumentParams params = new DidChangeTextDocumentParams();
+        VersionedTextDocumentIdentifier doc = new VersionedTextDocumentIdentifier(filePath.toUri().toString(), 1);
+        params.setTextDocument(doc);
+        params.getContentChanges().add(new TextDocumentContentChangeEvent(
+                new Range(new Position(0, 12), new Position(0, 12)), "1"));
+        params.getContentChanges().add(new TextDocumentContentChangeEvent(
+                new Range(new Position(0, 9), new Position(0, 12)), "bar"));
+        params.getContentChanges().add(new TextDocumentContentChangeEvent(
+                new Range(new Position(1, 0), new Position(1, 0)), "    int a = 1;" + CommonUtil.LINE_SEPARATOR));
+
+        // Notify workspace manager
+        workspaceManager.didChange(filePath, params);
+
+        Optional<Document> document = workspaceManager.document(filePath);
+        Assert.assertNotNull(document.get());
+        Assert.assertEquals(document.get().syntaxTree().textDocument().toString(),
+                "function bar1() {" + CommonUtil.LINE_SEPARATOR + "    int a = 1;" + CommonUtil.LINE_SEPARATOR + "}");
+    }
+
+    @Test(dataProvider = "fileOpenUpdateTestDataProvider", dependsOnMethods = "testOpenDocument")
+    public void testIncrementalUpdateDocumentWithInvalidRange(Path filePath) throws WorkspaceDocumentException {
+        //Trigger didOpen to create a project instance corresponding to the filePath
+        openFile(filePath);
+
+        DidChangeTextDocumentParams params = new DidChangeTextDocumentParams();
+        VersionedTextDocumentIdentifier doc = new VersionedTextDocumentIdentifier(filePath.toUri().toString(), 1);
+        params.setTextDocument(doc);
+        params.getContentChanges().add(new TextDocumentContentChangeEvent(
+                new Range(new Position(10, 0), new Position(10, 0)), "int a = 1;"));
+
+        Assert.assertThrows(WorkspaceDocumentException.class, () -> workspaceManager.didChange(filePath, params));
+        // The document should remain unchanged
+        Assert.assertEquals(workspaceManager.document(filePath).orElseThrow().syntaxTree().textDocument().toString(),
+                dummyContent);
+    }
+
     @Test
     public void testWSEventsCreateBalSource() throws WorkspaceDocumentException, IOException {
         Path filePath = RESOURCE_DIRECTORY.resolve("myproject").resolve("main.bal").toAbsolutePath();
@@ -1037,6 +1081,39 @@ public class TestWorkspaceManager {
                 "Project should not have any compilation errors. Found: " + diagnostics.size());
     }
 
+    @Test(description = "Test whether the base workspace changes are synced to the expr scheme workspace on access")
+    public void testExprSchemeSyncWithBaseWorkspace() throws WorkspaceDocumentException, IOException {
+        Path filePath = RESOURCE_DIRECTORY.resolve("myproject").resolve("main.bal").toAbsolutePath();
+        String fileUri = filePath.toUri().toString();
+        String exprUri = fileUri.replace("file:///", "expr:///");
+        String content = Files.readString(filePath);
+        BallerinaWorkspaceManagerProxy workspaceManagerProxy =
+                new BallerinaWorkspaceManagerProxyImpl(new LanguageServerContextImpl());
+
+        // Open the document in both the base and the expr scheme workspaces
+        for (String uri : List.of(fileUri, exprUri)) {
+            TextDocumentItem textDocumentItem = new TextDocumentItem();
+            textDocumentItem.setUri(uri);
+            textDocumentItem.setText(content);
+            DidOpenTextDocumentParams openParams = new DidOpenTextDocumentParams();
+            openParams.setTextDocument(textDocumentItem);
+            workspaceManagerProxy.didOpen(openParams);
+        }
+
+        // Send multiple changes to the base workspace
+        for (int version = 1; version <= 3; version++) {
+            String newContent = content + System.lineSeparator() + "// change " + version;
+            workspaceManagerProxy.didChange(new DidChangeTextDocumentParams(
+                    new VersionedTextDocumentIdentifier(fileUri, version),
+                    List.of(new TextDocumentContentChangeEvent(newContent))));
+        }
+
+        Optional<Document> document = workspaceManagerProxy.get(exprUri).document(filePath);
+        Assert.assertTrue(document.isPresent(), "Document should be present in the expr scheme workspace");
+        Assert.assertEquals(document.get().textDocument().toString(),
+                content + System.lineSeparator() + "// change 3");
+    }
+
     private List<WorkspaceFolder> mockWorkspaceFolders() {
         List<WorkspaceFolder> workspaceFolders = new ArrayList<>();
         Path workspaceRoot = RESOURCE_DIRECTORY.resolve("workspace");
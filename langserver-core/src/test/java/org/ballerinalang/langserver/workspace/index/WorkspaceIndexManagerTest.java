@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ballerinalang.langserver.workspace.index;
+
+import io.ballerina.projects.Project;
+import org.ballerinalang.langserver.commons.workspace.WorkspaceDocumentException;
+import org.ballerinalang.langserver.contexts.LanguageServerContextImpl;
+import org.ballerinalang.langserver.workspace.BallerinaWorkspaceManager;
+import org.eclipse.lsp4j.DidChangeTextDocumentParams;
+import org.eclipse.lsp4j.Location;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.eclipse.lsp4j.VersionedTextDocumentIdentifier;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.ballerinalang.langserver.workspace.index.WorkspaceIndexerTest.range;
+
+/**
+ * Tests answering the navigation requests from the persisted index of a project, which has not been compiled by the
+ * index manager yet.
+ *
+ * @since 1.5.0
+ */
+public class WorkspaceIndexManagerTest {
+
+    private static final Path PROJECT_ROOT = Path.of("src/test/resources/workspace/projects/prj_ws_index")
+            .toAbsolutePath();
+    private static final Path MAIN_FILE = PROJECT_ROOT.resolve("main.bal");
+    private static final String MAIN_URI = MAIN_FILE.toUri().toString();
+    private static final Path UTILS_FILE = PROJECT_ROOT.resolve("modules/utils/utils.bal");
+    private static final String UTILS_URI = UTILS_FILE.toUri().toString();
+    // Position of the reference to the add function in the main document
+    private static final Position ADD_REFERENCE = new Position(3, 21);
+    // Position of the declaration of the add function in the utils document
+    private static final Position ADD_DECLARATION = new Position(0, 17);
+    private static final long COMPILATION_TIMEOUT_MILLIS = 60_000;
+
+    private BallerinaWorkspaceManager workspaceManager;
+    private Path indexDir;
+
+    @BeforeClass
+    public void init() throws IOException, WorkspaceDocumentException {
+        this.workspaceManager = new BallerinaWorkspaceManager(new LanguageServerContextImpl());
+        this.indexDir = Files.createTempDirectory("workspace-index-manager");
+        WorkspaceIndexerTest.openDocument(workspaceManager, MAIN_FILE);
+    }
+
+    @Test(description = "Test the definition and the references served from the index")
+    public void testNavigationFromIndex() throws IOException {
+        WorkspaceIndexManager indexManager = createIndexManager(Set.of());
+
+        Location declaration = new Location(UTILS_URI, range(0, 16, 0, 19));
+        Location reference = new Location(MAIN_URI, range(3, 20, 3, 23));
+        Assert.assertEquals(indexManager.definition(workspaceManager, MAIN_FILE, ADD_REFERENCE),
+                Optional.of(List.of(declaration)));
+        Assert.assertEquals(indexManager.references(workspaceManager, MAIN_FILE, ADD_REFERENCE, true),
+                Optional.of(List.of(declaration, reference)));
+        Assert.assertEquals(indexManager.references(workspaceManager, MAIN_FILE, ADD_REFERENCE, false),
+                Optional.of(List.of(reference)));
+
+        // Local symbols are left to the compilation
+        Assert.assertTrue(indexManager.definition(workspaceManager, MAIN_FILE, new Position(3, 9)).isEmpty());
+    }
+
+    @Test(description = "Test whether a corrupted index falls back to the compilation and is discarded",
+            dependsOnMethods = "testNavigationFromIndex")
+    public void testCorruptedIndex() throws IOException {
+        WorkspaceIndexManager indexManager = createIndexManager(Set.of("main.bal"));
+        Path projectRoot = workspaceManager.project(MAIN_FILE).orElseThrow().sourceRoot();
+
+        Assert.assertTrue(indexManager.definition(workspaceManager, MAIN_FILE, ADD_REFERENCE).isEmpty());
+        Assert.assertFalse(Files.exists(indexManager.indexFile(projectRoot)));
+        Assert.assertTrue(indexManager.index(projectRoot).documents().isEmpty());
+        Assert.assertTrue(indexManager.references(workspaceManager, MAIN_FILE, ADD_REFERENCE, true).isEmpty());
+    }
+
+    @Test(description = "Test whether a stale index falls back to the compilation",
+            dependsOnMethods = "testCorruptedIndex")
+    public void testStaleIndex() throws IOException, WorkspaceDocumentException {
+        WorkspaceIndexManager indexManager = createIndexManager(Set.of());
+        Assert.assertTrue(indexManager.definition(workspaceManager, MAIN_FILE, ADD_REFERENCE).isPresent());
+        Assert.assertTrue(indexManager.references(workspaceManager, UTILS_FILE, ADD_DECLARATION, true).isPresent());
+
+        // Insert a comment line, so that the content of the main document no longer matches its index
+        TextDocumentContentChangeEvent change = new TextDocumentContentChangeEvent(
+                new Range(new Position(0, 0), new Position(0, 0)), "// edit" + System.lineSeparator());
+        workspaceManager.didChange(MAIN_FILE, new DidChangeTextDocumentParams(
+                new VersionedTextDocumentIdentifier(MAIN_URI, 1), List.of(change)));
+        Position movedReference = new Position(ADD_REFERENCE.getLine() + 1, ADD_REFERENCE.getCharacter());
+        Assert.assertTrue(indexManager.definition(workspaceManager, MAIN_FILE, movedReference).isEmpty());
+        Assert.assertTrue(indexManager.references(workspaceManager, MAIN_FILE, movedReference, true).isEmpty());
+
+        // The references in the changed main document are unknown, although the utils document is unchanged
+        Assert.assertTrue(indexManager.references(workspaceManager, UTILS_FILE, ADD_DECLARATION, true).isEmpty());
+    }
+
+    @Test(description = "Test whether the state of a project is released once its documents are closed",
+            dependsOnMethods = "testStaleIndex")
+    public void testProjectClose() throws IOException, InterruptedException {
+        WorkspaceIndexManager indexManager = createIndexManager(Set.of());
+        Path projectRoot = workspaceManager.project(MAIN_FILE).orElseThrow().sourceRoot();
+
+        indexManager.didOpen(workspaceManager, MAIN_FILE);
+        long deadline = System.currentTimeMillis() + COMPILATION_TIMEOUT_MILLIS;
+        while (!indexManager.isCompiled(projectRoot) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+        }
+        Assert.assertTrue(indexManager.isCompiled(projectRoot));
+
+        indexManager.didClose(workspaceManager, MAIN_FILE);
+        Assert.assertFalse(indexManager.isCompiled(projectRoot));
+    }
+
+    /**
+     * Creates an index manager, which has loaded the persisted index of the current content of the project.
+     *
+     * @param corruptedDocuments documents to corrupt in the persisted index
+     */
+    private WorkspaceIndexManager createIndexManager(Set<String> corruptedDocuments) throws IOException {
+        WorkspaceIndexManager indexManager = new WorkspaceIndexManager(new LanguageServerContextImpl(), indexDir);
+        Project project = workspaceManager.project(MAIN_FILE).orElseThrow();
+        WorkspaceIndex index = new WorkspaceIndexer(project,
+                workspaceManager.waitAndGetPackageCompilation(MAIN_FILE).orElseThrow())
+                .index(WorkspaceIndex.empty()).orElseThrow();
+        Path indexFile = indexManager.indexFile(project.sourceRoot());
+        index.write(indexFile);
+        WorkspaceIndexTest.corruptDocuments(indexFile, corruptedDocuments);
+        Assert.assertEquals(indexManager.index(project.sourceRoot()).documents(), index.documents());
+        return indexManager;
+    }
+
+    @AfterClass
+    public void cleanUp() throws IOException {
+        this.workspaceManager = null;
+        try (Stream<Path> paths = Files.walk(indexDir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ballerinalang.langserver.workspace.index;
+
+import org.ballerinalang.langserver.workspace.index.DocumentIndex.Declaration;
+import org.ballerinalang.langserver.workspace.index.DocumentIndex.Reference;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Tests persisting and loading the workspace index.
+ *
+ * @since 1.5.0
+ */
+public class WorkspaceIndexTest {
+
+    private static final String MAIN_CONTENT = "public function main() {\n    int x = add(1, 2);\n}\n";
+    private static final String UTILS_CONTENT = "function add(int a, int b) returns int {\n    return a + b;\n}\n";
+
+    private Path tempDir;
+
+    @BeforeClass
+    public void init() throws IOException {
+        this.tempDir = Files.createTempDirectory("workspace-index");
+    }
+
+    @Test(description = "Test whether the index is the same after writing it to the disk and loading it back")
+    public void testWriteAndLoad() throws IOException {
+        WorkspaceIndex index = createIndex();
+        Path indexFile = tempDir.resolve("index").resolve("project.idx");
+        index.write(indexFile);
+
+        WorkspaceIndex loaded = WorkspaceIndex.load(indexFile);
+        Assert.assertEquals(loaded.documents(), Set.of("main.bal", "modules/utils/utils.bal"));
+        Assert.assertEquals(loaded.contentHash("main.bal"), Optional.of(DocumentIndex.hash(MAIN_CONTENT)));
+        Assert.assertEquals(loaded.document("main.bal"), index.document("main.bal"));
+        Assert.assertEquals(loaded.document("modules/utils/utils.bal"), index.document("modules/utils/utils.bal"));
+        Assert.assertTrue(loaded.document("other.bal").isEmpty());
+    }
+
+    @Test(description = "Test whether a stale index is detected by its content hash")
+    public void testContentHash() throws IOException {
+        Path indexFile = tempDir.resolve("hash.idx");
+        createIndex().write(indexFile);
+
+        WorkspaceIndex loaded = WorkspaceIndex.load(indexFile);
+        String changedContent = MAIN_CONTENT.replace("add(1, 2)", "add(1, 3)");
+        Assert.assertNotEquals(loaded.contentHash("main.bal"), Optional.of(DocumentIndex.hash(changedContent)));
+        Assert.assertEquals(loaded.contentHash("modules/utils/utils.bal"),
+                Optional.of(DocumentIndex.hash(UTILS_CONTENT)));
+    }
+
+    @Test(description = "Test resolving the symbol at a position from the index of a document")
+    public void testSymbolAt() {
+        WorkspaceIndex index = createIndex();
+        DocumentIndex main = index.document("main.bal").orElseThrow();
+
+        // Reference to a symbol declared in another document
+        Optional<Reference> reference = main.symbolAt("main.bal", new Position(1, 13));
+        Assert.assertTrue(reference.isPresent());
+        Assert.assertEquals(reference.get().targetDocument(), "modules/utils/utils.bal");
+        Assert.assertEquals(reference.get().targetName(), "add");
+
+        // Declaration in the same document
+        Optional<Reference> declaration = main.symbolAt("main.bal", new Position(0, 18));
+        Assert.assertTrue(declaration.isPresent());
+        Assert.assertEquals(declaration.get().targetDocument(), "main.bal");
+        Assert.assertEquals(declaration.get().targetName(), "main");
+
+        Assert.assertTrue(main.symbolAt("main.bal", new Position(1, 5)).isEmpty());
+    }
+
+    @Test(description = "Test whether a corrupted index file is rejected")
+    public void testCorruptedIndex() throws IOException {
+        Path indexFile = tempDir.resolve("corrupted.idx");
+        createIndex().write(indexFile);
+        byte[] bytes = Files.readAllBytes(indexFile);
+        Files.write(indexFile, Arrays.copyOf(bytes, bytes.length / 2));
+        Assert.assertThrows(IOException.class, () -> WorkspaceIndex.load(indexFile));
+
+        Files.write(tempDir.resolve("invalid.idx"), new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+        Assert.assertThrows(IOException.class, () -> WorkspaceIndex.load(tempDir.resolve("invalid.idx")));
+    }
+
+    @Test(description = "Test whether a document with a corrupted payload marks the index as corrupted")
+    public void testCorruptedDocument() throws IOException {
+        Path indexFile = tempDir.resolve("corrupted-document.idx");
+        createIndex().write(indexFile);
+        corruptDocuments(indexFile, Set.of("main.bal"));
+
+        WorkspaceIndex loaded = WorkspaceIndex.load(indexFile);
+        Assert.assertEquals(loaded.documents(), Set.of("main.bal", "modules/utils/utils.bal"));
+        Assert.assertTrue(loaded.document("modules/utils/utils.bal").isPresent());
+        Assert.assertFalse(loaded.isCorrupted());
+        Assert.assertTrue(loaded.document("main.bal").isEmpty());
+        Assert.assertTrue(loaded.isCorrupted());
+    }
+
+    @Test(description = "Test whether a loaded index file can be replaced by a newer index")
+    public void testReplaceLoadedIndex() throws IOException {
+        Path indexFile = tempDir.resolve("replaced.idx");
+        createIndex().write(indexFile);
+        WorkspaceIndex loaded = WorkspaceIndex.load(indexFile);
+
+        WorkspaceIndex.of(Map.of("main.bal", loaded.document("main.bal").orElseThrow())).write(indexFile);
+        Assert.assertEquals(WorkspaceIndex.load(indexFile).documents(), Set.of("main.bal"));
+        Assert.assertEquals(loaded.document("modules/utils/utils.bal"),
+                createIndex().document("modules/utils/utils.bal"));
+    }
+
+    /**
+     * Overwrites the declaration count of the given documents in the index file with an invalid count.
+     *
+     * @param indexFile index file
+     * @param documents relative paths of the documents to corrupt
+     * @throws IOException if the index file cannot be read or written
+     */
+    static void corruptDocuments(Path indexFile, Set<String> documents) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(indexFile));
+        // Skip the magic and the version
+        buffer.position(2 * Integer.BYTES);
+        int count = buffer.getInt();
+        for (int i = 0; i < count; i++) {
+            byte[] path = new byte[buffer.getInt()];
+            buffer.get(path);
+            buffer.position(buffer.position() + buffer.getInt());
+            int length = buffer.getInt();
+            if (documents.contains(new String(path, StandardCharsets.UTF_8))) {
+                buffer.putInt(buffer.position(), Integer.MAX_VALUE);
+            }
+            buffer.position(buffer.position() + length);
+        }
+        Files.write(indexFile, buffer.array());
+    }
+
+    private static WorkspaceIndex createIndex() {
+        DocumentIndex main = new DocumentIndex(DocumentIndex.hash(MAIN_CONTENT),
+                List.of(new Declaration("main", "FUNCTION", range(0, 16, 0, 20))),
+                List.of(new Reference(range(1, 12, 1, 15), "modules/utils/utils.bal", "add")));
+        DocumentIndex utils = new DocumentIndex(DocumentIndex.hash(UTILS_CONTENT),
+                List.of(new Declaration("add", "FUNCTION", range(0, 9, 0, 12))),
+                List.of());
+        return WorkspaceIndex.of(Map.of("main.bal", main, "modules/utils/utils.bal", utils));
+    }
+
+    private static Range range(int startLine, int startChar, int endLine, int endChar) {
+        return new Range(new Position(startLine, startChar), new Position(endLine, endChar));
+    }
+
+    @AfterClass
+    public void cleanUp() throws IOException {
+        try (Stream<Path> paths = Files.walk(tempDir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ballerinalang.langserver.workspace.index;
+
+import io.ballerina.projects.PackageCompilation;
+import io.ballerina.projects.Project;
+import org.ballerinalang.langserver.commons.workspace.WorkspaceDocumentException;
+import org.ballerinalang.langserver.contexts.LanguageServerContextImpl;
+import org.ballerinalang.langserver.workspace.BallerinaWorkspaceManager;
+import org.ballerinalang.langserver.workspace.index.DocumentIndex.Declaration;
+import org.ballerinalang.langserver.workspace.index.DocumentIndex.Reference;
+import org.eclipse.lsp4j.DidOpenTextDocumentParams;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentItem;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Tests indexing the documents of a compiled project.
+ *
+ * @since 1.5.0
+ */
+public class WorkspaceIndexerTest {
+
+    private static final Path PROJECT_ROOT = Path.of("src/test/resources/workspace/projects/prj_ws_index")
+            .toAbsolutePath();
+    private static final Path MAIN_FILE = PROJECT_ROOT.resolve("main.bal");
+
+    private BallerinaWorkspaceManager workspaceManager;
+    private Path tempDir;
+
+    @BeforeClass
+    public void init() throws IOException, WorkspaceDocumentException {
+        this.workspaceManager = new BallerinaWorkspaceManager(new LanguageServerContextImpl());
+        this.tempDir = Files.createTempDirectory("workspace-indexer");
+        openDocument(workspaceManager, MAIN_FILE);
+    }
+
+    @Test(description = "Test whether the declarations and the references of the documents are indexed")
+    public void testIndex() throws IOException {
+        WorkspaceIndex index = createIndexer().index(WorkspaceIndex.empty()).orElseThrow();
+        Assert.assertEquals(index.documents(), Set.of("main.bal", "greet.bal", "modules/utils/utils.bal"));
+
+        DocumentIndex main = index.document("main.bal").orElseThrow();
+        Assert.assertEquals(main.contentHash(), DocumentIndex.hash(Files.readString(MAIN_FILE)));
+        Assert.assertEquals(main.declaration("main").map(Declaration::nameRange), Optional.of(range(2, 16, 2, 20)));
+        Assert.assertEquals(main.references(), List.of(
+                new Reference(range(3, 20, 3, 23), "modules/utils/utils.bal", "add"),
+                new Reference(range(4, 18, 4, 23), "greet.bal", "greet")));
+
+        // The parameter references are not module level symbols
+        DocumentIndex greet = index.document("greet.bal").orElseThrow();
+        Assert.assertEquals(greet.declaration("greet").map(Declaration::nameRange), Optional.of(range(0, 9, 0, 14)));
+        Assert.assertTrue(greet.references().isEmpty());
+
+        DocumentIndex utils = index.document("modules/utils/utils.bal").orElseThrow();
+        Assert.assertEquals(utils.declaration("add").map(Declaration::nameRange), Optional.of(range(0, 16, 0, 19)));
+    }
+
+    @Test(description = "Test whether an up-to-date index is reused", dependsOnMethods = "testIndex")
+    public void testUnchangedIndex() {
+        WorkspaceIndex index = createIndexer().index(WorkspaceIndex.empty()).orElseThrow();
+        Assert.assertTrue(createIndexer().index(index).isEmpty());
+    }
+
+    @Test(description = "Test whether the corrupted documents of the previous index are indexed again",
+            dependsOnMethods = "testIndex")
+    public void testCorruptedPreviousIndex() throws IOException {
+        WorkspaceIndex index = createIndexer().index(WorkspaceIndex.empty()).orElseThrow();
+        Path indexFile = tempDir.resolve("project.idx");
+        index.write(indexFile);
+        WorkspaceIndexTest.corruptDocuments(indexFile, Set.of("greet.bal"));
+
+        WorkspaceIndex previous = WorkspaceIndex.load(indexFile);
+        WorkspaceIndex reindexed = createIndexer().index(previous).orElseThrow();
+        Assert.assertTrue(previous.isCorrupted());
+        Assert.assertFalse(reindexed.isCorrupted());
+        Assert.assertEquals(reindexed.document("greet.bal"), index.document("greet.bal"));
+        Assert.assertEquals(reindexed.document("main.bal"), index.document("main.bal"));
+    }
+
+    private WorkspaceIndexer createIndexer() {
+        Project project = workspaceManager.project(MAIN_FILE).orElseThrow();
+        PackageCompilation compilation = workspaceManager.waitAndGetPackageCompilation(MAIN_FILE).orElseThrow();
+        return new WorkspaceIndexer(project, compilation);
+    }
+
+    static void openDocument(BallerinaWorkspaceManager workspaceManager, Path filePath)
+            throws IOException, WorkspaceDocumentException {
+        TextDocumentItem textDocumentItem = new TextDocumentItem();
+        textDocumentItem.setUri(filePath.toUri().toString());
+        textDocumentItem.setText(Files.readString(filePath));
+        DidOpenTextDocumentParams params = new DidOpenTextDocumentParams();
+        params.setTextDocument(textDocumentItem);
+        workspaceManager.didOpen(filePath, params);
+    }
+
+    static Range range(int startLine, int startChar, int endLine, int endChar) {
+        return new Range(new Position(startLine, startChar), new Position(endLine, endChar));
+    }
+
+    @AfterClass
+    public void cleanUp() throws IOException {
+        this.workspaceManager = null;
+        Files.deleteIfExists(tempDir.resolve("project.idx"));
+        Files.deleteIfExists(tempDir);
+    }
+}
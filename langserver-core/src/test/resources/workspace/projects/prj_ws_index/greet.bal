@@ -0,0 +1,3 @@
+function greet(string name) returns string {
+    return "Hello " + name;
+}
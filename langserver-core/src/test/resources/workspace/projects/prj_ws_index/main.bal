@@ -0,0 +1,6 @@
+import prj_ws_index.utils;
+
+public function main() {
+    int sum = utils:add(1, 2);
+    string text = greet("index");
+}
@@ -51,21 +51,41 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 
 public class ReferenceType {
-    private static final Map<String, RefType> visitedTypeMap = new ConcurrentHashMap<>();
 
     public record Field(String fieldName, RefType type, boolean optional, String defaultValue) {
     }
 
     public static RefType fromSemanticSymbol(Symbol symbol, List<Symbol> typeDefSymbols) {
+        return fromSemanticSymbol(symbol, typeDefSymbols, null);
+    }
+
+    /**
+     * Generates the reference type of the symbol, reusing the types generated earlier within the same scope.
+     *
+     * @param symbol         symbol to generate the reference type of
+     * @param typeDefSymbols type definitions of the module
+     * @param scope          scope of the generated types, such as the package of the compilation, or null to use the
+     *                       default scope
+     * @return the reference type of the symbol
+     */
+    public static RefType fromSemanticSymbol(Symbol symbol, List<Symbol> typeDefSymbols, Object scope) {
+        TypeGraphCache cache = TypeGraphCache.forScope(scope);
+        synchronized (cache) {
+            RefType type = fromSymbol(symbol, typeDefSymbols, cache);
+            cache.trim();
+            return type;
+        }
+    }
+
+    private static RefType fromSymbol(Symbol symbol, List<Symbol> typeDefSymbols, TypeGraphCache cache) {
         SymbolKind kind = symbol.kind();
         if (kind == SymbolKind.CONSTANT) {
             return new RefConstType(symbol.getName().orElse(""),
                     ((ConstantSymbol) symbol).broaderTypeDescriptor().signature());
         } else if (kind == SymbolKind.ENUM) {
-            return getEnumType((EnumSymbol) symbol, typeDefSymbols);
+            return getEnumType((EnumSymbol) symbol, typeDefSymbols, cache);
         }
 
         TypeInfo typeInfo = getTypeInfo(symbol);
@@ -79,12 +99,14 @@ public class ReferenceType {
         if (moduleId == null) {
             moduleId = getModuleID(typeSymbol, null);
         }
-        RefType type = fromSemanticSymbol(typeSymbol, name, moduleId, typeDefSymbols);
+        RefType type = fromTypeSymbol(typeSymbol, name, moduleId, typeDefSymbols, cache);
 
         if (type.dependentTypes == null && !type.dependentTypeKeys.isEmpty()) {
+            // The dependent types of a cached type are retained as long as the type, hence only the types which are
+            // never cached, such as arrays, are absent
             type.dependentTypes = new HashMap<>();
             for (String dependentTypeKey : type.dependentTypeKeys) {
-                RefType dependentType = visitedTypeMap.get(dependentTypeKey);
+                RefType dependentType = cache.get(dependentTypeKey);
                 if (dependentType != null) {
                     RefType clonedDependentType = dependentType.clone();
                     clonedDependentType.dependentTypes = null;
@@ -120,6 +142,16 @@ public class ReferenceType {
 
     public static RefType fromSemanticSymbol(TypeSymbol symbol, String name, ModuleID moduleID,
                                              List<Symbol> typeDefSymbols) {
+        TypeGraphCache cache = TypeGraphCache.forScope(null);
+        synchronized (cache) {
+            RefType type = fromTypeSymbol(symbol, name, moduleID, typeDefSymbols, cache);
+            cache.trim();
+            return type;
+        }
+    }
+
+    private static RefType fromTypeSymbol(TypeSymbol symbol, String name, ModuleID moduleID,
+                                          List<Symbol> typeDefSymbols, TypeGraphCache cache) {
         TypeDescKind kind = symbol.typeKind();
         RefType primitiveType = getPrimitiveType(kind, name);
         if (primitiveType != null) {
@@ -130,12 +162,12 @@ public class ReferenceType {
         String typeHash = String.valueOf(Objects.hash(moduleIdString, name, symbol.signature()));
         String typeKey = String.valueOf((moduleIdString + ":" + name).hashCode());
 
-        RefType type = visitedTypeMap.get(typeKey);
+        RefType type = cache.get(typeKey);
         if (type != null && !(symbol.typeKind().equals(TypeDescKind.TYPE_REFERENCE))) {
             if (type.hashCode != null && !type.hashCode.equals(typeHash)) {
-                visitedTypeMap.remove(typeKey);
+                cache.remove(typeKey);
             } else if (type.dependentTypes != null) {
-                validateDependentTypes(type, typeDefSymbols);
+                validateDependentTypes(type, typeDefSymbols, cache);
                 return type;
             } else {
                 return type;
@@ -152,7 +184,7 @@ public class ReferenceType {
                 typeKey = typeHash;
                 recordType.key = typeKey;
             }
-            visitedTypeMap.put(typeKey, recordType);
+            cache.put(typeKey, recordType);
 
             Map<String, RecordFieldSymbol> fieldDescriptors = recordTypeSymbol.fieldDescriptors();
             fieldDescriptors.forEach((fieldName, fieldSymbol) -> {
@@ -163,7 +195,8 @@ public class ReferenceType {
                 if (fieldModuleId == null) {
                     fieldModuleId = getModuleID(fieldTypeSymbol, moduleID);
                 }
-                RefType fieldType = fromSemanticSymbol(fieldTypeSymbol, fieldTypeName, fieldModuleId, typeDefSymbols);
+                RefType fieldType = fromTypeSymbol(fieldTypeSymbol, fieldTypeName, fieldModuleId, typeDefSymbols,
+                        cache);
                 RefType processedFieldType = processMemberType(fieldType, recordType);
                 recordType.fields.add(new Field(fieldName, processedFieldType, fieldSymbol.isOptional(), ""));
             });
@@ -178,8 +211,8 @@ public class ReferenceType {
             TypeSymbol elementTypeSymbol = arrayTypeSymbol.memberTypeDescriptor();
             String elementTypeName = elementTypeSymbol.getName().orElse("");
             ModuleID elementModuleId = getModuleID(elementTypeSymbol, moduleID);
-            RefType elementType = fromSemanticSymbol(elementTypeSymbol, elementTypeName, elementModuleId,
-                    typeDefSymbols);
+            RefType elementType = fromTypeSymbol(elementTypeSymbol, elementTypeName, elementModuleId,
+                    typeDefSymbols, cache);
             arrayType.elementType = processMemberType(elementType, arrayType);
             arrayType.hashCode = arrayType.elementType.hashCode;
             arrayType.key = arrayType.elementType.key;
@@ -193,8 +226,8 @@ public class ReferenceType {
             TypeSymbol valueTypeSymbol = mapTypeSymbol.typeParam();
             String valueTypeName = valueTypeSymbol.getName().orElse("");
             ModuleID valueModuleId = getModuleID(valueTypeSymbol, moduleID);
-            RefType valueType = fromSemanticSymbol(valueTypeSymbol, valueTypeName, valueModuleId,
-                    typeDefSymbols);
+            RefType valueType = fromTypeSymbol(valueTypeSymbol, valueTypeName, valueModuleId,
+                    typeDefSymbols, cache);
             mapType.valueType = processMemberType(valueType, mapType);
             return mapType;
         } else if (kind == TypeDescKind.STREAM) {
@@ -206,14 +239,14 @@ public class ReferenceType {
             TypeSymbol valueTypeSymbol = streamTypeSymbol.typeParameter();
             String valueTypeName = valueTypeSymbol.getName().orElse("");
             ModuleID valueModuleId = getModuleID(valueTypeSymbol, moduleID);
-            RefType valueType = fromSemanticSymbol(valueTypeSymbol, valueTypeName, valueModuleId,
-                    typeDefSymbols);
+            RefType valueType = fromTypeSymbol(valueTypeSymbol, valueTypeName, valueModuleId,
+                    typeDefSymbols, cache);
             streamType.valueType = processMemberType(valueType, streamType);
             TypeSymbol completionTypeSymbol = streamTypeSymbol.completionValueTypeParameter();
             String completionTypeName = completionTypeSymbol.getName().orElse("");
             ModuleID completionModuleId = getModuleID(completionTypeSymbol, moduleID);
-            RefType completionType = fromSemanticSymbol(completionTypeSymbol, completionTypeName, completionModuleId,
-                    typeDefSymbols);
+            RefType completionType = fromTypeSymbol(completionTypeSymbol, completionTypeName, completionModuleId,
+                    typeDefSymbols, cache);
             streamType.completionType = processMemberType(completionType, streamType);
             return streamType;
         } else if (kind == TypeDescKind.UNION) {
@@ -223,31 +256,31 @@ public class ReferenceType {
                 TypeSymbol soleTypeSymbol = typeSymbols.getFirst();
                 ModuleID soleModuleId = getModuleID(soleTypeSymbol, moduleID);
                 String soleTypeName = soleTypeSymbol.getName().orElse(soleTypeSymbol.signature()) + "?";
-                return fromSemanticSymbol(soleTypeSymbol, soleTypeName, soleModuleId, typeDefSymbols);
+                return fromTypeSymbol(soleTypeSymbol, soleTypeName, soleModuleId, typeDefSymbols, cache);
             }
             RefUnionType unionType = new RefUnionType(name);
             unionType.hashCode = typeHash;
             unionType.key = typeKey;
             unionType.moduleInfo = moduleID != null ? createTypeInfo(moduleID) : null;
-            visitedTypeMap.put(typeKey, unionType);
+            cache.put(typeKey, unionType);
 
             for (TypeSymbol memberTypeSymbol : typeSymbols) {
                 String memberTypeName = memberTypeSymbol.getName().orElse("");
                 ModuleID memberModuleId = getModuleID(memberTypeSymbol, moduleID);
-                RefType memberType = fromSemanticSymbol(memberTypeSymbol, memberTypeName,
-                        memberModuleId, typeDefSymbols);
+                RefType memberType = fromTypeSymbol(memberTypeSymbol, memberTypeName,
+                        memberModuleId, typeDefSymbols, cache);
                 RefType processedMemberType = processMemberType(memberType, unionType);
                 unionType.memberTypes.add(processedMemberType);
             }
             return unionType;
         } else if (kind == TypeDescKind.INTERSECTION) {
             IntersectionTypeSymbol intersectionTypeSymbol = (IntersectionTypeSymbol) symbol;
-            return fromSemanticSymbol(intersectionTypeSymbol.effectiveTypeDescriptor(),
-                    getIntersectionTypeName(intersectionTypeSymbol, name), moduleID, typeDefSymbols);
+            return fromTypeSymbol(intersectionTypeSymbol.effectiveTypeDescriptor(),
+                    getIntersectionTypeName(intersectionTypeSymbol, name), moduleID, typeDefSymbols, cache);
         } else if (kind == TypeDescKind.TYPE_REFERENCE) {
             TypeReferenceTypeSymbol typeRefSymbol = (TypeReferenceTypeSymbol) symbol;
             TypeSymbol typeSymbol = typeRefSymbol.typeDescriptor();
-            return fromSemanticSymbol(typeSymbol, name, moduleID, typeDefSymbols);
+            return fromTypeSymbol(typeSymbol, name, moduleID, typeDefSymbols, cache);
         } else if (kind == TypeDescKind.SINGLETON) {
             String typeName = symbol.signature();
             if (typeName.startsWith("\"") && typeName.endsWith("\"")) {
@@ -276,7 +309,8 @@ public class ReferenceType {
             for (TypeSymbol memberTypeSymbol : typeSymbol.memberTypeDescriptors()) {
                 String memberTypeName = memberTypeSymbol.getName().orElse("");
                 ModuleID memberModuleId = getModuleID(memberTypeSymbol, moduleID);
-                RefType refType = fromSemanticSymbol(memberTypeSymbol, memberTypeName, memberModuleId, typeDefSymbols);
+                RefType refType = fromTypeSymbol(memberTypeSymbol, memberTypeName, memberModuleId, typeDefSymbols,
+                        cache);
                 tupleType.memberTypes.add(refType);
             }
             return tupleType;
@@ -465,13 +499,13 @@ public class ReferenceType {
         }
     }
 
-    private static RefType getEnumType(EnumSymbol enumSymbol, List<Symbol> typeDefSymbols) {
+    private static RefType getEnumType(EnumSymbol enumSymbol, List<Symbol> typeDefSymbols, TypeGraphCache cache) {
         RefType type;
         List<RefType> fields = new ArrayList<>();
         enumSymbol.members().forEach(member -> {
             String name = member.getName().orElse("");
             ModuleID moduleId = getModuleID(member);
-            RefType semanticSymbol = fromSemanticSymbol(member.typeDescriptor(), name, moduleId, typeDefSymbols);
+            RefType semanticSymbol = fromTypeSymbol(member.typeDescriptor(), name, moduleId, typeDefSymbols, cache);
             fields.add(semanticSymbol);
 
         });
@@ -481,7 +515,7 @@ public class ReferenceType {
         return type;
     }
 
-    private static void validateDependentTypes(RefType type, List<Symbol> typeDefSymbols) {
+    private static void validateDependentTypes(RefType type, List<Symbol> typeDefSymbols, TypeGraphCache cache) {
         if (type.dependentTypes == null) {
             return;
         }
@@ -489,11 +523,8 @@ public class ReferenceType {
         for (Map.Entry<String, RefType> entry : type.dependentTypes.entrySet()) {
             String depTypeKey = entry.getKey();
             RefType depType = entry.getValue();
-            Symbol depSymbol = typeDefSymbols.stream()
+            Symbol depSymbol = cache.typeDefinitions(typeDefSymbols, depType.name).stream()
                     .filter(sym -> {
-                        if (!depType.name.equals(sym.getName().orElse(""))) {
-                            return false;
-                        }
                         ModuleInfo depModuleInfo = depType.moduleInfo;
                         if (depModuleInfo != null) {
                             ModuleID symModuleId = getModuleID(sym);
@@ -524,18 +555,18 @@ public class ReferenceType {
                 if (depType.hashCode != null && depType.hashCode.equals(updatedHashCode)) {
                     continue;
                 }
-                visitedTypeMap.remove(depTypeKey);
-                RefType updatedDepType = fromSemanticSymbol(depSymbol, typeDefSymbols);
+                cache.remove(depTypeKey);
+                RefType updatedDepType = fromSymbol(depSymbol, typeDefSymbols, cache);
                 Objects.requireNonNull(updatedDepType,
                         "fromSemanticSymbol returned null for depSymbol: " + depSymbol);
                 entry.setValue(updatedDepType);
-                visitedTypeMap.put(depTypeKey, updatedDepType);
+                cache.put(depTypeKey, updatedDepType);
             }
         }
     }
 
     public static void clearVisitedTypeMap() {
-        visitedTypeMap.clear();
+        TypeGraphCache.clearAll();
     }
 
     private record TypeInfo(String name, TypeSymbol typeSymbol) {
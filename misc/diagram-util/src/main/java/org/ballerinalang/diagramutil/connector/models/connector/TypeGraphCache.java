@@ -0,0 +1,175 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.diagramutil.connector.models.connector;
+
+import io.ballerina.compiler.api.symbols.Symbol;
+import org.ballerinalang.diagramutil.connector.models.connector.reftypes.RefType;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Memoizes the reference types generated by {@link ReferenceType} within a scope, such as the package of a
+ * compilation.
+ *
+ * <p>
+ * A cache is looked up by the identity of its scope, hence the types of a previous compilation are not reused once the
+ * package has changed. The scopes are weakly referenced, so that a cache is discarded along with its scope, and only
+ * the most recently used scopes are retained. A cache is not thread-safe by itself; the users should synchronize on
+ * the cache while building a type graph.
+ * </p>
+ *
+ * @since 1.5.0
+ */
+public final class TypeGraphCache {
+
+    public static final int MAX_SCOPES = 4;
+    public static final int MAX_TYPES = 4096;
+    private static final Object DEFAULT_SCOPE = new Object();
+    private static final LinkedList<TypeGraphCache> CACHES = new LinkedList<>();
+
+    private final WeakReference<Object> scope;
+    private final Map<String, RefType> types;
+    private List<Symbol> typeDefSymbols;
+    private Map<String, List<Symbol>> typeDefSymbolsByName;
+
+    private TypeGraphCache(Object scope) {
+        this.scope = new WeakReference<>(scope);
+        this.types = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Returns the cache of the given scope, creating one if the scope was not used recently.
+     *
+     * @param scope scope of the cache, or null to use the default scope
+     * @return the cache of the scope
+     */
+    public static TypeGraphCache forScope(Object scope) {
+        Object key = scope != null ? scope : DEFAULT_SCOPE;
+        synchronized (CACHES) {
+            Iterator<TypeGraphCache> iterator = CACHES.iterator();
+            while (iterator.hasNext()) {
+                TypeGraphCache cache = iterator.next();
+                Object cacheScope = cache.scope.get();
+                if (cacheScope == null) {
+                    iterator.remove();
+                } else if (cacheScope == key) {
+                    iterator.remove();
+                    CACHES.addFirst(cache);
+                    return cache;
+                }
+            }
+
+            TypeGraphCache cache = new TypeGraphCache(key);
+            CACHES.addFirst(cache);
+            if (CACHES.size() > MAX_SCOPES) {
+                CACHES.removeLast();
+            }
+            return cache;
+        }
+    }
+
+    /**
+     * Returns the number of scopes which are currently retained.
+     *
+     * @return number of the retained scopes
+     */
+    public static int scopeCount() {
+        synchronized (CACHES) {
+            CACHES.removeIf(cache -> cache.scope.get() == null);
+            return CACHES.size();
+        }
+    }
+
+    /**
+     * Discards the caches of all the scopes.
+     */
+    public static void clearAll() {
+        synchronized (CACHES) {
+            CACHES.clear();
+        }
+    }
+
+    public RefType get(String key) {
+        return types.get(key);
+    }
+
+    public void put(String key, RefType type) {
+        types.put(key, type);
+    }
+
+    public void remove(String key) {
+        types.remove(key);
+    }
+
+    public int size() {
+        return types.size();
+    }
+
+    /**
+     * Returns the type definitions of the given name. The type definitions are indexed by their names once per list, so
+     * that the lookups are not linear when the same list is used for the requests of a compilation.
+     *
+     * @param typeDefSymbols type definitions of the module
+     * @param name           name of the type definition
+     * @return the type definitions of the name in their original order
+     */
+    List<Symbol> typeDefinitions(List<Symbol> typeDefSymbols, String name) {
+        if (this.typeDefSymbols != typeDefSymbols) {
+            Map<String, List<Symbol>> symbolsByName = new HashMap<>();
+            for (Symbol symbol : typeDefSymbols) {
+                symbolsByName.computeIfAbsent(symbol.getName().orElse(""), key -> new ArrayList<>()).add(symbol);
+            }
+            this.typeDefSymbols = typeDefSymbols;
+            this.typeDefSymbolsByName = symbolsByName;
+        }
+        return typeDefSymbolsByName.getOrDefault(name, List.of());
+    }
+
+    /**
+     * Evicts the least recently used types which exceed the capacity. The types are not evicted while a type graph is
+     * being built, since the dependent types of the graph are resolved from the cache once it is built. The types which
+     * depend on an evicted type are evicted as well, so that they are rebuilt along with their dependent types instead
+     * of being resolved with missing dependent types.
+     */
+    public void trim() {
+        Set<String> evictedKeys = new HashSet<>();
+        Iterator<Map.Entry<String, RefType>> iterator = types.entrySet().iterator();
+        while (types.size() > MAX_TYPES && iterator.hasNext()) {
+            evictedKeys.add(iterator.next().getKey());
+            iterator.remove();
+        }
+        if (evictedKeys.isEmpty()) {
+            return;
+        }
+
+        // The dependent type keys are transitive, hence a single pass evicts all the affected types
+        types.values().removeIf(type -> type.dependentTypeKeys != null
+                && !Collections.disjoint(type.dependentTypeKeys, evictedKeys));
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ballerinalang.diagramutil;
+
+import com.google.gson.Gson;
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.api.symbols.SymbolKind;
+import io.ballerina.projects.ModuleId;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.directory.ProjectLoader;
+import org.ballerinalang.diagramutil.connector.models.connector.ReferenceType;
+import org.ballerinalang.diagramutil.connector.models.connector.TypeGraphCache;
+import org.ballerinalang.diagramutil.connector.models.connector.reftypes.RefType;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests whether the reference types memoized during a long session are bounded and released along with their scopes.
+ *
+ * @since 1.5.0
+ */
+public class TypeGraphCacheTest {
+
+    private static final int SESSION_EDITS = 200;
+    private static final int GC_ATTEMPTS = 20;
+
+    private final Gson gson = new Gson();
+    private Symbol typeSymbol;
+    private Symbol dependentTypeSymbol;
+    private List<Symbol> typeDefSymbols;
+
+    @BeforeClass
+    public void setup() throws IOException {
+        Path inputFile = TestUtil.createTempProject(TestUtil.RES_DIR.resolve("RefTypeTest/BalProject1"));
+        Project project = ProjectLoader.loadProject(inputFile);
+        ModuleId moduleId = project.currentPackage().getDefaultModule().moduleId();
+        SemanticModel semanticModel = project.currentPackage().getCompilation().getSemanticModel(moduleId);
+        typeSymbol = semanticModel.moduleSymbols().stream()
+                .filter(symbol -> symbol.getName().orElse("").equals("FinalNote"))
+                .findFirst()
+                .orElseThrow();
+        dependentTypeSymbol = semanticModel.moduleSymbols().stream()
+                .filter(symbol -> symbol.getName().orElse("").equals("ProgressNote"))
+                .findFirst()
+                .orElseThrow();
+        typeDefSymbols = semanticModel.moduleSymbols().stream()
+                .filter(symbol -> symbol.kind() == SymbolKind.TYPE_DEFINITION)
+                .toList();
+    }
+
+    @Test(description = "Test whether only the recently used scopes are retained during a long session")
+    public void testBoundedScopes() {
+        TypeGraphCache.clearAll();
+        String expected = gson.toJson(ReferenceType.fromSemanticSymbol(typeSymbol, typeDefSymbols, new Object()));
+
+        // Each edit of the project creates a new scope
+        for (int i = 0; i < SESSION_EDITS; i++) {
+            RefType refType = ReferenceType.fromSemanticSymbol(typeSymbol, typeDefSymbols, new Object());
+            Assert.assertEquals(gson.toJson(refType), expected);
+            Assert.assertTrue(TypeGraphCache.scopeCount() <= TypeGraphCache.MAX_SCOPES);
+        }
+    }
+
+    @Test(description = "Test whether a scope is not retained by its cache")
+    public void testReleasedScope() throws InterruptedException {
+        TypeGraphCache.clearAll();
+        Object scope = new Object();
+        ReferenceType.fromSemanticSymbol(typeSymbol, typeDefSymbols, scope);
+        Assert.assertEquals(TypeGraphCache.scopeCount(), 1);
+
+        WeakReference<Object> scopeReference = new WeakReference<>(scope);
+        scope = null;
+        for (int i = 0; i < GC_ATTEMPTS && scopeReference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+        Assert.assertNull(scopeReference.get(), "The scope is retained by the type graph cache");
+        Assert.assertEquals(TypeGraphCache.scopeCount(), 0);
+    }
+
+    @Test(description = "Test whether the least recently used types are evicted once the capacity is exceeded")
+    public void testBoundedTypes() {
+        TypeGraphCache cache = TypeGraphCache.forScope(new Object());
+        synchronized (cache) {
+            cache.put("first", new RefType("first"));
+            for (int i = 0; i < TypeGraphCache.MAX_TYPES; i++) {
+                cache.put("type" + i, new RefType("type" + i));
+                Assert.assertNotNull(cache.get("first"));
+            }
+            cache.put("last", new RefType("last"));
+            Assert.assertEquals(cache.size(), TypeGraphCache.MAX_TYPES + 2);
+
+            cache.trim();
+            Assert.assertEquals(cache.size(), TypeGraphCache.MAX_TYPES);
+            Assert.assertNotNull(cache.get("first"));
+            Assert.assertNotNull(cache.get("last"));
+            Assert.assertNull(cache.get("type0"));
+            Assert.assertNull(cache.get("type1"));
+        }
+    }
+
+    @Test(description = "Test whether a type depending on evicted types is generated along with its dependent types")
+    public void testEvictedDependentTypes() {
+        String expected = gson.toJson(ReferenceType.fromSemanticSymbol(dependentTypeSymbol, typeDefSymbols,
+                new Object()));
+
+        // The dependent type is cached without its dependent types while generating the type
+        Object scope = new Object();
+        RefType refType = ReferenceType.fromSemanticSymbol(typeSymbol, typeDefSymbols, scope);
+        String dependentTypeKey = refType.dependentTypes.entrySet().stream()
+                .filter(entry -> entry.getValue().name.equals("ProgressNote"))
+                .map(Map.Entry::getKey)
+                .findFirst()
+                .orElseThrow();
+
+        // Exceed the capacity while the dependent type is more recently used than its own dependent types
+        TypeGraphCache cache = TypeGraphCache.forScope(scope);
+        synchronized (cache) {
+            for (int i = 0; i < TypeGraphCache.MAX_TYPES; i++) {
+                cache.put("type" + i, new RefType("type" + i));
+            }
+            Assert.assertNotNull(cache.get(dependentTypeKey));
+            cache.trim();
+            Assert.assertNull(cache.get(dependentTypeKey));
+            Assert.assertTrue(cache.size() <= TypeGraphCache.MAX_TYPES);
+        }
+
+        RefType dependentType = ReferenceType.fromSemanticSymbol(dependentTypeSymbol, typeDefSymbols, scope);
+        Assert.assertEquals(gson.toJson(dependentType), expected);
+    }
+}
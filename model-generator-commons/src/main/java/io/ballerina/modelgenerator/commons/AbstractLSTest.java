@@ -69,7 +69,7 @@ public abstract class AbstractLSTest {
     protected BallerinaLanguageServer languageServer;
     protected static final List<String> UNDEFINED_DIAGNOSTICS_CODES = List.of("BCE2000", "BCE2011");
 
-    @BeforeClass
+    @BeforeClass(alwaysRun = true)
     public final void init() {
         resDir = Paths.get("src/test/resources").resolve(getResourceDir()).toAbsolutePath();
         configDir = resDir.resolve("config");
@@ -428,7 +428,7 @@ public abstract class AbstractLSTest {
         this.serviceEndpoint = builder.build();
     }
 
-    @AfterClass
+    @AfterClass(alwaysRun = true)
     public void shutDownLanguageServer() {
         if (this.serviceEndpoint == null) {
             return;
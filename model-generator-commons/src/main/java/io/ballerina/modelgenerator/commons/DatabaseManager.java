@@ -22,8 +22,6 @@ import java.io.IOException;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -43,7 +41,7 @@ public class DatabaseManager {
 
     private static final String INDEX_FILE_NAME = "central-index.sqlite";
     private static final Logger LOGGER = Logger.getLogger(DatabaseManager.class.getName());
-    private final String dbPath;
+    private final SqliteConnectionPool connectionPool;
 
     private static class Holder {
 
@@ -79,7 +77,7 @@ public class DatabaseManager {
             throw new RuntimeException("Failed to copy the database file to the temporary directory", e);
         }
 
-        dbPath = "jdbc:sqlite:" + tempFile.toString();
+        connectionPool = new SqliteConnectionPool("jdbc:sqlite:" + tempFile.toString());
     }
 
     @Deprecated
@@ -104,7 +102,7 @@ public class DatabaseManager {
                 "LIMIT ? " +
                 "OFFSET ?;";
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
+        try (SqliteConnectionPool.PooledConnection conn = connectionPool.borrow();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, kind.name());
             stmt.setString(2, queryMap.get("limit"));
@@ -155,7 +153,7 @@ public class DatabaseManager {
                 "JOIN Package p ON f.package_id = p.package_id " +
                 "WHERE f.kind = ? AND p.org = ?;";
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
+        try (SqliteConnectionPool.PooledConnection conn = connectionPool.borrow();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, functionKind.name());
             stmt.setString(2, orgName);
@@ -212,7 +210,7 @@ public class DatabaseManager {
                 "OFFSET ?;";
         String wildcardKeyword = "%" + queryMap.get("q") + "%";
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
+        try (SqliteConnectionPool.PooledConnection conn = connectionPool.borrow();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, kind.name());
             stmt.setString(2, wildcardKeyword);
@@ -272,7 +270,7 @@ public class DatabaseManager {
             sql.append("AND f.resource_path = ?");
         }
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
+        try (SqliteConnectionPool.PooledConnection conn = connectionPool.borrow();
              PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
             stmt.setString(1, org);
             stmt.setString(2, packageName);
@@ -325,7 +323,7 @@ public class DatabaseManager {
                 "JOIN Package p ON f.package_id = p.package_id " +
                 "WHERE f.function_id = ?;";
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
+        try (SqliteConnectionPool.PooledConnection conn = connectionPool.borrow();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setInt(1, functionId);
             ResultSet rs = stmt.executeQuery();
@@ -367,7 +365,7 @@ public class DatabaseManager {
                 "p.import_statements " +
                 "FROM Parameter p " +
                 "WHERE p.function_id = ?;";
-        try (Connection conn = DriverManager.getConnection(dbPath);
+        try (SqliteConnectionPool.PooledConnection conn = connectionPool.borrow();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setInt(1, functionId);
             ResultSet rs = stmt.executeQuery();
@@ -417,7 +415,7 @@ public class DatabaseManager {
                 "LEFT JOIN ParameterMemberType pmt ON p.parameter_id = pmt.parameter_id " +
                 "WHERE p.function_id = ?;";
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
+        try (SqliteConnectionPool.PooledConnection conn = connectionPool.borrow();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setInt(1, functionId);
             ResultSet rs = stmt.executeQuery();
@@ -529,7 +527,7 @@ public class DatabaseManager {
                 "JOIN FunctionConnector fc ON f.function_id = fc.function_id " +
                 "WHERE fc.connector_id = ?;";
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
+        try (SqliteConnectionPool.PooledConnection conn = connectionPool.borrow();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setInt(1, connectorId);
             ResultSet rs = stmt.executeQuery();
@@ -580,7 +578,7 @@ public class DatabaseManager {
                 "AND p.package_name = ? " +
                 "AND c.kind = 'CONNECTOR';";
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
+        try (SqliteConnectionPool.PooledConnection conn = connectionPool.borrow();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, connectorName);
             stmt.setString(2, org);
@@ -650,7 +648,7 @@ public class DatabaseManager {
 
         sql.append("LIMIT ? OFFSET ?");
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
+        try (SqliteConnectionPool.PooledConnection conn = connectionPool.borrow();
              PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
             int paramIndex = 1;
 
@@ -18,6 +18,9 @@
 
 package io.ballerina.modelgenerator.commons;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import io.ballerina.centralconnector.CentralAPI;
 import io.ballerina.centralconnector.RemoteCentral;
 import io.ballerina.compiler.api.SemanticModel;
@@ -53,9 +56,12 @@ import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.locks.ReentrantLock;
 
 /**
@@ -75,6 +81,14 @@ public class PackageUtil {
     // Concurrent map to store locks for each project
     private static final ConcurrentHashMap<Path, ReentrantLock> PROJECT_LOCKS = new ConcurrentHashMap<>();
 
+    // Compiled library packages shared by the model generators, keyed by org/name:version. The packages are softly
+    // referenced, hence the least recently used compilations are released when the heap is under pressure.
+    private static final int MAX_COMPILED_PACKAGES = 10;
+    private static final Cache<String, Package> COMPILED_PACKAGES = CacheBuilder.newBuilder()
+            .maximumSize(MAX_COMPILED_PACKAGES)
+            .softValues()
+            .build();
+
     public static BuildProject getSampleProject() {
         // Obtain the Ballerina distribution path
         String ballerinaHome = System.getProperty(BALLERINA_HOME_PROPERTY);
@@ -114,8 +128,9 @@ public class PackageUtil {
      * @return An Optional containing the semantic model.
      */
     public static Optional<SemanticModel> getSemanticModel(ModuleInfo moduleInfo) {
-        Optional<Package> modulePackage = getModulePackage(getSampleProject(), moduleInfo.org(),
-                moduleInfo.packageName(), moduleInfo.version());
+        String packageKey = getPackageKey(moduleInfo.org(), moduleInfo.packageName(), moduleInfo.version());
+        Optional<Package> modulePackage = getCompiledPackage(packageKey, () -> getModulePackage(getSampleProject(),
+                moduleInfo.org(), moduleInfo.packageName(), moduleInfo.version()).orElseThrow());
         if (modulePackage.isEmpty()) {
             return Optional.empty();
         }
@@ -129,8 +144,47 @@ public class PackageUtil {
     }
 
     public static Optional<SemanticModel> getSemanticModel(String org, String name) {
-        return getModulePackage(getSampleProject(), org, name).map(
-                pkg -> getCompilation(pkg).getSemanticModel(pkg.getDefaultModule().moduleId()));
+        // The version is only known after the resolution, hence the resolved package is only used if the same version
+        // has not been compiled before.
+        return getModulePackage(getSampleProject(), org, name)
+                .flatMap(resolvedPackage -> {
+                    PackageDescriptor descriptor = resolvedPackage.descriptor();
+                    String packageKey = getPackageKey(descriptor.org().value(), descriptor.name().value(),
+                            descriptor.version().value().toString());
+                    return getCompiledPackage(packageKey, () -> resolvedPackage);
+                })
+                .map(pkg -> getCompilation(pkg).getSemanticModel(pkg.getDefaultModule().moduleId()));
+    }
+
+    /**
+     * Retrieves the compiled package from the cache, or loads and compiles the package if it is not cached. Concurrent
+     * requests for the same package wait for a single compilation.
+     *
+     * @param packageKey    The key of the package in the org/name:version format
+     * @param packageLoader The loader of the package, which throws {@link NoSuchElementException} if the package
+     *                      cannot be resolved
+     * @return An Optional containing the compiled package
+     */
+    private static Optional<Package> getCompiledPackage(String packageKey, Callable<Package> packageLoader) {
+        try {
+            return Optional.of(COMPILED_PACKAGES.get(packageKey, () -> {
+                Package pkg = packageLoader.call();
+                getCompilation(pkg);
+                return pkg;
+            }));
+        } catch (UncheckedExecutionException e) {
+            // Unresolved packages are not cached, so that they can be resolved once pulled
+            if (e.getCause() instanceof NoSuchElementException) {
+                return Optional.empty();
+            }
+            throw e.getCause() instanceof RuntimeException runtimeException ? runtimeException : e;
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Error occurred while compiling the package: " + packageKey, e.getCause());
+        }
+    }
+
+    private static String getPackageKey(String org, String name, String version) {
+        return org + "/" + name + ":" + version;
     }
 
     /**
@@ -22,8 +22,6 @@ import java.io.IOException;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -46,7 +44,7 @@ public class SearchDatabaseManager {
 
     private static final String INDEX_FILE_NAME = "search-index.sqlite";
     private static final Logger LOGGER = Logger.getLogger(SearchDatabaseManager.class.getName());
-    private final String dbPath;
+    private final SqliteConnectionPool connectionPool;
 
     private static class Holder {
 
@@ -82,7 +80,7 @@ public class SearchDatabaseManager {
             throw new RuntimeException("Failed to copy the database file to the temporary directory", e);
         }
 
-        dbPath = "jdbc:sqlite:" + tempFile;
+        connectionPool = new SqliteConnectionPool("jdbc:sqlite:" + tempFile);
     }
 
     /**
@@ -116,7 +114,7 @@ public class SearchDatabaseManager {
                 OFFSET ?;
                 """;
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
+        try (SqliteConnectionPool.PooledConnection conn = connectionPool.borrow();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
 
             stmt.setString(1, sanitizeQuery(q) + "*");
@@ -178,7 +176,7 @@ public class SearchDatabaseManager {
                 OFFSET ?;
                 """;
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
+        try (SqliteConnectionPool.PooledConnection conn = connectionPool.borrow();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
 
             stmt.setString(1, sanitizeQuery(q) + "*");
@@ -251,7 +249,7 @@ public class SearchDatabaseManager {
         }
         sqlBuilder.append(" LIMIT ? OFFSET ?");
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
+        try (SqliteConnectionPool.PooledConnection conn = connectionPool.borrow();
              PreparedStatement stmt = conn.prepareStatement(sqlBuilder.toString())) {
 
             // Set parameters for package names
@@ -327,7 +325,7 @@ public class SearchDatabaseManager {
         }
         sqlBuilder.append(" LIMIT ? OFFSET ?");
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
+        try (SqliteConnectionPool.PooledConnection conn = connectionPool.borrow();
              PreparedStatement stmt = conn.prepareStatement(sqlBuilder.toString())) {
 
             // Set parameters for package names and connector names
@@ -394,7 +392,7 @@ public class SearchDatabaseManager {
                 OFFSET ?;
                 """;
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
+        try (SqliteConnectionPool.PooledConnection conn = connectionPool.borrow();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
 
             stmt.setString(1, sanitizeQuery(q) + "*");
@@ -455,7 +453,7 @@ public class SearchDatabaseManager {
                 .append(")");
         sqlBuilder.append(" LIMIT ? OFFSET ?");
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
+        try (SqliteConnectionPool.PooledConnection conn = connectionPool.borrow();
              PreparedStatement stmt = conn.prepareStatement(sqlBuilder.toString())) {
 
             // Set parameters for package names
@@ -24,8 +24,6 @@ import java.io.IOException;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -45,7 +43,7 @@ public class ServiceDatabaseManager {
 
     private static final String INDEX_FILE_NAME = "service-index.sqlite";
     private static final Logger LOGGER = Logger.getLogger(ServiceDatabaseManager.class.getName());
-    private final String dbPath;
+    private final SqliteConnectionPool connectionPool;
     private static class Holder {
 
         private static final ServiceDatabaseManager INSTANCE = new ServiceDatabaseManager();
@@ -80,7 +78,11 @@ public class ServiceDatabaseManager {
             throw new RuntimeException("Failed to copy the database file to the temporary directory", e);
         }
 
-        dbPath = "jdbc:sqlite:" + tempFile.toString();
+        connectionPool = new SqliteConnectionPool("jdbc:sqlite:" + tempFile.toString());
+    }
+
+    ServiceDatabaseManager(SqliteConnectionPool connectionPool) {
+        this.connectionPool = connectionPool;
     }
 
     public Optional<FunctionData> getListener(String orgName, String module) {
@@ -100,7 +102,7 @@ public class ServiceDatabaseManager {
             sql.append(" AND p.org = ?");
         }
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
+        try (SqliteConnectionPool.PooledConnection conn = connectionPool.borrow();
              PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
             stmt.setString(1, module);
             if (orgName != null) {
@@ -124,7 +126,6 @@ public class ServiceDatabaseManager {
                         false,
                         null);
                 functionData.setPackageId(rs.getString("package_id"));
-                conn.close();
                 return Optional.of(functionData);
             }
             return Optional.empty();
@@ -151,7 +152,7 @@ public class ServiceDatabaseManager {
                 "LEFT JOIN ParameterMemberType pmt ON p.parameter_id = pmt.parameter_id " +
                 "WHERE p.listener_id = ?;";
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
+        try (SqliteConnectionPool.PooledConnection conn = connectionPool.borrow();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setInt(1, listenerId);
             ResultSet rs = stmt.executeQuery();
@@ -202,7 +203,6 @@ public class ServiceDatabaseManager {
             for (ParameterDataBuilder builder : builders.values()) {
                 parameterResults.put(builder.name, builder.build());
             }
-            conn.close();
             return parameterResults;
 
         } catch (SQLException e) {
@@ -240,7 +240,7 @@ public class ServiceDatabaseManager {
             sql.append(" AND p.org = ?");
         }
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
+        try (SqliteConnectionPool.PooledConnection conn = connectionPool.borrow();
              PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
             stmt.setString(1, moduleName);
             if (orgName != null) {
@@ -275,10 +275,8 @@ public class ServiceDatabaseManager {
                         rs.getString("listener_kind"),
                         rs.getString("kind")
                 );
-                conn.close();
                 return Optional.of(serviceDeclaration);
             }
-            conn.close();
             return Optional.empty();
         } catch (SQLException e) {
             Logger.getGlobal().severe("Error executing query: " + e.getMessage());
@@ -301,7 +299,7 @@ public class ServiceDatabaseManager {
             sql.append(" AND p.org = ?");
         }
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
+        try (SqliteConnectionPool.PooledConnection conn = connectionPool.borrow();
              PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
             stmt.setString(1, moduleName);
             if (orgName != null) {
@@ -318,7 +316,6 @@ public class ServiceDatabaseManager {
                 );
                 String displayName = rs.getString("display_name");
                 String description = rs.getString("description");
-                conn.close();
 
                 StringBuilder sql2 = new StringBuilder("SELECT ");
                 sql2.append("sip.initializer_id, ");
@@ -332,20 +329,19 @@ public class ServiceDatabaseManager {
                 sql2.append("FROM ServiceInitializerProperty sip ");
                 sql2.append("WHERE sip.package_id = ?");
 
-                try (Connection conn2 = DriverManager.getConnection(dbPath);
-                     PreparedStatement stmt2 = conn2.prepareStatement(sql2.toString())) {
+                // Reuse the borrowed connection instead of borrowing another one from the pool
+                List<ServiceInitProperty> initProperties = new ArrayList<>();
+                try (PreparedStatement stmt2 = conn.prepareStatement(sql2.toString())) {
                     stmt2.setInt(1, packageInfo.packageId());
 
                     ResultSet rs2 = stmt2.executeQuery();
-                    List<ServiceInitProperty> initProperties = new ArrayList<>();
                     while (rs2.next()) {
                         initProperties.add(getServiceInitProperty(rs2));
                     }
-                    conn2.close();
-                    ServiceInitInfo serviceInitInfo = new ServiceInitInfo(packageInfo, displayName, description,
-                            initProperties);
-                    return Optional.of(serviceInitInfo);
                 }
+                ServiceInitInfo serviceInitInfo = new ServiceInitInfo(packageInfo, displayName, description,
+                        initProperties);
+                return Optional.of(serviceInitInfo);
             }
             return Optional.empty();
         } catch (SQLException e) {
@@ -369,7 +365,7 @@ public class ServiceDatabaseManager {
     public List<String> getServiceTypes(int packageId) {
         String sql = "SELECT DISTINCT name FROM ServiceType WHERE package_id = ?";
         List<String> serviceTypes = new ArrayList<>();
-        try (Connection conn = DriverManager.getConnection(dbPath);
+        try (SqliteConnectionPool.PooledConnection conn = connectionPool.borrow();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setInt(1, packageId);
 
@@ -377,7 +373,6 @@ public class ServiceDatabaseManager {
             while (rs.next()) {
                 serviceTypes.add(rs.getString("name"));
             }
-            conn.close();
             return serviceTypes;
         } catch (SQLException e) {
             Logger.getGlobal().severe("Error executing query: " + e.getMessage());
@@ -398,7 +393,7 @@ public class ServiceDatabaseManager {
                 "JOIN Package p ON a.package_id = p.package_id " +
                 "WHERE a.package_id = ?";
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
+        try (SqliteConnectionPool.PooledConnection conn = connectionPool.borrow();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setInt(1, packageId);
 
@@ -415,7 +410,6 @@ public class ServiceDatabaseManager {
                         rs.getString("package")
                 ));
             }
-            conn.close();
             return annotations;
         } catch (SQLException e) {
             Logger.getGlobal().severe("Error executing query: " + e.getMessage());
@@ -444,7 +438,7 @@ public class ServiceDatabaseManager {
         if (orgName != null) {
             sql.append(" AND p.org = ?");
         }
-        try (Connection conn = DriverManager.getConnection(dbPath);
+        try (SqliteConnectionPool.PooledConnection conn = connectionPool.borrow();
              PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
             stmt.setString(1, moduleName);
             stmt.setString(2, serviceType);
@@ -456,7 +450,8 @@ public class ServiceDatabaseManager {
             ResultSet rs = stmt.executeQuery();
             if (rs.next()) {
                 int functionId = rs.getInt("function_id");
-                List<ServiceTypeFunction.ServiceTypeFunctionParameter> params = getServiceFunctionParams(functionId);
+                List<ServiceTypeFunction.ServiceTypeFunctionParameter> params =
+                        getServiceFunctionParams(conn, functionId);
                 ServiceTypeFunction function = new ServiceTypeFunction(
                         rs.getInt("function_id"),
                         rs.getString("name"),
@@ -471,10 +466,8 @@ public class ServiceDatabaseManager {
                         rs.getInt("optional"),
                         params
                 );
-                conn.close();
                 return Optional.of(function);
             }
-            conn.close();
             return Optional.empty();
         } catch (SQLException e) {
             Logger.getGlobal().severe("Error executing query: " + e.getMessage());
@@ -500,7 +493,7 @@ public class ServiceDatabaseManager {
                 "JOIN ServiceType st ON f.service_type_id = st.service_type_id " +
                 "WHERE st.package_id = ? AND st.name = ?";
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
+        try (SqliteConnectionPool.PooledConnection conn = connectionPool.borrow();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setInt(1, packageId);
             stmt.setString(2, serviceType);
@@ -509,7 +502,8 @@ public class ServiceDatabaseManager {
             List<ServiceTypeFunction> functions = new ArrayList<>();
             while (rs.next()) {
                 int functionId = rs.getInt("function_id");
-                List<ServiceTypeFunction.ServiceTypeFunctionParameter> params = getServiceFunctionParams(functionId);
+                List<ServiceTypeFunction.ServiceTypeFunctionParameter> params =
+                        getServiceFunctionParams(conn, functionId);
                 functions.add(new ServiceTypeFunction(
                         rs.getInt("function_id"),
                         rs.getString("name"),
@@ -525,7 +519,6 @@ public class ServiceDatabaseManager {
                         params
                 ));
             }
-            conn.close();
             return functions;
         } catch (SQLException e) {
             Logger.getGlobal().severe("Error executing query: " + e.getMessage());
@@ -533,7 +526,12 @@ public class ServiceDatabaseManager {
         }
     }
 
-    private List<ServiceTypeFunction.ServiceTypeFunctionParameter> getServiceFunctionParams(int functionId) {
+    /**
+     * Retrieves the parameters of a service type function using the connection borrowed by the caller, so that the
+     * caller does not wait for a second connection while holding one.
+     */
+    private List<ServiceTypeFunction.ServiceTypeFunctionParameter> getServiceFunctionParams(
+            SqliteConnectionPool.PooledConnection conn, int functionId) throws SQLException {
         String sql = "SELECT " +
                 "parameter_id, " +
                 "name, " +
@@ -548,8 +546,7 @@ public class ServiceDatabaseManager {
                 "FROM ServiceTypeFunctionParameter " +
                 "WHERE function_id = ?";
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setInt(1, functionId);
 
             ResultSet rs = stmt.executeQuery();
@@ -568,11 +565,7 @@ public class ServiceDatabaseManager {
                         rs.getInt("editable_type")
                 ));
             }
-            conn.close();
             return parameters;
-        } catch (SQLException e) {
-            Logger.getGlobal().severe("Error executing query: " + e.getMessage());
-            return List.of();
         }
     }
 
@@ -587,7 +580,7 @@ public class ServiceDatabaseManager {
                 "FROM Annotation a " +
                 "JOIN Package p ON a.package_id = p.package_id " +
                 "WHERE p.name = ? AND p.org = ? AND a.attachment_points LIKE ?";
-        try (Connection conn = DriverManager.getConnection(dbPath);
+        try (SqliteConnectionPool.PooledConnection conn = connectionPool.borrow();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, packageName);
             stmt.setString(2, org);
@@ -606,7 +599,6 @@ public class ServiceDatabaseManager {
                         packageName
                 ));
             }
-            conn.close();
             return annotations;
         } catch (SQLException e) {
             Logger.getGlobal().severe("Error executing query: " + e.getMessage());
@@ -623,7 +615,7 @@ public class ServiceDatabaseManager {
                 "FROM ServiceReadOnlyMetaData srmd " +
                 "JOIN Package p ON srmd.package_id = p.package_id " +
                 "WHERE p.name = ? AND p.org = ? ";
-        try (Connection conn = DriverManager.getConnection(dbPath);
+        try (SqliteConnectionPool.PooledConnection conn = connectionPool.borrow();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, packageName);
             stmt.setString(2, orgName);
@@ -0,0 +1,301 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.modelgenerator.commons;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+/**
+ * A bounded pool of read-only connections to a bundled SQLite index.
+ * <p>
+ * The index databases are never modified at runtime, hence the connections are opened in the read-only mode and are
+ * shared across the requests instead of opening a new connection per query. Each connection caches the prepared
+ * statements of the most recently executed queries, so that the frequently used queries are compiled only once per
+ * connection.
+ * </p>
+ *
+ * @since 1.5.0
+ */
+class SqliteConnectionPool {
+
+    private static final Logger LOGGER = Logger.getLogger(SqliteConnectionPool.class.getName());
+    private static final int DEFAULT_MAX_CONNECTIONS = Math.max(2, Runtime.getRuntime().availableProcessors());
+    private static final int STATEMENT_CACHE_SIZE = 32;
+    private static final long BORROW_TIMEOUT_SECONDS = 30;
+
+    // SQLITE_OPEN_READONLY flag of the sqlite3_open_v2 API
+    private static final String READ_ONLY_OPEN_MODE = "1";
+    private static final String[] CONNECTION_PRAGMAS = {
+            "PRAGMA query_only = true",
+            "PRAGMA temp_store = MEMORY",
+            "PRAGMA mmap_size = 268435456",
+            "PRAGMA cache_size = -8192"
+    };
+
+    private final String dbPath;
+    private final int maxConnections;
+    private final BlockingQueue<PooledConnection> idleConnections;
+    private final AtomicInteger openConnections;
+
+    SqliteConnectionPool(String dbPath) {
+        this(dbPath, DEFAULT_MAX_CONNECTIONS);
+    }
+
+    SqliteConnectionPool(String dbPath, int maxConnections) {
+        this.dbPath = dbPath;
+        this.maxConnections = maxConnections;
+        this.idleConnections = new LinkedBlockingQueue<>();
+        this.openConnections = new AtomicInteger();
+    }
+
+    /**
+     * Borrows a connection from the pool. A new connection is opened if there are no idle connections and the pool
+     * has not reached its capacity; otherwise, waits until a connection is returned to the pool. The connection must
+     * be returned by closing it, preferably with a try-with-resources statement.
+     *
+     * @return an exclusively owned connection
+     * @throws SQLException if a connection cannot be opened or a connection is not returned in time
+     */
+    PooledConnection borrow() throws SQLException {
+        PooledConnection connection = idleConnections.poll();
+        if (connection != null) {
+            return connection.acquire();
+        }
+
+        if (openConnections.incrementAndGet() <= maxConnections) {
+            try {
+                return new PooledConnection(openConnection()).acquire();
+            } catch (SQLException e) {
+                openConnections.decrementAndGet();
+                throw e;
+            }
+        }
+        openConnections.decrementAndGet();
+
+        try {
+            connection = idleConnections.poll(BORROW_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection", e);
+        }
+        if (connection == null) {
+            throw new SQLException("Timed out while waiting for a database connection: " + dbPath);
+        }
+        return connection.acquire();
+    }
+
+    private Connection openConnection() throws SQLException {
+        Properties properties = new Properties();
+        properties.setProperty("open_mode", READ_ONLY_OPEN_MODE);
+        Connection connection = DriverManager.getConnection(dbPath, properties);
+        try (Statement stmt = connection.createStatement()) {
+            for (String pragma : CONNECTION_PRAGMAS) {
+                stmt.execute(pragma);
+            }
+        } catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+        return connection;
+    }
+
+    private void release(PooledConnection connection) {
+        if (connection.isValid()) {
+            idleConnections.offer(connection);
+            return;
+        }
+        openConnections.decrementAndGet();
+        connection.closeQuietly();
+    }
+
+    /**
+     * A connection borrowed from the {@link SqliteConnectionPool}. Closing the connection returns it to the pool.
+     * The prepared statements are owned by the connection; closing a statement closes its result set and returns the
+     * statement to the statement cache of the connection.
+     *
+     * @since 1.5.0
+     */
+    class PooledConnection implements AutoCloseable {
+
+        private final Connection connection;
+        private final Map<String, PreparedStatement> statementCache;
+        private final Set<PreparedStatement> openStatements;
+        private boolean borrowed;
+
+        private PooledConnection(Connection connection) {
+            this.connection = connection;
+            this.statementCache = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+                    if (size() <= STATEMENT_CACHE_SIZE) {
+                        return false;
+                    }
+                    closeStatement(eldest.getValue());
+                    return true;
+                }
+            };
+            this.openStatements = Collections.newSetFromMap(new IdentityHashMap<>());
+        }
+
+        private PooledConnection acquire() {
+            borrowed = true;
+            return this;
+        }
+
+        /**
+         * Returns the cached prepared statement for the given query, or prepares a new one. The statement must be
+         * closed once its results are consumed, preferably with a try-with-resources statement.
+         *
+         * @param sql the query to prepare
+         * @return a prepared statement with its parameters cleared
+         * @throws SQLException if the query cannot be prepared
+         */
+        PreparedStatement prepareStatement(String sql) throws SQLException {
+            if (!borrowed) {
+                throw new SQLException("Connection has already been returned to the pool");
+            }
+            PreparedStatement stmt = statementCache.get(sql);
+            if (stmt == null || stmt.isClosed()) {
+                stmt = connection.prepareStatement(sql);
+                statementCache.put(sql, stmt);
+            } else if (openStatements.contains(stmt)) {
+                // The cached statement is still in use, hence the query is prepared only for this caller
+                return connection.prepareStatement(sql);
+            } else {
+                stmt.clearParameters();
+            }
+            openStatements.add(stmt);
+            return (PreparedStatement) Proxy.newProxyInstance(SqliteConnectionPool.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class}, new CachedStatementHandler(stmt));
+        }
+
+        private void closeResultSet(PreparedStatement stmt) {
+            if (!openStatements.remove(stmt)) {
+                return;
+            }
+            try {
+                ResultSet rs = stmt.getResultSet();
+                if (rs != null) {
+                    rs.close();
+                }
+            } catch (SQLException e) {
+                closeStatement(stmt);
+            }
+        }
+
+        @Override
+        public void close() {
+            if (!borrowed) {
+                return;
+            }
+            borrowed = false;
+            // Release the read locks held by the unclosed statements before the connection is reused
+            new ArrayList<>(openStatements).forEach(this::closeResultSet);
+            release(this);
+        }
+
+        private boolean isValid() {
+            try {
+                return !connection.isClosed();
+            } catch (SQLException e) {
+                return false;
+            }
+        }
+
+        private void closeQuietly() {
+            statementCache.values().forEach(this::closeStatement);
+            statementCache.clear();
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                LOGGER.warning("Error closing the database connection: " + e.getMessage());
+            }
+        }
+
+        private void closeStatement(PreparedStatement stmt) {
+            try {
+                stmt.close();
+            } catch (SQLException e) {
+                LOGGER.warning("Error closing the prepared statement: " + e.getMessage());
+            }
+        }
+
+        /**
+         * Delegates to a cached prepared statement, except that closing the statement returns it to the cache
+         * instead of closing it.
+         *
+         * @since 1.5.0
+         */
+        private class CachedStatementHandler implements InvocationHandler {
+
+            private final PreparedStatement stmt;
+            private boolean closed;
+
+            private CachedStatementHandler(PreparedStatement stmt) {
+                this.stmt = stmt;
+            }
+
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                switch (method.getName()) {
+                    case "close" -> {
+                        if (!closed) {
+                            closed = true;
+                            closeResultSet(stmt);
+                        }
+                        return null;
+                    }
+                    case "isClosed" -> {
+                        return closed || stmt.isClosed();
+                    }
+                    default -> {
+                        if (closed && method.getDeclaringClass() != Object.class) {
+                            throw new SQLException("Statement has already been closed");
+                        }
+                    }
+                }
+                try {
+                    return method.invoke(stmt, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            }
+        }
+    }
+}
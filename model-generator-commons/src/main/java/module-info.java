@@ -26,6 +26,7 @@ module io.ballerina.model.generator.commons {
     requires org.slf4j;
     requires org.testng;
     requires com.google.gson;
+    requires com.google.common;
     requires io.ballerina.tools.api;
     requires io.ballerina.parser;
     requires io.ballerina.lang;
@@ -0,0 +1,138 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.modelgenerator.commons;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests the queries of {@link ServiceDatabaseManager} which read the function parameters, on a pool which is smaller
+ * than the number of concurrent callers.
+ *
+ * @since 1.5.0
+ */
+public class ServiceDatabaseManagerTest {
+
+    private static final Path SERVICE_INDEX = Paths.get("..", "service-model-generator", "modules",
+            "service-model-generator-ls-extension", "src", "main", "resources", "service-index.sqlite");
+    private static final int MAX_CONNECTIONS = 2;
+    private static final int CONCURRENT_CALLERS = 8;
+    private static final int ITERATIONS = 20;
+
+    // The RabbitMQ service type has the onMessage, onRequest and onError functions with two parameters each
+    private static final String RABBITMQ_ORG = "ballerinax";
+    private static final String RABBITMQ_PACKAGE = "rabbitmq";
+    private static final String SERVICE_TYPE = "Service";
+    private static final int FUNCTION_COUNT = 3;
+    private static final int PARAMETER_COUNT = 2;
+
+    private Path tempDir;
+    private ServiceDatabaseManager databaseManager;
+    private int rabbitmqPackageId;
+
+    @BeforeClass
+    public void init() throws IOException, SQLException {
+        tempDir = Files.createTempDirectory("service-index-test");
+        Path tempFile = tempDir.resolve(SERVICE_INDEX.getFileName());
+        Files.copy(SERVICE_INDEX, tempFile);
+        String dbPath = "jdbc:sqlite:" + tempFile;
+        rabbitmqPackageId = getPackageId(dbPath, RABBITMQ_ORG, RABBITMQ_PACKAGE);
+        databaseManager = new ServiceDatabaseManager(new SqliteConnectionPool(dbPath, MAX_CONNECTIONS));
+    }
+
+    private static int getPackageId(String dbPath, String org, String name) throws SQLException {
+        String sql = "SELECT package_id FROM Package WHERE org = ? AND name = ?";
+        try (Connection conn = DriverManager.getConnection(dbPath);
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, org);
+            stmt.setString(2, name);
+            try (ResultSet rs = stmt.executeQuery()) {
+                Assert.assertTrue(rs.next(), "Package not found in the service index: " + org + "/" + name);
+                return rs.getInt("package_id");
+            }
+        }
+    }
+
+    @Test(description = "Test whether the concurrent callers do not wait for a second connection while holding one")
+    public void testConcurrentFunctionQueries() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_CALLERS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_CALLERS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < ITERATIONS; j++) {
+                        assertFunctions();
+                        assertFunction();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+
+            // A deadlocked caller only gives up after the borrow timeout of the pool, which is longer than this
+            for (Future<?> future : futures) {
+                future.get(20, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void assertFunctions() {
+        List<ServiceTypeFunction> functions =
+                databaseManager.getMatchingServiceTypeFunctions(rabbitmqPackageId, SERVICE_TYPE);
+        Assert.assertEquals(functions.size(), FUNCTION_COUNT);
+        functions.forEach(function -> Assert.assertEquals(function.parameters().size(), PARAMETER_COUNT));
+    }
+
+    private void assertFunction() {
+        Optional<ServiceTypeFunction> function = databaseManager.getMatchingServiceTypeFunction(RABBITMQ_ORG,
+                RABBITMQ_PACKAGE, SERVICE_TYPE, "onMessage");
+        Assert.assertTrue(function.isPresent());
+        Assert.assertEquals(function.get().parameters().size(), PARAMETER_COUNT);
+    }
+
+    @AfterClass
+    public void cleanup() throws IOException {
+        Files.deleteIfExists(tempDir.resolve(SERVICE_INDEX.getFileName()));
+        Files.deleteIfExists(tempDir);
+    }
+}
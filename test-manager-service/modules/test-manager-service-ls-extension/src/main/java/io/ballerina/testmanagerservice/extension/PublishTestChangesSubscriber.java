@@ -0,0 +1,74 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.testmanagerservice.extension;
+
+import io.ballerina.projects.Document;
+import io.ballerina.testmanagerservice.extension.response.TestChangesParams;
+import org.ballerinalang.annotation.JavaSPIService;
+import org.ballerinalang.langserver.commons.DocumentServiceContext;
+import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.client.ExtendedLanguageClient;
+import org.ballerinalang.langserver.commons.eventsync.EventKind;
+import org.ballerinalang.langserver.commons.eventsync.spi.EventSubscriber;
+
+import java.util.Optional;
+
+/**
+ * Publishes the changes of the test functions to the client when a test document is edited.
+ *
+ * @since 1.5.0
+ */
+@JavaSPIService("org.ballerinalang.langserver.commons.eventsync.spi.EventSubscriber")
+public class PublishTestChangesSubscriber implements EventSubscriber {
+
+    public static final String NAME = "Publish test changes subscriber";
+    private static final String EXPR_URI = "expr";
+    private static final String AI_URI = "ai";
+    private static final String DID_CHANGE = "text/didChange";
+
+    @Override
+    public EventKind eventKind() {
+        return EventKind.PROJECT_UPDATE;
+    }
+
+    @Override
+    public void onEvent(ExtendedLanguageClient client, DocumentServiceContext context,
+                        LanguageServerContext serverContext) {
+        // Only the edits of the documents are considered, while skipping the events of the cloned projects
+        if (client == null || context.fileUri().startsWith(AI_URI) || context.fileUri().startsWith(EXPR_URI)
+                || !DID_CHANGE.equals(context.operation().getName())) {
+            return;
+        }
+
+        Optional<Document> document = context.currentDocument();
+        if (document.isEmpty() || !document.get().module().testDocumentIds().contains(document.get().documentId())) {
+            return;
+        }
+        TestChangesParams testChanges =
+                TestDiscoveryCache.getInstance(serverContext).getTestChanges(context.filePath(), document.get());
+        if (!testChanges.isEmpty()) {
+            client.publishTestChanges(testChanges);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+}
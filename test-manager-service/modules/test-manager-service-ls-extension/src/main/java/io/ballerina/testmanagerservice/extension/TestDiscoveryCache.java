@@ -0,0 +1,258 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.testmanagerservice.extension;
+
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Project;
+import io.ballerina.testmanagerservice.extension.model.FunctionTreeNode;
+import io.ballerina.testmanagerservice.extension.response.TestChangesParams;
+import org.ballerinalang.langserver.commons.LanguageServerContext;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Caches the test functions of each test document by the hash of the content of the document, so that the unchanged
+ * test documents are not traversed again when the tests of a project are rediscovered. The cache retains the least
+ * recently used {@value #MAX_DOCUMENTS} documents at most.
+ * <p>
+ * The changes of a test document are computed against the tests of the last discovery of its project. Hence, the
+ * cache of a project is seeded by discovering all the tests of the project, before the changes of its documents are
+ * reported.
+ * </p>
+ *
+ * @since 1.5.0
+ */
+public class TestDiscoveryCache {
+
+    private static final LanguageServerContext.Key<TestDiscoveryCache> TEST_DISCOVERY_CACHE_KEY =
+            new LanguageServerContext.Key<>();
+    static final int MAX_DOCUMENTS = 512;
+
+    private final Map<Path, DocumentTests> documentTests;
+    private final Set<Path> discoveredProjects;
+
+    private TestDiscoveryCache(LanguageServerContext serverContext) {
+        this.discoveredProjects = new HashSet<>();
+        this.documentTests = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Path, DocumentTests> eldest) {
+                if (size() <= MAX_DOCUMENTS) {
+                    return false;
+                }
+                // The evicted document no longer has a baseline, hence its project has to be discovered again
+                discoveredProjects.remove(eldest.getValue().projectRoot());
+                return true;
+            }
+        };
+        serverContext.put(TEST_DISCOVERY_CACHE_KEY, this);
+    }
+
+    public static synchronized TestDiscoveryCache getInstance(LanguageServerContext serverContext) {
+        TestDiscoveryCache testDiscoveryCache = serverContext.get(TEST_DISCOVERY_CACHE_KEY);
+        if (testDiscoveryCache == null) {
+            testDiscoveryCache = new TestDiscoveryCache(serverContext);
+        }
+        return testDiscoveryCache;
+    }
+
+    /**
+     * Discovers the test functions of all the test documents of the project, reusing the cached test functions of the
+     * unchanged documents. The documents which are no longer part of the project are evicted.
+     *
+     * @param project project to discover the tests of
+     * @return test functions of each test document, in the order of the documents of the project
+     */
+    public List<List<FunctionTreeNode>> discoverProject(Project project) {
+        List<Document> testDocuments = new ArrayList<>();
+        for (Module module : project.currentPackage().modules()) {
+            for (DocumentId documentId : module.testDocumentIds()) {
+                testDocuments.add(module.document(documentId));
+            }
+        }
+
+        // The parallel stream preserves the order of the documents, hence the order of the test functions
+        List<List<FunctionTreeNode>> documentTestFunctions = testDocuments.parallelStream()
+                .map(document -> project.documentPath(document.documentId())
+                        .map(documentPath -> getTestFunctions(documentPath, document))
+                        .orElseGet(() -> new TestFunctionsFinder(document).findTestFunctions()))
+                .toList();
+
+        List<Path> testDocumentPaths = new ArrayList<>();
+        for (Document document : testDocuments) {
+            project.documentPath(document.documentId()).ifPresent(testDocumentPaths::add);
+        }
+        Path root = normalize(project.sourceRoot());
+        synchronized (documentTests) {
+            retainDocuments(root, testDocumentPaths);
+            discoveredProjects.add(root);
+        }
+        return documentTestFunctions;
+    }
+
+    /**
+     * Returns the test functions of the document, reusing the cached test functions if the content of the document
+     * has not changed.
+     *
+     * @param documentPath path of the document
+     * @param document     test document
+     * @return list of test functions in the order they are defined
+     */
+    public List<FunctionTreeNode> getTestFunctions(Path documentPath, Document document) {
+        return update(documentPath, document).current().testFunctions();
+    }
+
+    /**
+     * Rediscovers the test functions of the document and returns the changes since the last discovery of the
+     * document. If the tests of the project of the document have not been discovered yet, the project is discovered
+     * to seed the cache and no changes are returned, since there is no baseline to compare with. A document which is
+     * not cached in a discovered project is a new document, hence all of its tests are reported as added.
+     *
+     * @param documentPath path of the document
+     * @param document     test document
+     * @return {@link TestChangesParams} of the document
+     */
+    public TestChangesParams getTestChanges(Path documentPath, Document document) {
+        Project project = document.module().project();
+        boolean discovered;
+        synchronized (documentTests) {
+            discovered = discoveredProjects.contains(normalize(project.sourceRoot()));
+        }
+        if (!discovered) {
+            discoverProject(project);
+            return new TestChangesParams(documentPath.toUri().toString(), List.of(), List.of(), List.of());
+        }
+
+        Update update = update(documentPath, document);
+        if (update.previous().isPresent() && update.previous().get() == update.current()) {
+            return new TestChangesParams(documentPath.toUri().toString(), List.of(), List.of(), List.of());
+        }
+        Map<String, FunctionTreeNode> previousTests = update.previous().map(TestDiscoveryCache::byName)
+                .orElseGet(Map::of);
+        Map<String, FunctionTreeNode> currentTests = byName(update.current());
+
+        List<FunctionTreeNode> added = new ArrayList<>();
+        List<FunctionTreeNode> modified = new ArrayList<>();
+        currentTests.forEach((name, testFunction) -> {
+            FunctionTreeNode previousTest = previousTests.get(name);
+            if (previousTest == null) {
+                added.add(testFunction);
+            } else if (!previousTest.equals(testFunction)) {
+                modified.add(testFunction);
+            }
+        });
+        List<FunctionTreeNode> removed = new ArrayList<>();
+        previousTests.forEach((name, testFunction) -> {
+            if (!currentTests.containsKey(name)) {
+                removed.add(testFunction);
+            }
+        });
+        return new TestChangesParams(documentPath.toUri().toString(), added, removed, modified);
+    }
+
+    /**
+     * Evicts the cached test documents of the project which are no longer part of the project.
+     *
+     * @param projectRoot   root of the project
+     * @param documentPaths paths of the current test documents of the project
+     */
+    void retainDocuments(Path projectRoot, Collection<Path> documentPaths) {
+        Path root = normalize(projectRoot);
+        Set<Path> keys = new HashSet<>();
+        for (Path documentPath : documentPaths) {
+            keys.add(normalize(documentPath));
+        }
+        synchronized (documentTests) {
+            documentTests.keySet().removeIf(key -> key.startsWith(root) && !keys.contains(key));
+        }
+    }
+
+    int size() {
+        synchronized (documentTests) {
+            return documentTests.size();
+        }
+    }
+
+    private Update update(Path documentPath, Document document) {
+        Path key = normalize(documentPath);
+        String hash = hash(document.textDocument().toString());
+        DocumentTests previous;
+        synchronized (documentTests) {
+            previous = documentTests.get(key);
+        }
+        if (previous != null && previous.hash().equals(hash)) {
+            return new Update(Optional.of(previous), previous);
+        }
+
+        // The document is traversed outside the lock, as the test documents of a project are discovered in parallel
+        DocumentTests current = new DocumentTests(normalize(document.module().project().sourceRoot()), hash,
+                List.copyOf(new TestFunctionsFinder(document).findTestFunctions()));
+        synchronized (documentTests) {
+            documentTests.put(key, current);
+        }
+        return new Update(Optional.ofNullable(previous), current);
+    }
+
+    private static Path normalize(Path path) {
+        return path.toAbsolutePath().normalize();
+    }
+
+    private static String hash(String content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    private static Map<String, FunctionTreeNode> byName(DocumentTests tests) {
+        Map<String, FunctionTreeNode> testsByName = new LinkedHashMap<>();
+        for (FunctionTreeNode testFunction : tests.testFunctions()) {
+            testsByName.putIfAbsent(testFunction.functionName(), testFunction);
+        }
+        return testsByName;
+    }
+
+    /**
+     * Test functions of a document along with the hash of the content they were discovered from.
+     *
+     * @param projectRoot   root of the project of the document
+     * @param hash          SHA-256 hash of the content of the document
+     * @param testFunctions test functions of the document
+     */
+    private record DocumentTests(Path projectRoot, String hash, List<FunctionTreeNode> testFunctions) {
+    }
+
+    private record Update(Optional<DocumentTests> previous, DocumentTests current) {
+    }
+}
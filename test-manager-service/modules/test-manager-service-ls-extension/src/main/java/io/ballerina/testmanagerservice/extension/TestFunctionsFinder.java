@@ -32,6 +32,8 @@ import io.ballerina.compiler.syntax.tree.NodeList;
 import io.ballerina.compiler.syntax.tree.SeparatedNodeList;
 import io.ballerina.compiler.syntax.tree.SpecificFieldNode;
 import io.ballerina.projects.Document;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.util.ProjectConstants;
 import io.ballerina.testmanagerservice.extension.model.FunctionTreeNode;
 import io.ballerina.tools.text.LineRange;
 
@@ -57,8 +59,25 @@ public class TestFunctionsFinder {
         this.moduleTestDetailsHolder = moduleTestDetailsHolder;
     }
 
+    public TestFunctionsFinder(Document document) {
+        this(document, new ModuleTestDetailsHolder());
+    }
+
     public void find() {
+        for (FunctionTreeNode testFunction : findTestFunctions()) {
+            this.moduleTestDetailsHolder.addTestFunctions(testFunction.groups(), testFunction);
+        }
+    }
+
+    /**
+     * Returns the test functions of the document in the order they are defined.
+     *
+     * @return list of test functions
+     */
+    public List<FunctionTreeNode> findTestFunctions() {
+        List<FunctionTreeNode> testFunctions = new ArrayList<>();
         ModulePartNode modulePartNode = document.syntaxTree().rootNode();
+        String modulePrefix = modulePrefix();
 
         NodeList<ModuleMemberDeclarationNode> members = modulePartNode.members();
 
@@ -76,13 +95,28 @@ public class TestFunctionsFinder {
                         List<String> groups = findSpecifiedGroups(annotation);
                         String functionName = functionDefinitionNode.functionName().text().trim();
                         LineRange lineRange = functionDefinitionNode.lineRange();
-                        FunctionTreeNode functionTreeNode = new FunctionTreeNode(
-                                functionName, lineRange, "Config", groups);
-                        this.moduleTestDetailsHolder.addTestFunctions(groups, functionTreeNode);
+                        if (!modulePrefix.isEmpty()) {
+                            lineRange = LineRange.from(modulePrefix + lineRange.fileName(), lineRange.startLine(),
+                                    lineRange.endLine());
+                        }
+                        testFunctions.add(new FunctionTreeNode(functionName, lineRange, "Config", groups));
                     }
                 }
             }
         }
+        return testFunctions;
+    }
+
+    /**
+     * Returns the path of the module relative to the project root, so that the test functions of the non-default
+     * modules are not mixed up with the test functions of the default module with the same file name.
+     */
+    private String modulePrefix() {
+        Module module = document.module();
+        if (module.isDefaultModule()) {
+            return "";
+        }
+        return ProjectConstants.MODULES_ROOT + "/" + module.moduleName().moduleNamePart() + "/";
     }
 
     private List<String> findSpecifiedGroups(AnnotationNode annotationNode) {
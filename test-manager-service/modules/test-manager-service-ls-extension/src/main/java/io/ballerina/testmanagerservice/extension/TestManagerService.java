@@ -23,9 +23,8 @@ import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
 import io.ballerina.compiler.syntax.tree.ModulePartNode;
 import io.ballerina.compiler.syntax.tree.NonTerminalNode;
 import io.ballerina.projects.Document;
-import io.ballerina.projects.DocumentId;
-import io.ballerina.projects.Module;
 import io.ballerina.projects.Project;
+import io.ballerina.testmanagerservice.extension.model.FunctionTreeNode;
 import io.ballerina.testmanagerservice.extension.request.AddTestFunctionRequest;
 import io.ballerina.testmanagerservice.extension.request.GetTestFunctionRequest;
 import io.ballerina.testmanagerservice.extension.request.TestsDiscoveryRequest;
@@ -37,6 +36,7 @@ import io.ballerina.tools.text.LineRange;
 import io.ballerina.tools.text.TextDocument;
 import io.ballerina.tools.text.TextRange;
 import org.ballerinalang.annotation.JavaSPIService;
+import org.ballerinalang.langserver.commons.LanguageServerContext;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
 import org.eclipse.lsp4j.TextEdit;
@@ -61,10 +61,13 @@ import java.util.concurrent.CompletableFuture;
 public class TestManagerService implements ExtendedLanguageServerService {
 
     private WorkspaceManager workspaceManager;
+    private LanguageServerContext serverContext;
 
     @Override
-    public void init(LanguageServer langServer, WorkspaceManager workspaceManager) {
+    public void init(LanguageServer langServer, WorkspaceManager workspaceManager,
+                     LanguageServerContext serverContext) {
         this.workspaceManager = workspaceManager;
+        this.serverContext = serverContext;
     }
 
     @Override
@@ -89,9 +92,10 @@ public class TestManagerService implements ExtendedLanguageServerService {
                     throw new RuntimeException("Test document not found: " + filePath);
                 }
                 ModuleTestDetailsHolder moduleTestDetailsHolder = new ModuleTestDetailsHolder();
-                TestFunctionsFinder testFunctionsFinder = new TestFunctionsFinder(document.get(),
-                        moduleTestDetailsHolder);
-                testFunctionsFinder.find();
+                for (FunctionTreeNode testFunction : TestDiscoveryCache.getInstance(this.serverContext)
+                        .getTestFunctions(filePath, document.get())) {
+                    moduleTestDetailsHolder.addTestFunctions(testFunction.groups(), testFunction);
+                }
                 return TestsDiscoveryResponse.from(moduleTestDetailsHolder.getGroupsToFunctions());
             } catch (Throwable e) {
                 return TestsDiscoveryResponse.from(e);
@@ -100,7 +104,8 @@ public class TestManagerService implements ExtendedLanguageServerService {
     }
 
     /**
-     * Discovers tests in a project.
+     * Discovers tests in all the modules of a project. The test documents are traversed in parallel, while the test
+     * functions of the unchanged documents are reused from the previous discovery.
      *
      * @param request the request to discover tests in a project
      * @return the response to discover tests in a project
@@ -111,13 +116,14 @@ public class TestManagerService implements ExtendedLanguageServerService {
             try {
                 Path filePath = Path.of(request.projectPath());
                 Project project = this.workspaceManager.loadProject(filePath);
-                io.ballerina.projects.Package currentPackage = project.currentPackage();
-                Module defaultModule = currentPackage.getDefaultModule();
+                List<List<FunctionTreeNode>> documentTestFunctions =
+                        TestDiscoveryCache.getInstance(this.serverContext).discoverProject(project);
+
                 ModuleTestDetailsHolder moduleTestDetailsHolder = new ModuleTestDetailsHolder();
-                for (DocumentId documentId : defaultModule.testDocumentIds()) {
-                    TestFunctionsFinder testFunctionsFinder = new TestFunctionsFinder(
-                            defaultModule.document(documentId), moduleTestDetailsHolder);
-                    testFunctionsFinder.find();
+                for (List<FunctionTreeNode> testFunctions : documentTestFunctions) {
+                    for (FunctionTreeNode testFunction : testFunctions) {
+                        moduleTestDetailsHolder.addTestFunctions(testFunction.groups(), testFunction);
+                    }
                 }
                 return TestsDiscoveryResponse.from(moduleTestDetailsHolder.getGroupsToFunctions());
             } catch (Throwable e) {
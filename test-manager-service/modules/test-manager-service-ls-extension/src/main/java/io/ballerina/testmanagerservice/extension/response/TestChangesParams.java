@@ -0,0 +1,42 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.testmanagerservice.extension.response;
+
+import io.ballerina.testmanagerservice.extension.model.FunctionTreeNode;
+
+import java.util.List;
+
+/**
+ * Represents the changes of the test functions of a test document, which are pushed to the client when the document
+ * is edited.
+ *
+ * @param uri      URI of the test document
+ * @param added    test functions added to the document
+ * @param removed  test functions removed from the document
+ * @param modified test functions whose groups or positions have changed
+ *
+ * @since 1.5.0
+ */
+public record TestChangesParams(String uri, List<FunctionTreeNode> added, List<FunctionTreeNode> removed,
+                                List<FunctionTreeNode> modified) {
+
+    public boolean isEmpty() {
+        return added.isEmpty() && removed.isEmpty() && modified.isEmpty();
+    }
+}
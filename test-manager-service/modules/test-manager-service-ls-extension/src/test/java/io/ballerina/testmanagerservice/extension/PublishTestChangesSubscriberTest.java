@@ -0,0 +1,190 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.testmanagerservice.extension;
+
+import io.ballerina.modelgenerator.commons.AbstractLSTest;
+import io.ballerina.projects.Document;
+import io.ballerina.testmanagerservice.extension.model.FunctionTreeNode;
+import io.ballerina.testmanagerservice.extension.request.TestsDiscoveryRequest;
+import io.ballerina.testmanagerservice.extension.response.TestChangesParams;
+import org.ballerinalang.langserver.LSContextOperation;
+import org.ballerinalang.langserver.commons.DocumentServiceContext;
+import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.client.ExtendedLanguageClient;
+import org.ballerinalang.langserver.commons.workspace.WorkspaceDocumentException;
+import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
+import org.ballerinalang.langserver.contexts.ContextBuilder;
+import org.ballerinalang.langserver.contexts.LanguageServerContextImpl;
+import org.eclipse.lsp4j.DidChangeTextDocumentParams;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.eclipse.lsp4j.VersionedTextDocumentIdentifier;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Test cases for publishing the changes of the test functions when a test document is edited.
+ *
+ * @since 1.5.0
+ */
+public class PublishTestChangesSubscriberTest extends AbstractLSTest {
+
+    private static final int TEST_DOCUMENT_COUNT = 3;
+    private final PublishTestChangesSubscriber publishTestChangesSubscriber = new PublishTestChangesSubscriber();
+
+    @Override
+    @Test(dataProvider = "data-provider")
+    public void test(Path config) throws IOException {
+        Path configJsonPath = configDir.resolve(config);
+        TestConfig testConfig = gson.fromJson(Files.newBufferedReader(configJsonPath), TestConfig.class);
+
+        // Discover the tests of the project of the original document to seed the cache
+        String sourcePath = getSourcePath(testConfig.source());
+        getResponse(new TestsDiscoveryRequest(sourcePath), "testManagerService/discoverInProject");
+
+        // Send the didChange notification with the edited content
+        WorkspaceManager workspaceManager = languageServer.getWorkspaceManager();
+        Path filePath = Path.of(sourcePath);
+        List<TextDocumentContentChangeEvent> changeEvents =
+                List.of(new TextDocumentContentChangeEvent(getText(getSourcePath(testConfig.edit()))));
+        try {
+            workspaceManager.didChange(filePath,
+                    new DidChangeTextDocumentParams(new VersionedTextDocumentIdentifier(), changeEvents));
+        } catch (WorkspaceDocumentException e) {
+            Assert.fail("Error while sending didChange notification", e);
+        }
+
+        // Capture the test changes published to the client
+        ExtendedLanguageClient mockClient = Mockito.mock(ExtendedLanguageClient.class);
+        publishTestChangesSubscriber.onEvent(mockClient, buildDidChangeContext(filePath),
+                languageServer.getServerContext());
+        ArgumentCaptor<Object> testChangesCaptor = ArgumentCaptor.forClass(Object.class);
+        Mockito.verify(mockClient).publishTestChanges(testChangesCaptor.capture());
+        TestChangesParams testChanges = (TestChangesParams) testChangesCaptor.getValue();
+
+        Assert.assertEquals(testChanges.uri(), filePath.toUri().toString());
+        TestChangesParams expectedChanges = testConfig.output();
+        if (!testChanges.added().equals(expectedChanges.added())
+                || !testChanges.removed().equals(expectedChanges.removed())
+                || !testChanges.modified().equals(expectedChanges.modified())) {
+            compareJsonElements(gson.toJsonTree(testChanges), gson.toJsonTree(expectedChanges));
+            Assert.fail(String.format("Failed test: '%s' (%s)", testConfig.description(), configJsonPath));
+        }
+
+        // The changes are not published again for the same content
+        ExtendedLanguageClient unchangedClient = Mockito.mock(ExtendedLanguageClient.class);
+        publishTestChangesSubscriber.onEvent(unchangedClient, buildDidChangeContext(filePath),
+                languageServer.getServerContext());
+        Mockito.verifyNoInteractions(unchangedClient);
+    }
+
+    @Test(description = "Test whether the first edit before discovering the tests seeds the cache without changes")
+    public void testChangesBeforeDiscovery() {
+        Path filePath = Path.of(getSourcePath("sample1/tests/test2.bal"));
+        Assert.assertTrue(loadDocument(filePath).isPresent());
+
+        // A new server context has not discovered the tests of the project yet
+        LanguageServerContext serverContext = new LanguageServerContextImpl();
+        ExtendedLanguageClient mockClient = Mockito.mock(ExtendedLanguageClient.class);
+        publishTestChangesSubscriber.onEvent(mockClient, buildDidChangeContext(filePath), serverContext);
+        Mockito.verifyNoInteractions(mockClient);
+        Assert.assertEquals(TestDiscoveryCache.getInstance(serverContext).size(), TEST_DOCUMENT_COUNT);
+    }
+
+    @Test
+    public void testCacheEviction() {
+        Path filePath = Path.of(getSourcePath("sample1/tests/test1.bal"));
+        Optional<Document> document = loadDocument(filePath);
+        Assert.assertTrue(document.isPresent());
+
+        // The least recently used documents are evicted once the cache is full
+        TestDiscoveryCache cache = TestDiscoveryCache.getInstance(new LanguageServerContextImpl());
+        Path projectRoot = sourceDir.resolve("evicted");
+        List<FunctionTreeNode> testFunctions = null;
+        for (int i = 0; i <= TestDiscoveryCache.MAX_DOCUMENTS; i++) {
+            testFunctions = cache.getTestFunctions(projectRoot.resolve("test" + i + ".bal"), document.get());
+        }
+        Assert.assertNotNull(testFunctions);
+        Assert.assertFalse(testFunctions.isEmpty());
+        Assert.assertEquals(cache.size(), TestDiscoveryCache.MAX_DOCUMENTS);
+
+        // The documents removed from the project are evicted on the next discovery of the project
+        cache.retainDocuments(projectRoot, List.of(projectRoot.resolve("test1.bal")));
+        Assert.assertEquals(cache.size(), 1);
+    }
+
+    private Optional<Document> loadDocument(Path filePath) {
+        WorkspaceManager workspaceManager = languageServer.getWorkspaceManager();
+        try {
+            workspaceManager.loadProject(filePath);
+            return workspaceManager.document(filePath);
+        } catch (Exception e) {
+            Assert.fail("Error while loading the project", e);
+            return Optional.empty();
+        }
+    }
+
+    private DocumentServiceContext buildDidChangeContext(Path filePath) {
+        return ContextBuilder.buildDocumentServiceContext(filePath.toAbsolutePath().normalize().toUri().toString(),
+                languageServer.getWorkspaceManager(), LSContextOperation.TXT_DID_CHANGE,
+                languageServer.getServerContext());
+    }
+
+    @Override
+    protected String getResourceDir() {
+        return "publish_test_changes";
+    }
+
+    @Override
+    protected Class<? extends AbstractLSTest> clazz() {
+        return PublishTestChangesSubscriberTest.class;
+    }
+
+    @Override
+    protected String getServiceName() {
+        return "testManagerService";
+    }
+
+    @Override
+    protected String getApiName() {
+        return "publishTestChanges";
+    }
+
+    /**
+     * Represents the test configuration.
+     *
+     * @param source      The path of the test document
+     * @param edit        The path of the edited content of the test document
+     * @param description The description of the test
+     * @param output      The expected test changes
+     */
+    private record TestConfig(String source, String edit, String description, TestChangesParams output) {
+
+        public String description() {
+            return description == null ? "" : description;
+        }
+    }
+}
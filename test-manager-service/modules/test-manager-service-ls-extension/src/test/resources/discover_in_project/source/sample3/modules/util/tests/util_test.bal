@@ -0,0 +1,6 @@
+import ballerina/test;
+
+@test:Config {groups: ["util"]}
+function testAdd() {
+    test:assertEquals(add(1, 2), 3);
+}
@@ -0,0 +1,6 @@
+import ballerina/test;
+
+@test:Config {groups: ["g1"]}
+function testMain() {
+    test:assertTrue(true, msg = "Failed!");
+}